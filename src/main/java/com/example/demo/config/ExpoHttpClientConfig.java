@@ -0,0 +1,135 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Expo Push API 전용 HTTP 클라이언트
+ * 커넥션 풀(HTTP/1.1 keep-alive)로 TLS 연결을 재사용해, 100건 배치마다 새 연결/핸드셰이크를 맺지 않습니다.
+ * 일정 크기 이상의 요청 본문은 gzip으로 압축해 보내며, 응답 압축 해제는 HttpClient가 처리합니다.
+ *
+ * 메트릭:
+ * - httpcomponents.httpclient.pool.* (pool=expo) : 풀 최대/사용 중/유휴/대기 연결 수
+ * - expo.push.connections.opened : 새로 맺은 연결 수 (재사용되면 늘지 않음)
+ * - expo.push.request : 요청 지연 시간 (outcome 태그)
+ */
+@Configuration
+public class ExpoHttpClientConfig {
+
+    // expo-server-sdk와 같은 기준 (1KB 초과 시 압축)
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager expoConnectionManager(
+            @Value("${expo.push.max-connections:8}") int maxConnections,
+            MeterRegistry meterRegistry) {
+        Counter openedCounter = Counter.builder("expo.push.connections.opened")
+                .description("Expo Push API로 새로 맺은 연결 수")
+                .register(meterRegistry);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(10))
+                        .setSocketTimeout(Timeout.ofSeconds(15))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .setConnectionFactory(socket -> {
+                    openedCounter.increment();
+                    return ManagedHttpClientConnectionFactory.INSTANCE.createConnection(socket);
+                })
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "expo").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient expoHttpClient(PoolingHttpClientConnectionManager expoConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(expoConnectionManager)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    @Bean
+    public RestTemplate expoRestTemplate(CloseableHttpClient expoHttpClient,
+                                         @Value("${expo.push.gzip-requests:true}") boolean gzipRequests,
+                                         MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(expoHttpClient));
+        restTemplate.getInterceptors().add(timingInterceptor(meterRegistry));
+        if (gzipRequests) {
+            restTemplate.getInterceptors().add(gzipInterceptor());
+        }
+        return restTemplate;
+    }
+
+    /**
+     * 요청 지연 시간 기록 (outcome: SUCCESS / CLIENT_ERROR / SERVER_ERROR / IO_ERROR)
+     */
+    private static ClientHttpRequestInterceptor timingInterceptor(MeterRegistry meterRegistry) {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            String outcome = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                int status = response.getStatusCode().value();
+                outcome = status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+                return response;
+            } finally {
+                Timer.builder("expo.push.request")
+                        .description("Expo Push API 요청 지연 시간")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * 요청 본문 gzip 압축 (GZIP_MIN_BYTES 이하는 그대로 전송)
+     */
+    private static ClientHttpRequestInterceptor gzipInterceptor() {
+        return (request, body, execution) -> {
+            if (body.length <= GZIP_MIN_BYTES) {
+                return execution.execute(request, body);
+            }
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return execution.execute(request, gzip(body));
+        };
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.availability.TeamAvailabilityResponseDto;
+import com.example.demo.dto.common.ErrorResponse;
+import com.example.demo.security.jwt.JwtAuthenticationHelper;
+import com.example.demo.service.AvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Availability API", description = "팀 공통 빈 시간(free/busy) 조회 API")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+    private final JwtAuthenticationHelper jwtAuthenticationHelper;
+
+    @Operation(
+            summary = "팀 공통 빈 시간 조회",
+            description = "대상 팀원 모두가 참석 일정이 없는 시간 구간을 15분 단위로 계산해 반환합니다.\n\n" +
+                    "- positionIds를 지정하면 해당 포지션의 팀원만 대상으로 합니다.\n" +
+                    "- 반복 일정은 발생 단위로 반영되며, 조회 기간은 최대 31일입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TeamAvailabilityResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INVALID_DATE_RANGE\",\"message\":\"조회 기간은 최대 31일입니다.\"}"))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "팀원이 아님",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"팀원이 아닌 사용자는 팀 빈 시간을 조회할 수 없습니다.\"}")))
+    })
+    @GetMapping("/teams/{teamId}/availability")
+    public ResponseEntity<TeamAvailabilityResponseDto> getTeamAvailability(
+            @Parameter(description = "팀 ID", example = "1")
+            @PathVariable Long teamId,
+            @Parameter(description = "조회 시작일시 (ISO 8601)", example = "2025-01-13T00:00:00Z")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-01-27T00:00:00Z")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(description = "팀원 포지션 ID 목록 (선택, 해당 포지션의 팀원만 대상)", example = "[1, 2]")
+            @RequestParam(value = "positionIds", required = false) List<Long> positionIds,
+            @Parameter(description = "최소 빈 시간 길이 (분, 기본값: 15)", example = "60")
+            @RequestParam(value = "minMinutes", required = false) Integer minMinutes
+    ) {
+        Long userId = jwtAuthenticationHelper.getCurrentUserId();
+        return ResponseEntity.ok(availabilityService.getTeamAvailability(userId, teamId, start, end, positionIds, minMinutes));
+    }
+}
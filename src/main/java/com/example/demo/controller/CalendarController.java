@@ -0,0 +1,125 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.calendar.CalendarDaySummaryDto;
+import com.example.demo.dto.common.ErrorResponse;
+import com.example.demo.security.jwt.JwtAuthenticationHelper;
+import com.example.demo.service.CalendarSummaryService;
+import com.example.demo.service.TeamContentVersionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Calendar API", description = "월간 달력 요약(날짜별 개수/색상) 조회 API")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final CalendarSummaryService calendarSummaryService;
+    private final TeamContentVersionService teamContentVersionService;
+    private final JwtAuthenticationHelper jwtAuthenticationHelper;
+
+    @Operation(
+            summary = "팀 달력 요약 조회",
+            description = "월간 달력의 날짜별 일정/투두 개수와 대표 포지션 색상을 조회합니다. (항목이 있는 날짜만 반환)\n\n" +
+                    "- 반복 일정은 발생 단위로, 여러 날에 걸친 일정은 걸친 날마다 집계됩니다.\n" +
+                    "- 날짜는 Asia/Seoul 기준이며, 조회 기간은 최대 366일입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CalendarDaySummaryDto.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 현재 ETag와 일치, 본문 없음)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INVALID_DATE_RANGE\",\"message\":\"종료일은 시작일보다 빠를 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "팀원이 아님",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"팀원이 아닌 사용자는 팀 달력을 조회할 수 없습니다.\"}")))
+    })
+    @GetMapping("/teams/{teamId}/calendar/summary")
+    public ResponseEntity<List<CalendarDaySummaryDto>> getTeamSummary(
+            @Parameter(description = "팀 ID", example = "1")
+            @PathVariable Long teamId,
+            @Parameter(description = "시작일 (포함)", example = "2025-01-01")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @Parameter(description = "종료일 (포함)", example = "2025-01-31")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            WebRequest webRequest
+    ) {
+        Long userId = jwtAuthenticationHelper.getCurrentUserId();
+        // 팀 콘텐츠 버전이 같으면 조회 없이 304
+        String eTag = teamContentVersionService.getETag(teamId, userId, "calendar-summary", start, end);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<CalendarDaySummaryDto> summaries = calendarSummaryService.getTeamSummary(userId, teamId, start, end);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(summaries);
+    }
+
+    @Operation(
+            summary = "내 달력 요약 조회",
+            description = "내가 참석자/담당자인 일정/투두의 날짜별 개수와 대표 포지션 색상을 조회합니다. teamId로 특정 팀만 조회할 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CalendarDaySummaryDto.class)))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INVALID_DATE_RANGE\",\"message\":\"조회 기간은 최대 366일입니다.\"}"))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}")))
+    })
+    @GetMapping("/me/calendar/summary")
+    public ResponseEntity<List<CalendarDaySummaryDto>> getMySummary(
+            @Parameter(description = "시작일 (포함)", example = "2025-01-01")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @Parameter(description = "종료일 (포함)", example = "2025-01-31")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @Parameter(description = "팀 ID (선택, 특정 팀만 조회)", example = "1")
+            @RequestParam(value = "teamId", required = false) Long teamId,
+            WebRequest webRequest
+    ) {
+        Long userId = jwtAuthenticationHelper.getCurrentUserId();
+        // 속한 팀들의 콘텐츠 버전이 같으면 조회 없이 304
+        String eTag = teamContentVersionService.getUserETag(userId, "my-calendar-summary", start, end, teamId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<CalendarDaySummaryDto> summaries = calendarSummaryService.getMySummary(userId, start, end, teamId);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(summaries);
+    }
+}
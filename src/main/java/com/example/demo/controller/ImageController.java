@@ -8,6 +8,7 @@ import com.example.demo.dto.common.ErrorResponse;
 import com.example.demo.dto.image.ImageUploadResponse;
 import com.example.demo.security.jwt.JwtAuthenticationHelper;
 import com.example.demo.service.FirebaseStorageService;
+import com.example.demo.service.TeamContentVersionService;
 import com.example.demo.service.TeamPermissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -36,6 +37,7 @@ public class ImageController {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final TeamPermissionService teamPermissionService;
+    private final TeamContentVersionService teamContentVersionService;
     private final JwtAuthenticationHelper jwtHelper;
 
     @Operation(summary = "프로필 이미지 업로드", description = "사용자 프로필 이미지를 업로드합니다.")
@@ -83,6 +85,7 @@ public class ImageController {
             // 사용자 정보 업데이트
             user.setImageUrl(newImageUrl);
             userRepository.save(user);
+            teamContentVersionService.bumpForUser(userId);
 
             return ResponseEntity.ok(ImageUploadResponse.builder()
                     .userId(userId)
@@ -147,6 +150,7 @@ public class ImageController {
             // 팀 정보 업데이트
             team.setImageUrl(newImageUrl);
             teamRepository.save(team);
+            teamContentVersionService.bump(teamId);
 
             return ResponseEntity.ok(ImageUploadResponse.builder()
                     .teamId(teamId)
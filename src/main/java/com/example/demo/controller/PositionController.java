@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import com.example.demo.service.PositionService;
+import com.example.demo.service.TeamContentVersionService;
 import com.example.demo.dto.common.ErrorResponse;
 import com.example.demo.dto.team.PositionCreateRequest;
 import com.example.demo.dto.team.PositionDeleteResponse;
@@ -18,9 +19,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,6 +34,7 @@ import java.util.List;
 public class PositionController {
     
     private final PositionService positionService;
+    private final TeamContentVersionService teamContentVersionService;
     private final JwtAuthenticationHelper jwtHelper;
     
     @Operation(summary = "포지션 목록 조회", description = "팀의 포지션 목록을 조회합니다. 팀원 모두 조회 가능합니다.")
@@ -67,6 +71,7 @@ public class PositionController {
                     "    \"updatedAt\": \"2024-01-15T10:30:00.000Z\"\n" +
                     "  }\n" +
                     "]"))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 현재 ETag와 일치, 본문 없음)"),
         @ApiResponse(responseCode = "401", description = "인증 실패 - 에러 코드: UNAUTHORIZED",
             content = @Content(mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponse.class),
@@ -86,15 +91,22 @@ public class PositionController {
     })
     @GetMapping
     public ResponseEntity<?> getPositionList(
-            @Parameter(description = "팀 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "팀 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
         try {
             Long userId = jwtHelper.getCurrentUserId();
             if (userId == null) {
                 return createUnauthorizedResponse("인증이 필요합니다.");
             }
             
+            // 팀 콘텐츠 버전이 같으면 조회 없이 304
+            String eTag = teamContentVersionService.getETag(id, userId, "positions");
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            
             List<PositionResponse> positions = positionService.getPositionList(userId, id);
-            return ResponseEntity.ok(positions);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(positions);
         } catch (Exception e) {
             return createErrorResponse("포지션 목록 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
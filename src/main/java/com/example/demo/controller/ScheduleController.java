@@ -7,6 +7,10 @@ import com.example.demo.dto.schedule.ScheduleUpdateRequest;
 import com.example.demo.security.jwt.JwtAuthenticationHelper;
 import com.example.demo.service.ScheduleService;
 import com.example.demo.service.ScheduleService.RepeatScope;
+import com.example.demo.service.TeamContentVersionService;
+import com.example.demo.service.TeamPermissionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -20,12 +24,19 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Tag(name = "스케줄", description = "팀 스케줄 생성/수정/삭제 및 조회 API")
@@ -35,7 +46,10 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final TeamContentVersionService teamContentVersionService;
+    private final TeamPermissionService teamPermissionService;
     private final JwtAuthenticationHelper jwtHelper;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "스케줄 생성", description = "팀 단위 스케줄을 생성합니다.")
     @ApiResponses({
@@ -191,7 +205,7 @@ public class ScheduleController {
         }
     }
 
-    @Operation(summary = "팀 스케줄 조회", description = "특정 팀의 기간 내 스케줄 목록을 조회합니다. positionIds 파라미터로 포지션별 필터링이 가능합니다.")
+    @Operation(summary = "팀 스케줄 조회", description = "특정 팀의 기간 내 스케줄 목록을 조회합니다. positionIds 파라미터로 포지션별 필터링이 가능하며, expand=true이면 반복 일정을 기간 내 발생 단위로 전개해 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(mediaType = "application/json",
@@ -203,6 +217,7 @@ public class ScheduleController {
                                     @ExampleObject(name = "날짜 형식", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"잘못된 날짜 형식입니다. ISO 8601 형식(예: 2025-01-01T00:00:00Z)을 사용해주세요.\"}"),
                                     @ExampleObject(name = "날짜 필수", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"시작일시와 종료일시는 필수입니다.\"}")
                             })),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 현재 ETag와 일치, 본문 없음)"),
             @ApiResponse(responseCode = "401", description = "인증 실패",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class),
@@ -229,20 +244,66 @@ public class ScheduleController {
             @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-01-31T23:59:59Z")
             @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
             @Parameter(description = "포지션 ID 목록 (선택, 포지션별 필터링)", example = "[1, 2, 3]")
-            @RequestParam(value = "positionIds", required = false) List<Long> positionIds
+            @RequestParam(value = "positionIds", required = false) List<Long> positionIds,
+            @Parameter(description = "반복 일정을 기간 내 실제 발생 단위로 전개할지 여부 (기본값: false)", example = "false")
+            @RequestParam(value = "expand", defaultValue = "false") boolean expand,
+            WebRequest webRequest
     ) {
         try {
             Long userId = jwtHelper.getCurrentUserId();
             if (userId == null) {
                 return createUnauthorizedResponse("인증이 필요합니다.");
             }
-            List<ScheduleResponseDto> responses = scheduleService.getTeamSchedules(userId, teamId, start, end, positionIds);
-            return ResponseEntity.ok(responses);
+            // 팀 콘텐츠 버전이 같으면 조회 없이 304
+            String eTag = teamContentVersionService.getETag(teamId, userId, "schedules", start, end, positionIds, expand);
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            List<ScheduleResponseDto> responses = scheduleService.getTeamSchedules(userId, teamId, start, end, positionIds, expand);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(responses);
         } catch (Exception e) {
             return createErrorResponse("팀 일정 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Operation(summary = "팀 스케줄 스트리밍 조회",
+            description = "stream=true이면 팀 스케줄을 시작 시간 순으로 청크 단위로 읽어 JSON 배열로 바로 전송합니다. 넓은 기간 조회용이며, 응답 형식은 일반 조회와 같습니다. (expand=true이면 일반 조회와 같이 발생 테이블에서 발생 단위로 읽으며, 발생 테이블 범위를 넘는 먼 미래 기간만 청크 단위로 전개되어 전체 순서가 보장되지 않습니다)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ScheduleResponseDto.class)))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (팀원이 아님)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"해당 팀의 멤버만 접근할 수 있습니다.\"}"))),
+            @ApiResponse(responseCode = "404", description = "팀을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"NOT_FOUND\",\"message\":\"팀을 찾을 수 없습니다.\"}")))
+    })
+    @GetMapping(value = "/teams/{teamId}/schedules", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamTeamSchedules(
+            @Parameter(description = "팀 ID", example = "1")
+            @PathVariable Long teamId,
+            @Parameter(description = "조회 시작일시 (ISO 8601)", example = "2025-01-01T00:00:00Z")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-12-31T23:59:59Z")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(description = "포지션 ID 목록 (선택, 포지션별 필터링)", example = "[1, 2, 3]")
+            @RequestParam(value = "positionIds", required = false) List<Long> positionIds,
+            @Parameter(description = "반복 일정을 기간 내 실제 발생 단위로 전개할지 여부 (기본값: false)", example = "false")
+            @RequestParam(value = "expand", defaultValue = "false") boolean expand
+    ) {
+        Long userId = getRequiredUserId();
+        // 응답이 커밋되기 전에 권한을 확인해야 오류 응답을 돌려줄 수 있음
+        teamPermissionService.verifyTeamMember(userId, teamId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(streamJsonArray(chunkConsumer ->
+                        scheduleService.streamTeamSchedules(userId, teamId, start, end, positionIds, expand, chunkConsumer)));
+    }
+
     @Operation(summary = "내 스케줄 조회", description = "개인 화면용으로, 내가 참석자로 포함된 스케줄만 기간 내 조회합니다. teamId로 특정 팀 필터링, positionIds로 포지션별 필터링이 가능합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -273,20 +334,90 @@ public class ScheduleController {
             @Parameter(description = "팀 ID (선택, 특정 팀으로 필터링)", example = "1")
             @RequestParam(value = "teamId", required = false) Long teamId,
             @Parameter(description = "포지션 ID 목록 (선택, 포지션별 필터링)", example = "[1, 2, 3]")
-            @RequestParam(value = "positionIds", required = false) List<Long> positionIds
+            @RequestParam(value = "positionIds", required = false) List<Long> positionIds,
+            @Parameter(description = "반복 일정을 기간 내 실제 발생 단위로 전개할지 여부 (기본값: false)", example = "false")
+            @RequestParam(value = "expand", defaultValue = "false") boolean expand
     ) {
         try {
             Long userId = jwtHelper.getCurrentUserId();
             if (userId == null) {
                 return createUnauthorizedResponse("인증이 필요합니다.");
             }
-            List<ScheduleResponseDto> responses = scheduleService.getMySchedules(userId, start, end, teamId, positionIds);
+            List<ScheduleResponseDto> responses = scheduleService.getMySchedules(userId, start, end, teamId, positionIds, expand);
             return ResponseEntity.ok(responses);
         } catch (Exception e) {
             return createErrorResponse("내 일정 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Operation(summary = "내 스케줄 스트리밍 조회",
+            description = "stream=true이면 내가 참석자로 포함된 스케줄을 시작 시간 순으로 청크 단위로 읽어 JSON 배열로 바로 전송합니다. 넓은 기간 조회용이며, 응답 형식과 expand=true 전개 방식은 팀 스트리밍 조회와 같습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ScheduleResponseDto.class)))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (teamId 지정 시 팀원이 아님)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"해당 팀의 멤버만 접근할 수 있습니다.\"}")))
+    })
+    @GetMapping(value = "/me/schedules", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamMySchedules(
+            @Parameter(description = "조회 시작일시 (ISO 8601)", example = "2025-01-01T00:00:00Z")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-12-31T23:59:59Z")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(description = "팀 ID (선택, 특정 팀으로 필터링)", example = "1")
+            @RequestParam(value = "teamId", required = false) Long teamId,
+            @Parameter(description = "포지션 ID 목록 (선택, 포지션별 필터링)", example = "[1, 2, 3]")
+            @RequestParam(value = "positionIds", required = false) List<Long> positionIds,
+            @Parameter(description = "반복 일정을 기간 내 실제 발생 단위로 전개할지 여부 (기본값: false)", example = "false")
+            @RequestParam(value = "expand", defaultValue = "false") boolean expand
+    ) {
+        Long userId = getRequiredUserId();
+        if (teamId != null) {
+            teamPermissionService.verifyTeamMember(userId, teamId);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(streamJsonArray(chunkConsumer ->
+                        scheduleService.streamMySchedules(userId, start, end, teamId, positionIds, expand, chunkConsumer)));
+    }
+
+    private Long getRequiredUserId() {
+        Long userId = jwtHelper.getCurrentUserId();
+        if (userId == null) {
+            throw new IllegalArgumentException("AUTH_INVALID_TOKEN: 인증이 필요합니다.");
+        }
+        return userId;
+    }
+
+    /**
+     * 일정 목록을 JSON 배열로 스트리밍 전송
+     * producer가 넘겨주는 청크마다 요소를 바로 쓰고 flush하므로, 전체 목록을 메모리에 모으지 않습니다.
+     */
+    private StreamingResponseBody streamJsonArray(Consumer<Consumer<List<ScheduleResponseDto>>> producer) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // 도중에 실패하면 배열을 닫지 않아 클라이언트가 잘린 응답을 구분할 수 있게 함
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+                generator.writeStartArray();
+                producer.accept(chunk -> {
+                    try {
+                        for (ScheduleResponseDto schedule : chunk) {
+                            generator.writeObject(schedule);
+                        }
+                        generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+    }
+
     /**
      * IllegalArgumentException 처리 (권한, 리소스 없음 등을 구분)
      */
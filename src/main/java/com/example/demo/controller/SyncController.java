@@ -0,0 +1,66 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.common.ErrorResponse;
+import com.example.demo.dto.sync.ChangesResponseDto;
+import com.example.demo.security.jwt.JwtAuthenticationHelper;
+import com.example.demo.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Sync API", description = "일정/투두/공지 델타 동기화 API")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+    private final JwtAuthenticationHelper jwtAuthenticationHelper;
+
+    @Operation(
+            summary = "변경 사항 조회 (델타 동기화)",
+            description = "내가 속한 팀들의 일정/투두/공지 중 커서 이후 생성·수정된 항목(현재 상태)과 삭제된 항목(툼스톤)을 조회합니다.\n\n" +
+                    "- 일정/투두는 내가 참석자/담당자인 항목만 보내며, 변경으로 내가 빠진 항목은 삭제된 항목(툼스톤)으로 보냅니다. 공지는 팀 전체 기준입니다.\n" +
+                    "- since 없이 호출하면 현재 시점의 커서만 반환합니다. 커서를 먼저 받은 뒤 전체 목록을 조회하세요.\n" +
+                    "- 응답의 cursor를 다음 요청의 since로 사용합니다. hasMore=true면 곧바로 다시 요청합니다.\n" +
+                    "- resetRequired=true면 커서가 보존 기간을 지난 것이므로 전체 목록을 다시 조회한 뒤 새 cursor를 사용합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "변경 사항 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ChangesResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INVALID_CURSOR\",\"message\":\"유효하지 않은 커서입니다.\"}"))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INTERNAL_SERVER_ERROR\",\"message\":\"변경 사항 조회 중 오류가 발생했습니다.\"}")))
+    })
+    @GetMapping("/me/changes")
+    public ResponseEntity<ChangesResponseDto> getChanges(
+            @Parameter(description = "이전 응답의 cursor (생략 시 현재 커서만 반환)", example = "1052.311.1767225600")
+            @RequestParam(value = "since", required = false) String since
+    ) {
+        Long userId = jwtAuthenticationHelper.getCurrentUserId();
+        return ResponseEntity.ok(syncService.getChanges(userId, since));
+    }
+}
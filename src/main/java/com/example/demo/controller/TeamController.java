@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import com.example.demo.service.TeamService;
+import com.example.demo.service.TeamContentVersionService;
 import com.example.demo.dto.common.ErrorResponse;
 import com.example.demo.dto.team.TeamCreateRequest;
 import com.example.demo.dto.team.TeamDeleteResponse;
@@ -26,9 +27,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -39,6 +42,7 @@ import java.util.List;
 public class TeamController {
     
     private final TeamService teamService;
+    private final TeamContentVersionService teamContentVersionService;
     private final JwtAuthenticationHelper jwtHelper;
     
     @Operation(summary = "팀 생성", description = "새로운 팀을 생성합니다. 인증된 사용자는 누구나 팀을 생성할 수 있습니다.")
@@ -128,6 +132,7 @@ public class TeamController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "팀 조회 성공",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = TeamDetailResponseDto.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 현재 ETag와 일치, 본문 없음)"),
         @ApiResponse(responseCode = "401", description = "인증 실패 - 에러 코드: UNAUTHORIZED",
             content = @Content(mediaType = "application/json", 
                 schema = @Schema(implementation = ErrorResponse.class),
@@ -147,15 +152,22 @@ public class TeamController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<?> getTeamDetail(
-            @Parameter(description = "팀 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "팀 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
         try {
             Long userId = jwtHelper.getCurrentUserId();
             if (userId == null) {
                 return createUnauthorizedResponse("인증이 필요합니다.");
             }
             
+            // 팀 콘텐츠 버전이 같으면 조회 없이 304
+            String eTag = teamContentVersionService.getETag(id, userId, "detail");
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            
             TeamDetailResponseDto response = teamService.getTeamDetail(userId, id);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
         } catch (IllegalArgumentException e) {
             return handleIllegalArgumentException(e);
         } catch (Exception e) {
@@ -397,6 +409,7 @@ public class TeamController {
                     "    }\n" +
                     "  ]\n" +
                     "}"))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 현재 ETag와 일치, 본문 없음)"),
         @ApiResponse(responseCode = "401", description = "인증 실패 - 에러 코드: UNAUTHORIZED",
             content = @Content(mediaType = "application/json", 
                 schema = @Schema(implementation = ErrorResponse.class),
@@ -416,15 +429,22 @@ public class TeamController {
     })
     @GetMapping("/{id}/members")
     public ResponseEntity<?> getTeamMemberList(
-            @Parameter(description = "팀 ID", required = true) @PathVariable Long id) {
+            @Parameter(description = "팀 ID", required = true) @PathVariable Long id,
+            WebRequest webRequest) {
         try {
             Long userId = jwtHelper.getCurrentUserId();
             if (userId == null) {
                 return createUnauthorizedResponse("인증이 필요합니다.");
             }
             
+            // 팀 콘텐츠 버전이 같으면 조회 없이 304
+            String eTag = teamContentVersionService.getETag(id, userId, "members");
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            
             TeamMemberListResponse response = teamService.getTeamMemberList(userId, id);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(response);
         } catch (IllegalArgumentException e) {
             return handleIllegalArgumentException(e);
         } catch (Exception e) {
@@ -1,12 +1,17 @@
 package com.example.demo.controller;
 
+import com.example.demo.domain.enums.TodoListOrder;
 import com.example.demo.dto.common.ErrorResponse;
+import com.example.demo.dto.todo.TodoBatchRequest;
+import com.example.demo.dto.todo.TodoBatchResponseDto;
 import com.example.demo.dto.todo.TodoCreateRequest;
+import com.example.demo.dto.todo.TodoPageResponseDto;
 import com.example.demo.dto.todo.TodoResponseDto;
 import com.example.demo.dto.todo.TodoStatusUpdateRequest;
 import com.example.demo.dto.todo.TodoUpdateRequest;
 import com.example.demo.security.jwt.JwtAuthenticationHelper;
 import com.example.demo.service.TodoService;
+import com.example.demo.service.TeamContentVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -20,9 +25,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,6 +42,7 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TeamContentVersionService teamContentVersionService;
     private final JwtAuthenticationHelper jwtHelper;
 
     @Operation(summary = "투두 생성", description = "팀 단위 투두를 생성합니다.")
@@ -194,6 +202,55 @@ public class TodoController {
         }
     }
 
+    @Operation(summary = "투두 일괄 변경", description = "여러 투두의 완료 여부 변경, 담당자 변경, 삭제를 하나의 트랜잭션으로 처리합니다. 하나라도 실패하면 전체가 반영되지 않습니다. 변경 알림은 수신자별로 한 건으로 합쳐 전송됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoBatchResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(name = "변경/삭제 중복", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"삭제할 투두는 같은 요청에서 변경할 수 없습니다.\"}"),
+                                    @ExampleObject(name = "최대 개수 초과", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"한 번에 변경할 수 있는 투두는 최대 500개입니다.\"}"),
+                                    @ExampleObject(name = "발생 필수", value = "{\"code\":\"OCCURRENCE_REQUIRED\",\"message\":\"반복 투두는 완료할 발생의 occurrenceAt이 필요합니다.\"}")
+                            })),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (대상 투두 중 팀원이 아닌 팀의 투두가 있음)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"팀원이 아닌 사용자는 투두를 수정할 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "404", description = "투두를 찾을 수 없음",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"TODO_NOT_FOUND\",\"message\":\"일부 투두를 찾을 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INTERNAL_SERVER_ERROR\",\"message\":\"투두 일괄 변경 중 오류가 발생했습니다.\"}")))
+    })
+    @PostMapping("/todos/batch")
+    public ResponseEntity<?> applyTodoBatch(
+            @Valid @RequestBody TodoBatchRequest request
+    ) {
+        try {
+            Long userId = jwtHelper.getCurrentUserId();
+            if (userId == null) {
+                return createUnauthorizedResponse("인증이 필요합니다.");
+            }
+            TodoBatchResponseDto response = todoService.applyBatch(userId, request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return handleIllegalArgumentException(e);
+        } catch (Exception e) {
+            log.error("투두 일괄 변경 중 예상치 못한 오류 발생: userId={}, error={}",
+                    jwtHelper.getCurrentUserId(), e.getMessage(), e);
+            return createErrorResponse("투두 일괄 변경 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Operation(summary = "투두 삭제", description = "투두를 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "삭제 성공"),
@@ -243,6 +300,7 @@ public class TodoController {
                                     @ExampleObject(name = "날짜 형식", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"잘못된 날짜 형식입니다. ISO 8601 형식(예: 2025-01-01T00:00:00Z)을 사용해주세요.\"}"),
                                     @ExampleObject(name = "날짜 필수", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"시작일시와 종료일시는 필수입니다.\"}")
                             })),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match가 현재 ETag와 일치, 본문 없음)"),
             @ApiResponse(responseCode = "401", description = "인증 실패",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class),
@@ -267,15 +325,21 @@ public class TodoController {
             @Parameter(description = "조회 시작일시 (ISO 8601)", example = "2025-01-01T00:00:00Z")
             @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
             @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-01-31T23:59:59Z")
-            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            WebRequest webRequest
     ) {
         try {
             Long userId = jwtHelper.getCurrentUserId();
             if (userId == null) {
                 return createUnauthorizedResponse("인증이 필요합니다.");
             }
+            // 팀 콘텐츠 버전이 같으면 조회 없이 304
+            String eTag = teamContentVersionService.getETag(teamId, userId, "todos", start, end);
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
             List<TodoResponseDto> responses = todoService.getTeamTodos(userId, teamId, start, end);
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(responses);
         } catch (Exception e) {
             return createErrorResponse("팀 투두 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -321,6 +385,110 @@ public class TodoController {
         }
     }
 
+    @Operation(summary = "팀 투두 페이지 조회", description = "특정 팀의 기간 내 투두를 커서 기반(키셋)으로 한 페이지씩 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 보내며, order=OPEN_FIRST면 미완료 투두를 먼저 반환합니다. 반복 투두는 발생 단위로 반환됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(name = "커서 형식", value = "{\"code\":\"INVALID_CURSOR\",\"message\":\"유효하지 않은 커서입니다.\"}"),
+                                    @ExampleObject(name = "페이지 크기", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"limit은 1 이상 100 이하여야 합니다.\"}")
+                            })),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (팀원이 아님)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"팀원이 아닌 사용자는 팀 투두를 조회할 수 없습니다.\"}"))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INTERNAL_SERVER_ERROR\",\"message\":\"팀 투두 조회 중 오류가 발생했습니다.\"}")))
+    })
+    @GetMapping("/teams/{teamId}/todos/page")
+    public ResponseEntity<?> getTeamTodoPage(
+            @Parameter(description = "팀 ID", example = "1")
+            @PathVariable Long teamId,
+            @Parameter(description = "조회 시작일시 (ISO 8601)", example = "2025-01-01T00:00:00Z")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-01-31T23:59:59Z")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(description = "이전 응답의 nextCursor (생략 시 첫 페이지)", example = "1767225600000000.42")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 100)", example = "50")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "정렬 기준 (DUE: 마감일 순, OPEN_FIRST: 미완료 먼저)", example = "DUE")
+            @RequestParam(value = "order", defaultValue = "DUE") TodoListOrder order
+    ) {
+        try {
+            Long userId = jwtHelper.getCurrentUserId();
+            if (userId == null) {
+                return createUnauthorizedResponse("인증이 필요합니다.");
+            }
+            TodoPageResponseDto response = todoService.getTeamTodoPage(userId, teamId, start, end, cursor, limit, order);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return handleIllegalArgumentException(e);
+        } catch (Exception e) {
+            log.error("투두 페이지 조회 중 예상치 못한 오류 발생: userId={}, error={}",
+                    jwtHelper.getCurrentUserId(), e.getMessage(), e);
+            return createErrorResponse("팀 투두 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Operation(summary = "내 투두 페이지 조회", description = "내가 담당자로 포함된 기간 내 투두를 커서 기반(키셋)으로 한 페이지씩 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 보내며, order=OPEN_FIRST면 미완료 투두를 먼저 반환합니다. 반복 투두는 발생 단위로 반환됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = {
+                                    @ExampleObject(name = "커서 형식", value = "{\"code\":\"INVALID_CURSOR\",\"message\":\"유효하지 않은 커서입니다.\"}"),
+                                    @ExampleObject(name = "페이지 크기", value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"limit은 1 이상 100 이하여야 합니다.\"}")
+                            })),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INTERNAL_SERVER_ERROR\",\"message\":\"내 투두 조회 중 오류가 발생했습니다.\"}")))
+    })
+    @GetMapping("/me/todos/page")
+    public ResponseEntity<?> getMyTodoPage(
+            @Parameter(description = "조회 시작일시 (ISO 8601)", example = "2025-01-01T00:00:00Z")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @Parameter(description = "조회 종료일시 (ISO 8601)", example = "2025-01-31T23:59:59Z")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @Parameter(description = "이전 응답의 nextCursor (생략 시 첫 페이지)", example = "1767225600000000.42")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 100)", example = "50")
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "정렬 기준 (DUE: 마감일 순, OPEN_FIRST: 미완료 먼저)", example = "DUE")
+            @RequestParam(value = "order", defaultValue = "DUE") TodoListOrder order
+    ) {
+        try {
+            Long userId = jwtHelper.getCurrentUserId();
+            if (userId == null) {
+                return createUnauthorizedResponse("인증이 필요합니다.");
+            }
+            TodoPageResponseDto response = todoService.getMyTodoPage(userId, start, end, cursor, limit, order);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return handleIllegalArgumentException(e);
+        } catch (Exception e) {
+            log.error("투두 페이지 조회 중 예상치 못한 오류 발생: userId={}, error={}",
+                    jwtHelper.getCurrentUserId(), e.getMessage(), e);
+            return createErrorResponse("내 투두 조회 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * IllegalArgumentException 처리 (권한, 리소스 없음 등을 구분)
      */
@@ -0,0 +1,77 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.common.ErrorResponse;
+import com.example.demo.dto.stats.TeamTodoStatsResponseDto;
+import com.example.demo.security.jwt.JwtAuthenticationHelper;
+import com.example.demo.service.TodoStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Todo Stats API", description = "팀 투두 완료율 통계 API")
+@RequiredArgsConstructor
+public class TodoStatsController {
+
+    private final TodoStatsService todoStatsService;
+    private final JwtAuthenticationHelper jwtAuthenticationHelper;
+
+    @Operation(
+            summary = "팀 투두 완료율 통계 조회",
+            description = "마감일 기준 주(월요일 시작, Asia/Seoul)별로 투두 수, 완료 수, 마감 경과 수를 팀 전체/팀원별/포지션별로 반환합니다. 팀장만 조회할 수 있습니다.\n\n" +
+                    "- 모든 수는 마감일이 그 주인 투두 묶음 기준입니다. createdCount는 생성일이 아니라 마감일 기준 투두 수이고, " +
+                    "completedCount는 그 투두 중 현재 완료 상태인 수입니다. (마감 다음 주에 완료해도 마감 주의 완료로 집계되며, 완료 시각 기준 집계가 아닙니다.)\n" +
+                    "- 팀원별 집계는 담당자 기준, 포지션별 집계는 대표 포지션(첫 번째 포지션) 기준입니다.\n" +
+                    "- 반복 투두는 저장된 발생(최대 18개월 앞까지)마다 발생 마감일 기준으로 집계됩니다.\n" +
+                    "- 마감 경과 수는 1분 이내로 반영됩니다. 조회 기간은 최대 53주입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TeamTodoStatsResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"INVALID_DATE_RANGE\",\"message\":\"조회 기간은 최대 53주입니다.\"}"))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"UNAUTHORIZED\",\"message\":\"인증이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "403", description = "팀장이 아님",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"FORBIDDEN\",\"message\":\"팀장 권한이 필요합니다.\"}"))),
+            @ApiResponse(responseCode = "404", description = "팀을 찾을 수 없음",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class),
+                            examples = @ExampleObject(value = "{\"code\":\"TEAM_NOT_FOUND\",\"message\":\"팀을 찾을 수 없습니다.\"}")))
+    })
+    @GetMapping("/teams/{teamId}/todo-stats")
+    public ResponseEntity<TeamTodoStatsResponseDto> getTeamTodoStats(
+            @Parameter(description = "팀 ID", example = "1")
+            @PathVariable Long teamId,
+            @Parameter(description = "조회 시작일 (이 날짜가 속한 주부터)", example = "2026-09-01")
+            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @Parameter(description = "조회 종료일 (이 날짜가 속한 주까지)", example = "2026-10-31")
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end
+    ) {
+        Long userId = jwtAuthenticationHelper.getCurrentUserId();
+        return ResponseEntity.ok(todoStatsService.getTeamStats(userId, teamId, start, end));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 날짜별 일정/투두 개수 집계 (월간 달력 요약용)
+ * 행 단위로 읽고 쓰지 않고, 일정/투두 변경 시 CalendarDayCountRepository의 증감 쿼리로만 갱신합니다.
+ * memberId가 0이면 팀 전체, positionId가 0이면 포지션 없는 항목의 집계입니다.
+ */
+@Entity
+@Table(name = "calendar_day_count")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarDayCount {
+
+    @EmbeddedId
+    private CalendarDayCountId id;
+
+    @Column(name = "schedule_count", nullable = false)
+    private Integer scheduleCount;
+
+    @Column(name = "todo_count", nullable = false)
+    private Integer todoCount;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CalendarDayCountId implements Serializable {
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "day")
+    private LocalDate day;
+
+    @Column(name = "position_id")
+    private Long positionId;
+}
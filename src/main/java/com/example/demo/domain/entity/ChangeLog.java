@@ -0,0 +1,46 @@
+package com.example.demo.domain.entity;
+
+import com.example.demo.domain.enums.ChangeEntityType;
+import com.example.demo.domain.enums.ChangeOperation;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 델타 동기화용 변경 이력
+ * txid 컬럼은 DB 기본값(pg_current_xact_id())으로 채워지며, 조회는 네이티브 쿼리로만 사용합니다.
+ */
+@Entity
+@Table(name = "change_log")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 20, nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", length = 10, nullable = false)
+    private ChangeOperation operation;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime changedAt = LocalDateTime.now();
+}
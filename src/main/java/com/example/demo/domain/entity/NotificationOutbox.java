@@ -0,0 +1,83 @@
+package com.example.demo.domain.entity;
+
+import com.example.demo.domain.enums.OutboxStatus;
+import com.example.demo.domain.enums.PushReceiptStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 푸시 알림 아웃박스 (디바이스 토큰 하나당 한 행)
+ * 적재/선점/결과 반영은 NotificationOutboxRepository의 네이티브 쿼리로만 처리합니다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", length = 64, nullable = false, unique = true)
+    private String idempotencyKey;
+
+    @Column(name = "device_token", nullable = false)
+    private String deviceToken;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "body", columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "data", columnDefinition = "jsonb", nullable = false)
+    private Map<String, String> data;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // PushLane 순서 (작을수록 먼저 전송)
+    @Column(name = "priority", nullable = false)
+    private Integer priority;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "ticket_id", length = 64)
+    private String ticketId;
+
+    @Column(name = "receipt_check_at")
+    private LocalDateTime receiptCheckAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "receipt_status", length = 20)
+    private PushReceiptStatus receiptStatus;
+
+    @Column(name = "receipt_error", length = 500)
+    private String receiptError;
+}
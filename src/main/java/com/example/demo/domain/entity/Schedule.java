@@ -68,6 +68,9 @@ public class Schedule {
     @Column(name = "notification_minutes", columnDefinition = "INTEGER[]")
     private Integer[] notificationMinutes;  // 스케줄 사전 알림 시간 (분 단위 배열, 예: [10, 30, 60])
 
+    @Column(name = "occurrence_horizon")
+    private LocalDateTime occurrenceHorizon;  // 이 시각 이전에 시작하는 발생은 schedule_occurrence에 모두 저장됨
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_schedule_id")
     private Schedule parentSchedule;  // 반복 일정의 부모 일정
@@ -54,6 +54,26 @@ public class Todo {
     @Column(name = "url", length = 1000)
     private String url;
 
+    // 반복 투두 관련 필드 (발생별 완료/수정 내역은 TodoInstance)
+    @Column(name = "repeat_type", length = 20)
+    private String repeatType;  // NONE, DAILY, WEEKLY, MONTHLY, YEARLY
+
+    @Column(name = "repeat_interval")
+    @Builder.Default
+    private Integer repeatInterval = 1;  // 반복 간격 (n일, n주, n개월, n년)
+
+    @Column(name = "repeat_days", columnDefinition = "INTEGER[]")
+    private Integer[] repeatDays;  // 매주 반복 시 요일 배열 (0=일요일, 1=월요일, ...)
+
+    @Column(name = "repeat_month_day")
+    private Integer repeatMonthDay;  // 매월 반복 시 날짜 (1-31)
+
+    @Column(name = "repeat_end_date")
+    private LocalDateTime repeatEndDate;  // 반복 종료일
+
+    @Column(name = "occurrence_horizon")
+    private LocalDateTime occurrenceHorizon;  // 이 시각 이전의 반복 발생은 todo_occurrence에 모두 저장됨
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_id", nullable = false)
     private User createdBy;
@@ -0,0 +1,74 @@
+package com.example.demo.domain.entity;
+
+import com.example.demo.domain.enums.TodoStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 투두의 개별 발생 완료/수정 내역
+ * 발생을 완료하거나 수정할 때만 생성되며, null인 필드는 시리즈(Todo) 값을 그대로 사용합니다.
+ * 발생 목록 자체는 조회 시 규칙으로 계산하지 않고 TodoOccurrence(롤링 18개월)에 미리 저장되어 있으며,
+ * 이 테이블은 그 위에 덮어쓸 값만 담습니다.
+ */
+@Entity
+@Table(name = "todo_instance")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoInstance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "todo_id", nullable = false)
+    private Todo todo;
+
+    @Column(name = "occurrence_at", nullable = false)
+    private LocalDateTime occurrenceAt;  // 반복 규칙상 원래 마감일시 (발생 식별자)
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(nullable = false, columnDefinition = "todo_status")
+    @Builder.Default
+    private TodoStatus status = TodoStatus.TODO;
+
+    @Column(length = 20)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+
+    @Column(length = 100)
+    private String place;
+
+    @Column(name = "url", length = 1000)
+    private String url;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
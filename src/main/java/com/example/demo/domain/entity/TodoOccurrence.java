@@ -0,0 +1,39 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 규칙을 미리 전개해 저장한 반복 투두 발생 (달력 집계, 목록 페이지, 마감 알림용)
+ * 반복하지 않는 투두는 저장하지 않으며, 발생별 완료/수정 내역은 TodoInstance에 따로 저장됩니다.
+ * 현재 기준 18개월까지 모든 발생을 저장하므로 저장량은 완료 횟수가 아니라 시리즈 수 × 기간 내 발생 수에 비례합니다
+ * (매일 반복 시리즈 하나당 약 550행).
+ */
+@Entity
+@Table(name = "todo_occurrence")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "todo_id", nullable = false)
+    private Todo todo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(name = "occurrence_at", nullable = false)
+    private LocalDateTime occurrenceAt;  // 반복 규칙상 마감일시 (TodoInstance.occurrenceAt과 같은 값)
+}
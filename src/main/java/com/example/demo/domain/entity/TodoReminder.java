@@ -0,0 +1,33 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투두 마감 알림 예정 (투두 발생, 담당자, 알림 시간)별 알림 시각
+ * 반복하지 않는 투두의 발생은 마감일시 하나이며, 반복 투두는 발생(occurrenceAt)마다 행이 있습니다.
+ * 행 단위로 읽고 쓰지 않고, TodoReminderRepository의 재계산/선점 쿼리로만 갱신합니다.
+ * sentAt이 null이면 아직 전송하지 않은 알림입니다.
+ */
+@Entity
+@Table(name = "todo_reminder")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoReminder {
+
+    @EmbeddedId
+    private TodoReminderId id;
+
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
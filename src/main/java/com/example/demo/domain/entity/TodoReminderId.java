@@ -0,0 +1,32 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TodoReminderId implements Serializable {
+    @Column(name = "todo_id")
+    private Long todoId;
+
+    @Column(name = "occurrence_at")
+    private LocalDateTime occurrenceAt;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "minutes_before")
+    private Integer minutesBefore;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주간 투두 생성/완료/마감 경과 개수 집계 (팀 투두 통계용)
+ * 행 단위로 읽고 쓰지 않고, 투두 변경 시 TodoWeeklyRollupRepository의 증감 쿼리로만 갱신합니다.
+ * memberId가 0이면 팀 전체, positionId가 0이면 포지션 없는 투두의 집계입니다.
+ */
+@Entity
+@Table(name = "todo_weekly_rollup")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoWeeklyRollup {
+
+    @EmbeddedId
+    private TodoWeeklyRollupId id;
+
+    @Column(name = "created_count", nullable = false)
+    private Integer createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private Integer completedCount;
+
+    @Column(name = "overdue_count", nullable = false)
+    private Integer overdueCount;
+}
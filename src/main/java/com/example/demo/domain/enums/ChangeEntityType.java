@@ -0,0 +1,7 @@
+package com.example.demo.domain.enums;
+
+public enum ChangeEntityType {
+    SCHEDULE,
+    TODO,
+    NOTICE
+}
@@ -0,0 +1,6 @@
+package com.example.demo.domain.enums;
+
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
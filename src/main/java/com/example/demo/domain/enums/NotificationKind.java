@@ -0,0 +1,11 @@
+package com.example.demo.domain.enums;
+
+/**
+ * 즉시 전송 알림 종류 (수신자 알림 설정 판정용)
+ */
+public enum NotificationKind {
+    SCHEDULE_CHANGE,
+    TODO_CHANGE,
+    TEAM_MEMBER,
+    NOTICE
+}
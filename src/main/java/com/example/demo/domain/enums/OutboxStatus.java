@@ -0,0 +1,10 @@
+package com.example.demo.domain.enums;
+
+/**
+ * 푸시 알림 아웃박스 상태
+ */
+public enum OutboxStatus {
+    PENDING,  // 전송 대기 (재시도 대기 포함)
+    SENT,     // 전송 완료
+    FAILED    // 재시도 불가 또는 최대 시도 초과
+}
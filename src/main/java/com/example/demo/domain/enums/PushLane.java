@@ -0,0 +1,10 @@
+package com.example.demo.domain.enums;
+
+/**
+ * 푸시 전송 우선순위 레인 (ordinal이 작을수록 먼저 전송, notification_outbox.priority 값)
+ */
+public enum PushLane {
+    REMINDER,
+    CHANGE,
+    BULK
+}
@@ -0,0 +1,10 @@
+package com.example.demo.domain.enums;
+
+/**
+ * 투두 목록 정렬 기준
+ * DUE: 마감일시 순, OPEN_FIRST: 미완료(TODO) 먼저, 그 안에서 마감일시 순
+ */
+public enum TodoListOrder {
+    DUE,
+    OPEN_FIRST
+}
@@ -0,0 +1,49 @@
+package com.example.demo.domain.model;
+
+/**
+ * 델타 동기화 커서
+ * 마지막으로 전달한 변경의 (트랜잭션 ID, 순번)과 커서 발급 시각(epoch 초)을 "txid.seq.issuedAt" 문자열로 표현합니다.
+ * 트랜잭션 ID 기준으로 진행하므로, 늦게 커밋된 트랜잭션의 변경도 건너뛰지 않습니다.
+ */
+public class ChangeCursor {
+
+    private final String txid;
+    private final long seq;
+    private final long issuedAt;
+
+    public ChangeCursor(String txid, long seq, long issuedAt) {
+        this.txid = txid;
+        this.seq = seq;
+        this.issuedAt = issuedAt;
+    }
+
+    public String getTxid() {
+        return txid;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public String encode() {
+        return txid + "." + seq + "." + issuedAt;
+    }
+
+    public static ChangeCursor parse(String value) {
+        String[] parts = value == null ? new String[0] : value.split("\\.");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+        }
+        try {
+            // txid는 부호 없는 64비트 정수 → 형식만 검증하고 문자열 그대로 사용
+            Long.parseUnsignedLong(parts[0]);
+            return new ChangeCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+        }
+    }
+}
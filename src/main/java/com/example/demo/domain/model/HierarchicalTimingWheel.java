@@ -0,0 +1,178 @@
+package com.example.demo.domain.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 계층형 타이밍 휠 (만료 시각이 정해진 작업 보관용)
+ * 최하위 휠은 tickMillis 간격의 버킷 wheelSize개로 구성되고, 범위를 넘는 작업은 한 단계 위(틱 = 아래 휠 한 바퀴) 휠에 보관합니다.
+ * 상위 휠 버킷의 시각이 되면 그 안의 작업을 아래 휠로 다시 내려보내며, 최하위 휠 버킷의 시각이 되면 만료로 반환합니다.
+ * 추가/취소는 O(1), 시각 진행은 지나간 틱 수에 비례합니다. 스레드 안전하지 않으므로 호출 측에서 동기화해야 합니다.
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final Level<K, V> root;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMillis는 양수, wheelSize는 2 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 시각 (최하위 휠 틱 단위로 내림)
+     */
+    public long currentTime() {
+        return root.currentTime;
+    }
+
+    /**
+     * 작업 등록 (같은 키가 있으면 교체)
+     * 만료 시각이 현재 틱 안에 있으면(이미 지나간 틱 포함) 등록하지 않고 false를 반환합니다.
+     */
+    public boolean schedule(K key, long expirationMillis, V value) {
+        cancel(key);
+        if (expirationMillis < root.currentTime + tickMillis) {
+            return false;
+        }
+        Entry<K, V> entry = new Entry<>(key, expirationMillis, value);
+        root.add(entry);
+        entries.put(key, entry);
+        return true;
+    }
+
+    /**
+     * 작업 취소 (없으면 false)
+     */
+    public boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(entry);
+        entry.bucket = null;
+        return true;
+    }
+
+    /**
+     * 조건에 맞는 값의 작업을 모두 취소 (전체 순회, 드문 대량 변경용)
+     */
+    public int cancelIf(Predicate<V> predicate) {
+        List<K> keys = entries.values().stream()
+                .filter(entry -> predicate.test(entry.value))
+                .map(entry -> entry.key)
+                .toList();
+        keys.forEach(this::cancel);
+        return keys.size();
+    }
+
+    /**
+     * nowMillis까지 시각을 진행하고 만료된 작업 값을 만료 순서(틱 단위)대로 반환
+     */
+    public List<V> advanceTo(long nowMillis) {
+        List<V> expired = new ArrayList<>();
+        while (root.currentTime + tickMillis <= nowMillis) {
+            long time = root.currentTime + tickMillis;
+            root.advance(time, this, expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 상위 휠에서 내려온 작업을 다시 배치하고, 최하위 틱에 도달했으면 만료 처리
+     */
+    private void reinsert(Entry<K, V> entry, List<V> expired) {
+        if (entry.expirationMillis < root.currentTime + tickMillis) {
+            entries.remove(entry.key);
+            expired.add(entry.value);
+        } else {
+            root.add(entry);
+        }
+    }
+
+    private static final class Level<K, V> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long intervalMillis;
+        private final List<LinkedHashSet<Entry<K, V>>> buckets;
+        private long currentTime;
+        private Level<K, V> overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        private void add(Entry<K, V> entry) {
+            if (entry.expirationMillis < currentTime + intervalMillis) {
+                long virtualId = Math.floorDiv(entry.expirationMillis, tickMillis);
+                LinkedHashSet<Entry<K, V>> bucket = buckets.get((int) Math.floorMod(virtualId, (long) wheelSize));
+                bucket.add(entry);
+                entry.bucket = bucket;
+            } else {
+                if (overflow == null) {
+                    // 상위 휠의 틱 = 현재 휠 한 바퀴, 시작 시각은 현재 시각 기준
+                    overflow = new Level<>(intervalMillis, wheelSize, currentTime);
+                }
+                overflow.add(entry);
+            }
+        }
+
+        /**
+         * 틱 경계를 넘었으면 상위 휠부터 진행한 뒤 현재 틱 버킷의 작업을 다시 배치
+         */
+        private void advance(long time, HierarchicalTimingWheel<K, V> wheel, List<V> expired) {
+            if (time < currentTime + tickMillis) {
+                return;
+            }
+            currentTime = time - Math.floorMod(time, tickMillis);
+            if (overflow != null) {
+                overflow.advance(time, wheel, expired);
+            }
+            long virtualId = Math.floorDiv(currentTime, tickMillis);
+            LinkedHashSet<Entry<K, V>> bucket = buckets.get((int) Math.floorMod(virtualId, (long) wheelSize));
+            if (bucket.isEmpty()) {
+                return;
+            }
+            List<Entry<K, V>> flushed = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<K, V> entry : flushed) {
+                entry.bucket = null;
+                wheel.reinsert(entry, expired);
+            }
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final long expirationMillis;
+        private final V value;
+        private LinkedHashSet<Entry<K, V>> bucket;
+
+        private Entry(K key, long expirationMillis, V value) {
+            this.key = key;
+            this.expirationMillis = expirationMillis;
+            this.value = value;
+        }
+    }
+}
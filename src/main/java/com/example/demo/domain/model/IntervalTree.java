@@ -0,0 +1,113 @@
+package com.example.demo.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 정적(생성 후 변경 불가) 증강 구간 트리
+ * 구간을 시작값 기준으로 정렬한 배열을 암묵적 균형 이진 트리로 보고, 각 서브트리의 최대 끝값을 함께 저장합니다.
+ * 겹침 조회는 O(log n + k)이며, 구간 양 끝은 포함(닫힌 구간)으로 비교합니다.
+ */
+public class IntervalTree<T> {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] values;
+
+    private IntervalTree(long[] starts, long[] ends, Object[] values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.values = values;
+        this.maxEnds = new long[starts.length];
+        if (starts.length > 0) {
+            buildMaxEnds(0, starts.length - 1);
+        }
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * [from, to] 구간과 겹치는 값을 시작값 순으로 반환
+     */
+    public List<T> findOverlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        if (values.length > 0) {
+            collect(0, values.length - 1, from, to, result);
+        }
+        return result;
+    }
+
+    private long buildMaxEnds(int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        long max = ends[mid];
+        if (lo < mid) {
+            max = Math.max(max, buildMaxEnds(lo, mid - 1));
+        }
+        if (mid < hi) {
+            max = Math.max(max, buildMaxEnds(mid + 1, hi));
+        }
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(int lo, int hi, long from, long to, List<T> result) {
+        int mid = (lo + hi) >>> 1;
+        // 서브트리의 모든 구간이 조회 시작 전에 끝나면 건너뜀
+        if (maxEnds[mid] < from) {
+            return;
+        }
+        if (lo < mid) {
+            collect(lo, mid - 1, from, to, result);
+        }
+        // 시작값 기준 정렬이므로, 현재 구간이 조회 끝 이후에 시작하면 오른쪽도 모두 제외
+        if (starts[mid] > to) {
+            return;
+        }
+        if (ends[mid] >= from) {
+            result.add((T) values[mid]);
+        }
+        if (mid < hi) {
+            collect(mid + 1, hi, from, to, result);
+        }
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<T> {
+
+        private final List<long[]> intervals = new ArrayList<>();
+        private final List<T> items = new ArrayList<>();
+
+        /**
+         * 구간 추가 (end가 Long.MAX_VALUE이면 상한 없음)
+         */
+        public Builder<T> add(long start, long end, T value) {
+            intervals.add(new long[]{start, end, items.size()});
+            items.add(value);
+            return this;
+        }
+
+        public IntervalTree<T> build() {
+            long[][] sorted = intervals.toArray(new long[0][]);
+            Arrays.sort(sorted, Comparator.comparingLong(interval -> interval[0]));
+
+            long[] starts = new long[sorted.length];
+            long[] ends = new long[sorted.length];
+            Object[] values = new Object[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                starts[i] = sorted[i][0];
+                ends[i] = sorted[i][1];
+                values[i] = items.get((int) sorted[i][2]);
+            }
+            return new IntervalTree<>(starts, ends, values);
+        }
+    }
+}
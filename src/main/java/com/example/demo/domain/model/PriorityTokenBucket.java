@@ -0,0 +1,113 @@
+package com.example.demo.domain.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 우선순위 레인이 있는 토큰 버킷 (스레드 안전)
+ * 토큰은 초당 ratePerSecond개씩 capacity개까지 채워지고, acquire는 토큰이 모자라면 채워질 때까지 기다립니다.
+ * 기다리는 요청이 여럿이면 레인 번호가 작은 레인부터, 같은 레인 안에서는 도착 순으로 토큰을 받습니다.
+ * capacity보다 큰 요청은 버킷이 가득 찼을 때 통과시키고 모자란 만큼을 빚으로 남겨, 장기 평균 속도를 지킵니다.
+ */
+public class PriorityTokenBucket {
+
+    private final double tokensPerNano;
+    private final long capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Deque<Waiter>[] lanes;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    @SuppressWarnings("unchecked")
+    public PriorityTokenBucket(double ratePerSecond, long capacity, int laneCount) {
+        if (ratePerSecond <= 0 || capacity <= 0 || laneCount <= 0) {
+            throw new IllegalArgumentException("ratePerSecond, capacity, laneCount는 양수여야 합니다.");
+        }
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.lanes = new Deque[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 permits개 획득 (모자라면 timeout까지 대기)
+     * @param lane 0부터 시작하는 레인 번호 (작을수록 우선)
+     * @return 획득하면 true, timeout 안에 차례가 오지 않으면 false (토큰은 소비하지 않음)
+     */
+    public boolean acquire(int permits, int lane, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        double required = Math.min(permits, capacity);
+        Waiter waiter = new Waiter();
+
+        lock.lockInterruptibly();
+        try {
+            lanes[lane].addLast(waiter);
+            try {
+                while (true) {
+                    refill();
+                    boolean head = head() == waiter;
+                    if (head && tokens >= required) {
+                        tokens -= permits;
+                        return true;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    // 차례가 된 요청만 토큰이 찰 때까지 자고, 나머지는 앞 요청이 빠질 때 깨어남
+                    long wait = head ? Math.min(remaining, nanosUntil(required)) : remaining;
+                    changed.awaitNanos(Math.max(wait, 1));
+                }
+            } finally {
+                lanes[lane].remove(waiter);
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 레인별 대기 중인 요청 수
+     */
+    public int waiting(int lane) {
+        lock.lock();
+        try {
+            return lanes[lane].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Waiter head() {
+        for (Deque<Waiter> lane : lanes) {
+            if (!lane.isEmpty()) {
+                return lane.peekFirst();
+            }
+        }
+        return null;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+
+    private long nanosUntil(double required) {
+        return (long) Math.ceil((required - tokens) / tokensPerNano);
+    }
+
+    // 대기열 식별용 (같은 스레드의 중복 요청도 구분)
+    private static final class Waiter {
+    }
+}
@@ -3,9 +3,15 @@ package com.example.demo.domain.model;
 import com.example.demo.domain.enums.RepeatType;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 public class ScheduleRepeatRule {
 
@@ -107,6 +113,188 @@ public class ScheduleRepeatRule {
         };
     }
 
+    /**
+     * 시리즈 시작일시(seriesStart) 기준으로 from 이후(포함)의 발생 시작일시를 순서대로 반환하는 지연 반복자
+     * startAt부터 한 주기씩 전진하지 않고 from이 속한 주기로 바로 이동(seek)한 뒤 순회합니다.
+     * 반복 종료일(endDate)은 해당 날짜까지 포함합니다.
+     */
+    public Iterator<LocalDateTime> occurrencesFrom(LocalDateTime seriesStart, LocalDateTime from) {
+        return new OccurrenceIterator(seriesStart, from);
+    }
+
+    /**
+     * [rangeStart, rangeEnd] 구간과 겹치는 발생들의 시작일시 목록 (최대 limit개)
+     * 발생 구간은 [발생 시작, 발생 시작 + duration] 이며, 기존 기간 조회와 동일하게 양 끝을 포함해 비교합니다.
+     */
+    public List<LocalDateTime> occurrenceStartsOverlapping(LocalDateTime seriesStart,
+                                                           Duration duration,
+                                                           LocalDateTime rangeStart,
+                                                           LocalDateTime rangeEnd,
+                                                           int limit) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        Iterator<LocalDateTime> iterator = occurrencesFrom(seriesStart, rangeStart.minus(duration));
+        while (iterator.hasNext() && starts.size() < limit) {
+            LocalDateTime occurrenceStart = iterator.next();
+            if (occurrenceStart.isAfter(rangeEnd)) {
+                break;
+            }
+            starts.add(occurrenceStart);
+        }
+        return starts;
+    }
+
+    /**
+     * 반복 유형별 "주기(period)" 단위로 후보 날짜를 계산하는 반복자
+     * DAILY: interval일, WEEKLY: interval주(일요일 시작) 내 지정 요일들, MONTHLY: interval개월, YEARLY: interval년
+     * 해당 월에 없는 날짜(예: 31일, 2월 29일)는 건너뜁니다.
+     */
+    private class OccurrenceIterator implements Iterator<LocalDateTime> {
+
+        // 발생이 하나도 없는 주기가 이 횟수만큼 연속되면 순회를 종료 (무한 루프 방지)
+        private static final int MAX_EMPTY_PERIODS = 1000;
+
+        private final LocalDate seriesStartDate;
+        private final LocalTime timeOfDay;
+        private final LocalDateTime from;
+        private final int step;
+        private final int[] weekDays;
+        private final int dayOfMonth;
+
+        private long period;
+        private int slot;
+        private LocalDateTime next;
+        private boolean finished;
+
+        private OccurrenceIterator(LocalDateTime seriesStart, LocalDateTime from) {
+            this.seriesStartDate = seriesStart.toLocalDate();
+            this.timeOfDay = seriesStart.toLocalTime();
+            this.from = from;
+            this.step = interval != null && interval > 0 ? interval : 1;
+            this.weekDays = resolveWeekDays(seriesStartDate);
+            this.dayOfMonth = monthDay != null ? monthDay : seriesStartDate.getDayOfMonth();
+
+            if (type == null || type == RepeatType.NONE) {
+                this.next = seriesStart.isBefore(from) ? null : seriesStart;
+                this.finished = true;
+                return;
+            }
+            this.period = seekPeriod(from.toLocalDate());
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            next = null;
+            if (!finished) {
+                advance();
+            }
+            return current;
+        }
+
+        /**
+         * from이 속한(또는 직전) 주기 번호 계산
+         */
+        private long seekPeriod(LocalDate fromDate) {
+            if (!fromDate.isAfter(seriesStartDate)) {
+                return 0;
+            }
+            long elapsed = switch (type) {
+                case DAILY -> ChronoUnit.DAYS.between(seriesStartDate, fromDate);
+                case WEEKLY -> ChronoUnit.WEEKS.between(startOfWeek(seriesStartDate), startOfWeek(fromDate));
+                case MONTHLY -> ChronoUnit.MONTHS.between(seriesStartDate.withDayOfMonth(1), fromDate.withDayOfMonth(1));
+                case YEARLY -> (long) fromDate.getYear() - seriesStartDate.getYear();
+                default -> 0;
+            };
+            return elapsed / step;
+        }
+
+        private void advance() {
+            int emptyPeriods = 0;
+            while (emptyPeriods < MAX_EMPTY_PERIODS) {
+                boolean periodHadCandidate = false;
+                LocalDate candidate;
+                while ((candidate = candidateInPeriod()) != null) {
+                    periodHadCandidate = true;
+                    slot++;
+                    if (endDate != null && candidate.isAfter(endDate)) {
+                        finished = true;
+                        return;
+                    }
+                    if (candidate.isBefore(seriesStartDate)) {
+                        continue;
+                    }
+                    LocalDateTime occurrence = candidate.atTime(timeOfDay);
+                    if (!occurrence.isBefore(from)) {
+                        next = occurrence;
+                        return;
+                    }
+                }
+                emptyPeriods = periodHadCandidate ? 0 : emptyPeriods + 1;
+                period++;
+                slot = 0;
+            }
+            finished = true;
+        }
+
+        /**
+         * 현재 주기의 slot번째 후보 날짜 (주기 내 후보가 더 없으면 null)
+         */
+        private LocalDate candidateInPeriod() {
+            long offset = period * step;
+            switch (type) {
+                case DAILY:
+                    return slot == 0 ? seriesStartDate.plusDays(offset) : null;
+                case WEEKLY:
+                    return slot < weekDays.length
+                            ? startOfWeek(seriesStartDate).plusWeeks(offset).plusDays(weekDays[slot])
+                            : null;
+                case MONTHLY: {
+                    if (slot > 0) return null;
+                    LocalDate month = seriesStartDate.withDayOfMonth(1).plusMonths(offset);
+                    return dayOfMonth <= month.lengthOfMonth() ? month.withDayOfMonth(dayOfMonth) : null;
+                }
+                case YEARLY: {
+                    if (slot > 0) return null;
+                    LocalDate month = seriesStartDate.withDayOfMonth(1).plusYears(offset);
+                    return dayOfMonth <= month.lengthOfMonth() ? month.withDayOfMonth(dayOfMonth) : null;
+                }
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * 주간 반복 요일(0=일요일)을 오름차순 중복 없이 정리 (미지정 시 시작일의 요일)
+     */
+    private int[] resolveWeekDays(LocalDate seriesStartDate) {
+        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
+            return new int[]{seriesStartDate.getDayOfWeek().getValue() % 7};
+        }
+        return daysOfWeek.stream()
+                .filter(day -> day != null && day >= 0 && day < 7)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * 해당 날짜가 속한 주의 일요일
+     */
+    private static LocalDate startOfWeek(LocalDate date) {
+        return date.minusDays(date.getDayOfWeek().getValue() % 7);
+    }
+
     public static ScheduleRepeatRule fromEntityFields(
             String repeatType,
             Integer repeatInterval,
@@ -119,6 +307,94 @@ public class ScheduleRepeatRule {
         LocalDate end = repeatEndDate == null ? null : repeatEndDate.toLocalDate();
         return new ScheduleRepeatRule(typeEnum, repeatInterval, days, repeatMonthDay, end);
     }
-}
 
+    /**
+     * 반복 종료일(날짜)을 해당 날짜의 마지막 시각으로 변환 (종료일 당일 발생 포함)
+     */
+    public static LocalDateTime toRepeatEndDate(LocalDate repeatEndDate) {
+        if (repeatEndDate == null) return null;
+        return repeatEndDate.atTime(23, 59, 59);
+    }
+
+    /**
+     * 반복 설정 유효성 검증
+     */
+    public static void validateRepeatConfig(String normalizedRepeatType,
+                                            Integer repeatInterval,
+                                            LocalDate repeatEndDate,
+                                            Boolean repeatUseDate,
+                                            List<String> repeatWeekDays) {
+        // NONE인데 다른 반복 필드들이 들어오면 에러
+        if (RepeatType.NONE.name().equals(normalizedRepeatType)) {
+            if (repeatInterval != null || repeatEndDate != null ||
+                    (repeatUseDate != null && repeatUseDate) ||
+                    (repeatWeekDays != null && !repeatWeekDays.isEmpty())) {
+                throw new IllegalArgumentException("INVALID_REPEAT_CONFIG: repeatType이 NONE일 때는 반복 관련 필드를 보낼 수 없습니다.");
+            }
+        }
+
+        // interval이 0 이하이면 에러
+        if (repeatInterval != null && repeatInterval <= 0) {
+            throw new IllegalArgumentException("INVALID_REPEAT_CONFIG: repeatInterval은 1 이상이어야 합니다.");
+        }
+    }
+
+    public static String normalizeRepeatType(String repeatType) {
+        if (repeatType == null || repeatType.isBlank()) {
+            return RepeatType.NONE.name();
+        }
+        try {
+            return RepeatType.valueOf(repeatType.toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                String.format("INVALID_REPEAT_TYPE: 유효하지 않은 반복 유형입니다. 가능한 값: NONE, DAILY, WEEKLY, MONTHLY, YEARLY (입력값: %s)", repeatType)
+            );
+        }
+    }
+
+    /**
+     * 한글 요일 문자열 리스트를 숫자 배열로 변환
+     * "월", "화", "수", "목", "금", "토", "일" -> [1, 2, 3, 4, 5, 6, 0]
+     */
+    public static Integer[] convertWeekDaysToNumbers(List<String> weekDays, String repeatType, LocalDateTime startAt) {
+        if (weekDays == null || weekDays.isEmpty()) {
+            // 매주 반복인데 요일이 지정되지 않은 경우, 시작일의 요일을 기본값으로 사용
+            if (repeatType != null && repeatType.equals(RepeatType.WEEKLY.name())) {
+                int dayOfWeekValue = startAt.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
+                int zeroBasedDay = dayOfWeekValue == 7 ? 0 : dayOfWeekValue; // 0=일요일, 1=월요일, ...
+                return new Integer[]{zeroBasedDay};
+            }
+            return null;
+        }
+
+        java.util.Map<String, Integer> weekDayMap = new java.util.HashMap<>();
+        weekDayMap.put("일", 0);
+        weekDayMap.put("월", 1);
+        weekDayMap.put("화", 2);
+        weekDayMap.put("수", 3);
+        weekDayMap.put("목", 4);
+        weekDayMap.put("금", 5);
+        weekDayMap.put("토", 6);
+
+        return weekDays.stream()
+                .map(weekDayMap::get)
+                .filter(java.util.Objects::nonNull)
+                .toArray(Integer[]::new);
+    }
 
+    /**
+     * 숫자 배열을 한글 요일 문자열 리스트로 변환
+     * [1, 2, 3] -> ["월", "화", "수"]
+     */
+    public static List<String> convertNumbersToWeekDays(Integer[] numbers) {
+        if (numbers == null || numbers.length == 0) {
+            return null;
+        }
+
+        String[] weekDays = {"일", "월", "화", "수", "목", "금", "토"};
+        return java.util.Arrays.stream(numbers)
+                .filter(n -> n >= 0 && n < 7)
+                .map(n -> weekDays[n])
+                .collect(java.util.stream.Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.domain.model;
+
+import com.example.demo.domain.enums.TodoStatus;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 투두 목록 키셋 페이지 커서
+ * 마지막으로 전달한 항목의 (상태, 마감일시, 투두 ID)를 "status.endAtEpochMicros.id" 문자열로 표현합니다.
+ * 마감일 순 정렬에서는 상태를 사용하지 않으며 "endAtEpochMicros.id" 형식입니다.
+ */
+public class TodoPageCursor {
+
+    private static final LocalDateTime FIRST_END_AT = LocalDateTime.of(1, 1, 1, 0, 0);
+
+    private final TodoStatus status;
+    private final LocalDateTime endAt;
+    private final long id;
+
+    public TodoPageCursor(TodoStatus status, LocalDateTime endAt, long id) {
+        this.status = status;
+        this.endAt = endAt;
+        this.id = id;
+    }
+
+    /**
+     * 첫 페이지용 커서 (가장 앞선 상태와 마감일시)
+     * 반복 투두 발생은 반복 규칙상 날짜로 기간에 포함되지만 마감일시만 기간 앞으로 옮겼을 수 있으므로
+     * 기간 시작이 아니라 최솟값부터 시작합니다.
+     */
+    public static TodoPageCursor first() {
+        return new TodoPageCursor(TodoStatus.TODO, FIRST_END_AT, 0L);
+    }
+
+    public TodoStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getEndAt() {
+        return endAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode(boolean openFirst) {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), endAt);
+        return openFirst ? status.name() + "." + micros + "." + id : micros + "." + id;
+    }
+
+    public static TodoPageCursor parse(String value, boolean openFirst) {
+        String[] parts = value == null ? new String[0] : value.split("\\.");
+        if (parts.length != (openFirst ? 3 : 2)) {
+            throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+        }
+        try {
+            int offset = openFirst ? 1 : 0;
+            TodoStatus status = openFirst ? TodoStatus.valueOf(parts[0]) : TodoStatus.TODO;
+            LocalDateTime endAt = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC)
+                    .plus(Long.parseLong(parts[offset]), ChronoUnit.MICROS);
+            return new TodoPageCursor(status, endAt, Long.parseLong(parts[offset + 1]));
+        } catch (IllegalArgumentException | ArithmeticException | DateTimeException e) {
+            throw new IllegalArgumentException("INVALID_CURSOR: 유효하지 않은 커서입니다.");
+        }
+    }
+}
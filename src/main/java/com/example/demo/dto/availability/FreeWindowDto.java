@@ -0,0 +1,22 @@
+package com.example.demo.dto.availability;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "모든 대상 팀원이 비어 있는 시간 구간")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FreeWindowDto {
+    @Schema(description = "시작일시", example = "2025-01-15T01:00:00.000Z")
+    private LocalDateTime startAt;
+
+    @Schema(description = "종료일시", example = "2025-01-15T03:30:00.000Z")
+    private LocalDateTime endAt;
+}
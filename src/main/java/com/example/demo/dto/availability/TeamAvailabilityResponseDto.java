@@ -0,0 +1,32 @@
+package com.example.demo.dto.availability;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "팀 공통 빈 시간 조회 결과")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamAvailabilityResponseDto {
+    @Schema(description = "조회 시작일시 (15분 단위로 내림)", example = "2025-01-13T00:00:00.000Z")
+    private LocalDateTime startAt;
+
+    @Schema(description = "조회 종료일시 (15분 단위로 올림)", example = "2025-01-27T00:00:00.000Z")
+    private LocalDateTime endAt;
+
+    @Schema(description = "시간 단위 (분)", example = "15")
+    private Integer slotMinutes;
+
+    @Schema(description = "대상 팀멤버 ID 목록", example = "[10,11,12]")
+    private List<Long> memberIds;
+
+    @Schema(description = "모든 대상 팀원이 비어 있는 구간 목록 (시작일시 순)")
+    private List<FreeWindowDto> freeWindows;
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto.calendar;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "월간 달력 날짜별 요약")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarDaySummaryDto {
+    @Schema(description = "날짜 (Asia/Seoul 기준)", example = "2025-01-15")
+    private LocalDate date;
+
+    @Schema(description = "일정 수 (반복 일정은 발생 단위, 여러 날에 걸친 일정은 걸친 날마다 집계)", example = "3")
+    private Integer scheduleCount;
+
+    @Schema(description = "마감일이 이 날짜인 투두 수", example = "1")
+    private Integer todoCount;
+
+    @Schema(description = "대표 포지션 색상 (항목 수가 많은 순, 최대 3개)", example = "[\"#FF5733\", \"#33FF57\"]")
+    private List<String> colors;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.dto.schedule;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "참석자 일정 충돌 정보 (경고용, 저장은 정상 처리됨)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleConflictDto {
+    @Schema(description = "겹치는 일정 ID", example = "3")
+    private Long scheduleId;
+
+    @Schema(description = "겹치는 일정 제목", example = "주간 회의")
+    private String title;
+
+    @Schema(description = "겹치는 발생 시작일시", example = "2024-01-15T10:00:00.000Z")
+    private LocalDateTime startAt;
+
+    @Schema(description = "겹치는 발생 종료일시", example = "2024-01-15T11:00:00.000Z")
+    private LocalDateTime endAt;
+
+    @Schema(description = "두 일정에 모두 참석하는 팀멤버 ID 목록", example = "[10,11]")
+    private List<Long> memberIds;
+}
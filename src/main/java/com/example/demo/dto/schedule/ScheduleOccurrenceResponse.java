@@ -0,0 +1,17 @@
+package com.example.demo.dto.schedule;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "일정 발생 정보")
+public interface ScheduleOccurrenceResponse {
+    @Schema(description = "일정 ID", example = "1")
+    Long getScheduleId();
+
+    @Schema(description = "발생 시작일시", example = "2024-01-15T10:30:00.000Z")
+    LocalDateTime getStartAt();
+
+    @Schema(description = "발생 종료일시", example = "2024-01-15T12:30:00.000Z")
+    LocalDateTime getEndAt();
+}
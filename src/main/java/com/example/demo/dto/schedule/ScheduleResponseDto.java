@@ -15,7 +15,7 @@ import java.util.Map;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ScheduleResponseDto {
     @Schema(description = "일정 ID", example = "1")
     private Long id;
@@ -80,6 +80,9 @@ public class ScheduleResponseDto {
     @Schema(description = "월간/연간 반복 시 날짜 사용 여부", example = "true")
     private Boolean repeatUseDate;
 
+    @Schema(description = "월간/연간 반복 날짜 (1-31, repeatUseDate가 true일 때)", example = "15")
+    private Integer repeatMonthDay;
+
     @Schema(description = "반복 요일 배열 (주간 반복 시, \"월\", \"화\", \"수\", \"목\", \"금\", \"토\", \"일\")", example = "[\"월\", \"수\", \"금\"]")
     private List<String> repeatWeekDays;
 
@@ -91,5 +94,11 @@ public class ScheduleResponseDto {
 
     @Schema(description = "스케줄 사전 알림 시간 (분 단위 배열, null이면 사용자 개인 설정 사용)", example = "[10, 30, 60]")
     private Integer[] notificationMinutes;
+
+    @Schema(description = "반복 일정 전개(expand=true) 시 원본 시리즈의 시작일시 (전개되지 않은 응답에서는 null)", example = "2024-01-01T10:30:00.000Z")
+    private LocalDateTime seriesStartAt;
+
+    @Schema(description = "참석자 일정 충돌 목록 (생성/수정 응답에서만 제공, 그 외 조회에서는 null)")
+    private List<ScheduleConflictDto> conflicts;
 }
 
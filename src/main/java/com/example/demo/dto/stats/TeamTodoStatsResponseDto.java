@@ -0,0 +1,25 @@
+package com.example.demo.dto.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "팀 투두 완료율 통계")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamTodoStatsResponseDto {
+    @Schema(description = "팀 전체 주간 집계 (투두가 있는 주만)")
+    private List<TodoWeekStatDto> team;
+
+    @Schema(description = "팀원별 주간 집계")
+    private List<TodoMemberStatDto> members;
+
+    @Schema(description = "포지션별 주간 집계")
+    private List<TodoPositionStatDto> positions;
+}
@@ -0,0 +1,25 @@
+package com.example.demo.dto.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "팀원별 주간 투두 집계 (담당자 기준)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoMemberStatDto {
+    @Schema(description = "팀원 ID", example = "1")
+    private Long memberId;
+
+    @Schema(description = "팀원 이름", example = "홍길동")
+    private String userName;
+
+    @Schema(description = "주간 집계 (투두가 있는 주만)")
+    private List<TodoWeekStatDto> weeks;
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "포지션별 주간 투두 집계 (대표 포지션 기준)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoPositionStatDto {
+    @Schema(description = "포지션 ID (포지션 없는 투두는 null)", example = "1")
+    private Long positionId;
+
+    @Schema(description = "주간 집계 (투두가 있는 주만)")
+    private List<TodoWeekStatDto> weeks;
+}
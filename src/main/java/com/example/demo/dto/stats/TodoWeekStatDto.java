@@ -0,0 +1,31 @@
+package com.example.demo.dto.stats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Schema(description = "주간 투두 집계 (마감일 기준 주, 마감일이 그 주인 투두들의 현재 상태)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoWeekStatDto {
+    @Schema(description = "주 시작일 (월요일, Asia/Seoul 기준)", example = "2026-10-05")
+    private LocalDate weekStart;
+
+    @Schema(description = "마감일이 이 주인 투두 수 (생성일 기준 아님)", example = "12")
+    private Integer createdCount;
+
+    @Schema(description = "그중 현재 완료 상태인 투두 수 (완료한 주와 관계없이 마감 주에 집계)", example = "9")
+    private Integer completedCount;
+
+    @Schema(description = "그중 마감이 지났는데 완료되지 않은 투두 수", example = "2")
+    private Integer overdueCount;
+
+    @Schema(description = "완료율 (completedCount / createdCount)", example = "0.75")
+    private Double completionRate;
+}
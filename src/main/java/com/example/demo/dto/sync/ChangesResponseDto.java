@@ -0,0 +1,40 @@
+package com.example.demo.dto.sync;
+
+import com.example.demo.dto.notice.NoticeResponse;
+import com.example.demo.dto.schedule.ScheduleResponseDto;
+import com.example.demo.dto.todo.TodoResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "델타 동기화 결과")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangesResponseDto {
+    @Schema(description = "다음 요청에 since로 보낼 커서", example = "1052.311.1767225600")
+    private String cursor;
+
+    @Schema(description = "한 번에 보낼 수 있는 양을 넘어 남은 변경이 있는지 여부 (true면 곧바로 cursor로 다시 요청)", example = "false")
+    private Boolean hasMore;
+
+    @Schema(description = "커서가 보존 기간을 지나 전체 재조회가 필요한지 여부 (true면 목록을 다시 받은 뒤 cursor 사용)", example = "false")
+    private Boolean resetRequired;
+
+    @Schema(description = "생성/수정된 일정 (현재 상태)")
+    private List<ScheduleResponseDto> schedules;
+
+    @Schema(description = "생성/수정된 투두 (현재 상태)")
+    private List<TodoResponseDto> todos;
+
+    @Schema(description = "생성/수정된 공지 (현재 상태)")
+    private List<NoticeResponse> notices;
+
+    @Schema(description = "삭제된 항목 목록")
+    private List<DeletedEntityDto> deleted;
+}
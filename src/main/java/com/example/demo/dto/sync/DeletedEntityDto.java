@@ -0,0 +1,24 @@
+package com.example.demo.dto.sync;
+
+import com.example.demo.domain.enums.ChangeEntityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "삭제된 항목 (툼스톤)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletedEntityDto {
+    @Schema(description = "항목 유형 (SCHEDULE, TODO, NOTICE)", example = "SCHEDULE")
+    private ChangeEntityType entityType;
+
+    @Schema(description = "삭제된 항목 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "팀 ID", example = "1")
+    private Long teamId;
+}
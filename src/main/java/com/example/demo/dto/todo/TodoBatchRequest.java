@@ -0,0 +1,57 @@
+package com.example.demo.dto.todo;
+
+import com.example.demo.domain.enums.TodoStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "투두 일괄 변경 요청 (완료 여부, 담당자 변경, 삭제를 하나의 트랜잭션으로 처리)")
+@Getter
+@Setter
+public class TodoBatchRequest {
+
+    @Valid
+    @Schema(description = "완료 여부 변경 목록")
+    private List<StatusChange> statusChanges;
+
+    @Valid
+    @Schema(description = "담당자 변경 목록")
+    private List<AssigneeChange> assigneeChanges;
+
+    @Schema(description = "삭제할 투두 ID 목록", example = "[3, 4]")
+    private List<Long> deleteTodoIds;
+
+    @Schema(description = "완료 여부 변경")
+    @Getter
+    @Setter
+    public static class StatusChange {
+        @NotNull(message = "투두 ID는 필수입니다.")
+        @Schema(description = "투두 ID", example = "1", required = true)
+        private Long todoId;
+
+        @NotNull(message = "상태는 필수입니다.")
+        @Schema(description = "투두 상태 (TODO, DONE)", example = "DONE", required = true)
+        private TodoStatus status;
+
+        @Schema(description = "반복 투두의 완료 대상 발생 마감일시 (반복 투두에서는 필수)", example = "2024-01-15T11:30:00.000Z")
+        private LocalDateTime occurrenceAt;
+    }
+
+    @Schema(description = "담당자 변경 (목록 전체를 교체)")
+    @Getter
+    @Setter
+    public static class AssigneeChange {
+        @NotNull(message = "투두 ID는 필수입니다.")
+        @Schema(description = "투두 ID", example = "2", required = true)
+        private Long todoId;
+
+        @NotNull(message = "담당자 목록은 필수입니다.")
+        @Schema(description = "담당자 팀멤버 ID 목록 (빈 배열이면 담당자 해제)", example = "[1, 2]", required = true)
+        private List<Long> assigneeMemberIds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.dto.todo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "투두 일괄 변경 응답")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoBatchResponseDto {
+    @Schema(description = "변경된 투두 목록 (삭제된 투두 제외)")
+    private List<TodoResponseDto> updatedTodos;
+
+    @Schema(description = "삭제된 투두 ID 목록", example = "[3, 4]")
+    private List<Long> deletedTodoIds;
+}
@@ -0,0 +1,25 @@
+package com.example.demo.dto.todo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "투두 목록 페이지 (키셋 페이지네이션)")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoPageResponseDto {
+    @Schema(description = "이 페이지의 투두 목록 (반복 투두는 발생 단위)")
+    private List<TodoResponseDto> items;
+
+    @Schema(description = "다음 페이지 요청에 cursor로 보낼 값 (마지막 페이지면 null)", example = "1767225600000000.42")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지가 있는지 여부", example = "true")
+    private Boolean hasMore;
+}
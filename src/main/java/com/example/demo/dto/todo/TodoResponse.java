@@ -45,4 +45,19 @@ public interface TodoResponse {
 
     @Schema(description = "수정일시", example = "2024-01-15T10:30:00.000Z")
     LocalDateTime getUpdatedAt();
+
+    @Schema(description = "반복 유형 (NONE, DAILY, WEEKLY, MONTHLY, YEARLY)", example = "NONE")
+    String getRepeatType();
+
+    @Schema(description = "반복 간격", example = "1")
+    Integer getRepeatInterval();
+
+    @Schema(description = "반복 요일 (0=일, 1=월, ...)", example = "[1, 3]")
+    Integer[] getRepeatDays();
+
+    @Schema(description = "월간/연간 반복 날짜 (1-31)", example = "15")
+    Integer getRepeatMonthDay();
+
+    @Schema(description = "반복 종료일시", example = "2024-12-31T23:59:59.000Z")
+    LocalDateTime getRepeatEndDate();
 }
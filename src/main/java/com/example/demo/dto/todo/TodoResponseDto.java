@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -14,7 +15,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class TodoResponseDto {
     @Schema(description = "투두 ID", example = "1")
     private Long id;
@@ -69,5 +70,28 @@ public class TodoResponseDto {
 
     @Schema(description = "수정일시", example = "2024-01-15T10:30:00.000Z")
     private LocalDateTime updatedAt;
-}
 
+    @Schema(description = "반복 유형 (NONE, DAILY, WEEKLY, MONTHLY, YEARLY)", example = "NONE")
+    private String repeatType;
+
+    @Schema(description = "반복 간격 (예: 2일 간격, 2주 간격)", example = "1")
+    private Integer repeatInterval;
+
+    @Schema(description = "반복 종료일 (미설정 시 무기한)", example = "2026-01-17")
+    private LocalDate repeatEndDate;
+
+    @Schema(description = "월간/연간 반복 시 날짜 사용 여부", example = "true")
+    private Boolean repeatUseDate;
+
+    @Schema(description = "월간/연간 반복 날짜 (1-31, repeatUseDate가 true일 때)", example = "15")
+    private Integer repeatMonthDay;
+
+    @Schema(description = "반복 요일 배열 (주간 반복 시, \"월\", \"화\", \"수\", \"목\", \"금\", \"토\", \"일\")", example = "[\"월\", \"수\", \"금\"]")
+    private List<String> repeatWeekDays;
+
+    @Schema(description = "반복 요약 문자열", example = "매주 · 월, 수")
+    private String repeatSummary;
+
+    @Schema(description = "반복 투두 발생의 원래 마감일시 (발생별 완료/수정 시 식별자, 기간 조회 응답에서만 제공)", example = "2024-01-15T11:30:00.000Z")
+    private LocalDateTime occurrenceAt;
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 public class TodoStatusUpdateRequest {
@@ -13,5 +15,8 @@ public class TodoStatusUpdateRequest {
     @NotNull(message = "상태는 필수입니다.")
     @Schema(description = "투두 상태 (TODO, DONE)", example = "DONE", required = true)
     private TodoStatus status;
+
+    @Schema(description = "반복 투두의 완료 대상 발생 마감일시 (목록 응답의 occurrenceAt, 반복 투두에서는 필수)", example = "2024-01-15T11:30:00.000Z")
+    private LocalDateTime occurrenceAt;
 }
 
@@ -0,0 +1,180 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.CalendarDayCount;
+import com.example.demo.domain.entity.CalendarDayCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 집계는 "팀 전체(member_id = 0) + 참석자/담당자별" 행에, 항목의 대표 포지션(order_index 최소, 없으면 0) 기준으로 더해집니다.
+ * (팀원/대표 포지션/발생 날짜 규칙은 schedule_aggregate_key, todo_aggregate_key, schedule_occurrence_day 뷰(V35)와 todo_occurrence_day 뷰(V37))
+ * 일정은 발생(schedule_occurrence)이 걸친 모든 날짜, 투두는 마감일 하루에 집계되며 날짜는 Asia/Seoul 기준입니다.
+ * 증감 쿼리는 참석자/포지션 변경이 반영된 상태에서 실행되어야 하므로 flushAutomatically를 사용합니다.
+ */
+public interface CalendarDayCountRepository extends JpaRepository<CalendarDayCount, CalendarDayCountId> {
+
+    /**
+     * 일정의 현재 발생 전체를 delta(+1/-1)만큼 집계에 반영
+     * 수정/삭제 전에 -1, 생성/수정 후에 +1로 호출합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, :delta * COUNT(*), 0
+            FROM schedule_occurrence_day d
+            JOIN schedule_aggregate_key k ON k.schedule_id = d.schedule_id
+            WHERE d.schedule_id = :scheduleId
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET schedule_count = calendar_day_count.schedule_count + EXCLUDED.schedule_count
+            """, nativeQuery = true)
+    int applyScheduleDelta(@Param("scheduleId") Long scheduleId, @Param("delta") int delta);
+
+    /**
+     * from 이후 시작하는 발생만 집계에 추가 (발생 기간 확장 시 새로 계산된 발생만 반영)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, COUNT(*), 0
+            FROM schedule_occurrence_day d
+            JOIN schedule_aggregate_key k ON k.schedule_id = d.schedule_id
+            WHERE d.schedule_id = :scheduleId
+              AND d.start_at >= CAST(:from AS TIMESTAMPTZ)
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET schedule_count = calendar_day_count.schedule_count + EXCLUDED.schedule_count
+            """, nativeQuery = true)
+    int addScheduleOccurrencesFrom(@Param("scheduleId") Long scheduleId, @Param("from") LocalDateTime from);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, COUNT(*), 0
+            FROM schedule_occurrence_day d
+            JOIN schedule_aggregate_key k ON k.schedule_id = d.schedule_id
+            WHERE d.team_id = :teamId
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET schedule_count = calendar_day_count.schedule_count + EXCLUDED.schedule_count
+            """, nativeQuery = true)
+    int insertScheduleCountsByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 투두를 delta(+1/-1)만큼 집계에 반영 (반복 투두는 저장된 발생마다, todo_occurrence_day 뷰)
+     * 수정/삭제 전에 -1, 생성/수정 후(발생 재계산 후)에 +1로 호출합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, 0, :delta * COUNT(*)
+            FROM todo_occurrence_day d
+            JOIN todo_aggregate_key k ON k.todo_id = d.todo_id
+            WHERE d.todo_id = :todoId
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET todo_count = calendar_day_count.todo_count + EXCLUDED.todo_count
+            """, nativeQuery = true)
+    int applyTodoDelta(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    /**
+     * 여러 투두를 한 번에 delta(+1/-1)만큼 집계에 반영 (일괄 수정/삭제용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, 0, :delta * COUNT(*)
+            FROM todo_occurrence_day d
+            JOIN todo_aggregate_key k ON k.todo_id = d.todo_id
+            WHERE d.todo_id IN (:todoIds)
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET todo_count = calendar_day_count.todo_count + EXCLUDED.todo_count
+            """, nativeQuery = true)
+    int applyTodosDelta(@Param("todoIds") List<Long> todoIds, @Param("delta") int delta);
+
+    /**
+     * from 이후의 반복 투두 발생만 집계에 추가 (발생 기간 확장 시 새로 계산된 발생만 반영)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, 0, COUNT(*)
+            FROM todo_occurrence_day d
+            JOIN todo_aggregate_key k ON k.todo_id = d.todo_id
+            WHERE d.todo_id = :todoId
+              AND d.occurrence_at >= CAST(:from AS TIMESTAMPTZ)
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET todo_count = calendar_day_count.todo_count + EXCLUDED.todo_count
+            """, nativeQuery = true)
+    int addTodoOccurrencesFrom(@Param("todoId") Long todoId, @Param("from") LocalDateTime from);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+            SELECT d.team_id, k.member_id, d.day, k.position_id, 0, COUNT(*)
+            FROM todo_occurrence_day d
+            JOIN todo_aggregate_key k ON k.todo_id = d.todo_id
+            WHERE d.team_id = :teamId
+            GROUP BY d.team_id, k.member_id, d.day, k.position_id
+            ON CONFLICT (team_id, member_id, day, position_id)
+                DO UPDATE SET todo_count = calendar_day_count.todo_count + EXCLUDED.todo_count
+            """, nativeQuery = true)
+    int insertTodoCountsByTeamId(@Param("teamId") Long teamId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM calendar_day_count WHERE team_id = :teamId", nativeQuery = true)
+    int deleteByTeamId(@Param("teamId") Long teamId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM calendar_day_count WHERE member_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 팀 전체 날짜별 요약 조회
+     * 반환: [day(text), colorHex, scheduleCount, todoCount] (날짜순, 같은 색상은 합산)
+     */
+    @Query(value = """
+            SELECT CAST(c.day AS TEXT), p.color_hex, SUM(c.schedule_count), SUM(c.todo_count)
+            FROM calendar_day_count c
+            LEFT JOIN position p ON p.id = c.position_id
+            WHERE c.team_id = :teamId
+              AND c.member_id = 0
+              AND c.day BETWEEN :start AND :end
+            GROUP BY c.day, p.color_hex
+            HAVING SUM(c.schedule_count) + SUM(c.todo_count) > 0
+            ORDER BY c.day
+            """, nativeQuery = true)
+    List<Object[]> findTeamSummary(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    /**
+     * 팀원(들)이 참석자/담당자인 항목의 날짜별 요약 조회
+     * 반환 형식은 findTeamSummary와 같습니다.
+     */
+    @Query(value = """
+            SELECT CAST(c.day AS TEXT), p.color_hex, SUM(c.schedule_count), SUM(c.todo_count)
+            FROM calendar_day_count c
+            LEFT JOIN position p ON p.id = c.position_id
+            WHERE c.member_id IN (:memberIds)
+              AND c.day BETWEEN :start AND :end
+            GROUP BY c.day, p.color_hex
+            HAVING SUM(c.schedule_count) + SUM(c.todo_count) > 0
+            ORDER BY c.day
+            """, nativeQuery = true)
+    List<Object[]> findMemberSummary(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+}
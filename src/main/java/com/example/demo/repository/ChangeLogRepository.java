@@ -0,0 +1,46 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.ChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLog, Long> {
+
+    /**
+     * 현재 스냅샷에서 진행 중인 트랜잭션 중 가장 오래된 트랜잭션 ID
+     * 이보다 작은 txid를 가진 트랜잭션은 모두 종료(커밋/롤백)되었으므로, 그 범위의 이력은 더 이상 늘어나지 않습니다.
+     */
+    @Query(value = "SELECT CAST(pg_snapshot_xmin(pg_current_snapshot()) AS TEXT)", nativeQuery = true)
+    String findSnapshotXmin();
+
+    /**
+     * 커서 (sinceTxid, sinceSeq) 이후, upperTxid 미만 트랜잭션의 변경 이력 조회 (txid, seq 순)
+     * 반환: [seq, txid(text), entity_type, entity_id, operation, team_id]
+     */
+    @Query(value = """
+            SELECT c.seq, CAST(c.txid AS TEXT), c.entity_type, c.entity_id, c.operation, c.team_id
+            FROM change_log c
+            WHERE c.team_id IN (:teamIds)
+              AND (c.txid > CAST(:sinceTxid AS XID8)
+                   OR (c.txid = CAST(:sinceTxid AS XID8) AND c.seq > :sinceSeq))
+              AND c.txid < CAST(:upperTxid AS XID8)
+            ORDER BY c.txid, c.seq
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> findChangesAfter(
+            @Param("teamIds") List<Long> teamIds,
+            @Param("sinceTxid") String sinceTxid,
+            @Param("sinceSeq") long sinceSeq,
+            @Param("upperTxid") String upperTxid,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("delete from ChangeLog c where c.changedAt < :before")
+    int deleteByChangedAtBefore(@Param("before") LocalDateTime before);
+}
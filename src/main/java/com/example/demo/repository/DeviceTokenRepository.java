@@ -3,17 +3,94 @@ package com.example.demo.repository;
 import com.example.demo.domain.entity.DeviceToken;
 import com.example.demo.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
     Optional<DeviceToken> findByUser(User user);
     
     Optional<DeviceToken> findByUserId(Long userId);
+
+    List<DeviceToken> findByUserIdIn(Collection<Long> userIds);
     
     Optional<DeviceToken> findByDeviceToken(String deviceToken);
     
     void deleteByDeviceToken(String deviceToken);
+
+    @Modifying
+    @Query(value = "DELETE FROM device_token WHERE device_token IN (:deviceTokens)", nativeQuery = true)
+    int deleteByDeviceTokenIn(@Param("deviceTokens") Collection<String> deviceTokens);
+
+    /**
+     * 아웃박스 행의 토큰 중 Expo가 DeviceNotRegistered로 알려 준 토큰 일괄 삭제
+     * 알림 적재 이후 다시 등록된 토큰(updated_at이 더 최근)은 남겨 둡니다.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM device_token dt
+            USING notification_outbox o
+            WHERE o.id IN (:outboxIds)
+              AND dt.device_token = o.device_token
+              AND dt.updated_at <= o.created_at
+            """, nativeQuery = true)
+    int deleteDeadTokensByOutboxIds(@Param("outboxIds") Collection<Long> outboxIds);
+
+    /**
+     * 후보 사용자 중 해당 팀·알림 종류의 알림을 받을 사용자의 디바이스 토큰 조회
+     * 설정 규칙 (설정 행이 없으면 기본값으로 알림 전송):
+     * - 팀 설정: 팀 알림과 종류별 알림이 모두 켜져 있어야 함
+     * - 개인 설정: 공지 알림만 개인 공지 알림도 켜져 있어야 함
+     * 반환 형식: [userId, deviceToken]
+     */
+    @Query(value = """
+            SELECT dt.user_id, dt.device_token
+            FROM device_token dt
+            LEFT JOIN notification_setting ns ON ns.user_id = dt.user_id AND ns.team_id = :teamId
+            LEFT JOIN personal_notification_setting ps ON ps.user_id = dt.user_id
+            WHERE dt.user_id IN (:userIds)
+              AND COALESCE(ns.enable_team_alarm, TRUE)
+              AND COALESCE(CASE :kind
+                      WHEN 'SCHEDULE_CHANGE' THEN ns.enable_schedule_change_notification
+                      WHEN 'TODO_CHANGE' THEN ns.enable_todo_change_notification
+                      WHEN 'TEAM_MEMBER' THEN ns.enable_team_member_notification
+                      WHEN 'NOTICE' THEN ns.enable_notice_notification
+                  END, TRUE)
+              AND (:kind <> 'NOTICE' OR COALESCE(ps.enable_notice_notification, TRUE))
+            """, nativeQuery = true)
+    List<Object[]> findRecipientTokens(@Param("teamId") Long teamId,
+                                       @Param("userIds") Collection<Long> userIds,
+                                       @Param("kind") String kind);
+
+    /**
+     * 팀 멤버 전체(제외 사용자 제외) 중 해당 알림 종류의 알림을 받을 사용자의 디바이스 토큰 조회
+     * 설정 규칙은 findRecipientTokens와 같습니다. (excludeUserId가 0이면 제외 없음)
+     * 반환 형식: [userId, deviceToken]
+     */
+    @Query(value = """
+            SELECT dt.user_id, dt.device_token
+            FROM team_member m
+            JOIN device_token dt ON dt.user_id = m.user_id
+            LEFT JOIN notification_setting ns ON ns.user_id = m.user_id AND ns.team_id = m.team_id
+            LEFT JOIN personal_notification_setting ps ON ps.user_id = m.user_id
+            WHERE m.team_id = :teamId
+              AND m.user_id <> :excludeUserId
+              AND COALESCE(ns.enable_team_alarm, TRUE)
+              AND COALESCE(CASE :kind
+                      WHEN 'SCHEDULE_CHANGE' THEN ns.enable_schedule_change_notification
+                      WHEN 'TODO_CHANGE' THEN ns.enable_todo_change_notification
+                      WHEN 'TEAM_MEMBER' THEN ns.enable_team_member_notification
+                      WHEN 'NOTICE' THEN ns.enable_notice_notification
+                  END, TRUE)
+              AND (:kind <> 'NOTICE' OR COALESCE(ps.enable_notice_notification, TRUE))
+            """, nativeQuery = true)
+    List<Object[]> findTeamRecipientTokens(@Param("teamId") Long teamId,
+                                           @Param("excludeUserId") Long excludeUserId,
+                                           @Param("kind") String kind);
 }
 
 
@@ -30,6 +30,27 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
             """)
     List<NoticeResponse> findLatestNoticeByTeamId(@Param("teamId") Long teamId, Pageable pageable);
 
+    /**
+     * ID 목록으로 공지 조회 (델타 동기화용)
+     */
+    @Query("""
+            select new com.example.demo.dto.notice.NoticeResponse(
+                n.id,
+                n.team.id,
+                n.team.name,
+                n.content,
+                n.author.id,
+                n.author.name,
+                n.createdAt,
+                n.updatedAt
+            )
+            from Notice n
+            join n.team
+            join n.author
+            where n.id in :noticeIds
+            """)
+    List<NoticeResponse> findResponsesByIdIn(@Param("noticeIds") List<Long> noticeIds);
+
     boolean existsByIdAndAuthorId(Long noticeId, Long authorId);
 }
 
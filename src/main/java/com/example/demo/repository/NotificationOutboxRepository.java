@@ -0,0 +1,178 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 같은 메시지를 여러 토큰으로 적재 (keys[i]는 tokens[i]의 멱등성 키, 이미 있는 키는 건너뜀)
+     * @param priority 전송 우선순위 (PushLane 순서, 작을수록 먼저 전송)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_outbox (idempotency_key, device_token, title, body, data, priority)
+            SELECT x.idempotency_key, x.device_token, :title, :body, CAST(:data AS JSONB), :priority
+            FROM unnest(CAST(:keys AS TEXT[]), CAST(:tokens AS TEXT[])) AS x(idempotency_key, device_token)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            """, nativeQuery = true)
+    int enqueue(@Param("keys") String[] keys,
+                @Param("tokens") String[] tokens,
+                @Param("title") String title,
+                @Param("body") String body,
+                @Param("data") String data,
+                @Param("priority") int priority);
+
+    /**
+     * 전송 시각이 지난 행 중 가장 높은 우선순위 한 레인의 알림을 다음 시도 시각 순으로 최대 limit건 선점
+     * 한 번에 한 레인만 선점하므로 워커는 배치마다 속도 제한 허가를 한 번만 기다립니다.
+     * 다른 워커가 선점 중인 행은 건너뛰며(SKIP LOCKED), 시도 횟수를 올리고 다음 시도 시각을 선점 만료 시각으로 미룹니다.
+     * (전송 도중 프로세스가 죽어도 선점이 만료되면 다시 전송됩니다.)
+     * [id, deviceToken, title, body, data(JSON 문자열), attempts, priority] 형태로 반환합니다.
+     */
+    @Query(value = """
+            UPDATE notification_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = NOW() + make_interval(secs => :leaseSeconds)
+            FROM (
+                SELECT id
+                FROM notification_outbox
+                WHERE status = 'PENDING'
+                  AND next_attempt_at <= NOW()
+                  AND priority = (
+                      SELECT MIN(priority)
+                      FROM notification_outbox
+                      WHERE status = 'PENDING'
+                        AND next_attempt_at <= NOW()
+                  )
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ) c
+            WHERE o.id = c.id
+            RETURNING o.id, o.device_token, o.title, o.body, CAST(o.data AS TEXT), o.attempts, o.priority
+            """, nativeQuery = true)
+    List<Object[]> claim(@Param("limit") int limit, @Param("leaseSeconds") int leaseSeconds);
+
+    /**
+     * 선점 반납 (속도 제한으로 전송하지 못한 행)
+     * 시도 횟수를 되돌리고 바로 다시 선점할 수 있게 합니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox
+            SET attempts = attempts - 1,
+                next_attempt_at = NOW()
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int release(@Param("ids") List<Long> ids);
+
+    /**
+     * 우선순위별 전송 대기 행 수 (다음 시도 시각이 지난 행만)
+     * [priority, count] 형태로 반환합니다.
+     */
+    @Query(value = """
+            SELECT priority, COUNT(*)
+            FROM notification_outbox
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= NOW()
+            GROUP BY priority
+            """, nativeQuery = true)
+    List<Object[]> countDueByPriority();
+
+    /**
+     * 전송 완료 표시 (ids[i]의 티켓 ID는 ticketIds[i])
+     * 티켓 ID가 있는 행은 receiptDelayMinutes 뒤 영수증 조회 대상이 됩니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox o
+            SET status = 'SENT',
+                sent_at = NOW(),
+                last_error = NULL,
+                ticket_id = t.ticket_id,
+                receipt_check_at = CASE WHEN t.ticket_id IS NULL THEN NULL
+                                        ELSE NOW() + make_interval(mins => :receiptDelayMinutes) END
+            FROM unnest(CAST(:ids AS BIGINT[]), CAST(:ticketIds AS TEXT[])) AS t(id, ticket_id)
+            WHERE o.id = t.id
+            """, nativeQuery = true)
+    int markSent(@Param("ids") Long[] ids,
+                 @Param("ticketIds") String[] ticketIds,
+                 @Param("receiptDelayMinutes") int receiptDelayMinutes);
+
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox
+            SET status = 'FAILED', last_error = LEFT(:error, 500)
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int markFailed(@Param("ids") List<Long> ids, @Param("error") String error);
+
+    /**
+     * 재시도 예약 (지수 백오프: baseSeconds × 2^(attempts-1), 최대 maxBackoffSeconds)
+     * 시도 횟수가 maxAttempts에 도달한 행은 FAILED로 표시합니다.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox
+            SET status = CASE WHEN attempts >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END,
+                next_attempt_at = NOW() + make_interval(secs => LEAST(:maxBackoffSeconds, :baseSeconds * power(2, attempts - 1))),
+                last_error = LEFT(:error, 500)
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int scheduleRetry(@Param("ids") List<Long> ids,
+                      @Param("error") String error,
+                      @Param("maxAttempts") int maxAttempts,
+                      @Param("baseSeconds") int baseSeconds,
+                      @Param("maxBackoffSeconds") int maxBackoffSeconds);
+
+    /**
+     * 영수증을 조회할 행을 조회 시각 순으로 최대 limit건 선점
+     * 선점한 행의 다음 조회 시각을 leaseSeconds 뒤로 미루므로, 영수증이 아직 준비되지 않았거나 조회에 실패하면 그때 다시 조회됩니다.
+     * [id, ticketId, expired(전송 후 expireHours 경과 여부)] 형태로 반환합니다.
+     */
+    @Query(value = """
+            UPDATE notification_outbox o
+            SET receipt_check_at = NOW() + make_interval(secs => :leaseSeconds)
+            FROM (
+                SELECT id
+                FROM notification_outbox
+                WHERE receipt_check_at <= NOW()
+                ORDER BY receipt_check_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ) c
+            WHERE o.id = c.id
+            RETURNING o.id, o.ticket_id, o.sent_at < NOW() - make_interval(hours => :expireHours)
+            """, nativeQuery = true)
+    List<Object[]> claimReceiptChecks(@Param("limit") int limit,
+                                      @Param("leaseSeconds") int leaseSeconds,
+                                      @Param("expireHours") int expireHours);
+
+    /**
+     * 영수증 결과 반영 (status가 빈 문자열이면 결과 없이 조회만 종료, error가 빈 문자열이면 NULL)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE notification_outbox
+            SET receipt_status = NULLIF(:status, ''),
+                receipt_error = NULLIF(LEFT(:error, 500), ''),
+                receipt_check_at = NULL
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int markReceipts(@Param("ids") List<Long> ids, @Param("status") String status, @Param("error") String error);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM notification_outbox
+            WHERE status <> 'PENDING'
+              AND created_at < :before
+            """, nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
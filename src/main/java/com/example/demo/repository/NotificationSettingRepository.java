@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,8 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
     List<NotificationSetting> findByTeam(Team team);
     
     List<NotificationSetting> findByTeamId(Long teamId);
+
+    List<NotificationSetting> findByUserIdInAndTeamIdIn(Collection<Long> userIds, Collection<Long> teamIds);
     
     @Query("""
             select 
@@ -7,12 +7,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PersonalNotificationSettingRepository extends JpaRepository<PersonalNotificationSetting, Long> {
     Optional<PersonalNotificationSetting> findByUser(User user);
     
     Optional<PersonalNotificationSetting> findByUserId(Long userId);
+
+    List<PersonalNotificationSetting> findByUserIdIn(Collection<Long> userIds);
     
     @Query("""
             select 
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ScheduleAttendeeRepository extends JpaRepository<ScheduleAttendee, ScheduleAttendeeId> {
@@ -16,30 +18,79 @@ public interface ScheduleAttendeeRepository extends JpaRepository<ScheduleAttend
             where a.schedule.id = :scheduleId
             """)
     List<Long> findMemberIdsByScheduleId(@Param("scheduleId") Long scheduleId);
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    /**
+     * 여러 스케줄의 참석자 팀멤버 ID 일괄 조회
+     * [scheduleId, memberId] 형태로 반환합니다.
+     */
+    @Query("""
+            select a.schedule.id, a.member.id
+            from ScheduleAttendee a
+            where a.schedule.id in :scheduleIds
+            """)
+    List<Object[]> findScheduleIdAndMemberIdByScheduleIds(@Param("scheduleIds") List<Long> scheduleIds);
 
+    /**
+     * 시작 일시가 [from, until]인 반복 부모 일정의 사전 알림 대상 조회 (알림 휠 기간 적재용)
+     * [scheduleId, teamId, startAt, notificationMinutes, userId] 형태로 반환합니다.
+     */
+    @Query("""
+            select s.id, s.team.id, s.startAt, s.notificationMinutes, m.user.id
+            from ScheduleAttendee a
+            join a.schedule s
+            join a.member m
+            where s.startAt >= :from
+              and s.startAt <= :until
+              and s.parentSchedule is null
+            """)
+    List<Object[]> findPreNotificationTargetsStartingBetween(@Param("from") LocalDateTime from,
+                                                             @Param("until") LocalDateTime until);
+
+    /**
+     * 사전 알림 시간 중 가장 긴 값 (분, 설정된 값이 없으면 null)
+     * from 이후 시작하는 일정의 알림 시간과 팀/개인 설정의 알림 시간 중 최댓값으로, 기간 적재 시 조회할 시작 일시 범위를 정합니다.
+     */
+    @Query(value = """
+            SELECT GREATEST(
+                (SELECT MAX(m)
+                 FROM schedule s, unnest(s.notification_minutes) AS m
+                 WHERE s.start_at >= :from
+                   AND s.parent_schedule_id IS NULL),
+                (SELECT MAX(m)
+                 FROM notification_setting n, unnest(n.schedule_pre_notification_minutes) AS m),
+                (SELECT MAX(m)
+                 FROM personal_notification_setting p, unnest(p.schedule_pre_notification_minutes) AS m)
+            )
+            """, nativeQuery = true)
+    Integer findMaxPreNotificationMinutes(@Param("from") LocalDateTime from);
+
+    /**
+     * 지정한 스케줄의 사전 알림 대상 조회 (일정/참석자 변경 반영용)
+     */
+    @Query("""
+            select s.id, s.team.id, s.startAt, s.notificationMinutes, m.user.id
+            from ScheduleAttendee a
+            join a.schedule s
+            join a.member m
+            where s.id in :scheduleIds
+              and s.startAt > :now
+              and s.parentSchedule is null
+            """)
+    List<Object[]> findPreNotificationTargetsByScheduleIds(@Param("now") LocalDateTime now,
+                                                           @Param("scheduleIds") Collection<Long> scheduleIds);
 
+    /**
+     * 지정한 사용자의 사전 알림 대상 조회 (알림 설정/팀 멤버 변경 반영용)
+     */
+    @Query("""
+            select s.id, s.team.id, s.startAt, s.notificationMinutes, m.user.id
+            from ScheduleAttendee a
+            join a.schedule s
+            join a.member m
+            where m.user.id in :userIds
+              and s.startAt > :now
+              and s.parentSchedule is null
+            """)
+    List<Object[]> findPreNotificationTargetsByUserIds(@Param("now") LocalDateTime now,
+                                                       @Param("userIds") Collection<Long> userIds);
+}
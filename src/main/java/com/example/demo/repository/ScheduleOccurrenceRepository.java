@@ -0,0 +1,332 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.ScheduleOccurrence;
+import com.example.demo.dto.schedule.ScheduleOccurrenceResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ScheduleOccurrenceRepository extends JpaRepository<ScheduleOccurrence, Long> {
+
+    /*
+     * 기간 조회는 발생 구간과의 && 겹침 비교로 팀 + 구간 GiST 인덱스(V34)를 사용합니다.
+     * JPQL은 범위 연산자를 지원하지 않으므로 발생 ID만 네이티브 쿼리로 찾고, 응답 프로젝션은 findResponsesByIdIn으로 조회합니다.
+     */
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id = :teamId
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+            """, nativeQuery = true)
+    List<Long> findIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    default List<ScheduleOccurrenceResponse> findByTeamAndRange(
+            Long teamId,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> occurrenceIds = findIdsByTeamAndRange(teamId, start, end);
+        return occurrenceIds.isEmpty() ? List.of() : findResponsesByIdIn(occurrenceIds);
+    }
+
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id = :teamId
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = o.schedule_id AND p.position_id IN (:positionIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByTeamAndPositionsAndRange(
+            @Param("teamId") Long teamId,
+            @Param("positionIds") List<Long> positionIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    default List<ScheduleOccurrenceResponse> findByTeamAndPositionsAndRange(
+            Long teamId,
+            List<Long> positionIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> occurrenceIds = findIdsByTeamAndPositionsAndRange(teamId, positionIds, start, end);
+        return occurrenceIds.isEmpty() ? List.of() : findResponsesByIdIn(occurrenceIds);
+    }
+
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id IN (:teamIds)
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = o.schedule_id AND a.member_id IN (:memberIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByAttendeesAndRange(
+            @Param("teamIds") List<Long> teamIds,
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    default List<ScheduleOccurrenceResponse> findByAttendeesAndRange(
+            List<Long> teamIds,
+            List<Long> memberIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> occurrenceIds = findIdsByAttendeesAndRange(teamIds, memberIds, start, end);
+        return occurrenceIds.isEmpty() ? List.of() : findResponsesByIdIn(occurrenceIds);
+    }
+
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id IN (:teamIds)
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = o.schedule_id AND a.member_id IN (:memberIds))
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = o.schedule_id AND p.position_id IN (:positionIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByAttendeesAndPositionsAndRange(
+            @Param("teamIds") List<Long> teamIds,
+            @Param("memberIds") List<Long> memberIds,
+            @Param("positionIds") List<Long> positionIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    default List<ScheduleOccurrenceResponse> findByAttendeesAndPositionsAndRange(
+            List<Long> teamIds,
+            List<Long> memberIds,
+            List<Long> positionIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> occurrenceIds = findIdsByAttendeesAndPositionsAndRange(teamIds, memberIds, positionIds, start, end);
+        return occurrenceIds.isEmpty() ? List.of() : findResponsesByIdIn(occurrenceIds);
+    }
+
+    @Query("""
+            select o.schedule.id as scheduleId, o.startAt as startAt, o.endAt as endAt
+            from ScheduleOccurrence o
+            where o.id in :occurrenceIds
+            order by o.startAt, o.schedule.id
+            """)
+    List<ScheduleOccurrenceResponse> findResponsesByIdIn(@Param("occurrenceIds") List<Long> occurrenceIds);
+
+    /*
+     * 스트리밍 조회용 발생 ID 커서 (stream=true & expand=true 응답용, 시작 시간 순)
+     * fetch size를 지정해 전방향 커서로 조금씩 읽으므로, 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id = :teamId
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+            ORDER BY o.start_at, o.schedule_id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id = :teamId
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = o.schedule_id AND p.position_id IN (:positionIds))
+            ORDER BY o.start_at, o.schedule_id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByTeamAndPositionsAndRange(
+            @Param("teamId") Long teamId,
+            @Param("positionIds") List<Long> positionIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id IN (:teamIds)
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = o.schedule_id AND a.member_id IN (:memberIds))
+            ORDER BY o.start_at, o.schedule_id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByAttendeesAndRange(
+            @Param("teamIds") List<Long> teamIds,
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id IN (:teamIds)
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = o.schedule_id AND a.member_id IN (:memberIds))
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = o.schedule_id AND p.position_id IN (:positionIds))
+            ORDER BY o.start_at, o.schedule_id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByAttendeesAndPositionsAndRange(
+            @Param("teamIds") List<Long> teamIds,
+            @Param("memberIds") List<Long> memberIds,
+            @Param("positionIds") List<Long> positionIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /*
+     * 저장된 일정의 모든 발생(반복 포함)과 겹치는 참석자의 다른 일정 발생 [발생 ID, 팀멤버 ID, 발생 시작일시]
+     * 참석자는 같은 팀의 팀원이므로 팀 + 구간 GiST 인덱스(V34)로 내 발생과 시간이 겹치는 같은 팀 발생만 찾은 뒤,
+     * 참석자 PK(schedule_id, member_id)로 참석 여부를 확인합니다. (팀원의 전체 일정을 훑지 않음)
+     * 구간은 [시작, 종료)로 비교해 맞닿은 일정은 충돌이 아니며, 결과는 발생 시작일시 순으로 잘립니다.
+     */
+    @Query(value = """
+            SELECT DISTINCT o.id, a.member_id, o.start_at
+            FROM schedule_occurrence mine
+            JOIN schedule_occurrence o
+              ON o.team_id = mine.team_id
+             AND o.schedule_id <> mine.schedule_id
+             AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                 && tstzrange(mine.start_at, GREATEST(mine.start_at, mine.end_at), '[]')
+             AND o.start_at < mine.end_at
+             AND o.end_at > mine.start_at
+            JOIN schedule_attendee a
+              ON a.schedule_id = o.schedule_id
+             AND a.member_id IN (:memberIds)
+            WHERE mine.schedule_id = :scheduleId
+            ORDER BY o.start_at, o.id, a.member_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Object[]> findOccurrenceIdsConflictingWithSchedule(
+            @Param("scheduleId") Long scheduleId,
+            @Param("memberIds") List<Long> memberIds,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 충돌 응답 조립용 발생 정보 [발생 ID, 일정 ID, 일정 제목, 시작일시, 종료일시]
+     */
+    @Query("""
+            select o.id, o.schedule.id, o.schedule.title, o.startAt, o.endAt
+            from ScheduleOccurrence o
+            where o.id in :occurrenceIds
+            order by o.startAt, o.schedule.id
+            """)
+    List<Object[]> findConflictInfoByIdIn(@Param("occurrenceIds") List<Long> occurrenceIds);
+
+    /**
+     * 팀에서 [start, end) 구간과 겹치는 발생 ID 조회 (맞닿은 발생 제외)
+     * 팀 + 구간 GiST 인덱스(V34)로 기간과 겹치는 발생만 읽습니다.
+     */
+    @Query(value = """
+            SELECT o.id
+            FROM schedule_occurrence o
+            WHERE o.team_id = :teamId
+              AND tstzrange(o.start_at, GREATEST(o.start_at, o.end_at), '[]')
+                  && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND o.start_at < CAST(:end AS TIMESTAMPTZ)
+              AND o.end_at > CAST(:start AS TIMESTAMPTZ)
+            """, nativeQuery = true)
+    List<Long> findIdsByTeamAndOpenRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * 발생 ID 중 참석자가 memberIds에 있는 발생의 [팀멤버 ID, 발생 시작일시, 발생 종료일시]
+     */
+    @Query("""
+            select sa.member.id, o.startAt, o.endAt
+            from ScheduleOccurrence o
+            join ScheduleAttendee sa on sa.schedule = o.schedule
+            where o.id in :occurrenceIds
+              and sa.member.id in :memberIds
+            """)
+    List<Object[]> findBusyIntervalsByIdInAndAttendees(
+            @Param("occurrenceIds") List<Long> occurrenceIds,
+            @Param("memberIds") List<Long> memberIds
+    );
+
+    /**
+     * 팀원별 바쁜 구간 조회 (빈 시간 계산용) [팀멤버 ID, 발생 시작일시, 발생 종료일시]
+     * 기간과 겹치는 발생 ID를 인덱스로 찾은 뒤 참석자 조건으로 구간을 읽습니다.
+     * 넓은 기간에서 발생 ID가 JDBC 바인드 파라미터 한도(32767개)를 넘지 않도록 ID를 나눠 조회합니다.
+     */
+    default List<Object[]> findBusyIntervalsByAttendees(
+            Long teamId,
+            List<Long> memberIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        final int idChunkSize = 10000;
+        List<Long> occurrenceIds = findIdsByTeamAndOpenRange(teamId, start, end);
+        List<Object[]> intervals = new ArrayList<>();
+        for (int i = 0; i < occurrenceIds.size(); i += idChunkSize) {
+            intervals.addAll(findBusyIntervalsByIdInAndAttendees(
+                    occurrenceIds.subList(i, Math.min(i + idChunkSize, occurrenceIds.size())), memberIds));
+        }
+        return intervals;
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ScheduleOccurrence o where o.schedule.id = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 발생 시작일시 목록을 한 번의 INSERT로 저장 (startAts: ISO 8601 문자열을 콤마로 연결)
+     * 동시에 실행되는 확장 작업과 겹쳐도 중복 없이 저장되도록 충돌은 무시합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO schedule_occurrence (schedule_id, team_id, start_at, end_at)
+            SELECT :scheduleId, :teamId, t.start_at, t.start_at + make_interval(secs => :durationSeconds)
+            FROM unnest(CAST(string_to_array(:startAts, ',') AS TIMESTAMP[])) AS t(start_at)
+            ON CONFLICT (schedule_id, start_at) DO NOTHING
+            """, nativeQuery = true)
+    int insertOccurrences(
+            @Param("scheduleId") Long scheduleId,
+            @Param("teamId") Long teamId,
+            @Param("startAts") String startAts,
+            @Param("durationSeconds") long durationSeconds
+    );
+}
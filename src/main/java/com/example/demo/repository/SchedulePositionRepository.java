@@ -3,44 +3,13 @@ package com.example.demo.repository;
 import com.example.demo.domain.entity.SchedulePosition;
 import com.example.demo.domain.entity.SchedulePositionId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface SchedulePositionRepository extends JpaRepository<SchedulePosition, SchedulePositionId> {
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+import java.util.List;
 
+public interface SchedulePositionRepository extends JpaRepository<SchedulePosition, SchedulePositionId> {
 
+    @Query("select sp.schedule.id from SchedulePosition sp where sp.position.id = :positionId")
+    List<Long> findScheduleIdsByPositionId(@Param("positionId") Long positionId);
+}
@@ -3,204 +3,161 @@ package com.example.demo.repository;
 import com.example.demo.domain.entity.Schedule;
 import com.example.demo.dto.schedule.ScheduleResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
-    @Query("""
-            select 
-                s.id as id,
-                s.team.id as teamId,
-                s.team.name as teamName,
-                s.title as title,
-                s.description as description,
-                s.startAt as startAt,
-                s.endAt as endAt,
-                s.isAllDay as isAllDay,
-                s.place as place,
-                s.url as url,
-                s.createdBy.id as createdById,
-                s.createdBy.name as createdByName,
-                s.createdAt as createdAt,
-                s.updatedAt as updatedAt,
-                s.parentSchedule.id as parentScheduleId
-            from Schedule s
-            where s.team.id = :teamId
-              and (
-                    (COALESCE(s.repeatType, 'NONE') = 'NONE' and s.startAt <= :end and s.endAt >= :start)
-                 or (COALESCE(s.repeatType, 'NONE') <> 'NONE' and s.startAt <= :end and (s.repeatEndDate is null or s.repeatEndDate >= :start))
-              )
-            """)
-    List<ScheduleResponse> findByTeamAndRange(
+    /*
+     * 기간 조회는 effective_span(반복 종료일까지 포함한 일정의 유효 구간, V22 생성 컬럼)과의 && 겹침 비교로 처리합니다.
+     * JPQL은 범위 연산자를 지원하지 않으므로 ID만 네이티브 쿼리로 찾고, 응답 프로젝션은 findResponsesByIdIn으로 조회합니다.
+     */
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.team_id = :teamId
+              AND s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+            """, nativeQuery = true)
+    List<Long> findIdsByTeamAndRange(
             @Param("teamId") Long teamId,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
-    @Query("""
-            select distinct
-                s.id as id,
-                s.team.id as teamId,
-                s.team.name as teamName,
-                s.title as title,
-                s.description as description,
-                s.startAt as startAt,
-                s.endAt as endAt,
-                s.isAllDay as isAllDay,
-                s.place as place,
-                s.url as url,
-                s.createdBy.id as createdById,
-                s.createdBy.name as createdByName,
-                s.createdAt as createdAt,
-                s.updatedAt as updatedAt,
-                s.parentSchedule.id as parentScheduleId
-            from Schedule s
-            join s.attendees a
-            where a.member.id in :memberIds
-              and (
-                    (COALESCE(s.repeatType, 'NONE') = 'NONE' and s.startAt <= :end and s.endAt >= :start)
-                 or (COALESCE(s.repeatType, 'NONE') <> 'NONE' and s.startAt <= :end and (s.repeatEndDate is null or s.repeatEndDate >= :start))
-              )
-            """)
-    List<ScheduleResponse> findByAttendeesAndRange(
+    /**
+     * 팀의 기간 내 스케줄 조회 (effective_span GiST 인덱스 사용)
+     */
+    default List<ScheduleResponse> findByTeamAndRange(
+            Long teamId,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> scheduleIds = findIdsByTeamAndRange(teamId, start, end);
+        return scheduleIds.isEmpty() ? List.of() : findResponsesByIdIn(scheduleIds);
+    }
+
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = s.id AND a.member_id IN (:memberIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByAttendeesAndRange(
             @Param("memberIds") List<Long> memberIds,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
-    @Query("""
-            select distinct
-                s.id as id,
-                s.team.id as teamId,
-                s.team.name as teamName,
-                s.title as title,
-                s.description as description,
-                s.startAt as startAt,
-                s.endAt as endAt,
-                s.isAllDay as isAllDay,
-                s.place as place,
-                s.url as url,
-                s.createdBy.id as createdById,
-                s.createdBy.name as createdByName,
-                s.createdAt as createdAt,
-                s.updatedAt as updatedAt,
-                s.parentSchedule.id as parentScheduleId
-            from Schedule s
-            join s.positions p
-            where s.team.id = :teamId
-              and p.position.id in :positionIds
-              and (
-                    (COALESCE(s.repeatType, 'NONE') = 'NONE' and s.startAt <= :end and s.endAt >= :start)
-                 or (COALESCE(s.repeatType, 'NONE') <> 'NONE' and s.startAt <= :end and (s.repeatEndDate is null or s.repeatEndDate >= :start))
-              )
-            """)
-    List<ScheduleResponse> findByTeamAndPositionsAndRange(
+    /**
+     * 참석자 기준 기간 내 스케줄 조회
+     */
+    default List<ScheduleResponse> findByAttendeesAndRange(
+            List<Long> memberIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> scheduleIds = findIdsByAttendeesAndRange(memberIds, start, end);
+        return scheduleIds.isEmpty() ? List.of() : findResponsesByIdIn(scheduleIds);
+    }
+
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.team_id = :teamId
+              AND s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = s.id AND p.position_id IN (:positionIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByTeamAndPositionsAndRange(
             @Param("teamId") Long teamId,
             @Param("positionIds") List<Long> positionIds,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
-    @Query("""
-            select distinct
-                s.id as id,
-                s.team.id as teamId,
-                s.team.name as teamName,
-                s.title as title,
-                s.description as description,
-                s.startAt as startAt,
-                s.endAt as endAt,
-                s.isAllDay as isAllDay,
-                s.place as place,
-                s.url as url,
-                s.createdBy.id as createdById,
-                s.createdBy.name as createdByName,
-                s.createdAt as createdAt,
-                s.updatedAt as updatedAt,
-                s.parentSchedule.id as parentScheduleId
-            from Schedule s
-            join s.attendees a
-            join s.positions p
-            where a.member.id in :memberIds
-              and p.position.id in :positionIds
-              and (
-                    (COALESCE(s.repeatType, 'NONE') = 'NONE' and s.startAt <= :end and s.endAt >= :start)
-                 or (COALESCE(s.repeatType, 'NONE') <> 'NONE' and s.startAt <= :end and (s.repeatEndDate is null or s.repeatEndDate >= :start))
-              )
-            """)
-    List<ScheduleResponse> findByAttendeesAndPositionsAndRange(
+    /**
+     * 팀 + 포지션 기준 기간 내 스케줄 조회
+     */
+    default List<ScheduleResponse> findByTeamAndPositionsAndRange(
+            Long teamId,
+            List<Long> positionIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> scheduleIds = findIdsByTeamAndPositionsAndRange(teamId, positionIds, start, end);
+        return scheduleIds.isEmpty() ? List.of() : findResponsesByIdIn(scheduleIds);
+    }
+
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = s.id AND a.member_id IN (:memberIds))
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = s.id AND p.position_id IN (:positionIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByAttendeesAndPositionsAndRange(
             @Param("memberIds") List<Long> memberIds,
             @Param("positionIds") List<Long> positionIds,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
-    @Query("""
-            select distinct
-                s.id as id,
-                s.team.id as teamId,
-                s.team.name as teamName,
-                s.title as title,
-                s.description as description,
-                s.startAt as startAt,
-                s.endAt as endAt,
-                s.isAllDay as isAllDay,
-                s.place as place,
-                s.url as url,
-                s.createdBy.id as createdById,
-                s.createdBy.name as createdByName,
-                s.createdAt as createdAt,
-                s.updatedAt as updatedAt,
-                s.parentSchedule.id as parentScheduleId
-            from Schedule s
-            join s.attendees a
-            where a.member.id in :memberIds
-              and s.team.id = :teamId
-              and (
-                    (COALESCE(s.repeatType, 'NONE') = 'NONE' and s.startAt <= :end and s.endAt >= :start)
-                 or (COALESCE(s.repeatType, 'NONE') <> 'NONE' and s.startAt <= :end and (s.repeatEndDate is null or s.repeatEndDate >= :start))
-              )
-            """)
-    List<ScheduleResponse> findByAttendeesAndTeamAndRange(
+    /**
+     * 참석자 + 포지션 기준 기간 내 스케줄 조회
+     */
+    default List<ScheduleResponse> findByAttendeesAndPositionsAndRange(
+            List<Long> memberIds,
+            List<Long> positionIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> scheduleIds = findIdsByAttendeesAndPositionsAndRange(memberIds, positionIds, start, end);
+        return scheduleIds.isEmpty() ? List.of() : findResponsesByIdIn(scheduleIds);
+    }
+
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.team_id = :teamId
+              AND s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = s.id AND a.member_id IN (:memberIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByAttendeesAndTeamAndRange(
             @Param("memberIds") List<Long> memberIds,
             @Param("teamId") Long teamId,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
 
-    @Query("""
-            select distinct
-                s.id as id,
-                s.team.id as teamId,
-                s.team.name as teamName,
-                s.title as title,
-                s.description as description,
-                s.startAt as startAt,
-                s.endAt as endAt,
-                s.isAllDay as isAllDay,
-                s.place as place,
-                s.url as url,
-                s.createdBy.id as createdById,
-                s.createdBy.name as createdByName,
-                s.createdAt as createdAt,
-                s.updatedAt as updatedAt,
-                s.parentSchedule.id as parentScheduleId
-            from Schedule s
-            join s.attendees a
-            join s.positions p
-            where a.member.id in :memberIds
-              and s.team.id = :teamId
-              and p.position.id in :positionIds
-              and (
-                    (COALESCE(s.repeatType, 'NONE') = 'NONE' and s.startAt <= :end and s.endAt >= :start)
-                 or (COALESCE(s.repeatType, 'NONE') <> 'NONE' and s.startAt <= :end and (s.repeatEndDate is null or s.repeatEndDate >= :start))
-              )
-            """)
-    List<ScheduleResponse> findByAttendeesAndTeamAndPositionsAndRange(
+    /**
+     * 참석자 + 팀 기준 기간 내 스케줄 조회
+     */
+    default List<ScheduleResponse> findByAttendeesAndTeamAndRange(
+            List<Long> memberIds,
+            Long teamId,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> scheduleIds = findIdsByAttendeesAndTeamAndRange(memberIds, teamId, start, end);
+        return scheduleIds.isEmpty() ? List.of() : findResponsesByIdIn(scheduleIds);
+    }
+
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.team_id = :teamId
+              AND s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = s.id AND a.member_id IN (:memberIds))
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = s.id AND p.position_id IN (:positionIds))
+            """, nativeQuery = true)
+    List<Long> findIdsByAttendeesAndTeamAndPositionsAndRange(
             @Param("memberIds") List<Long> memberIds,
             @Param("teamId") Long teamId,
             @Param("positionIds") List<Long> positionIds,
@@ -208,6 +165,96 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("end") LocalDateTime end
     );
 
+    /**
+     * 참석자 + 팀 + 포지션 기준 기간 내 스케줄 조회
+     */
+    default List<ScheduleResponse> findByAttendeesAndTeamAndPositionsAndRange(
+            List<Long> memberIds,
+            Long teamId,
+            List<Long> positionIds,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        List<Long> scheduleIds = findIdsByAttendeesAndTeamAndPositionsAndRange(memberIds, teamId, positionIds, start, end);
+        return scheduleIds.isEmpty() ? List.of() : findResponsesByIdIn(scheduleIds);
+    }
+
+    /*
+     * 스트리밍 조회용 ID 커서 (stream=true 응답용)
+     * fetch size를 지정해 전방향 커서로 조금씩 읽으므로, 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.team_id = :teamId
+              AND s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+            ORDER BY s.start_at, s.id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.team_id = :teamId
+              AND s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = s.id AND p.position_id IN (:positionIds))
+            ORDER BY s.start_at, s.id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByTeamAndPositionsAndRange(
+            @Param("teamId") Long teamId,
+            @Param("positionIds") List<Long> positionIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = s.id AND a.member_id IN (:memberIds))
+            ORDER BY s.start_at, s.id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByAttendeesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.effective_span && tstzrange(CAST(:start AS TIMESTAMPTZ), CAST(:end AS TIMESTAMPTZ), '[]')
+              AND EXISTS (SELECT 1 FROM schedule_attendee a WHERE a.schedule_id = s.id AND a.member_id IN (:memberIds))
+              AND EXISTS (SELECT 1 FROM schedule_position p WHERE p.schedule_id = s.id AND p.position_id IN (:positionIds))
+            ORDER BY s.start_at, s.id
+            """, nativeQuery = true)
+    Stream<Long> streamIdsByAttendeesAndPositionsAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("positionIds") List<Long> positionIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
     @Query("""
             select sp.position.id
             from SchedulePosition sp
@@ -223,6 +270,30 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             """)
     List<Long> findAttendeeMemberIdsByScheduleId(@Param("scheduleId") Long scheduleId);
 
+    /**
+     * 여러 스케줄의 반복/알림 설정 일괄 조회 (목록 응답 조립용)
+     * 엔티티를 영속성 컨텍스트에 올리지 않도록 값만 조회하며,
+     * [scheduleId, repeatType, repeatInterval, repeatDays, repeatMonthDay, repeatEndDate, notificationMinutes] 형태로 반환합니다.
+     */
+    @Query("""
+            select s.id, s.repeatType, s.repeatInterval, s.repeatDays, s.repeatMonthDay, s.repeatEndDate, s.notificationMinutes
+            from Schedule s
+            where s.id in :scheduleIds
+            """)
+    List<Object[]> findRepeatSettingsByIds(@Param("scheduleIds") List<Long> scheduleIds);
+
+    /**
+     * 여러 스케줄의 포지션 정보 일괄 조회 (목록 응답 조립용)
+     * [scheduleId, positionId, colorHex] 형태로 스케줄별 orderIndex 순서대로 반환합니다.
+     */
+    @Query("""
+            select sp.schedule.id, sp.position.id, sp.position.colorHex
+            from SchedulePosition sp
+            where sp.schedule.id in :scheduleIds
+            order by sp.schedule.id, sp.orderIndex
+            """)
+    List<Object[]> findPositionInfoByScheduleIds(@Param("scheduleIds") List<Long> scheduleIds);
+
     @Query("""
             select s.repeatType, s.repeatInterval, s.repeatDays, s.repeatMonthDay, s.repeatEndDate
             from Schedule s
@@ -231,20 +302,86 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     Object[] findRepeatFieldsByScheduleId(@Param("scheduleId") Long scheduleId);
 
     /**
-     * 시작 시간이 가까운 스케줄 조회 (알림 스케줄러용)
-     * startAt이 지정된 시간 범위 내에 있고, 반복 일정의 부모인 스케줄을 조회합니다.
+     * 사전 알림 전송용 일정 제목/팀 이름 조회
+     * [scheduleId, title, teamName] 형태로 반환합니다.
      */
     @Query("""
-            select s
+            select s.id, s.title, s.team.name
             from Schedule s
-            where s.startAt > :start
-              and s.startAt < :end
-              and s.parentSchedule is null
+            where s.id in :scheduleIds
             """)
-    List<Schedule> findUpcomingSchedulesForNotification(
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end
-    );
-}
+    List<Object[]> findTitleAndTeamNameByIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    /**
+     * ID 목록으로 목록 조회용 프로젝션 조회 (발생 테이블 조회 결과 하이드레이션용)
+     */
+    @Query("""
+            select 
+                s.id as id,
+                s.team.id as teamId,
+                s.team.name as teamName,
+                s.title as title,
+                s.description as description,
+                s.startAt as startAt,
+                s.endAt as endAt,
+                s.isAllDay as isAllDay,
+                s.place as place,
+                s.url as url,
+                s.createdBy.id as createdById,
+                s.createdBy.name as createdByName,
+                s.createdAt as createdAt,
+                s.updatedAt as updatedAt,
+                s.parentSchedule.id as parentScheduleId
+            from Schedule s
+            where s.id in :scheduleIds
+            """)
+    List<ScheduleResponse> findResponsesByIdIn(@Param("scheduleIds") List<Long> scheduleIds);
 
+    /**
+     * 팀의 전체 일정 프로젝션 조회 (팀 일정 캐시 적재용)
+     */
+    @Query("""
+            select 
+                s.id as id,
+                s.team.id as teamId,
+                s.team.name as teamName,
+                s.title as title,
+                s.description as description,
+                s.startAt as startAt,
+                s.endAt as endAt,
+                s.isAllDay as isAllDay,
+                s.place as place,
+                s.url as url,
+                s.createdBy.id as createdById,
+                s.createdBy.name as createdByName,
+                s.createdAt as createdAt,
+                s.updatedAt as updatedAt,
+                s.parentSchedule.id as parentScheduleId
+            from Schedule s
+            where s.team.id = :teamId
+            """)
+    List<ScheduleResponse> findResponsesByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 발생 테이블 확장이 필요한 스케줄 ID 조회 (다른 인스턴스가 처리 중인 행은 건너뜀)
+     * 아직 계산되지 않았거나, 종료되지 않은 반복 일정 중 계산 시점이 threshold 이전인 스케줄이 대상입니다.
+     * 반복 없는 일정은 계산 시 기간과 무관하게 발생을 저장하므로 확장 대상이 아닙니다.
+     */
+    @Query(value = """
+            SELECT s.id
+            FROM schedule s
+            WHERE s.occurrence_horizon IS NULL
+               OR (COALESCE(s.repeat_type, 'NONE') <> 'NONE'
+                   AND s.occurrence_horizon < :threshold
+                   AND (s.repeat_end_date IS NULL OR s.repeat_end_date > s.occurrence_horizon))
+            ORDER BY s.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findIdsNeedingOccurrenceExtension(
+            @Param("threshold") LocalDateTime threshold,
+            @Param("limit") int limit
+    );
 
+    boolean existsByOccurrenceHorizonIsNull();
+}
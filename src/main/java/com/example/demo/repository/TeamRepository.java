@@ -4,6 +4,7 @@ import com.example.demo.domain.entity.Team;
 import com.example.demo.dto.team.TeamDetailResponse;
 import com.example.demo.dto.team.TeamListItemResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -68,4 +69,41 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             order by t.id
             """)
     List<TeamListItemResponse> findListItemResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 팀 콘텐츠 버전 조회 (팀원인 경우에만 반환, 팀이 없거나 팀원이 아니면 null)
+     * content_version은 엔티티에 매핑하지 않고 네이티브 쿼리로만 읽고 씁니다. (엔티티 저장 시 덮어쓰지 않도록)
+     */
+    @Query(value = """
+            SELECT t.content_version
+            FROM team t
+            WHERE t.id = :teamId
+              AND EXISTS (SELECT 1 FROM team_member m WHERE m.team_id = t.id AND m.user_id = :userId)
+            """, nativeQuery = true)
+    Long findContentVersionForMember(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
+    /**
+     * 사용자가 속한 모든 팀의 "팀ID:버전" 목록 (팀 ID 순, 쉼표 구분, 속한 팀이 없으면 null)
+     */
+    @Query(value = """
+            SELECT string_agg(CAST(t.id AS TEXT) || ':' || CAST(t.content_version AS TEXT), ',' ORDER BY t.id)
+            FROM team t
+            JOIN team_member m ON m.team_id = t.id
+            WHERE m.user_id = :userId
+            """, nativeQuery = true)
+    String findContentVersionsByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE team SET content_version = content_version + 1 WHERE id = :teamId", nativeQuery = true)
+    int incrementContentVersion(@Param("teamId") Long teamId);
+
+    /**
+     * 사용자가 속한 모든 팀의 콘텐츠 버전 증가 (이름/프로필 이미지 변경 시)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE team SET content_version = content_version + 1
+            WHERE id IN (SELECT m.team_id FROM team_member m WHERE m.user_id = :userId)
+            """, nativeQuery = true)
+    int incrementContentVersionByUserId(@Param("userId") Long userId);
 }
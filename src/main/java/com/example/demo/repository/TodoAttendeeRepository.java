@@ -3,8 +3,23 @@ package com.example.demo.repository;
 import com.example.demo.domain.entity.TodoAttendee;
 import com.example.demo.domain.entity.TodoAttendeeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface TodoAttendeeRepository extends JpaRepository<TodoAttendee, TodoAttendeeId> {
+
+    /**
+     * 여러 투두의 담당자 일괄 삭제 (일괄 담당자 변경용)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from TodoAttendee ta
+            where ta.todo.id in :todoIds
+            """)
+    int deleteByTodoIdIn(@Param("todoIds") List<Long> todoIds);
 }
 
 
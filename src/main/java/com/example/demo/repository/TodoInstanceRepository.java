@@ -0,0 +1,33 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.TodoInstance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface TodoInstanceRepository extends JpaRepository<TodoInstance, Long> {
+
+    Optional<TodoInstance> findByTodoIdAndOccurrenceAt(Long todoId, LocalDateTime occurrenceAt);
+
+    List<TodoInstance> findByTodoId(Long todoId);
+
+    /**
+     * 여러 반복 투두의 기간 내 발생 내역 일괄 조회 (목록 응답 조립용)
+     */
+    @Query("""
+            select i
+            from TodoInstance i
+            where i.todo.id in :todoIds
+              and i.occurrenceAt >= :start
+              and i.occurrenceAt <= :end
+            """)
+    List<TodoInstance> findByTodoIdsAndRange(
+            @Param("todoIds") List<Long> todoIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+}
@@ -0,0 +1,200 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.TodoOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TodoOccurrenceRepository extends JpaRepository<TodoOccurrence, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TodoOccurrence o where o.todo.id = :todoId")
+    int deleteByTodoId(@Param("todoId") Long todoId);
+
+    /**
+     * 발생 일시 목록을 한 번의 INSERT로 저장 (occurrenceAts: ISO 8601 문자열을 콤마로 연결)
+     * 동시에 실행되는 확장 작업과 겹쳐도 중복 없이 저장되도록 충돌은 무시합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO todo_occurrence (todo_id, team_id, occurrence_at)
+            SELECT :todoId, :teamId, t.occurrence_at
+            FROM unnest(CAST(string_to_array(:occurrenceAts, ',') AS TIMESTAMP[])) AS t(occurrence_at)
+            ON CONFLICT (todo_id, occurrence_at) DO NOTHING
+            """, nativeQuery = true)
+    int insertOccurrences(
+            @Param("todoId") Long todoId,
+            @Param("teamId") Long teamId,
+            @Param("occurrenceAts") String occurrenceAts
+    );
+
+    /*
+     * 반복 투두 발생 키셋 페이지 조회 (TodoRepository.find...PageIds...와 같은 정렬/커서)
+     * 발생 기간은 반복 규칙상 마감일시(occurrence_at)로 거르고, 정렬과 커서는 목록 응답과 같이
+     * 발생만 변경한 내역(todo_instance)의 상태/마감일시를 반영합니다.
+     * 페이지마다 기간 전체를 정렬하지 않도록 두 갈래로 나눠 조회합니다.
+     * - Unchanged: 내역이 없는 발생 (상태 TODO, 마감일시 = occurrence_at) → (team_id, occurrence_at, todo_id) 인덱스 순서로 읽음
+     * - Changed: 내역이 있는 발생 → todo_instance에서 시작하므로 완료/수정된 발생 수만큼만 읽음
+     * 두 결과는 겹치지 않으며, 각각 커서 이후 최대 limit개를 호출 측에서 합쳐 정렬합니다.
+     * 상태 우선 정렬에서 커서가 DONE 구간이면 Unchanged 발생은 모두 커서 앞이므로 조회하지 않습니다.
+     */
+    @Query(value = """
+            SELECT o.id
+            FROM todo_occurrence o
+            WHERE o.team_id = :teamId
+              AND o.occurrence_at >= :start
+              AND o.occurrence_at <= :end
+              AND (o.occurrence_at, o.todo_id) > (:afterEndAt, :afterId)
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM todo_instance i
+                  WHERE i.todo_id = o.todo_id
+                    AND i.occurrence_at = o.occurrence_at
+              )
+            ORDER BY o.occurrence_at, o.todo_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findUnchangedPageIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT o.id
+            FROM todo t
+            JOIN todo_instance i ON i.todo_id = t.id
+            JOIN todo_occurrence o
+              ON o.todo_id = i.todo_id
+             AND o.occurrence_at = i.occurrence_at
+            WHERE t.team_id = :teamId
+              AND i.occurrence_at >= :start
+              AND i.occurrence_at <= :end
+              AND (COALESCE(i.end_at, i.occurrence_at), i.todo_id) > (:afterEndAt, :afterId)
+            ORDER BY COALESCE(i.end_at, i.occurrence_at), i.todo_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findChangedPageIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT o.id
+            FROM todo t
+            JOIN todo_instance i ON i.todo_id = t.id
+            JOIN todo_occurrence o
+              ON o.todo_id = i.todo_id
+             AND o.occurrence_at = i.occurrence_at
+            WHERE t.team_id = :teamId
+              AND i.occurrence_at >= :start
+              AND i.occurrence_at <= :end
+              AND (i.status, COALESCE(i.end_at, i.occurrence_at), i.todo_id)
+                  > (CAST(:afterStatus AS todo_status), :afterEndAt, :afterId)
+            ORDER BY i.status, COALESCE(i.end_at, i.occurrence_at), i.todo_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findOpenFirstChangedPageIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterStatus") String afterStatus,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 담당 투두는 시리즈마다 (todo_id, occurrence_at) 유니크 인덱스로 커서 이후 최대 limit개만 읽어 합칩니다.
+     */
+    @Query(value = """
+            SELECT x.id
+            FROM todo_attendee ta
+            CROSS JOIN LATERAL (
+                SELECT o.id, o.occurrence_at, o.todo_id
+                FROM todo_occurrence o
+                WHERE o.todo_id = ta.todo_id
+                  AND o.occurrence_at >= :start
+                  AND o.occurrence_at <= :end
+                  AND (o.occurrence_at, o.todo_id) > (:afterEndAt, :afterId)
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM todo_instance i
+                      WHERE i.todo_id = o.todo_id
+                        AND i.occurrence_at = o.occurrence_at
+                  )
+                ORDER BY o.occurrence_at
+                LIMIT :limit
+            ) x
+            WHERE ta.member_id IN (:memberIds)
+            ORDER BY x.occurrence_at, x.todo_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findUnchangedPageIdsByAssigneesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT o.id
+            FROM todo_attendee ta
+            JOIN todo_instance i ON i.todo_id = ta.todo_id
+            JOIN todo_occurrence o
+              ON o.todo_id = i.todo_id
+             AND o.occurrence_at = i.occurrence_at
+            WHERE ta.member_id IN (:memberIds)
+              AND i.occurrence_at >= :start
+              AND i.occurrence_at <= :end
+              AND (COALESCE(i.end_at, i.occurrence_at), i.todo_id) > (:afterEndAt, :afterId)
+            ORDER BY COALESCE(i.end_at, i.occurrence_at), i.todo_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findChangedPageIdsByAssigneesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT o.id
+            FROM todo_attendee ta
+            JOIN todo_instance i ON i.todo_id = ta.todo_id
+            JOIN todo_occurrence o
+              ON o.todo_id = i.todo_id
+             AND o.occurrence_at = i.occurrence_at
+            WHERE ta.member_id IN (:memberIds)
+              AND i.occurrence_at >= :start
+              AND i.occurrence_at <= :end
+              AND (i.status, COALESCE(i.end_at, i.occurrence_at), i.todo_id)
+                  > (CAST(:afterStatus AS todo_status), :afterEndAt, :afterId)
+            ORDER BY i.status, COALESCE(i.end_at, i.occurrence_at), i.todo_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findOpenFirstChangedPageIdsByAssigneesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterStatus") String afterStatus,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+}
@@ -3,44 +3,13 @@ package com.example.demo.repository;
 import com.example.demo.domain.entity.TodoPosition;
 import com.example.demo.domain.entity.TodoPositionId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TodoPositionRepository extends JpaRepository<TodoPosition, TodoPositionId> {
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+import java.util.List;
 
+public interface TodoPositionRepository extends JpaRepository<TodoPosition, TodoPositionId> {
 
+    @Query("select tp.todo.id from TodoPosition tp where tp.position.id = :positionId")
+    List<Long> findTodoIdsByPositionId(@Param("positionId") Long positionId);
+}
@@ -0,0 +1,146 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.TodoReminder;
+import com.example.demo.domain.entity.TodoReminderId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TodoReminderRepository extends JpaRepository<TodoReminder, TodoReminderId> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM todo_reminder
+            WHERE todo_id IN (:todoIds)
+            """, nativeQuery = true)
+    int deleteByTodoIds(@Param("todoIds") List<Long> todoIds);
+
+    /**
+     * 투두들의 알림 예정 다시 적재 (todo_reminder_source 뷰 기준, 알림 시각이 지금부터 lookaheadHours 안인 것만)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO todo_reminder (todo_id, occurrence_at, user_id, minutes_before, fire_at)
+            SELECT todo_id, occurrence_at, user_id, minutes_before, fire_at
+            FROM todo_reminder_source
+            WHERE todo_id IN (:todoIds)
+              AND fire_at > NOW()
+              AND fire_at <= NOW() + make_interval(hours => :lookaheadHours)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertByTodoIds(@Param("todoIds") List<Long> todoIds, @Param("lookaheadHours") int lookaheadHours);
+
+    /**
+     * 사용자의 알림 예정 삭제 (teamId가 0이면 모든 팀)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM todo_reminder r
+            USING todo t
+            WHERE t.id = r.todo_id
+              AND r.user_id = :userId
+              AND (:teamId = 0 OR t.team_id = :teamId)
+            """, nativeQuery = true)
+    int deleteByUserId(@Param("userId") Long userId, @Param("teamId") Long teamId);
+
+    /**
+     * 사용자의 알림 예정 다시 적재 (teamId가 0이면 모든 팀)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO todo_reminder (todo_id, occurrence_at, user_id, minutes_before, fire_at)
+            SELECT todo_id, occurrence_at, user_id, minutes_before, fire_at
+            FROM todo_reminder_source
+            WHERE user_id = :userId
+              AND (:teamId = 0 OR team_id = :teamId)
+              AND fire_at > NOW()
+              AND fire_at <= NOW() + make_interval(hours => :lookaheadHours)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertByUserId(@Param("userId") Long userId,
+                       @Param("teamId") Long teamId,
+                       @Param("lookaheadHours") int lookaheadHours);
+
+    /**
+     * 알림 시각이 지금부터 lookaheadHours 안인 알림 예정을 모두 적재 (주기적으로 적재 기간을 이어서 채움)
+     * 이미 적재된 알림은 건너뛰고, 전송된 알림은 알림 시각이 지났으므로 다시 적재되지 않습니다.
+     * 마감일시를 (지금, 지금 + lookaheadHours + 설정된 가장 큰 알림 시간]으로 함께 제한해
+     * 투두/발생을 마감일시 인덱스 범위로만 읽습니다 (V43).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO todo_reminder (todo_id, occurrence_at, user_id, minutes_before, fire_at)
+            SELECT todo_id, occurrence_at, user_id, minutes_before, fire_at
+            FROM todo_reminder_source
+            WHERE due_at > NOW()
+              AND due_at <= NOW() + make_interval(hours => :lookaheadHours) + make_interval(mins => (
+                  SELECT COALESCE(MAX(mb.minutes_before), 0)
+                  FROM (
+                      SELECT unnest(todo_deadline_notification_minutes) FROM notification_setting
+                      UNION ALL
+                      SELECT unnest(todo_deadline_notification_minutes) FROM personal_notification_setting
+                  ) AS mb(minutes_before)
+              ))
+              AND fire_at > NOW()
+              AND fire_at <= NOW() + make_interval(hours => :lookaheadHours)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertUpcoming(@Param("lookaheadHours") int lookaheadHours);
+
+    /**
+     * 알림 시각이 된 알림을 시각 순으로 최대 limit건 선점 (전송 완료로 표시)
+     * 다른 인스턴스가 선점 중인 행은 건너뛰며(SKIP LOCKED), 전송에 필요한 투두/팀/사용자 정보를 함께 반환합니다.
+     * 투두 제목은 발생만 변경한 제목이 있으면 그 값입니다.
+     * [todoId, userId, minutesBefore, teamId, todoTitle, teamName, userName, stale, occurrenceEpochSecond, alertPending]
+     * 형태로 반환하며, stale은 알림 시각이 staleMinutes보다 오래 지난 행(서버 중단 등으로 늦어진 알림)입니다.
+     * alertPending은 같은 발생·같은 사용자의 다른 알림이 이전 실행에서 전송된 적이 없는 행입니다 (알림함 Alert는 발생·사용자당 한 번).
+     */
+    @Query(value = """
+            UPDATE todo_reminder r
+            SET sent_at = NOW()
+            FROM (
+                SELECT todo_id, occurrence_at, user_id, minutes_before
+                FROM todo_reminder
+                WHERE sent_at IS NULL
+                  AND fire_at <= NOW()
+                ORDER BY fire_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ) d, todo t, team tm, app_user u
+            WHERE r.todo_id = d.todo_id
+              AND r.occurrence_at = d.occurrence_at
+              AND r.user_id = d.user_id
+              AND r.minutes_before = d.minutes_before
+              AND t.id = r.todo_id
+              AND tm.id = t.team_id
+              AND u.id = r.user_id
+            RETURNING r.todo_id, r.user_id, r.minutes_before, t.team_id,
+                      COALESCE((SELECT i.title
+                                FROM todo_instance i
+                                WHERE i.todo_id = r.todo_id
+                                  AND i.occurrence_at = r.occurrence_at), t.title),
+                      tm.name, u.name,
+                      r.fire_at < NOW() - make_interval(mins => :staleMinutes),
+                      CAST(EXTRACT(EPOCH FROM r.occurrence_at) AS BIGINT),
+                      NOT EXISTS (SELECT 1
+                                  FROM todo_reminder x
+                                  WHERE x.todo_id = r.todo_id
+                                    AND x.occurrence_at = r.occurrence_at
+                                    AND x.user_id = r.user_id
+                                    AND x.sent_at IS NOT NULL
+                                    AND x.sent_at <= x.fire_at + make_interval(mins => :staleMinutes))
+            """, nativeQuery = true)
+    List<Object[]> claimDue(@Param("limit") int limit, @Param("staleMinutes") int staleMinutes);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM todo_reminder
+            WHERE sent_at IS NOT NULL
+              AND fire_at < :before
+            """, nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+}
@@ -1,8 +1,10 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.entity.Todo;
+import com.example.demo.domain.enums.TodoStatus;
 import com.example.demo.dto.todo.TodoResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -11,6 +13,10 @@ import java.util.List;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
+    /*
+     * 기간 조회는 마감일이 기간 안인 투두와, 기간과 겹칠 수 있는 반복 투두 시리즈(첫 마감일 <= end, 반복 종료일 >= start)를 함께 반환합니다.
+     * 반복 투두의 발생 전개는 TodoService에서 처리합니다.
+     */
     @Query("""
             select 
                 t.id as id,
@@ -25,11 +31,18 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
                 t.createdBy.id as createdById,
                 t.createdBy.name as createdByName,
                 t.createdAt as createdAt,
-                t.updatedAt as updatedAt
+                t.updatedAt as updatedAt,
+                t.repeatType as repeatType,
+                t.repeatInterval as repeatInterval,
+                t.repeatDays as repeatDays,
+                t.repeatMonthDay as repeatMonthDay,
+                t.repeatEndDate as repeatEndDate
             from Todo t
             where t.team.id = :teamId
               and t.endAt <= :end
-              and t.endAt >= :start
+              and (t.endAt >= :start
+                   or (coalesce(t.repeatType, 'NONE') <> 'NONE'
+                       and (t.repeatEndDate is null or t.repeatEndDate >= :start)))
             """)
     List<TodoResponse> findByTeamAndRange(
             @Param("teamId") Long teamId,
@@ -51,12 +64,19 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
                 t.createdBy.id as createdById,
                 t.createdBy.name as createdByName,
                 t.createdAt as createdAt,
-                t.updatedAt as updatedAt
+                t.updatedAt as updatedAt,
+                t.repeatType as repeatType,
+                t.repeatInterval as repeatInterval,
+                t.repeatDays as repeatDays,
+                t.repeatMonthDay as repeatMonthDay,
+                t.repeatEndDate as repeatEndDate
             from Todo t
             join t.assignees a
             where a.member.id in :memberIds
               and t.endAt <= :end
-              and t.endAt >= :start
+              and (t.endAt >= :start
+                   or (coalesce(t.repeatType, 'NONE') <> 'NONE'
+                       and (t.repeatEndDate is null or t.repeatEndDate >= :start)))
             """)
     List<TodoResponse> findByAssigneesAndRange(
             @Param("memberIds") List<Long> memberIds,
@@ -64,6 +84,191 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
             @Param("end") LocalDateTime end
     );
 
+    /*
+     * 키셋 페이지 조회 (반복 투두 제외, 반복 투두는 findRecurringBy...로 따로 조회해 발생 단위로 합칩니다)
+     * 마감일 순: (end_at, id) > 커서, 미완료 우선: (status, end_at, id) > 커서 (todo_status enum 순서 TODO < DONE)
+     * 첫 페이지는 커서를 (TODO, start, 0)으로 지정합니다.
+     */
+    @Query(value = """
+            SELECT t.id
+            FROM todo t
+            WHERE t.team_id = :teamId
+              AND t.end_at >= :start
+              AND t.end_at <= :end
+              AND COALESCE(t.repeat_type, 'NONE') = 'NONE'
+              AND (t.end_at, t.id) > (:afterEndAt, :afterId)
+            ORDER BY t.end_at, t.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPageIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT t.id
+            FROM todo t
+            WHERE t.team_id = :teamId
+              AND t.end_at >= :start
+              AND t.end_at <= :end
+              AND COALESCE(t.repeat_type, 'NONE') = 'NONE'
+              AND (t.status, t.end_at, t.id) > (CAST(:afterStatus AS todo_status), :afterEndAt, :afterId)
+            ORDER BY t.status, t.end_at, t.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findOpenFirstPageIdsByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterStatus") String afterStatus,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT t.id
+            FROM todo t
+            JOIN todo_attendee ta ON ta.todo_id = t.id
+            WHERE ta.member_id IN (:memberIds)
+              AND t.end_at >= :start
+              AND t.end_at <= :end
+              AND COALESCE(t.repeat_type, 'NONE') = 'NONE'
+              AND (t.end_at, t.id) > (:afterEndAt, :afterId)
+            ORDER BY t.end_at, t.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPageIdsByAssigneesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT t.id
+            FROM todo t
+            JOIN todo_attendee ta ON ta.todo_id = t.id
+            WHERE ta.member_id IN (:memberIds)
+              AND t.end_at >= :start
+              AND t.end_at <= :end
+              AND COALESCE(t.repeat_type, 'NONE') = 'NONE'
+              AND (t.status, t.end_at, t.id) > (CAST(:afterStatus AS todo_status), :afterEndAt, :afterId)
+            ORDER BY t.status, t.end_at, t.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findOpenFirstPageIdsByAssigneesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("afterStatus") String afterStatus,
+            @Param("afterEndAt") LocalDateTime afterEndAt,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 기간과 겹칠 수 있는 반복 투두 시리즈만 조회 (키셋 페이지 조회용)
+     */
+    @Query("""
+            select
+                t.id as id,
+                t.team.id as teamId,
+                t.team.name as teamName,
+                t.title as title,
+                t.description as description,
+                t.status as status,
+                t.endAt as endAt,
+                t.place as place,
+                t.url as url,
+                t.createdBy.id as createdById,
+                t.createdBy.name as createdByName,
+                t.createdAt as createdAt,
+                t.updatedAt as updatedAt,
+                t.repeatType as repeatType,
+                t.repeatInterval as repeatInterval,
+                t.repeatDays as repeatDays,
+                t.repeatMonthDay as repeatMonthDay,
+                t.repeatEndDate as repeatEndDate
+            from Todo t
+            where t.team.id = :teamId
+              and coalesce(t.repeatType, 'NONE') <> 'NONE'
+              and t.endAt <= :end
+              and (t.repeatEndDate is null or t.repeatEndDate >= :start)
+            """)
+    List<TodoResponse> findRecurringByTeamAndRange(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    @Query("""
+            select distinct
+                t.id as id,
+                t.team.id as teamId,
+                t.team.name as teamName,
+                t.title as title,
+                t.description as description,
+                t.status as status,
+                t.endAt as endAt,
+                t.place as place,
+                t.url as url,
+                t.createdBy.id as createdById,
+                t.createdBy.name as createdByName,
+                t.createdAt as createdAt,
+                t.updatedAt as updatedAt,
+                t.repeatType as repeatType,
+                t.repeatInterval as repeatInterval,
+                t.repeatDays as repeatDays,
+                t.repeatMonthDay as repeatMonthDay,
+                t.repeatEndDate as repeatEndDate
+            from Todo t
+            join t.assignees a
+            where a.member.id in :memberIds
+              and coalesce(t.repeatType, 'NONE') <> 'NONE'
+              and t.endAt <= :end
+              and (t.repeatEndDate is null or t.repeatEndDate >= :start)
+            """)
+    List<TodoResponse> findRecurringByAssigneesAndRange(
+            @Param("memberIds") List<Long> memberIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    /**
+     * ID 목록으로 목록 조회용 프로젝션 조회 (델타 동기화용)
+     */
+    @Query("""
+            select 
+                t.id as id,
+                t.team.id as teamId,
+                t.team.name as teamName,
+                t.title as title,
+                t.description as description,
+                t.status as status,
+                t.endAt as endAt,
+                t.place as place,
+                t.url as url,
+                t.createdBy.id as createdById,
+                t.createdBy.name as createdByName,
+                t.createdAt as createdAt,
+                t.updatedAt as updatedAt,
+                t.repeatType as repeatType,
+                t.repeatInterval as repeatInterval,
+                t.repeatDays as repeatDays,
+                t.repeatMonthDay as repeatMonthDay,
+                t.repeatEndDate as repeatEndDate
+            from Todo t
+            where t.id in :todoIds
+            """)
+    List<TodoResponse> findResponsesByIdIn(@Param("todoIds") List<Long> todoIds);
+
     @Query("""
             select ta.member.id
             from TodoAttendee ta
@@ -78,29 +283,104 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
             """)
     List<Object[]> findAssigneeInfoByTodoId(@Param("todoId") Long todoId);
 
+    /**
+     * 여러 투두의 포지션 정보 일괄 조회 (목록 응답 조립용)
+     * [todoId, positionId, colorHex] 형태로 투두별 orderIndex 순서대로 반환합니다.
+     */
     @Query("""
-            select tp.position.id
+            select tp.todo.id, tp.position.id, tp.position.colorHex
             from TodoPosition tp
-            where tp.todo.id = :todoId
-            order by tp.orderIndex
+            where tp.todo.id in :todoIds
+            order by tp.todo.id, tp.orderIndex
             """)
-    List<Long> findPositionIdsByTodoId(@Param("todoId") Long todoId);
+    List<Object[]> findPositionInfoByTodoIds(@Param("todoIds") List<Long> todoIds);
+
+    /**
+     * 여러 투두의 담당자 정보 일괄 조회 (목록 응답 조립용)
+     * [todoId, memberId, userName] 형태로 반환합니다.
+     */
+    @Query("""
+            select ta.todo.id, ta.member.id, ta.member.user.name
+            from TodoAttendee ta
+            where ta.todo.id in :todoIds
+            order by ta.todo.id, ta.member.id
+            """)
+    List<Object[]> findAssigneeInfoByTodoIds(@Param("todoIds") List<Long> todoIds);
 
     /**
-     * 마감 시간이 가까운 투두 조회 (알림 스케줄러용)
-     * TODO 상태이고, endAt이 지정된 시간 범위 내에 있는 투두를 조회합니다.
+     * 일괄 변경 대상 투두 정보 조회 (권한 확인/알림 조립용)
+     * [todoId, teamId, teamName, title, repeatType] 형태로 반환합니다.
      */
     @Query("""
-            select t
+            select t.id, t.team.id, t.team.name, t.title, t.repeatType
             from Todo t
-            where t.status = 'TODO'
-              and t.endAt > :start
-              and t.endAt < :end
+            where t.id in :todoIds
             """)
-    List<Todo> findUpcomingTodosForNotification(
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end
+    List<Object[]> findBatchTargetsByIdIn(@Param("todoIds") List<Long> todoIds);
+
+    /**
+     * 여러 투두의 담당자 사용자 ID 일괄 조회 (알림 수신자 계산용)
+     * [todoId, userId] 형태로 반환합니다.
+     */
+    @Query("""
+            select ta.todo.id, ta.member.user.id
+            from TodoAttendee ta
+            where ta.todo.id in :todoIds
+            """)
+    List<Object[]> findAssigneeUserIdsByTodoIds(@Param("todoIds") List<Long> todoIds);
+
+    /**
+     * 여러 투두의 완료 여부 일괄 변경 (반복 투두 제외, 반복 투두는 발생 단위로 저장)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Todo t
+            set t.status = :status, t.updatedAt = :now
+            where t.id in :todoIds
+            """)
+    int updateStatusByIdIn(
+            @Param("todoIds") List<Long> todoIds,
+            @Param("status") TodoStatus status,
+            @Param("now") LocalDateTime now
     );
-}
 
+    @Query("""
+            select tp.position.id
+            from TodoPosition tp
+            where tp.todo.id = :todoId
+            order by tp.orderIndex
+            """)
+    List<Long> findPositionIdsByTodoId(@Param("todoId") Long todoId);
 
+    /**
+     * 발생 기간 확장이 필요한 반복 투두 ID (아직 계산되지 않았거나, 계산 시점이 threshold보다 이르고 반복이 그 뒤로 이어지는 경우)
+     * 여러 인스턴스에서 동시에 실행되어도 같은 투두를 중복 처리하지 않도록 잠긴 행은 건너뜁니다.
+     */
+    @Query(value = """
+            SELECT t.id
+            FROM todo t
+            WHERE COALESCE(t.repeat_type, 'NONE') <> 'NONE'
+              AND (t.occurrence_horizon IS NULL
+                   OR (t.occurrence_horizon < :threshold
+                       AND (t.repeat_end_date IS NULL OR t.repeat_end_date > t.occurrence_horizon)))
+            ORDER BY t.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findIdsNeedingOccurrenceExtension(
+            @Param("threshold") LocalDateTime threshold,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 발생이 아직 계산되지 않은 반복 투두가 있는지 여부
+     */
+    @Query(value = """
+            SELECT EXISTS (
+                SELECT 1 FROM todo t
+                WHERE COALESCE(t.repeat_type, 'NONE') <> 'NONE'
+                  AND t.occurrence_horizon IS NULL
+            )
+            """, nativeQuery = true)
+    boolean existsRecurringWithoutOccurrenceHorizon();
+}
@@ -0,0 +1,315 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.entity.TodoWeeklyRollup;
+import com.example.demo.domain.entity.TodoWeeklyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주간 투두 집계 증감
+ * 팀원/대표 포지션 규칙은 todo_aggregate_key 뷰(V35)를 따릅니다.
+ * 반복 투두는 저장된 발생(todo_occurrence)마다 발생 마감 주에 집계하며,
+ * 발생의 상태/마감일시는 발생 내역을 반영한 todo_occurrence_state 뷰(V42)를 따릅니다.
+ */
+public interface TodoWeeklyRollupRepository extends JpaRepository<TodoWeeklyRollup, TodoWeeklyRollupId> {
+
+    /**
+     * 투두들의 현재 상태를 집계에서 제외 (변경/삭제 전 호출, 반복 투두는 저장된 발생 전체)
+     * 대상 행을 UPDATE로 잠근 뒤 읽으므로, 동시에 실행되는 마감 경과 반영(markOverdue)과 증감이 어긋나지 않습니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH t AS (
+                UPDATE todo SET overdue_counted = overdue_counted
+                WHERE id IN (:todoIds)
+                  AND COALESCE(repeat_type, 'NONE') = 'NONE'
+                RETURNING id, team_id, end_at, status, overdue_counted
+            ),
+            o AS (
+                UPDATE todo_occurrence o SET overdue_counted = o.overdue_counted
+                FROM todo_occurrence_state s
+                WHERE s.id = o.id
+                  AND s.todo_id IN (:todoIds)
+                  AND o.todo_id IN (:todoIds)
+                RETURNING o.todo_id AS id, o.team_id, s.due_at AS end_at, s.status, o.overdue_counted
+            ),
+            f AS (
+                SELECT * FROM t
+                UNION ALL
+                SELECT * FROM o
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+                   -COUNT(*),
+                   -COUNT(*) FILTER (WHERE f.status = 'DONE'),
+                   -COUNT(*) FILTER (WHERE f.overdue_counted)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int subtractTodos(@Param("todoIds") List<Long> todoIds);
+
+    /**
+     * 투두들의 현재 상태를 집계에 반영 (생성/변경 후 호출, 반복 투두는 발생을 다시 계산한 뒤)
+     * 마감 경과 여부(overdue_counted)를 현재 상태 기준으로 다시 계산해 함께 반영합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH t AS (
+                UPDATE todo SET overdue_counted = (status = 'TODO' AND end_at < NOW())
+                WHERE id IN (:todoIds)
+                  AND COALESCE(repeat_type, 'NONE') = 'NONE'
+                RETURNING id, team_id, end_at, status, overdue_counted
+            ),
+            o AS (
+                UPDATE todo_occurrence o SET overdue_counted = (s.status = 'TODO' AND s.due_at < NOW())
+                FROM todo_occurrence_state s
+                WHERE s.id = o.id
+                  AND s.todo_id IN (:todoIds)
+                  AND o.todo_id IN (:todoIds)
+                RETURNING o.todo_id AS id, o.team_id, s.due_at AS end_at, s.status, o.overdue_counted
+            ),
+            f AS (
+                SELECT * FROM t
+                UNION ALL
+                SELECT * FROM o
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE f.status = 'DONE'),
+                   COUNT(*) FILTER (WHERE f.overdue_counted)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int addTodos(@Param("todoIds") List<Long> todoIds);
+
+    /**
+     * 반복 투두 발생들의 현재 상태를 집계에서 제외 (발생 완료 여부/마감일시 변경 전 호출)
+     * occurrenceAts: 반복 규칙상 마감일시 ISO 8601 문자열을 콤마로 연결 (저장되지 않은 발생은 집계 대상이 아니므로 무시)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH f AS (
+                UPDATE todo_occurrence o SET overdue_counted = o.overdue_counted
+                FROM todo_occurrence_state s
+                WHERE s.id = o.id
+                  AND o.todo_id = :todoId
+                  AND o.occurrence_at = ANY(CAST(string_to_array(:occurrenceAts, ',') AS TIMESTAMP[]))
+                RETURNING o.todo_id AS id, o.team_id, s.due_at AS end_at, s.status, o.overdue_counted
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+                   -COUNT(*),
+                   -COUNT(*) FILTER (WHERE f.status = 'DONE'),
+                   -COUNT(*) FILTER (WHERE f.overdue_counted)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int subtractOccurrences(@Param("todoId") Long todoId, @Param("occurrenceAts") String occurrenceAts);
+
+    /**
+     * 반복 투두 발생들의 현재 상태를 집계에 반영 (발생 완료 여부/마감일시 변경 후 호출)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH f AS (
+                UPDATE todo_occurrence o SET overdue_counted = (s.status = 'TODO' AND s.due_at < NOW())
+                FROM todo_occurrence_state s
+                WHERE s.id = o.id
+                  AND o.todo_id = :todoId
+                  AND o.occurrence_at = ANY(CAST(string_to_array(:occurrenceAts, ',') AS TIMESTAMP[]))
+                RETURNING o.todo_id AS id, o.team_id, s.due_at AS end_at, s.status, o.overdue_counted
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE f.status = 'DONE'),
+                   COUNT(*) FILTER (WHERE f.overdue_counted)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int addOccurrences(@Param("todoId") Long todoId, @Param("occurrenceAts") String occurrenceAts);
+
+    /**
+     * from 이후의 반복 투두 발생만 집계에 추가 (발생 기간 확장 시 새로 저장된 발생만 반영)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH f AS (
+                UPDATE todo_occurrence o SET overdue_counted = (s.status = 'TODO' AND s.due_at < NOW())
+                FROM todo_occurrence_state s
+                WHERE s.id = o.id
+                  AND o.todo_id = :todoId
+                  AND o.occurrence_at >= CAST(:from AS TIMESTAMPTZ)
+                RETURNING o.todo_id AS id, o.team_id, s.due_at AS end_at, s.status, o.overdue_counted
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE f.status = 'DONE'),
+                   COUNT(*) FILTER (WHERE f.overdue_counted)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int addTodoOccurrencesFrom(@Param("todoId") Long todoId, @Param("from") LocalDateTime from);
+
+    /**
+     * 마감이 지난 미완료 투두와 반복 투두 발생을 마감 경과로 반영 (스케줄러용)
+     * 발생은 반복 규칙상 마감일시가 지난 미반영 발생과, 발생 내역으로 마감일시를 앞당긴 발생만 후보로 읽습니다.
+     */
+    @Modifying
+    @Query(value = """
+            WITH t AS (
+                UPDATE todo SET overdue_counted = TRUE
+                WHERE status = 'TODO'
+                  AND NOT overdue_counted
+                  AND end_at < NOW()
+                  AND COALESCE(repeat_type, 'NONE') = 'NONE'
+                RETURNING id, team_id, end_at
+            ),
+            o AS (
+                UPDATE todo_occurrence o SET overdue_counted = TRUE
+                FROM todo_occurrence_state s
+                WHERE s.id = o.id
+                  AND s.status = 'TODO'
+                  AND s.due_at < NOW()
+                  AND o.id IN (
+                      SELECT p.id
+                      FROM todo_occurrence p
+                      WHERE NOT p.overdue_counted
+                        AND p.occurrence_at < NOW()
+                      UNION
+                      SELECT p.id
+                      FROM todo_instance i
+                      JOIN todo_occurrence p
+                        ON p.todo_id = i.todo_id
+                       AND p.occurrence_at = i.occurrence_at
+                      WHERE NOT p.overdue_counted
+                        AND i.end_at < NOW()
+                  )
+                RETURNING o.todo_id AS id, o.team_id, s.due_at AS end_at
+            ),
+            f AS (
+                SELECT * FROM t
+                UNION ALL
+                SELECT * FROM o
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id, 0, 0, COUNT(*)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int markOverdue();
+
+    /**
+     * 팀 전체 집계를 포지션별로 조회
+     * [weekStart, positionId, createdCount, completedCount, overdueCount] 형태로 주/포지션 순서대로 반환합니다.
+     */
+    @Query(value = """
+            SELECT CAST(r.week_start AS VARCHAR), r.position_id, r.created_count, r.completed_count, r.overdue_count
+            FROM todo_weekly_rollup r
+            WHERE r.team_id = :teamId
+              AND r.member_id = 0
+              AND r.week_start BETWEEN :start AND :end
+            ORDER BY r.week_start, r.position_id
+            """, nativeQuery = true)
+    List<Object[]> findTeamWeeks(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    /**
+     * 팀원별 집계 조회 (포지션 합산)
+     * [weekStart, memberId, createdCount, completedCount, overdueCount] 형태로 주/팀원 순서대로 반환합니다.
+     */
+    @Query(value = """
+            SELECT CAST(r.week_start AS VARCHAR), r.member_id,
+                   SUM(r.created_count), SUM(r.completed_count), SUM(r.overdue_count)
+            FROM todo_weekly_rollup r
+            WHERE r.team_id = :teamId
+              AND r.member_id <> 0
+              AND r.week_start BETWEEN :start AND :end
+            GROUP BY r.week_start, r.member_id
+            ORDER BY r.week_start, r.member_id
+            """, nativeQuery = true)
+    List<Object[]> findMemberWeeks(
+            @Param("teamId") Long teamId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM todo_weekly_rollup WHERE member_id = :memberId", nativeQuery = true)
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM todo_weekly_rollup WHERE team_id = :teamId", nativeQuery = true)
+    int deleteByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 팀 집계 재계산 (deleteByTeamId 후 호출, 마감 경과 여부는 각 투두/발생의 overdue_counted 기준)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH f AS (
+                SELECT id, team_id, end_at, status, overdue_counted
+                FROM todo
+                WHERE team_id = :teamId
+                  AND COALESCE(repeat_type, 'NONE') = 'NONE'
+                UNION ALL
+                SELECT todo_id, team_id, due_at, status, overdue_counted
+                FROM todo_occurrence_state
+                WHERE team_id = :teamId
+            )
+            INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+            SELECT f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE f.status = 'DONE'),
+                   COUNT(*) FILTER (WHERE f.overdue_counted)
+            FROM f
+            JOIN todo_aggregate_key k ON k.todo_id = f.id
+            GROUP BY f.team_id, k.member_id, CAST(date_trunc('week', f.end_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+            ON CONFLICT (team_id, member_id, week_start, position_id)
+                DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                              completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                              overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count
+            """, nativeQuery = true)
+    int insertByTeamId(@Param("teamId") Long teamId);
+}
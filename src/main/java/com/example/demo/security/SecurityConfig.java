@@ -1,6 +1,7 @@
 package com.example.demo.security;
 
 import com.example.demo.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -51,6 +52,8 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/**").permitAll()
                         // 인증 관련 API 허용 (소셜 로그인 등)
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        // 스트리밍 응답 완료 후의 비동기 재디스패치 허용 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 );
@@ -0,0 +1,161 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.TeamMember;
+import com.example.demo.dto.availability.FreeWindowDto;
+import com.example.demo.dto.availability.TeamAvailabilityResponseDto;
+import com.example.demo.dto.schedule.ScheduleResponseDto;
+import com.example.demo.repository.ScheduleOccurrenceRepository;
+import com.example.demo.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 공통 빈 시간 계산 (free/busy)
+ * 팀원마다 15분 단위 바쁨 비트맵(BitSet)을 병렬로 만들고 OR로 합친 뒤, 비어 있는 비트 구간을 빈 시간으로 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    public static final int SLOT_MINUTES = 15;
+
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final TeamMemberRepository teamMemberRepository;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+    private final ScheduleService scheduleService;
+
+    /**
+     * 팀(선택 시 해당 포지션의 팀원)의 공통 빈 시간 조회
+     * @param positionIds 팀원 포지션 필터 (없으면 팀 전체)
+     * @param minMinutes 반환할 빈 시간의 최소 길이 (분, 없으면 SLOT_MINUTES)
+     */
+    @Transactional(readOnly = true)
+    public TeamAvailabilityResponseDto getTeamAvailability(Long userId,
+                                                           Long teamId,
+                                                           LocalDateTime start,
+                                                           LocalDateTime end,
+                                                           List<Long> positionIds,
+                                                           Integer minMinutes) {
+        if (start == null || end == null || !end.isAfter(start)) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE: 종료일시는 시작일시보다 이후여야 합니다.");
+        }
+        if (Duration.between(start, end).toDays() >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE: 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
+            throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 팀 빈 시간을 조회할 수 없습니다.");
+        }
+
+        LocalDateTime from = floorToSlot(start);
+        LocalDateTime to = floorToSlot(end.minusNanos(1)).plusMinutes(SLOT_MINUTES);
+        int slotCount = (int) (Duration.between(from, to).toMinutes() / SLOT_MINUTES);
+
+        List<TeamMember> members = positionIds != null && !positionIds.isEmpty()
+                ? teamMemberRepository.findByTeamIdAndPositionIdIn(teamId, positionIds)
+                : teamMemberRepository.findByTeamId(teamId);
+        List<Long> memberIds = members.stream().map(TeamMember::getId).toList();
+
+        Map<Long, List<LocalDateTime[]>> busyByMember = memberIds.isEmpty()
+                ? Map.of()
+                : findBusyIntervals(userId, teamId, memberIds, from, to);
+
+        // 팀원별 비트맵은 서로 독립적이므로 병렬로 만들고 합침
+        BitSet busy = memberIds.parallelStream()
+                .map(memberId -> toBusyBitmap(busyByMember.getOrDefault(memberId, List.of()), from, slotCount))
+                .reduce((left, right) -> {
+                    left.or(right);
+                    return left;
+                })
+                .orElseGet(BitSet::new);
+
+        int minSlots = Math.max(1, (minMinutes == null ? SLOT_MINUTES : minMinutes) / SLOT_MINUTES);
+        return TeamAvailabilityResponseDto.builder()
+                .startAt(from)
+                .endAt(to)
+                .slotMinutes(SLOT_MINUTES)
+                .memberIds(memberIds)
+                .freeWindows(toFreeWindows(busy, from, slotCount, minSlots))
+                .build();
+    }
+
+    /**
+     * 팀원별 바쁜 구간 (반복 일정은 발생 단위)
+     * 발생 테이블이 기간을 덮으면 인덱스 범위 조회로, 그렇지 않으면 팀 일정을 전개해 구합니다.
+     */
+    private Map<Long, List<LocalDateTime[]>> findBusyIntervals(Long userId,
+                                                               Long teamId,
+                                                               List<Long> memberIds,
+                                                               LocalDateTime from,
+                                                               LocalDateTime to) {
+        Map<Long, List<LocalDateTime[]>> busyByMember = new HashMap<>();
+        if (scheduleOccurrenceService.covers(to)) {
+            for (Object[] row : scheduleOccurrenceRepository.findBusyIntervalsByAttendees(teamId, memberIds, from, to)) {
+                busyByMember.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                        .add(new LocalDateTime[]{(LocalDateTime) row[1], (LocalDateTime) row[2]});
+            }
+            return busyByMember;
+        }
+
+        for (ScheduleResponseDto schedule : scheduleService.getTeamSchedules(userId, teamId, from, to, null, true)) {
+            if (schedule.getAttendeeMemberIds() == null) {
+                continue;
+            }
+            for (Long memberId : schedule.getAttendeeMemberIds()) {
+                busyByMember.computeIfAbsent(memberId, id -> new ArrayList<>())
+                        .add(new LocalDateTime[]{schedule.getStartAt(), schedule.getEndAt()});
+            }
+        }
+        return busyByMember;
+    }
+
+    /**
+     * 바쁜 구간을 슬롯 비트맵으로 변환 (구간과 조금이라도 겹치는 슬롯은 바쁨)
+     */
+    private BitSet toBusyBitmap(List<LocalDateTime[]> intervals, LocalDateTime from, int slotCount) {
+        BitSet bitmap = new BitSet(slotCount);
+        for (LocalDateTime[] interval : intervals) {
+            long startMinutes = Duration.between(from, interval[0]).toMinutes();
+            long endMinutes = Duration.between(from, interval[1]).toMinutes();
+            int fromSlot = (int) Math.max(0, Math.floorDiv(startMinutes, SLOT_MINUTES));
+            int toSlot = (int) Math.min(slotCount, Math.floorDiv(endMinutes + SLOT_MINUTES - 1, SLOT_MINUTES));
+            if (fromSlot < toSlot) {
+                bitmap.set(fromSlot, toSlot);
+            }
+        }
+        return bitmap;
+    }
+
+    private List<FreeWindowDto> toFreeWindows(BitSet busy, LocalDateTime from, int slotCount, int minSlots) {
+        List<FreeWindowDto> windows = new ArrayList<>();
+        int freeStart = busy.nextClearBit(0);
+        while (freeStart < slotCount) {
+            int nextBusy = busy.nextSetBit(freeStart);
+            int freeEnd = nextBusy < 0 ? slotCount : Math.min(slotCount, nextBusy);
+            if (freeEnd - freeStart >= minSlots) {
+                windows.add(FreeWindowDto.builder()
+                        .startAt(from.plusMinutes((long) freeStart * SLOT_MINUTES))
+                        .endAt(from.plusMinutes((long) freeEnd * SLOT_MINUTES))
+                        .build());
+            }
+            freeStart = busy.nextClearBit(freeEnd);
+        }
+        return windows;
+    }
+
+    private LocalDateTime floorToSlot(LocalDateTime dateTime) {
+        LocalDateTime truncated = dateTime.truncatedTo(ChronoUnit.MINUTES);
+        return truncated.minusMinutes(truncated.getMinute() % SLOT_MINUTES);
+    }
+}
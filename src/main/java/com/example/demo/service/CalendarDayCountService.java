@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.CalendarDayCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 날짜별 일정/투두 개수 집계(calendar_day_count) 유지
+ * 일정/투두 변경과 같은 트랜잭션에서 변경 전 상태를 빼고(remove) 변경 후 상태를 더합니다(add).
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarDayCountService {
+
+    // 집계 날짜 기준 시간대 (CalendarDayCountRepository, V25 마이그레이션의 'Asia/Seoul'과 같아야 함)
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final CalendarDayCountRepository calendarDayCountRepository;
+
+    /**
+     * 일정의 발생 전체를 집계에 추가 (생성 후, 수정 후)
+     */
+    @Transactional
+    public void addSchedule(Long scheduleId) {
+        calendarDayCountRepository.applyScheduleDelta(scheduleId, 1);
+    }
+
+    /**
+     * 일정의 발생 전체를 집계에서 제외 (수정 전, 삭제 전)
+     */
+    @Transactional
+    public void removeSchedule(Long scheduleId) {
+        calendarDayCountRepository.applyScheduleDelta(scheduleId, -1);
+    }
+
+    /**
+     * 발생 기간 확장으로 새로 저장된 발생만 집계에 추가
+     */
+    @Transactional
+    public void addScheduleOccurrencesFrom(Long scheduleId, LocalDateTime from) {
+        calendarDayCountRepository.addScheduleOccurrencesFrom(scheduleId, from);
+    }
+
+    /**
+     * 발생 기간 확장으로 새로 저장된 반복 투두 발생만 집계에 추가
+     */
+    @Transactional
+    public void addTodoOccurrencesFrom(Long todoId, LocalDateTime from) {
+        calendarDayCountRepository.addTodoOccurrencesFrom(todoId, from);
+    }
+
+    /**
+     * 투두를 집계에 추가 (생성 후, 수정 후 / 반복 투두는 발생을 다시 계산한 뒤 호출)
+     */
+    @Transactional
+    public void addTodo(Long todoId) {
+        calendarDayCountRepository.applyTodoDelta(todoId, 1);
+    }
+
+    /**
+     * 투두를 집계에서 제외 (수정 전, 삭제 전)
+     */
+    @Transactional
+    public void removeTodo(Long todoId) {
+        calendarDayCountRepository.applyTodoDelta(todoId, -1);
+    }
+
+    @Transactional
+    public void addTodos(List<Long> todoIds) {
+        if (!todoIds.isEmpty()) {
+            calendarDayCountRepository.applyTodosDelta(todoIds, 1);
+        }
+    }
+
+    @Transactional
+    public void removeTodos(List<Long> todoIds) {
+        if (!todoIds.isEmpty()) {
+            calendarDayCountRepository.applyTodosDelta(todoIds, -1);
+        }
+    }
+
+    /**
+     * 팀원 삭제/탈퇴 시 해당 팀원의 개인 집계 삭제
+     */
+    @Transactional
+    public void removeMember(Long memberId) {
+        calendarDayCountRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * 팀 집계 전체 재계산 (포지션 삭제로 항목들의 대표 포지션이 바뀔 때)
+     */
+    @Transactional
+    public void rebuildTeam(Long teamId) {
+        calendarDayCountRepository.deleteByTeamId(teamId);
+        calendarDayCountRepository.insertScheduleCountsByTeamId(teamId);
+        calendarDayCountRepository.insertTodoCountsByTeamId(teamId);
+    }
+}
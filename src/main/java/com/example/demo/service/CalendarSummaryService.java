@@ -0,0 +1,187 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.TeamMember;
+import com.example.demo.dto.calendar.CalendarDaySummaryDto;
+import com.example.demo.dto.schedule.ScheduleResponseDto;
+import com.example.demo.dto.todo.TodoResponseDto;
+import com.example.demo.repository.CalendarDayCountRepository;
+import com.example.demo.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 월간 달력 요약 조회 (날짜별 일정/투두 개수와 대표 포지션 색상)
+ * 일정/반복 투두 발생 테이블이 기간을 덮는 경우 calendar_day_count 집계만 읽고, 그렇지 않은 기간은 일정을 전개해 직접 집계합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarSummaryService {
+
+    private static final int MAX_COLORS_PER_DAY = 3;
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final CalendarDayCountRepository calendarDayCountRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+    private final TodoOccurrenceService todoOccurrenceService;
+    private final ScheduleService scheduleService;
+    private final TodoService todoService;
+
+    /**
+     * 팀 달력 요약 (항목이 있는 날짜만 반환)
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarDaySummaryDto> getTeamSummary(Long userId, Long teamId, LocalDate start, LocalDate end) {
+        validateRange(start, end);
+        if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
+            throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 팀 달력을 조회할 수 없습니다.");
+        }
+
+        if (isAggregated(end)) {
+            return toSummaries(calendarDayCountRepository.findTeamSummary(teamId, start, end));
+        }
+        LocalDateTime from = toUtc(start);
+        LocalDateTime to = toUtc(end.plusDays(1));
+        return summarize(
+                scheduleService.getTeamSchedules(userId, teamId, from, to, null, true),
+                todoService.getTeamTodos(userId, teamId, from, to),
+                start, end);
+    }
+
+    /**
+     * 내 달력 요약 (내가 참석자/담당자인 항목만, teamId로 특정 팀 필터링 가능)
+     */
+    @Transactional(readOnly = true)
+    public List<CalendarDaySummaryDto> getMySummary(Long userId, LocalDate start, LocalDate end, Long teamId) {
+        validateRange(start, end);
+        List<Long> memberIds = teamMemberRepository.findByUserId(userId).stream()
+                .filter(member -> teamId == null || member.getTeam().getId().equals(teamId))
+                .map(TeamMember::getId)
+                .toList();
+        if (memberIds.isEmpty()) {
+            if (teamId != null) {
+                throw new IllegalArgumentException("FORBIDDEN: 해당 팀의 팀원이 아닙니다.");
+            }
+            return List.of();
+        }
+
+        if (isAggregated(end)) {
+            return toSummaries(calendarDayCountRepository.findMemberSummary(memberIds, start, end));
+        }
+        LocalDateTime from = toUtc(start);
+        LocalDateTime to = toUtc(end.plusDays(1));
+        List<TodoResponseDto> todos = todoService.getMyTodos(userId, from, to).stream()
+                .filter(todo -> teamId == null || todo.getTeamId().equals(teamId))
+                .toList();
+        return summarize(scheduleService.getMySchedules(userId, from, to, teamId, null, true), todos, start, end);
+    }
+
+    private void validateRange(LocalDate start, LocalDate end) {
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE: 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE: 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+
+    private boolean isAggregated(LocalDate end) {
+        LocalDateTime until = toUtc(end.plusDays(1));
+        return scheduleOccurrenceService.covers(until) && todoOccurrenceService.covers(until);
+    }
+
+    /**
+     * 집계 조회 결과([day, colorHex, scheduleCount, todoCount], 날짜순)를 날짜별 요약으로 변환
+     */
+    private List<CalendarDaySummaryDto> toSummaries(List<Object[]> rows) {
+        Map<LocalDate, DayTally> tallies = new TreeMap<>();
+        for (Object[] row : rows) {
+            tallies.computeIfAbsent(LocalDate.parse((String) row[0]), day -> new DayTally())
+                    .add((String) row[1], ((Number) row[2]).intValue(), ((Number) row[3]).intValue());
+        }
+        return toDtos(tallies);
+    }
+
+    /**
+     * 전개된 일정/투두 목록을 날짜별로 직접 집계 (집계 테이블이 기간을 덮지 못할 때)
+     */
+    private List<CalendarDaySummaryDto> summarize(List<ScheduleResponseDto> schedules,
+                                                  List<TodoResponseDto> todos,
+                                                  LocalDate start, LocalDate end) {
+        Map<LocalDate, DayTally> tallies = new TreeMap<>();
+        for (ScheduleResponseDto schedule : schedules) {
+            LocalDate first = toLocalDate(schedule.getStartAt());
+            // 종료 시각이 자정이면 전날까지만 걸친 것으로 봄
+            LocalDateTime lastInstant = schedule.getEndAt().isAfter(schedule.getStartAt())
+                    ? schedule.getEndAt().minusNanos(1000)
+                    : schedule.getStartAt();
+            LocalDate last = toLocalDate(lastInstant);
+            for (LocalDate day = first.isBefore(start) ? start : first; !day.isAfter(last) && !day.isAfter(end); day = day.plusDays(1)) {
+                tallies.computeIfAbsent(day, d -> new DayTally()).add(schedule.getRepresentativeColorHex(), 1, 0);
+            }
+        }
+        for (TodoResponseDto todo : todos) {
+            LocalDate day = toLocalDate(todo.getEndAt());
+            if (!day.isBefore(start) && !day.isAfter(end)) {
+                tallies.computeIfAbsent(day, d -> new DayTally()).add(todo.getRepresentativeColorHex(), 0, 1);
+            }
+        }
+        return toDtos(tallies);
+    }
+
+    private List<CalendarDaySummaryDto> toDtos(Map<LocalDate, DayTally> tallies) {
+        List<CalendarDaySummaryDto> result = new ArrayList<>(tallies.size());
+        tallies.forEach((day, tally) -> result.add(CalendarDaySummaryDto.builder()
+                .date(day)
+                .scheduleCount(tally.scheduleCount)
+                .todoCount(tally.todoCount)
+                .colors(tally.topColors())
+                .build()));
+        return result;
+    }
+
+    // LocalDateTime은 UTC로 저장/전달되므로 (JacksonConfig) 달력 기준 시간대로 변환
+    private static LocalDate toLocalDate(LocalDateTime utc) {
+        return utc.atOffset(ZoneOffset.UTC).atZoneSameInstant(CalendarDayCountService.ZONE).toLocalDate();
+    }
+
+    private static LocalDateTime toUtc(LocalDate day) {
+        return day.atStartOfDay(CalendarDayCountService.ZONE).withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    private static class DayTally {
+        private int scheduleCount;
+        private int todoCount;
+        private final Map<String, Integer> colorCounts = new HashMap<>();
+
+        void add(String colorHex, int schedules, int todos) {
+            scheduleCount += schedules;
+            todoCount += todos;
+            if (colorHex != null) {
+                colorCounts.merge(colorHex, schedules + todos, Integer::sum);
+            }
+        }
+
+        List<String> topColors() {
+            return colorCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(MAX_COLORS_PER_DAY)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+    }
+}
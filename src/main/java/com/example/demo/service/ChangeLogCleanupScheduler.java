@@ -0,0 +1,34 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 변경 이력(change_log)을 정리하는 스케줄러
+ * 매일 새벽 4시에 실행됩니다. 보존 기간보다 오래된 커서로 동기화를 요청하면 전체 재조회(resetRequired)를 안내합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeLogCleanupScheduler {
+
+    @Value("${sync.change-log.retention-days:30}")
+    private int retentionDays;
+
+    private final ChangeLogService changeLogService;
+
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void cleanupExpiredChanges() {
+        try {
+            int deleted = changeLogService.deleteChangesBefore(LocalDateTime.now().minusDays(retentionDays));
+            log.info("변경 이력 정리 완료: {}건 삭제", deleted);
+        } catch (Exception e) {
+            log.error("변경 이력 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.ChangeLog;
+import com.example.demo.domain.enums.ChangeEntityType;
+import com.example.demo.domain.enums.ChangeOperation;
+import com.example.demo.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 델타 동기화용 변경 이력 기록
+ * 쓰기 작업과 같은 트랜잭션에서 기록되므로, 롤백된 변경은 이력에도 남지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeLogService {
+
+    private final ChangeLogRepository changeLogRepository;
+
+    /**
+     * @return 기록된 이력 순번 (변경 알림의 이벤트 식별자로 사용)
+     */
+    @Transactional
+    public Long recordUpsert(Long teamId, ChangeEntityType entityType, Long entityId) {
+        return record(teamId, entityType, entityId, ChangeOperation.UPSERT);
+    }
+
+    @Transactional
+    public Long recordDelete(Long teamId, ChangeEntityType entityType, Long entityId) {
+        return record(teamId, entityType, entityId, ChangeOperation.DELETE);
+    }
+
+    /**
+     * 보존 기간이 지난 이력 삭제
+     * @return 삭제된 이력 수
+     */
+    @Transactional
+    public int deleteChangesBefore(LocalDateTime before) {
+        return changeLogRepository.deleteByChangedAtBefore(before);
+    }
+
+    private Long record(Long teamId, ChangeEntityType entityType, Long entityId, ChangeOperation operation) {
+        return changeLogRepository.save(ChangeLog.builder()
+                .teamId(teamId)
+                .entityType(entityType)
+                .entityId(entityId)
+                .operation(operation)
+                .build()).getSeq();
+    }
+}
@@ -6,11 +6,15 @@ import com.example.demo.dto.notification.DeviceTokenRequest;
 import com.example.demo.dto.notification.DeviceTokenResponse;
 import com.example.demo.repository.DeviceTokenRepository;
 import com.example.demo.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -20,6 +24,7 @@ public class DeviceTokenService {
 
     private final DeviceTokenRepository deviceTokenRepository;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 디바이스 토큰 등록 (단일 디바이스 지원: 사용자당 1개만 유지)
@@ -58,6 +63,21 @@ public class DeviceTokenService {
                 .map(DeviceToken::getDeviceToken);
     }
 
+    /**
+     * 여러 사용자의 디바이스 토큰 일괄 조회 (userId -> 토큰, 토큰이 없는 사용자는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> getDeviceTokensByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> tokens = new HashMap<>();
+        for (DeviceToken deviceToken : deviceTokenRepository.findByUserIdIn(userIds)) {
+            tokens.put(deviceToken.getUser().getId(), deviceToken.getDeviceToken());
+        }
+        return tokens;
+    }
+
     /**
      * 사용자의 디바이스 토큰 상세 조회 (API용)
      */
@@ -73,6 +93,41 @@ public class DeviceTokenService {
                         .build());
     }
 
+    /**
+     * Expo가 DeviceNotRegistered로 알려 준 토큰 삭제 (더 이상 전송하지 않도록)
+     * @param outboxIds DeviceNotRegistered 티켓/영수증을 받은 아웃박스 행 ID
+     * @return 삭제된 토큰 수
+     */
+    @Transactional
+    public int pruneDeadTokens(Collection<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = deviceTokenRepository.deleteDeadTokensByOutboxIds(outboxIds);
+        meterRegistry.counter("expo.push.tokens.pruned").increment(deleted);
+        if (deleted > 0) {
+            log.info("만료된 디바이스 토큰 삭제: {}개", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * FCM이 등록 해제/다른 프로젝트 토큰으로 알려 준 토큰 삭제
+     * @return 삭제된 토큰 수
+     */
+    @Transactional
+    public int pruneInvalidFcmTokens(Collection<String> deviceTokens) {
+        if (deviceTokens.isEmpty()) {
+            return 0;
+        }
+        int deleted = deviceTokenRepository.deleteByDeviceTokenIn(deviceTokens);
+        meterRegistry.counter("fcm.push.tokens.pruned").increment(deleted);
+        if (deleted > 0) {
+            log.info("유효하지 않은 FCM 토큰 삭제: {}개", deleted);
+        }
+        return deleted;
+    }
+
     /**
      * 사용자의 모든 디바이스 토큰 삭제 (로그아웃/회원탈퇴 시 사용)
      */
@@ -1,17 +1,21 @@
 package com.example.demo.service;
 
+import com.example.demo.domain.enums.PushLane;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Slf4j
@@ -19,28 +23,37 @@ import java.util.*;
 public class ExpoNotificationService {
 
     private static final String DEFAULT_EXPO_PUSH_API_URL = "https://exp.host/--/api/v2/push/send";
+    private static final String DEFAULT_EXPO_RECEIPTS_API_URL = "https://exp.host/--/api/v2/push/getReceipts";
+
+    // Expo 요청당 최대 수신자 수 (to 배열의 토큰도 각각 1건으로 셈)
+    private static final int MAX_RECIPIENTS_PER_REQUEST = 100;
+
     private final RestTemplate restTemplate;
     private final String expoPushApiUrl;
+    private final String expoReceiptsApiUrl;
+    private final NotificationOutboxService notificationOutboxService;
+    private final PushRateLimiter pushRateLimiter;
+    private final boolean multiRecipient;
 
     public ExpoNotificationService(
-            @Value("${expo.push.api-url:https://exp.host/--/api/v2/push/send}") String expoPushApiUrl) {
+            @Value("${expo.push.api-url:https://exp.host/--/api/v2/push/send}") String expoPushApiUrl,
+            @Value("${expo.push.receipts-url:https://exp.host/--/api/v2/push/getReceipts}") String expoReceiptsApiUrl,
+            NotificationOutboxService notificationOutboxService,
+            PushRateLimiter pushRateLimiter,
+            @Qualifier("expoRestTemplate") RestTemplate restTemplate,
+            @Value("${expo.push.multi-recipient:true}") boolean multiRecipient) {
         this.expoPushApiUrl = (expoPushApiUrl != null && !expoPushApiUrl.isBlank()) ? expoPushApiUrl : DEFAULT_EXPO_PUSH_API_URL;
-        this.restTemplate = createRestTemplate();
+        this.expoReceiptsApiUrl = (expoReceiptsApiUrl != null && !expoReceiptsApiUrl.isBlank()) ? expoReceiptsApiUrl : DEFAULT_EXPO_RECEIPTS_API_URL;
+        this.notificationOutboxService = notificationOutboxService;
+        this.pushRateLimiter = pushRateLimiter;
+        // 커넥션 풀/gzip/메트릭 설정은 ExpoHttpClientConfig
+        this.restTemplate = restTemplate;
+        this.multiRecipient = multiRecipient;
         log.info("Expo Push API URL: {}", this.expoPushApiUrl);
     }
 
-    private RestTemplate createRestTemplate() {
-        RestTemplate rt = new RestTemplate();
-        org.springframework.http.client.SimpleClientHttpRequestFactory factory =
-                new org.springframework.http.client.SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(10000);
-        factory.setReadTimeout(15000);
-        rt.setRequestFactory(factory);
-        return rt;
-    }
-
     /**
-     * 단일 디바이스에 알림 전송
+     * 단일 디바이스에 알림 전송 (즉시 전송, 공용 속도 제한의 CHANGE 레인 허가를 받은 뒤 전송)
      * @param expoPushToken Expo Push Token (ExponentPushToken[...] 형식)
      * @param title 알림 제목
      * @param body 알림 내용
@@ -48,6 +61,10 @@ public class ExpoNotificationService {
      * @return 전송 성공 여부
      */
     public boolean sendNotification(String expoPushToken, String title, String body, Map<String, String> data) {
+        if (!pushRateLimiter.acquire(1, PushLane.CHANGE)) {
+            log.warn("Expo 알림 전송 보류 (속도 제한 대기 시간 초과): token={}", expoPushToken);
+            return false;
+        }
         try {
             ExpoPushMessage message = ExpoPushMessage.builder()
                     .to(expoPushToken)
@@ -89,7 +106,7 @@ public class ExpoNotificationService {
     }
 
     /**
-     * 여러 디바이스에 알림 전송
+     * 여러 디바이스에 알림 전송 (즉시 전송, 공용 속도 제한의 BULK 레인 허가를 받은 뒤 전송)
      * @param expoPushTokens Expo Push Token 리스트
      * @param title 알림 제목
      * @param body 알림 내용
@@ -100,9 +117,12 @@ public class ExpoNotificationService {
         if (expoPushTokens == null || expoPushTokens.isEmpty()) {
             return 0;
         }
+        if (!pushRateLimiter.acquire(expoPushTokens.size(), PushLane.BULK)) {
+            log.warn("Expo 알림 일괄 전송 보류 (속도 제한 대기 시간 초과): 전체={}", expoPushTokens.size());
+            return 0;
+        }
 
         try {
-            // Expo는 한 요청에 최대 100개까지 지원
             List<ExpoPushMessage> messages = new ArrayList<>();
             for (String token : expoPushTokens) {
                 ExpoPushMessage message = ExpoPushMessage.builder()
@@ -116,23 +136,11 @@ public class ExpoNotificationService {
                 messages.add(message);
             }
 
-            // 100개씩 나누어 전송
-            int successCount = 0;
-            int batchSize = 100;
-            for (int i = 0; i < messages.size(); i += batchSize) {
-                int end = Math.min(i + batchSize, messages.size());
-                List<ExpoPushMessage> batch = messages.subList(i, end);
-                
-                ExpoPushResponse response = sendPushNotifications(batch);
-                
-                if (response != null && response.getData() != null) {
-                    int batchSuccess = (int) response.getData().stream()
-                            .filter(ticket -> "ok".equals(ticket.getStatus()))
-                            .count();
-                    successCount += batchSuccess;
-                }
-            }
-            
+            // 요청당 수신자 수 제한에 맞춰 나눠 전송 (같은 내용은 수신자 배열 하나로 묶음)
+            int successCount = (int) deliver(messages).stream()
+                    .filter(ticket -> ticket != null && "ok".equals(ticket.getStatus()))
+                    .count();
+
             log.info("Expo 알림 일괄 전송 완료: 전체={}, 성공={}", expoPushTokens.size(), successCount);
             return successCount;
         } catch (Exception e) {
@@ -141,19 +149,142 @@ public class ExpoNotificationService {
         }
     }
 
+    /**
+     * 수신자 1명짜리 메시지 목록 전송 (항상 배열로 전송)
+     * 속도 제한 허가는 호출하는 쪽에서 messages 수만큼 미리 받아야 합니다.
+     * multi-recipient 모드(expo.push.multi-recipient)에서는 내용(제목/본문/데이터/사운드/우선순위)이 같은 메시지를
+     * to 배열 하나로 묶어 같은 내용이 수신자 수만큼 반복 직렬화되지 않게 합니다.
+     * 요청당 수신자는 MAX_RECIPIENTS_PER_REQUEST명까지이며, 티켓은 수신자 순서대로 오므로 원래 메시지 자리로 되돌립니다.
+     * @param messages 수신자 1명짜리 메시지 목록
+     * @return messages와 같은 순서·같은 크기의 티켓 목록 (요청 자체가 실패한 메시지 자리는 null)
+     */
+    public List<ExpoPushTicket> deliver(List<ExpoPushMessage> messages) {
+        List<ExpoPushTicket> tickets = new ArrayList<>(Collections.nCopies(messages.size(), null));
+
+        // 같은 내용끼리 메시지 인덱스 묶기
+        Collection<List<Integer>> groups;
+        if (multiRecipient) {
+            Map<List<Object>, List<Integer>> indexesByPayload = new LinkedHashMap<>();
+            for (int i = 0; i < messages.size(); i++) {
+                indexesByPayload.computeIfAbsent(payloadKey(messages.get(i)), key -> new ArrayList<>()).add(i);
+            }
+            groups = indexesByPayload.values();
+        } else {
+            groups = new ArrayList<>();
+            for (int i = 0; i < messages.size(); i++) {
+                groups.add(List.of(i));
+            }
+        }
+
+        // 요청당 수신자 수 제한에 맞춰 묶음을 채우고, 넘치는 묶음은 다음 요청으로 나눔
+        List<ExpoPushMessage> requestMessages = new ArrayList<>();
+        List<Integer> requestIndexes = new ArrayList<>();
+        for (List<Integer> group : groups) {
+            int from = 0;
+            while (from < group.size()) {
+                int to = Math.min(group.size(), from + MAX_RECIPIENTS_PER_REQUEST - requestIndexes.size());
+                List<Integer> part = group.subList(from, to);
+                requestMessages.add(withRecipients(messages.get(part.get(0)),
+                        part.stream().map(index -> messages.get(index).getTo().get(0)).toList()));
+                requestIndexes.addAll(part);
+                from = to;
+                if (requestIndexes.size() == MAX_RECIPIENTS_PER_REQUEST) {
+                    deliverRequest(requestMessages, requestIndexes, tickets);
+                    requestMessages = new ArrayList<>();
+                    requestIndexes = new ArrayList<>();
+                }
+            }
+        }
+        if (!requestIndexes.isEmpty()) {
+            deliverRequest(requestMessages, requestIndexes, tickets);
+        }
+        return tickets;
+    }
+
+    /**
+     * 한 요청 전송 후 수신자 순서의 티켓을 원래 메시지 자리(recipientIndexes)에 채움
+     */
+    private void deliverRequest(List<ExpoPushMessage> requestMessages, List<Integer> recipientIndexes,
+                                List<ExpoPushTicket> tickets) {
+        ExpoPushResponse response = sendPushNotifications(requestMessages, true);
+        if (response == null
+                || (response.getErrors() != null && !response.getErrors().isEmpty())
+                || response.getData() == null
+                || response.getData().size() != recipientIndexes.size()) {
+            return;
+        }
+        for (int i = 0; i < recipientIndexes.size(); i++) {
+            tickets.set(recipientIndexes.get(i), response.getData().get(i));
+        }
+    }
+
+    /**
+     * 푸시 영수증 조회 (최대 1000개 티켓 ID)
+     * 문서: https://docs.expo.dev/push-notifications/sending-notifications/#push-receipts
+     * @return 티켓 ID -> 영수증 (아직 준비되지 않은 티켓은 빠져 있음), 요청 자체가 실패하면 null
+     */
+    public Map<String, ExpoPushReceipt> getReceipts(List<String> ticketIds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        HttpEntity<Object> request = new HttpEntity<>(Map.of("ids", ticketIds), headers);
+
+        try {
+            ResponseEntity<ExpoReceiptResponse> response = restTemplate.exchange(
+                    expoReceiptsApiUrl,
+                    HttpMethod.POST,
+                    request,
+                    ExpoReceiptResponse.class
+            );
+            ExpoReceiptResponse body = response.getBody();
+            if (!response.getStatusCode().is2xxSuccessful() || body == null) {
+                return null;
+            }
+            if (body.getErrors() != null && !body.getErrors().isEmpty()) {
+                log.error("Expo 영수증 조회 요청 에러: {}", body.getErrors());
+                return null;
+            }
+            return body.getData() != null ? body.getData() : Map.of();
+        } catch (ResourceAccessException e) {
+            log.error("Expo 영수증 조회 연결 실패 (네트워크/타임아웃): {}", e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.error("Expo 영수증 조회 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static List<Object> payloadKey(ExpoPushMessage message) {
+        return Arrays.asList(message.getTitle(), message.getBody(), message.getData(), message.getSound(), message.getPriority());
+    }
+
+    private static ExpoPushMessage withRecipients(ExpoPushMessage message, List<String> tokens) {
+        return ExpoPushMessage.builder()
+                .to(tokens)
+                .title(message.getTitle())
+                .body(message.getBody())
+                .data(message.getData())
+                .sound(message.getSound())
+                .priority(message.getPriority())
+                .build();
+    }
+
+    private ExpoPushResponse sendPushNotifications(List<ExpoPushMessage> messages) {
+        return sendPushNotifications(messages, false);
+    }
+
     /**
      * Expo Push API로 알림 전송
      * 문서: https://docs.expo.dev/push-notifications/sending-notifications/
      */
-    private ExpoPushResponse sendPushNotifications(List<ExpoPushMessage> messages) {
+    private ExpoPushResponse sendPushNotifications(List<ExpoPushMessage> messages, boolean alwaysArray) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-        headers.set("accept-encoding", "gzip, deflate");
 
         // 단일 메시지일 때는 객체로, 여러 메시지일 때는 배열로 전송
         Object requestBody;
-        if (messages.size() == 1) {
+        if (messages.size() == 1 && !alwaysArray) {
             requestBody = messages.get(0);
         } else {
             requestBody = messages;
@@ -191,20 +322,36 @@ public class ExpoNotificationService {
 
     /**
      * 사용자에게 알림 전송 (사용자의 모든 디바이스)
+     * 바로 전송하지 않고 아웃박스에 적재하며, 실제 전송은 NotificationOutboxWorker가 비동기로 처리합니다.
+     * 호출한 트랜잭션에 참여하므로 업무 변경이 롤백되면 알림도 적재되지 않습니다.
      * @param expoPushTokens 사용자의 Expo Push Token 리스트
+     * @param eventKey 알림을 일으킨 이벤트 식별자 (같은 이벤트는 토큰마다 한 번만 적재)
      * @param title 알림 제목
      * @param body 알림 내용
      * @param data 추가 데이터 (선택사항)
-     * @return 전송 성공한 토큰 수
+     * @return 적재한 토큰 수
      */
-    public int sendNotificationToUser(List<String> expoPushTokens, String title, String body, Map<String, String> data) {
-        return sendNotificationToMultipleDevices(expoPushTokens, title, body, data);
+    public int sendNotificationToUser(List<String> expoPushTokens, String eventKey, String title, String body,
+                                      Map<String, String> data) {
+        return sendNotificationToUser(expoPushTokens, eventKey, title, body, data, PushLane.CHANGE);
+    }
+
+    /**
+     * 사용자에게 알림 전송 (사용자의 모든 디바이스, 전송 우선순위 레인 지정)
+     * @param lane 전송이 밀릴 때 먼저 보낼 순서 (REMINDER → CHANGE → BULK)
+     * @return 적재한 토큰 수
+     */
+    public int sendNotificationToUser(List<String> expoPushTokens, String eventKey, String title, String body,
+                                      Map<String, String> data, PushLane lane) {
+        return notificationOutboxService.enqueue(expoPushTokens, eventKey, title, body, data, lane);
     }
 
     /**
      * 스케줄 변경 알림 전송
+     * @param changeId 변경 이력 ID (ChangeLogService.recordUpsert 반환값)
      */
-    public void sendScheduleChangeNotification(List<String> expoPushTokens, String scheduleTitle, String teamName) {
+    public void sendScheduleChangeNotification(List<String> expoPushTokens, Long scheduleId, Long changeId,
+                                               String scheduleTitle, String teamName) {
         String title = "스케줄 변경 알림";
         String body = String.format("[%s] %s 스케줄이 변경되었습니다.", teamName, scheduleTitle);
         
@@ -213,13 +360,15 @@ public class ExpoNotificationService {
         data.put("teamName", teamName);
         data.put("scheduleTitle", scheduleTitle);
         
-        sendNotificationToUser(expoPushTokens, title, body, data);
+        sendNotificationToUser(expoPushTokens, "schedule_change:" + scheduleId + ":" + changeId, title, body, data);
     }
 
     /**
      * 스케줄 미리 알림 전송
+     * @param startAt 알림 대상 시작 일시 (일정이 옮겨지면 다른 알림으로 취급)
      */
-    public void sendSchedulePreNotification(List<String> expoPushTokens, String scheduleTitle, String teamName, int minutesBefore) {
+    public void sendSchedulePreNotification(List<String> expoPushTokens, Long scheduleId, LocalDateTime startAt,
+                                            String scheduleTitle, String teamName, int minutesBefore) {
         String title = "스케줄 시작 알림";
         String body = String.format("[%s] %s 스케줄이 %d분 후 시작됩니다.", teamName, scheduleTitle, minutesBefore);
         
@@ -229,13 +378,49 @@ public class ExpoNotificationService {
         data.put("scheduleTitle", scheduleTitle);
         data.put("minutesBefore", String.valueOf(minutesBefore));
         
-        sendNotificationToUser(expoPushTokens, title, body, data);
+        sendNotificationToUser(expoPushTokens, "schedule_pre:" + scheduleId + ":" + startAt + ":" + minutesBefore,
+                title, body, data, PushLane.REMINDER);
     }
 
     /**
      * 투두 변경 알림 전송
+     * @param changeId 변경 이력 ID (ChangeLogService.recordUpsert 반환값)
+     */
+    public void sendTodoChangeNotification(List<String> expoPushTokens, Long todoId, Long changeId,
+                                           String todoTitle, String teamName) {
+        sendTodoChange(expoPushTokens, "todo_change:" + todoId + ":" + changeId, todoTitle, teamName);
+    }
+
+    /**
+     * 여러 투두 변경을 한 건으로 합친 알림 전송 (일괄 변경용)
+     * @param batchChangeId 일괄 변경에서 마지막으로 기록된 변경 이력 ID
+     * @param teamName 변경된 투두가 모두 같은 팀이면 팀 이름, 아니면 null
      */
-    public void sendTodoChangeNotification(List<String> expoPushTokens, String todoTitle, String teamName) {
+    public void sendTodoBatchChangeNotification(List<String> expoPushTokens, Long batchChangeId,
+                                                List<String> todoTitles, String teamName) {
+        String eventKey = "todo_batch_change:" + batchChangeId;
+        if (todoTitles.size() == 1 && teamName != null) {
+            sendTodoChange(expoPushTokens, eventKey, todoTitles.get(0), teamName);
+            return;
+        }
+        String title = "투두 변경 알림";
+        String prefix = teamName != null ? String.format("[%s] ", teamName) : "";
+        String body = todoTitles.size() == 1
+                ? String.format("%s%s 투두가 변경되었습니다.", prefix, todoTitles.get(0))
+                : String.format("%s%s 외 %d개 투두가 변경되었습니다.", prefix, todoTitles.get(0), todoTitles.size() - 1);
+
+        Map<String, String> data = new HashMap<>();
+        data.put("type", "todo_change");
+        if (teamName != null) {
+            data.put("teamName", teamName);
+        }
+        data.put("todoTitle", todoTitles.get(0));
+        data.put("todoCount", String.valueOf(todoTitles.size()));
+
+        sendNotificationToUser(expoPushTokens, eventKey, title, body, data);
+    }
+
+    private void sendTodoChange(List<String> expoPushTokens, String eventKey, String todoTitle, String teamName) {
         String title = "투두 변경 알림";
         String body = String.format("[%s] %s 투두가 변경되었습니다.", teamName, todoTitle);
         
@@ -244,13 +429,15 @@ public class ExpoNotificationService {
         data.put("teamName", teamName);
         data.put("todoTitle", todoTitle);
         
-        sendNotificationToUser(expoPushTokens, title, body, data);
+        sendNotificationToUser(expoPushTokens, eventKey, title, body, data);
     }
 
     /**
      * 투두 마감 알림 전송
+     * @param reminderKey 알림 예정 식별자 (발생, 알림 시간)
      */
-    public void sendTodoDeadlineNotification(List<String> expoPushTokens, String todoTitle, String teamName, int minutesBefore) {
+    public void sendTodoDeadlineNotification(List<String> expoPushTokens, Long todoId, String reminderKey,
+                                             String todoTitle, String teamName, int minutesBefore) {
         String title = "투두 마감 알림";
         String body = String.format("[%s] %s 투두가 %d분 후 마감됩니다.", teamName, todoTitle, minutesBefore);
         
@@ -260,13 +447,14 @@ public class ExpoNotificationService {
         data.put("todoTitle", todoTitle);
         data.put("minutesBefore", String.valueOf(minutesBefore));
         
-        sendNotificationToUser(expoPushTokens, title, body, data);
+        sendNotificationToUser(expoPushTokens, "todo_deadline:" + todoId + ":" + reminderKey,
+                title, body, data, PushLane.REMINDER);
     }
 
     /**
      * 공지 알림 전송
      */
-    public void sendNoticeNotification(List<String> expoPushTokens, String noticeTitle, String teamName) {
+    public void sendNoticeNotification(List<String> expoPushTokens, Long noticeId, String noticeTitle, String teamName) {
         String title = "공지 알림";
         String body = String.format("[%s] %s 공지가 등록되었습니다.", teamName, noticeTitle);
         
@@ -275,13 +463,15 @@ public class ExpoNotificationService {
         data.put("teamName", teamName);
         data.put("noticeTitle", noticeTitle);
         
-        sendNotificationToUser(expoPushTokens, title, body, data);
+        sendNotificationToUser(expoPushTokens, "notice:" + noticeId, title, body, data, PushLane.BULK);
     }
 
     /**
      * 팀원 입장/나가기 알림 전송
+     * @param memberId 입장/퇴장한 팀 멤버 ID (다시 입장하면 새 멤버 ID)
      */
-    public void sendTeamMemberNotification(List<String> expoPushTokens, String memberName, String teamName, boolean isJoin) {
+    public void sendTeamMemberNotification(List<String> expoPushTokens, Long memberId, String memberName,
+                                           String teamName, boolean isJoin) {
         String title = "팀원 알림";
         String body = isJoin 
             ? String.format("[%s] %s님이 팀에 입장했습니다.", teamName, memberName)
@@ -293,7 +483,8 @@ public class ExpoNotificationService {
         data.put("memberName", memberName);
         data.put("action", isJoin ? "join" : "leave");
         
-        sendNotificationToUser(expoPushTokens, title, body, data);
+        sendNotificationToUser(expoPushTokens, "team_member:" + memberId + ":" + (isJoin ? "join" : "leave"),
+                title, body, data);
     }
 
     // Expo Push API 응답 DTO
@@ -313,6 +504,24 @@ public class ExpoNotificationService {
         private String message;
     }
 
+    // Expo 영수증 조회 응답 DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExpoReceiptResponse {
+        private Map<String, ExpoPushReceipt> data;
+        private List<ExpoPushError> errors;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExpoPushReceipt {
+        private String status;
+        private String message;
+        private Map<String, Object> details;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -328,8 +537,10 @@ public class ExpoNotificationService {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class ExpoPushMessage {
+        // 수신자 1명이면 문자열, 여러 명이면 배열로 직렬화
         @JsonProperty("to")
-        private String to;
+        @JsonFormat(with = JsonFormat.Feature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED)
+        private List<String> to;
         
         @JsonProperty("title")
         private String title;
@@ -345,6 +556,20 @@ public class ExpoNotificationService {
         
         @JsonProperty("priority")
         private String priority;
+
+        public static class ExpoPushMessageBuilder {
+            private List<String> to;
+
+            public ExpoPushMessageBuilder to(String token) {
+                this.to = List.of(token);
+                return this;
+            }
+
+            public ExpoPushMessageBuilder to(List<String> tokens) {
+                this.to = tokens;
+                return this;
+            }
+        }
     }
 }
 
@@ -1,20 +1,79 @@
 package com.example.demo.service;
 
+import com.example.demo.domain.enums.PushLane;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 public class FcmNotificationService {
 
+    // FCM sendEachForMulticast 한 번에 보낼 수 있는 최대 토큰 수
+    private static final int MULTICAST_LIMIT = 500;
+
+    // 토큰 자체가 더 이상 유효하지 않은 에러 (INVALID_ARGUMENT는 메시지 문제일 수도 있어 제외)
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS =
+            EnumSet.of(MessagingErrorCode.UNREGISTERED, MessagingErrorCode.SENDER_ID_MISMATCH);
+
+    // fan-out 스레드당 대기 가능한 묶음 수 (가득 차면 호출한 스레드가 직접 전송해 적재 속도를 늦춤)
+    private static final int FAN_OUT_QUEUE_PER_THREAD = 16;
+
+    private final DeviceTokenService deviceTokenService;
+    private final PushRateLimiter pushRateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor fanOutExecutor;
+
+    public FcmNotificationService(DeviceTokenService deviceTokenService,
+                                  PushRateLimiter pushRateLimiter,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${firebase.messaging.fan-out-threads:4}") int fanOutThreads) {
+        this.deviceTokenService = deviceTokenService;
+        this.pushRateLimiter = pushRateLimiter;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger sequence = new AtomicInteger();
+        this.fanOutExecutor = new ThreadPoolExecutor(fanOutThreads, fanOutThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fanOutThreads * FAN_OUT_QUEUE_PER_THREAD),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fcm-fan-out-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        Gauge.builder("fcm.push.fan_out.queue", fanOutExecutor, executor -> executor.getQueue().size())
+                .description("FCM fan-out 전송 대기 묶음 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdown();
+    }
+
     /**
-     * 단일 디바이스에 알림 전송
+     * 단일 디바이스에 알림 전송 (공용 속도 제한의 CHANGE 레인 허가를 받은 뒤 전송)
      * @param deviceToken FCM 디바이스 토큰
      * @param title 알림 제목
      * @param body 알림 내용
@@ -22,6 +81,11 @@ public class FcmNotificationService {
      * @return 전송 성공 여부
      */
     public boolean sendNotification(String deviceToken, String title, String body, java.util.Map<String, String> data) {
+        if (!pushRateLimiter.acquire(1, PushLane.CHANGE)) {
+            log.warn("FCM 알림 전송 보류 (속도 제한 대기 시간 초과): token={}", deviceToken);
+            meterRegistry.counter("fcm.push.sends", "outcome", "THROTTLED").increment();
+            return false;
+        }
         try {
             Message.Builder messageBuilder = Message.builder()
                     .setToken(deviceToken)
@@ -56,6 +120,9 @@ public class FcmNotificationService {
 
     /**
      * 여러 디바이스에 알림 전송
+     * 토큰을 MULTICAST_LIMIT개씩 나눠 fan-out 스레드에서 동시에 sendEachForMulticast로 보내고 모든 묶음이 끝날 때까지 기다립니다.
+     * 토큰별 결과 중 등록 해제/다른 프로젝트 토큰은 device_token에서 삭제합니다.
+     * 묶음마다 전송 직전에 BULK 레인으로 공용 속도 제한 허가를 받으며, 대기 시간이 초과된 묶음은 전송하지 않습니다.
      * @param deviceTokens FCM 디바이스 토큰 리스트
      * @param title 알림 제목
      * @param body 알림 내용
@@ -63,20 +130,88 @@ public class FcmNotificationService {
      * @return 전송 성공한 토큰 수
      */
     public int sendNotificationToMultipleDevices(List<String> deviceTokens, String title, String body, java.util.Map<String, String> data) {
+        return sendNotificationToMultipleDevices(deviceTokens, title, body, data, PushLane.BULK);
+    }
+
+    /**
+     * 여러 디바이스에 알림 전송 (전송 우선순위 레인 지정)
+     * @param lane 묶음마다 속도 제한 허가를 받을 레인
+     * @return 전송 성공한 토큰 수
+     */
+    private int sendNotificationToMultipleDevices(List<String> deviceTokens, String title, String body,
+                                                  java.util.Map<String, String> data, PushLane lane) {
         if (deviceTokens == null || deviceTokens.isEmpty()) {
             return 0;
         }
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(deviceTokens));
 
-        int successCount = 0;
-        for (String token : deviceTokens) {
-            if (sendNotification(token, title, body, data)) {
-                successCount++;
-            }
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i += MULTICAST_LIMIT) {
+            List<String> chunk = tokens.subList(i, Math.min(i + MULTICAST_LIMIT, tokens.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> sendMulticast(chunk, title, body, data, lane), fanOutExecutor));
         }
-        log.info("FCM 알림 일괄 전송 완료: 전체={}, 성공={}", deviceTokens.size(), successCount);
+        int successCount = chunks.stream().mapToInt(CompletableFuture::join).sum();
+        log.info("FCM 알림 일괄 전송 완료: 전체={}, 성공={}", tokens.size(), successCount);
         return successCount;
     }
 
+    /**
+     * 최대 MULTICAST_LIMIT개 토큰에 한 번에 전송하고 토큰별 결과 처리
+     * @return 전송 성공한 토큰 수
+     */
+    private int sendMulticast(List<String> tokens, String title, String body, java.util.Map<String, String> data, PushLane lane) {
+        if (!pushRateLimiter.acquire(tokens.size(), lane)) {
+            log.warn("FCM 멀티캐스트 전송 보류 (속도 제한 대기 시간 초과): lane={}, tokens={}", lane, tokens.size());
+            meterRegistry.counter("fcm.push.sends", "outcome", "THROTTLED").increment(tokens.size());
+            return 0;
+        }
+        MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build());
+        if (data != null && !data.isEmpty()) {
+            messageBuilder.putAllData(data);
+        }
+
+        BatchResponse batchResponse;
+        try {
+            batchResponse = FirebaseMessaging.getInstance().sendEachForMulticast(messageBuilder.build());
+        } catch (FirebaseMessagingException e) {
+            log.error("FCM 멀티캐스트 전송 실패: tokens={}, error={}", tokens.size(), e.getMessage(), e);
+            meterRegistry.counter("fcm.push.sends", "outcome", "REQUEST_FAILED").increment(tokens.size());
+            return 0;
+        }
+
+        // 응답은 토큰 순서와 같음
+        List<String> invalidTokens = new ArrayList<>();
+        List<SendResponse> responses = batchResponse.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse response = responses.get(i);
+            if (response.isSuccessful()) {
+                continue;
+            }
+            MessagingErrorCode errorCode = response.getException().getMessagingErrorCode();
+            meterRegistry.counter("fcm.push.sends", "outcome", errorCode != null ? errorCode.name() : "UNKNOWN").increment();
+            if (errorCode != null && INVALID_TOKEN_ERRORS.contains(errorCode)) {
+                invalidTokens.add(tokens.get(i));
+            } else {
+                log.warn("FCM 알림 전송 실패: token={}, error={}", tokens.get(i), response.getException().getMessage());
+            }
+        }
+        meterRegistry.counter("fcm.push.sends", "outcome", "SUCCESS").increment(batchResponse.getSuccessCount());
+
+        if (!invalidTokens.isEmpty()) {
+            try {
+                deviceTokenService.pruneInvalidFcmTokens(invalidTokens);
+            } catch (Exception e) {
+                log.warn("유효하지 않은 FCM 토큰 삭제 실패: count={}, error={}", invalidTokens.size(), e.getMessage());
+            }
+        }
+        return batchResponse.getSuccessCount();
+    }
+
     /**
      * 사용자에게 알림 전송 (사용자의 모든 디바이스)
      * @param deviceTokens 사용자의 디바이스 토큰 리스트
@@ -86,7 +221,17 @@ public class FcmNotificationService {
      * @return 전송 성공한 토큰 수
      */
     public int sendNotificationToUser(List<String> deviceTokens, String title, String body, java.util.Map<String, String> data) {
-        return sendNotificationToMultipleDevices(deviceTokens, title, body, data);
+        return sendNotificationToUser(deviceTokens, title, body, data, PushLane.CHANGE);
+    }
+
+    /**
+     * 사용자에게 알림 전송 (사용자의 모든 디바이스, 전송 우선순위 레인 지정)
+     * @param lane 전송이 밀릴 때 먼저 보낼 순서 (REMINDER → CHANGE → BULK)
+     * @return 전송 성공한 토큰 수
+     */
+    public int sendNotificationToUser(List<String> deviceTokens, String title, String body, java.util.Map<String, String> data,
+                                      PushLane lane) {
+        return sendNotificationToMultipleDevices(deviceTokens, title, body, data, lane);
     }
 
     /**
@@ -117,7 +262,7 @@ public class FcmNotificationService {
         data.put("scheduleTitle", scheduleTitle);
         data.put("minutesBefore", String.valueOf(minutesBefore));
         
-        sendNotificationToUser(deviceTokens, title, body, data);
+        sendNotificationToUser(deviceTokens, title, body, data, PushLane.REMINDER);
     }
 
     /**
@@ -148,7 +293,7 @@ public class FcmNotificationService {
         data.put("todoTitle", todoTitle);
         data.put("minutesBefore", String.valueOf(minutesBefore));
         
-        sendNotificationToUser(deviceTokens, title, body, data);
+        sendNotificationToUser(deviceTokens, title, body, data, PushLane.REMINDER);
     }
 
     /**
@@ -163,7 +308,7 @@ public class FcmNotificationService {
         data.put("teamName", teamName);
         data.put("noticeTitle", noticeTitle);
         
-        sendNotificationToUser(deviceTokens, title, body, data);
+        sendNotificationToUser(deviceTokens, title, body, data, PushLane.BULK);
     }
 
     /**
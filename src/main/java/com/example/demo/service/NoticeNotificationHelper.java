@@ -1,15 +1,11 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.entity.Notice;
-import com.example.demo.domain.entity.TeamMember;
-import com.example.demo.repository.NotificationSettingRepository;
-import com.example.demo.repository.PersonalNotificationSettingRepository;
-import com.example.demo.repository.TeamMemberRepository;
+import com.example.demo.domain.enums.NotificationKind;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,10 +18,7 @@ import java.util.List;
 public class NoticeNotificationHelper {
 
     private final ExpoNotificationService expoNotificationService;
-    private final DeviceTokenService deviceTokenService;
-    private final TeamMemberRepository teamMemberRepository;
-    private final PersonalNotificationSettingRepository personalNotificationSettingRepository;
-    private final NotificationSettingRepository notificationSettingRepository;
+    private final RecipientResolver recipientResolver;
 
     /**
      * 공지 생성 알림 전송
@@ -40,45 +33,13 @@ public class NoticeNotificationHelper {
                 : (notice.getContent() != null ? notice.getContent() : "새 공지사항");
         String teamName = notice.getTeam().getName();
 
-        // 팀의 모든 멤버 조회
-        List<TeamMember> teamMembers = teamMemberRepository.findByTeamId(teamId);
-        if (teamMembers == null || teamMembers.isEmpty()) {
-            return;
-        }
-
-        // 알림을 받을 사용자 목록 수집
-        List<String> deviceTokens = new ArrayList<>();
-        for (TeamMember member : teamMembers) {
-            Long userId = member.getUser().getId();
-            
-            // 작성자 제외
-            if (userId.equals(excludeUserId)) {
-                continue;
-            }
-
-            // 팀별 알림 설정 확인 (enableTeamAlarm && enableNoticeNotification)
-            boolean teamSettingAllows = notificationSettingRepository.findByUserIdAndTeamId(userId, teamId)
-                    .map(setting -> Boolean.TRUE.equals(setting.getEnableTeamAlarm()) &&
-                            Boolean.TRUE.equals(setting.getEnableNoticeNotification()))
-                    .orElse(true); // 설정이 없으면 기본값으로 알림 전송
-
-            // 개인 알림 설정 확인
-            boolean personalSettingAllows = personalNotificationSettingRepository.findByUserId(userId)
-                    .map(setting -> Boolean.TRUE.equals(setting.getEnableNoticeNotification()))
-                    .orElse(true); // 설정이 없으면 기본값으로 알림 전송
-
-            // 두 설정 모두 활성화된 경우만 알림 전송
-            if (teamSettingAllows && personalSettingAllows) {
-                deviceTokenService.getDeviceTokenByUserId(userId)
-                        .ifPresent(deviceTokens::add);
-            }
-        }
+        // 작성자를 제외한 팀 멤버 중 팀/개인 공지 알림이 모두 켜진 사용자의 토큰 (한 번의 쿼리)
+        List<String> deviceTokens = recipientResolver.resolveTeamTokens(teamId, excludeUserId, NotificationKind.NOTICE);
 
         if (!deviceTokens.isEmpty()) {
-            expoNotificationService.sendNoticeNotification(deviceTokens, noticeTitle, teamName);
+            expoNotificationService.sendNoticeNotification(deviceTokens, notice.getId(), noticeTitle, teamName);
             log.info("공지 알림 전송 완료: teamId={}, noticeTitle={}, recipientCount={}", 
                     teamId, noticeTitle, deviceTokens.size());
         }
     }
 }
-
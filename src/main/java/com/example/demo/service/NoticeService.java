@@ -4,6 +4,7 @@ import com.example.demo.domain.entity.Notice;
 import com.example.demo.domain.entity.Team;
 import com.example.demo.domain.entity.TeamMember;
 import com.example.demo.domain.entity.User;
+import com.example.demo.domain.enums.ChangeEntityType;
 import com.example.demo.dto.notice.NoticeCreateRequest;
 import com.example.demo.dto.notice.NoticeResponse;
 import com.example.demo.dto.notice.NoticeUpdateRequest;
@@ -29,6 +30,8 @@ public class NoticeService {
     private final TeamPermissionService teamPermissionService;
     private final TeamMemberRepository teamMemberRepository;
     private final AlertService alertService;
+    private final ChangeLogService changeLogService;
+    private final TeamContentVersionService teamContentVersionService;
 
     @Transactional
     public NoticeResponse createNotice(Long userId, Long teamId, NoticeCreateRequest request) {
@@ -47,6 +50,8 @@ public class NoticeService {
                 .build();
 
         notice = noticeRepository.save(notice);
+        changeLogService.recordUpsert(teamId, ChangeEntityType.NOTICE, notice.getId());
+        teamContentVersionService.bump(teamId);
 
         // 지연 로딩된 연관 관계 초기화 (LazyInitializationException 방지)
         notice.getTeam().getName(); // team 초기화
@@ -90,6 +95,8 @@ public class NoticeService {
         // 공지 수정
         notice.setContent(request.getContent());
         notice = noticeRepository.save(notice);
+        changeLogService.recordUpsert(teamId, ChangeEntityType.NOTICE, notice.getId());
+        teamContentVersionService.bump(teamId);
 
         // 지연 로딩된 연관 관계 초기화 (LazyInitializationException 방지)
         notice.getTeam().getName(); // team 초기화
@@ -128,6 +135,8 @@ public class NoticeService {
 
         // 공지 삭제
         noticeRepository.delete(notice);
+        changeLogService.recordDelete(teamId, ChangeEntityType.NOTICE, notice.getId());
+        teamContentVersionService.bump(teamId);
     }
 
     private NoticeResponse toResponse(Notice notice) {
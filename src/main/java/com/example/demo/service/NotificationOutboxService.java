@@ -0,0 +1,168 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.PushLane;
+import com.example.demo.domain.enums.PushReceiptStatus;
+import com.example.demo.repository.NotificationOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 푸시 알림 아웃박스(notification_outbox) 관리
+ * enqueue는 호출한 트랜잭션에 참여하므로 업무 변경이 롤백되면 알림도 적재되지 않습니다.
+ * 실제 전송과 재시도는 NotificationOutboxWorker가 claim/markXxx로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 같은 메시지를 여러 토큰으로 적재
+     * 멱등성 키는 (이벤트 식별자, 토큰)으로 만들어, 같은 이벤트가 다시 적재되어도(재시도, 중복 호출) 토큰마다 한 번만 보냅니다.
+     * 시각은 키에 넣지 않으므로, 서로 다른 이벤트는 호출자가 다른 식별자를 넘겨야 합니다.
+     * @param eventKey 알림을 일으킨 이벤트 식별자 (예: "todo_change:{todoId}:{changeLogId}")
+     * @param lane 전송 우선순위 레인 (적체 시 먼저 선점됨)
+     * @return 새로 적재된 행 수
+     */
+    @Transactional
+    public int enqueue(List<String> deviceTokens, String eventKey, String title, String body, Map<String, String> data,
+                       PushLane lane) {
+        if (deviceTokens == null || deviceTokens.isEmpty()) {
+            return 0;
+        }
+        if (eventKey == null || eventKey.isBlank()) {
+            throw new IllegalArgumentException("알림 이벤트 식별자가 필요합니다.");
+        }
+        String dataJson = toJson(data);
+
+        String[] tokens = new LinkedHashSet<>(deviceTokens).toArray(String[]::new);
+        String[] keys = new String[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            keys[i] = idempotencyKey(eventKey, tokens[i]);
+        }
+        return notificationOutboxRepository.enqueue(keys, tokens, title, body, dataJson, lane.ordinal());
+    }
+
+    /**
+     * 전송할 알림 선점
+     * @see NotificationOutboxRepository#claim(int, int)
+     */
+    @Transactional
+    public List<Object[]> claim(int limit, int leaseSeconds) {
+        return notificationOutboxRepository.claim(limit, leaseSeconds);
+    }
+
+    /**
+     * 선점 반납 (속도 제한으로 전송하지 못한 행, 시도 횟수는 되돌림)
+     */
+    @Transactional
+    public void release(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.release(ids);
+        }
+    }
+
+    /**
+     * 레인별 전송 대기 행 수 (다음 시도 시각이 지난 행만)
+     */
+    @Transactional(readOnly = true)
+    public Map<PushLane, Long> countDueByLane() {
+        Map<PushLane, Long> counts = new EnumMap<>(PushLane.class);
+        for (PushLane lane : PushLane.values()) {
+            counts.put(lane, 0L);
+        }
+        for (Object[] row : notificationOutboxRepository.countDueByPriority()) {
+            counts.put(PushLane.values()[((Number) row[0]).intValue()], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * 전송 완료 표시
+     * @param ticketIds ids와 같은 순서의 Expo 티켓 ID (영수증 조회용)
+     * @param receiptDelayMinutes 영수증 조회까지 기다릴 시간(분)
+     */
+    @Transactional
+    public void markSent(List<Long> ids, List<String> ticketIds, int receiptDelayMinutes) {
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.markSent(ids.toArray(Long[]::new), ticketIds.toArray(String[]::new), receiptDelayMinutes);
+        }
+    }
+
+    @Transactional
+    public void markFailed(List<Long> ids, String error) {
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.markFailed(ids, error);
+        }
+    }
+
+    @Transactional
+    public void scheduleRetry(List<Long> ids, String error, int maxAttempts, int baseSeconds, int maxBackoffSeconds) {
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.scheduleRetry(ids, error, maxAttempts, baseSeconds, maxBackoffSeconds);
+        }
+    }
+
+    /**
+     * 영수증을 조회할 행 선점
+     * @see NotificationOutboxRepository#claimReceiptChecks(int, int, int)
+     */
+    @Transactional
+    public List<Object[]> claimReceiptChecks(int limit, int leaseSeconds, int expireHours) {
+        return notificationOutboxRepository.claimReceiptChecks(limit, leaseSeconds, expireHours);
+    }
+
+    /**
+     * 영수증 결과 반영 (status가 null이면 결과 없이 조회만 종료)
+     */
+    @Transactional
+    public void markReceipts(List<Long> ids, PushReceiptStatus status, String error) {
+        if (!ids.isEmpty()) {
+            notificationOutboxRepository.markReceipts(ids, status != null ? status.name() : "", error != null ? error : "");
+        }
+    }
+
+    /**
+     * 전송 완료/실패 후 보존 기간이 지난 행 삭제
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime before) {
+        return notificationOutboxRepository.deleteFinishedBefore(before);
+    }
+
+    private String toJson(Map<String, String> data) {
+        try {
+            // 키 순서를 고정해 같은 데이터는 같은 JSON이 되도록 정렬
+            return objectMapper.writeValueAsString(data != null ? new TreeMap<>(data) : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 데이터 직렬화 실패", e);
+        }
+    }
+
+    private static String idempotencyKey(String eventKey, String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = String.join("\n", eventKey, token);
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.PushLane;
+import com.example.demo.service.ExpoNotificationService.ExpoPushMessage;
+import com.example.demo.service.ExpoNotificationService.ExpoPushTicket;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 푸시 알림 아웃박스 워커 풀
+ * 워커 스레드마다 전송 대기 알림을 SKIP LOCKED로 최대 BATCH_SIZE건 선점해 Expo로 한 번에 전송하고, 티켓 결과에 따라
+ * 전송 완료 / 재시도(지수 백오프) / 실패로 표시합니다. 요청 스레드는 아웃박스 적재까지만 하므로 Expo 응답 시간과 무관합니다.
+ * 선점은 한 배치에 가장 높은 우선순위 레인(PushLane) 하나만 하며, 전송 전에 그 레인으로 PushRateLimiter 허가를 받습니다.
+ * 허가를 기다리다 시간이 초과된 행은 선점을 반납해 DB에 남겨 두므로, 적체는 메모리가 아닌 아웃박스 테이블에 쌓입니다.
+ *
+ * 메트릭:
+ * - push.outbox.queue.depth : 레인별 전송 시각이 지난 대기 행 수 (QUEUE_DEPTH_REFRESH_MS마다 갱신)
+ * - push.rate_limiter.throttled : 속도 제한 대기 시간 초과로 반납한 행 수 (lane 태그)
+ */
+@Slf4j
+@Component
+public class NotificationOutboxWorker {
+
+    // Expo는 한 요청에 최대 100개 메시지
+    private static final int BATCH_SIZE = 100;
+
+    // 배치마다 속도 제한 허가를 기다리는 최대 시간
+    private static final Duration ACQUIRE_MAX_WAIT = Duration.ofSeconds(20);
+
+    // 선점 유지 시간: 한 배치는 한 레인만 허가 대기(ACQUIRE_MAX_WAIT 20초) 후 Expo 요청 1건
+    // (연결 타임아웃 10초 + 읽기 타임아웃 15초)이므로 최악 45초보다 길게 잡아, 전송 중 선점이 만료돼 중복 전송되지 않게 함
+    private static final int LEASE_SECONDS = 60;
+
+    private static final long QUEUE_DEPTH_REFRESH_MS = 10000;
+
+    // 영수증은 전송 후 보통 수 분 안에 준비되므로 15분 뒤 조회 (PushReceiptScheduler)
+    private static final int RECEIPT_DELAY_MINUTES = 15;
+
+    private static final int MAX_ATTEMPTS = 6;
+    private static final int BASE_BACKOFF_SECONDS = 10;
+    private static final int MAX_BACKOFF_SECONDS = 600;
+
+    // 전송 완료/실패 행 보존 기간
+    private static final int RETENTION_DAYS = 7;
+
+    // 재시도해도 성공할 수 없는 티켓 에러 (https://docs.expo.dev/push-notifications/sending-notifications/#individual-errors)
+    private static final String DEVICE_NOT_REGISTERED = "DeviceNotRegistered";
+    private static final Set<String> PERMANENT_ERRORS = Set.of(DEVICE_NOT_REGISTERED, "MessageTooBig", "InvalidCredentials");
+
+    private static final TypeReference<Map<String, String>> DATA_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final ExpoNotificationService expoNotificationService;
+    private final DeviceTokenService deviceTokenService;
+    private final PushRateLimiter pushRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<PushLane, AtomicLong> queueDepths = new EnumMap<>(PushLane.class);
+    private final int workerCount;
+    private final long pollIntervalMillis;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public NotificationOutboxWorker(NotificationOutboxService notificationOutboxService,
+                                    ExpoNotificationService expoNotificationService,
+                                    DeviceTokenService deviceTokenService,
+                                    PushRateLimiter pushRateLimiter,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.outbox.workers:4}") int workerCount,
+                                    @Value("${notification.outbox.poll-interval-ms:1000}") long pollIntervalMillis) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.expoNotificationService = expoNotificationService;
+        this.deviceTokenService = deviceTokenService;
+        this.pushRateLimiter = pushRateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        for (PushLane lane : PushLane.values()) {
+            AtomicLong depth = new AtomicLong();
+            queueDepths.put(lane, depth);
+            Gauge.builder("push.outbox.queue.depth", depth, AtomicLong::get)
+                    .description("레인별 전송 시각이 지난 아웃박스 대기 행 수")
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+        }
+        this.workerCount = workerCount;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (workerCount <= 0) {
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            executor.submit(this::runLoop);
+        }
+        log.info("푸시 알림 아웃박스 워커 시작: {}개", workerCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 전송 완료/실패 후 보존 기간이 지난 아웃박스 행 정리 (매일 새벽 4시 40분)
+     */
+    @Scheduled(cron = "0 40 4 * * ?")
+    public void cleanupFinished() {
+        try {
+            int deleted = notificationOutboxService.deleteFinishedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+            log.info("푸시 알림 아웃박스 정리 완료: {}건 삭제", deleted);
+        } catch (Exception e) {
+            log.error("푸시 알림 아웃박스 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 레인별 전송 대기 행 수 게이지 갱신
+     */
+    @Scheduled(fixedDelay = QUEUE_DEPTH_REFRESH_MS)
+    public void refreshQueueDepth() {
+        try {
+            notificationOutboxService.countDueByLane().forEach((lane, count) -> queueDepths.get(lane).set(count));
+        } catch (Exception e) {
+            log.error("푸시 알림 아웃박스 대기 행 수 조회 중 오류 발생", e);
+        }
+    }
+
+    private void runLoop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 가득 찬 배치를 처리했으면 쉬지 않고 다음 배치 선점
+                if (processBatch() < BATCH_SIZE) {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("푸시 알림 아웃박스 처리 중 오류 발생", e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 레인의 배치 선점 후 속도 제한 허가를 받아 전송
+     * 행 형식: [id, deviceToken, title, body, data(JSON), attempts, priority]
+     * 허가를 기다리는 시간을 ACQUIRE_MAX_WAIT로 제한해 전송이 선점 유지 시간(LEASE_SECONDS) 안에 끝나게 하고,
+     * 시간 안에 허가를 받지 못하면 전송하지 않고 선점을 반납합니다.
+     * @return 선점한 행 수
+     */
+    private int processBatch() throws Exception {
+        List<Object[]> rows = notificationOutboxService.claim(BATCH_SIZE, LEASE_SECONDS);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        PushLane lane = PushLane.values()[((Number) rows.get(0)[6]).intValue()];
+        if (!pushRateLimiter.acquire(rows.size(), lane, ACQUIRE_MAX_WAIT)) {
+            notificationOutboxService.release(rows.stream().map(row -> ((Number) row[0]).longValue()).toList());
+            meterRegistry.counter("push.rate_limiter.throttled", "lane", lane.name()).increment(rows.size());
+            log.warn("푸시 알림 아웃박스 전송 보류 (속도 제한 대기 시간 초과): lane={}, 반납={}", lane, rows.size());
+            return rows.size();
+        }
+        send(rows);
+        return rows.size();
+    }
+
+    /**
+     * 선점 행 전송/결과 반영
+     */
+    private void send(List<Object[]> rows) throws Exception {
+        List<Long> ids = new ArrayList<>(rows.size());
+        List<ExpoPushMessage> messages = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add(((Number) row[0]).longValue());
+            messages.add(ExpoPushMessage.builder()
+                    .to((String) row[1])
+                    .title((String) row[2])
+                    .body((String) row[3])
+                    .data(objectMapper.readValue((String) row[4], DATA_TYPE))
+                    .sound("default")
+                    .priority("high")
+                    .build());
+        }
+
+        List<ExpoPushTicket> tickets = expoNotificationService.deliver(messages);
+
+        List<Long> sentIds = new ArrayList<>();
+        List<String> sentTicketIds = new ArrayList<>();
+        Map<String, List<Long>> failedIdsByError = new HashMap<>();
+        Map<String, List<Long>> retryIdsByError = new HashMap<>();
+        for (int i = 0; i < tickets.size(); i++) {
+            ExpoPushTicket ticket = tickets.get(i);
+            if (ticket == null) {
+                // 요청 자체 실패 (네트워크/타임아웃/요청 레벨 에러) → 재시도
+                retryIdsByError.computeIfAbsent("REQUEST_FAILED", e -> new ArrayList<>()).add(ids.get(i));
+                continue;
+            }
+            if ("ok".equals(ticket.getStatus())) {
+                sentIds.add(ids.get(i));
+                sentTicketIds.add(ticket.getId());
+                continue;
+            }
+            String error = ticketError(ticket);
+            Map<String, List<Long>> target = PERMANENT_ERRORS.contains(error) ? failedIdsByError : retryIdsByError;
+            target.computeIfAbsent(error, e -> new ArrayList<>()).add(ids.get(i));
+        }
+
+        notificationOutboxService.markSent(sentIds, sentTicketIds, RECEIPT_DELAY_MINUTES);
+        failedIdsByError.forEach((error, failedIds) -> notificationOutboxService.markFailed(failedIds, error));
+        deviceTokenService.pruneDeadTokens(failedIdsByError.getOrDefault(DEVICE_NOT_REGISTERED, List.of()));
+        retryIdsByError.forEach((error, retryIds) -> notificationOutboxService.scheduleRetry(retryIds, error,
+                MAX_ATTEMPTS, BASE_BACKOFF_SECONDS, MAX_BACKOFF_SECONDS));
+
+        log.info("푸시 알림 아웃박스 전송: 전송={}, 성공={}, 실패={}, 재시도={}", rows.size(), sentIds.size(),
+                failedIdsByError.values().stream().mapToInt(List::size).sum(),
+                retryIdsByError.values().stream().mapToInt(List::size).sum());
+    }
+
+    private static String ticketError(ExpoPushTicket ticket) {
+        if (ticket.getDetails() != null && ticket.getDetails().get("error") != null) {
+            return String.valueOf(ticket.getDetails().get("error"));
+        }
+        return ticket.getMessage() != null ? ticket.getMessage() : "UNKNOWN";
+    }
+}
@@ -18,6 +18,8 @@ public class PersonalNotificationSettingService {
 
     private final PersonalNotificationSettingRepository personalNotificationSettingRepository;
     private final UserRepository userRepository;
+    private final ScheduleReminderService scheduleReminderService;
+    private final TodoReminderService todoReminderService;
 
     /**
      * 개인 알림 설정 조회
@@ -81,6 +83,9 @@ public class PersonalNotificationSettingService {
         }
 
         setting = personalNotificationSettingRepository.save(setting);
+        // 스케줄 사전 알림/투두 마감 알림 여부와 시간이 바뀔 수 있으므로 해당 사용자의 알림 다시 계산
+        scheduleReminderService.refreshUser(userId);
+        todoReminderService.refreshUser(userId);
         return personalNotificationSettingRepository.findResponseByUserId(userId)
                 .orElseThrow(() -> new IllegalStateException("알림 설정 저장 후 조회 실패"));
     }
@@ -1,7 +1,10 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.entity.Position;
+import com.example.demo.domain.enums.ChangeEntityType;
 import com.example.demo.repository.PositionRepository;
+import com.example.demo.repository.SchedulePositionRepository;
+import com.example.demo.repository.TodoPositionRepository;
 import com.example.demo.repository.TeamMemberRepository;
 import com.example.demo.dto.team.PositionCreateRequest;
 import com.example.demo.dto.team.PositionDeleteResponse;
@@ -21,7 +24,14 @@ public class PositionService {
     
     private final PositionRepository positionRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final SchedulePositionRepository schedulePositionRepository;
+    private final TodoPositionRepository todoPositionRepository;
+    private final ChangeLogService changeLogService;
     private final TeamPermissionService teamPermissionService;
+    private final TeamScheduleCache teamScheduleCache;
+    private final TeamContentVersionService teamContentVersionService;
+    private final CalendarDayCountService calendarDayCountService;
+    private final TodoWeeklyRollupService todoWeeklyRollupService;
     
     /**
      * 포지션 목록 조회
@@ -71,6 +81,7 @@ public class PositionService {
                 .build();
         
         position = positionRepository.save(position);
+        teamContentVersionService.bump(teamId);
         
         return positionRepository.findResponseById(position.getId())
                 .orElseThrow(() -> new IllegalStateException("포지션 저장 후 조회 실패"));
@@ -122,6 +133,10 @@ public class PositionService {
         
         position = positionRepository.save(position);
         
+        // 일정 응답에 포함된 포지션 색상이 바뀌므로 팀 일정 캐시 무효화
+        teamScheduleCache.invalidateTeam(teamId);
+        teamContentVersionService.bump(teamId);
+        
         return positionRepository.findResponseById(position.getId())
                 .orElseThrow(() -> new IllegalStateException("포지션 저장 후 조회 실패"));
     }
@@ -148,8 +163,22 @@ public class PositionService {
                 .filter(member -> member.getPosition() != null && member.getPosition().getId().equals(positionId))
                 .forEach(member -> member.setPosition(null));
         
+        // 포지션 연결(schedule_position/todo_position)은 FK로 함께 삭제되므로, 연결됐던 일정/투두를 변경 이력에 남겨
+        // 델타 동기화 클라이언트가 바뀐 포지션 목록을 받도록 함
+        for (Long scheduleId : schedulePositionRepository.findScheduleIdsByPositionId(positionId)) {
+            changeLogService.recordUpsert(teamId, ChangeEntityType.SCHEDULE, scheduleId);
+        }
+        for (Long todoId : todoPositionRepository.findTodoIdsByPositionId(positionId)) {
+            changeLogService.recordUpsert(teamId, ChangeEntityType.TODO, todoId);
+        }
+        
         // 포지션 삭제
         positionRepository.delete(position);
+        teamScheduleCache.invalidateTeam(teamId);
+        teamContentVersionService.bump(teamId);
+        // 이 포지션이 대표 포지션이던 일정/투두의 대표 포지션이 바뀌므로 팀 달력 집계 재계산
+        calendarDayCountService.rebuildTeam(teamId);
+        todoWeeklyRollupService.rebuildTeam(teamId);
         
         return PositionDeleteResponse.builder()
                 .teamId(teamId)
@@ -0,0 +1,86 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.PushLane;
+import com.example.demo.domain.model.PriorityTokenBucket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 푸시 전송(Expo/FCM) 공용 속도 제한
+ * 모든 전송 경로가 보내기 직전에 수신자 수만큼 토큰을 받아 초당 전송량을 push.rate-limit.per-second 이하로 유지합니다.
+ * 토큰이 모자라면 레인 우선순위(리마인더 → 변경 알림 → 공지 등 대량 알림) 순으로 기다립니다.
+ *
+ * 메트릭:
+ * - push.rate_limiter.wait : 토큰을 받기까지 기다린 시간 (lane, acquired 태그)
+ * - push.rate_limiter.waiting : 레인별 대기 중인 전송 수
+ */
+@Slf4j
+@Component
+public class PushRateLimiter {
+
+    private final PriorityTokenBucket bucket;
+    private final Duration defaultMaxWait;
+    private final Map<PushLane, Timer> acquiredTimers = new EnumMap<>(PushLane.class);
+    private final Map<PushLane, Timer> timedOutTimers = new EnumMap<>(PushLane.class);
+
+    public PushRateLimiter(@Value("${push.rate-limit.per-second:500}") double ratePerSecond,
+                           @Value("${push.rate-limit.burst:500}") long burst,
+                           @Value("${push.rate-limit.max-wait-seconds:30}") long maxWaitSeconds,
+                           MeterRegistry meterRegistry) {
+        this.bucket = new PriorityTokenBucket(ratePerSecond, burst, PushLane.values().length);
+        this.defaultMaxWait = Duration.ofSeconds(maxWaitSeconds);
+        for (PushLane lane : PushLane.values()) {
+            acquiredTimers.put(lane, waitTimer(meterRegistry, lane, true));
+            timedOutTimers.put(lane, waitTimer(meterRegistry, lane, false));
+            Gauge.builder("push.rate_limiter.waiting", bucket, b -> b.waiting(lane.ordinal()))
+                    .description("레인별 토큰 대기 중인 푸시 전송 수")
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+        }
+        log.info("푸시 전송 속도 제한: 초당 {}건, 버스트 {}건", ratePerSecond, burst);
+    }
+
+    /**
+     * 수신자 permits명분 전송 허가 획득 (최대 push.rate-limit.max-wait-seconds 대기)
+     * @return 허가를 받으면 true, 대기 시간 안에 받지 못하면(또는 인터럽트) false
+     */
+    public boolean acquire(int permits, PushLane lane) {
+        return acquire(permits, lane, defaultMaxWait);
+    }
+
+    /**
+     * 수신자 permits명분 전송 허가 획득
+     * @return 허가를 받으면 true, maxWait 안에 받지 못하면(또는 인터럽트) false
+     */
+    public boolean acquire(int permits, PushLane lane, Duration maxWait) {
+        if (permits <= 0) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = bucket.acquire(permits, lane.ordinal(), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        (acquired ? acquiredTimers : timedOutTimers).get(lane).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return acquired;
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, PushLane lane, boolean acquired) {
+        return Timer.builder("push.rate_limiter.wait")
+                .description("푸시 전송 허가를 받기까지 기다린 시간")
+                .tag("lane", lane.name())
+                .tag("acquired", String.valueOf(acquired))
+                .register(meterRegistry);
+    }
+}
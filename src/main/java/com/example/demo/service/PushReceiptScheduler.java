@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.PushReceiptStatus;
+import com.example.demo.service.ExpoNotificationService.ExpoPushReceipt;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Expo 푸시 영수증 확인 스케줄러
+ * 1분마다 영수증 조회 시각이 된 아웃박스 행을 선점해 티켓 ID로 영수증을 일괄 조회하고 결과를 기록합니다.
+ * DeviceNotRegistered 영수증을 받은 토큰은 device_token에서 삭제해 이후 알림 대상에서 빠지게 합니다.
+ *
+ * 메트릭:
+ * - expo.push.receipts : 영수증 결과 수 (status=ok/error/expired, error=에러 종류)
+ * - expo.push.tokens.pruned : 삭제한 토큰 수 (DeviceTokenService)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PushReceiptScheduler {
+
+    // Expo 영수증 조회 요청당 최대 티켓 수
+    private static final int CLAIM_BATCH_SIZE = 1000;
+
+    // 선점 유지 시간 = 영수증이 아직 없거나 조회에 실패했을 때 다시 조회하기까지의 시간
+    private static final int LEASE_SECONDS = 300;
+
+    // Expo는 영수증을 24시간만 보관하므로 그 이후에는 조회를 포기
+    private static final int EXPIRE_HOURS = 24;
+
+    private static final String DEVICE_NOT_REGISTERED = "DeviceNotRegistered";
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final ExpoNotificationService expoNotificationService;
+    private final DeviceTokenService deviceTokenService;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelay = 60000) // 이전 실행이 끝난 뒤 1분마다
+    public void checkReceipts() {
+        try {
+            List<Object[]> claimed;
+            do {
+                claimed = notificationOutboxService.claimReceiptChecks(CLAIM_BATCH_SIZE, LEASE_SECONDS, EXPIRE_HOURS);
+                if (!claimed.isEmpty()) {
+                    processClaimed(claimed);
+                }
+            } while (claimed.size() == CLAIM_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("푸시 영수증 확인 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 선점한 행의 영수증 조회/결과 반영
+     * 행 형식: [id, ticketId, expired]
+     */
+    private void processClaimed(List<Object[]> claimed) {
+        List<Long> expiredIds = new ArrayList<>();
+        Map<String, Long> idsByTicket = new LinkedHashMap<>();
+        for (Object[] row : claimed) {
+            Long id = ((Number) row[0]).longValue();
+            if (Boolean.TRUE.equals(row[2])) {
+                expiredIds.add(id);
+            } else {
+                idsByTicket.put((String) row[1], id);
+            }
+        }
+        notificationOutboxService.markReceipts(expiredIds, null, null);
+        countReceipts("expired", "none", expiredIds.size());
+        if (idsByTicket.isEmpty()) {
+            return;
+        }
+
+        Map<String, ExpoPushReceipt> receipts = expoNotificationService.getReceipts(new ArrayList<>(idsByTicket.keySet()));
+        if (receipts == null) {
+            // 요청 실패 → 선점 만료 후 다시 조회
+            return;
+        }
+
+        List<Long> okIds = new ArrayList<>();
+        Map<String, List<Long>> errorIdsByError = new HashMap<>();
+        receipts.forEach((ticketId, receipt) -> {
+            Long id = idsByTicket.get(ticketId);
+            if (id == null) {
+                return;
+            }
+            if ("ok".equals(receipt.getStatus())) {
+                okIds.add(id);
+            } else {
+                errorIdsByError.computeIfAbsent(receiptError(receipt), e -> new ArrayList<>()).add(id);
+            }
+        });
+
+        notificationOutboxService.markReceipts(okIds, PushReceiptStatus.OK, null);
+        countReceipts("ok", "none", okIds.size());
+        errorIdsByError.forEach((error, errorIds) -> {
+            notificationOutboxService.markReceipts(errorIds, PushReceiptStatus.ERROR, error);
+            countReceipts("error", error, errorIds.size());
+        });
+        int pruned = deviceTokenService.pruneDeadTokens(errorIdsByError.getOrDefault(DEVICE_NOT_REGISTERED, List.of()));
+
+        log.info("푸시 영수증 확인: 조회={}, 성공={}, 에러={}, 미준비={}, 만료={}, 토큰 삭제={}",
+                idsByTicket.size(), okIds.size(),
+                errorIdsByError.values().stream().mapToInt(List::size).sum(),
+                idsByTicket.size() - receipts.size(), expiredIds.size(), pruned);
+    }
+
+    private void countReceipts(String status, String error, int count) {
+        if (count > 0) {
+            // 에러 코드가 아닌 메시지 문자열은 태그 값이 무한히 늘지 않도록 묶음
+            String errorTag = error.matches("[A-Za-z]+") ? error : "other";
+            meterRegistry.counter("expo.push.receipts", "status", status, "error", errorTag).increment(count);
+        }
+    }
+
+    private static String receiptError(ExpoPushReceipt receipt) {
+        if (receipt.getDetails() != null && receipt.getDetails().get("error") != null) {
+            return String.valueOf(receipt.getDetails().get("error"));
+        }
+        return receipt.getMessage() != null ? receipt.getMessage() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.NotificationKind;
+import com.example.demo.repository.DeviceTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 알림 수신자 판정
+ * 후보 사용자의 팀 알림 설정, 개인 알림 설정, 디바이스 토큰을 한 번의 조인 쿼리로 판정해 알림을 받을 토큰만 돌려줍니다.
+ * 알림 종류별 설정 규칙은 DeviceTokenRepository.findRecipientTokens에 모여 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipientResolver {
+
+    private final DeviceTokenRepository deviceTokenRepository;
+
+    /**
+     * 후보 사용자 중 알림을 받을 사용자의 디바이스 토큰
+     */
+    @Transactional(readOnly = true)
+    public List<String> resolveTokens(Long teamId, Collection<Long> userIds, NotificationKind kind) {
+        return new ArrayList<>(resolveTokensByUser(teamId, userIds, kind).values());
+    }
+
+    /**
+     * 후보 사용자 중 알림을 받을 사용자의 디바이스 토큰 (userId -> 토큰)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> resolveTokensByUser(Long teamId, Collection<Long> userIds, NotificationKind kind) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return toTokenMap(deviceTokenRepository.findRecipientTokens(teamId, userIds, kind.name()));
+    }
+
+    /**
+     * 팀 멤버 전체 중 알림을 받을 사용자의 디바이스 토큰
+     * @param excludeUserId 알림을 보내지 않을 사용자 ID (없으면 null)
+     */
+    @Transactional(readOnly = true)
+    public List<String> resolveTeamTokens(Long teamId, Long excludeUserId, NotificationKind kind) {
+        Long exclude = excludeUserId != null ? excludeUserId : 0L;
+        return new ArrayList<>(toTokenMap(deviceTokenRepository.findTeamRecipientTokens(teamId, exclude, kind.name())).values());
+    }
+
+    private static Map<Long, String> toTokenMap(List<Object[]> rows) {
+        Map<Long, String> tokens = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            tokens.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.schedule.ScheduleConflictDto;
+import com.example.demo.repository.ScheduleOccurrenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 참석자 일정 충돌 감지
+ * 반복 일정도 schedule_occurrence의 발생 단위로 비교하므로, 발생이 계산된 기간(롤링 18개월) 안의 충돌만 찾습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleConflictService {
+
+    // 한 번에 조회하는 최대 [발생, 참석자] 행 수 (반복 일정끼리 겹치면 충돌이 매우 많아질 수 있음)
+    private static final int MAX_CONFLICT_ROWS = 200;
+
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+
+    /**
+     * 저장된 일정의 모든 발생(반복 포함)과 겹치는 참석자들의 다른 일정 조회 (생성/수정 응답의 경고용)
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleConflictDto> findConflictsForSchedule(Long scheduleId, List<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return List.of();
+        }
+        return toConflicts(scheduleOccurrenceRepository.findOccurrenceIdsConflictingWithSchedule(
+                scheduleId, memberIds, MAX_CONFLICT_ROWS));
+    }
+
+    /**
+     * [발생 ID, 팀멤버 ID, 발생 시작일시] 행을 발생 단위로 묶어 시작일시 순의 충돌 목록으로 변환
+     */
+    private List<ScheduleConflictDto> toConflicts(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Long>> memberIdsByOccurrence = new HashMap<>();
+        for (Object[] row : rows) {
+            Long occurrenceId = ((Number) row[0]).longValue();
+            Long memberId = ((Number) row[1]).longValue();
+            memberIdsByOccurrence.computeIfAbsent(occurrenceId, id -> new ArrayList<>()).add(memberId);
+        }
+
+        List<ScheduleConflictDto> conflicts = new ArrayList<>();
+        for (Object[] info : scheduleOccurrenceRepository.findConflictInfoByIdIn(new ArrayList<>(memberIdsByOccurrence.keySet()))) {
+            conflicts.add(ScheduleConflictDto.builder()
+                    .scheduleId((Long) info[1])
+                    .title((String) info[2])
+                    .startAt((LocalDateTime) info[3])
+                    .endAt((LocalDateTime) info[4])
+                    .memberIds(memberIdsByOccurrence.get((Long) info[0]))
+                    .build());
+        }
+        return conflicts;
+    }
+}
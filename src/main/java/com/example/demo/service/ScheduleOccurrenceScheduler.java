@@ -0,0 +1,52 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 일정/반복 투두 발생 테이블의 롤링 기간을 확장하는 스케줄러
+ * 애플리케이션 시작 직후 한 번 실행되어 아직 계산되지 않은 일정/반복 투두를 채우고, 이후 1시간마다 기간을 연장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleOccurrenceScheduler {
+
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+    private final TodoOccurrenceService todoOccurrenceService;
+
+    @Scheduled(initialDelay = 10000, fixedDelay = 3600000) // 시작 10초 후, 이후 1시간마다 실행
+    public void extendOccurrenceHorizon() {
+        try {
+            int total = 0;
+            int processed;
+            while ((processed = scheduleOccurrenceService.extendHorizonBatch()) > 0) {
+                total += processed;
+            }
+            scheduleOccurrenceService.refreshBackfillState();
+
+            if (total > 0) {
+                log.info("일정 발생 기간 확장 완료: {}개의 일정 처리", total);
+            }
+        } catch (Exception e) {
+            log.error("일정 발생 기간 확장 중 오류 발생", e);
+        }
+
+        try {
+            int total = 0;
+            int processed;
+            while ((processed = todoOccurrenceService.extendHorizonBatch()) > 0) {
+                total += processed;
+            }
+            todoOccurrenceService.refreshBackfillState();
+
+            if (total > 0) {
+                log.info("반복 투두 발생 기간 확장 완료: {}개의 투두 처리", total);
+            }
+        } catch (Exception e) {
+            log.error("반복 투두 발생 기간 확장 중 오류 발생", e);
+        }
+    }
+}
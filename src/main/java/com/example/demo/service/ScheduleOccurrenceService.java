@@ -0,0 +1,145 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Schedule;
+import com.example.demo.domain.enums.RepeatType;
+import com.example.demo.domain.model.ScheduleRepeatRule;
+import com.example.demo.repository.ScheduleOccurrenceRepository;
+import com.example.demo.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 일정 발생(schedule_occurrence) 테이블 관리
+ * 일정 생성/수정 시 해당 일정의 발생을 다시 계산하고, 백그라운드 작업으로 롤링 기간을 확장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleOccurrenceService {
+
+    // 현재 시각 기준으로 발생을 미리 계산해 두는 기간 (반복 투두 발생도 같은 기간, TodoOccurrenceService)
+    static final int HORIZON_MONTHS = 18;
+
+    // 계산 시점이 이만큼 뒤처진 일정만 확장 (매 실행마다 모든 반복 일정을 갱신하지 않도록)
+    static final int EXTENSION_MARGIN_MONTHS = 1;
+
+    private static final int EXTENSION_BATCH_SIZE = 100;
+
+    // INSERT 한 번에 보내는 발생 수
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final CalendarDayCountService calendarDayCountService;
+
+    // 모든 일정의 발생이 한 번 이상 계산되었는지 여부 (배포 직후 백필 전에는 규칙 전개로 조회)
+    private volatile boolean backfilled = false;
+
+    /**
+     * 일정의 발생을 처음부터 다시 계산 (일정 생성/수정 시)
+     */
+    @Transactional
+    public void rematerialize(Schedule schedule) {
+        scheduleOccurrenceRepository.deleteByScheduleId(schedule.getId());
+        LocalDateTime horizon = LocalDateTime.now().plusMonths(HORIZON_MONTHS);
+        insertOccurrences(schedule, schedule.getStartAt(), horizon);
+        schedule.setOccurrenceHorizon(horizon);
+    }
+
+    /**
+     * 일정의 발생 삭제 (일정 삭제 시)
+     */
+    @Transactional
+    public void removeOccurrences(Long scheduleId) {
+        scheduleOccurrenceRepository.deleteByScheduleId(scheduleId);
+    }
+
+    /**
+     * 확장이 필요한 일정 한 묶음의 발생을 현재 기준 롤링 기간까지 채움
+     * @return 처리한 일정 수 (0이면 더 이상 처리할 일정 없음)
+     */
+    @Transactional
+    public int extendHorizonBatch() {
+        LocalDateTime horizon = LocalDateTime.now().plusMonths(HORIZON_MONTHS);
+        List<Long> scheduleIds = scheduleRepository.findIdsNeedingOccurrenceExtension(
+                horizon.minusMonths(EXTENSION_MARGIN_MONTHS), EXTENSION_BATCH_SIZE);
+        if (scheduleIds.isEmpty()) {
+            return 0;
+        }
+
+        for (Schedule schedule : scheduleRepository.findAllById(scheduleIds)) {
+            LocalDateTime from = schedule.getOccurrenceHorizon() == null
+                    ? schedule.getStartAt()
+                    : schedule.getOccurrenceHorizon();
+            insertOccurrences(schedule, from, horizon);
+            calendarDayCountService.addScheduleOccurrencesFrom(schedule.getId(), from);
+            schedule.setOccurrenceHorizon(horizon);
+        }
+        return scheduleIds.size();
+    }
+
+    /**
+     * 아직 발생이 계산되지 않은 일정이 남아 있는지 확인해 백필 완료 여부 갱신
+     */
+    @Transactional(readOnly = true)
+    public void refreshBackfillState() {
+        backfilled = !scheduleRepository.existsByOccurrenceHorizonIsNull();
+    }
+
+    /**
+     * 해당 시각까지의 기간 조회를 발생 테이블만으로 처리할 수 있는지 여부
+     */
+    public boolean covers(LocalDateTime end) {
+        LocalDateTime guaranteedUntil = LocalDateTime.now().plusMonths(HORIZON_MONTHS - EXTENSION_MARGIN_MONTHS);
+        return backfilled && !end.isAfter(guaranteedUntil);
+    }
+
+    /**
+     * [from, until) 구간에 시작하는 발생을 저장
+     * 반복하지 않는 일정은 확장 대상이 아니므로 until과 무관하게 유일한 발생을 저장합니다.
+     */
+    private void insertOccurrences(Schedule schedule, LocalDateTime from, LocalDateTime until) {
+        ScheduleRepeatRule rule = ScheduleRepeatRule.fromEntityFields(
+                schedule.getRepeatType(),
+                schedule.getRepeatInterval(),
+                schedule.getRepeatDays(),
+                schedule.getRepeatMonthDay(),
+                schedule.getRepeatEndDate()
+        );
+        long durationSeconds = Duration.between(schedule.getStartAt(), schedule.getEndAt()).getSeconds();
+        boolean repeating = rule.getType() != null && rule.getType() != RepeatType.NONE;
+
+        Iterator<LocalDateTime> occurrences = rule.occurrencesFrom(schedule.getStartAt(), from);
+        StringJoiner chunk = new StringJoiner(",");
+        int chunkSize = 0;
+        while (occurrences.hasNext()) {
+            LocalDateTime occurrenceStart = occurrences.next();
+            if (repeating && !occurrenceStart.isBefore(until)) {
+                break;
+            }
+            chunk.add(occurrenceStart.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            if (++chunkSize == INSERT_CHUNK_SIZE) {
+                flushChunk(schedule, chunk.toString(), durationSeconds);
+                chunk = new StringJoiner(",");
+                chunkSize = 0;
+            }
+        }
+        if (chunkSize > 0) {
+            flushChunk(schedule, chunk.toString(), durationSeconds);
+        }
+    }
+
+    private void flushChunk(Schedule schedule, String startAts, long durationSeconds) {
+        scheduleOccurrenceRepository.insertOccurrences(
+                schedule.getId(), schedule.getTeam().getId(), startAts, durationSeconds);
+    }
+}
@@ -0,0 +1,444 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.NotificationSetting;
+import com.example.demo.domain.entity.PersonalNotificationSetting;
+import com.example.demo.domain.model.HierarchicalTimingWheel;
+import com.example.demo.repository.NotificationSettingRepository;
+import com.example.demo.repository.PersonalNotificationSettingRepository;
+import com.example.demo.repository.ScheduleAttendeeRepository;
+import com.example.demo.repository.ScheduleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄 사전 알림 타이밍 휠
+ * (scheduleId, userId, minutesBefore) 알림 시각 중 앞으로 LOAD_WINDOW 안에 있는 것만 계층형 타이밍 휠에 적재하고,
+ * REFILL_INTERVAL마다 적재 기간을 이어서 채웁니다. (휠과 적재 조회가 미래 일정 수에 비례해 커지지 않도록 함)
+ * 일정/참석자/알림 설정이 바뀌면 커밋 이후 해당 일정 또는 사용자의 알림만 다시 계산합니다.
+ * 매 초 휠을 메모리에서 진행해 알림 시각이 된 항목만 전송하므로, 주기적인 DB 전체 조회와 중복 전송 기록이 필요 없습니다.
+ * 반복 일정은 기존과 같이 부모 일정의 시작 시각만 대상으로 합니다.
+ */
+@Slf4j
+@Service
+public class ScheduleReminderService {
+
+    // 최하위 휠: 1초 × 60칸 (상위 휠은 1분, 1시간, ... 단위로 필요할 때 생성)
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+
+    // 휠에 적재하는 알림 시각 범위 (현재부터)와 다음 기간을 채우는 주기
+    private static final Duration LOAD_WINDOW = Duration.ofHours(24);
+    private static final Duration REFILL_INTERVAL = Duration.ofHours(1);
+
+    private final ScheduleAttendeeRepository scheduleAttendeeRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final PersonalNotificationSettingRepository personalNotificationSettingRepository;
+    private final DeviceTokenService deviceTokenService;
+    private final ExpoNotificationService expoNotificationService;
+
+    // 아래 필드는 this로 동기화
+    private HierarchicalTimingWheel<ScheduleReminder, ScheduleReminder> wheel;
+    private final Map<Long, Set<ScheduleReminder>> remindersBySchedule = new HashMap<>();
+    private final Map<Long, Set<ScheduleReminder>> remindersByUser = new HashMap<>();
+    private LocalDateTime loadedUntil;   // 이 시각 이전의 알림 시각만 휠에 적재됨
+    private LocalDateTime nextRefillAt;
+
+    // 커밋 이후 다음 틱에서 다시 계산할 대상
+    private final Set<Long> pendingScheduleIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingRemovedTeamIds = ConcurrentHashMap.newKeySet();
+
+    public ScheduleReminderService(ScheduleAttendeeRepository scheduleAttendeeRepository,
+                                   ScheduleRepository scheduleRepository,
+                                   NotificationSettingRepository notificationSettingRepository,
+                                   PersonalNotificationSettingRepository personalNotificationSettingRepository,
+                                   DeviceTokenService deviceTokenService,
+                                   ExpoNotificationService expoNotificationService,
+                                   MeterRegistry meterRegistry) {
+        this.scheduleAttendeeRepository = scheduleAttendeeRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.personalNotificationSettingRepository = personalNotificationSettingRepository;
+        this.deviceTokenService = deviceTokenService;
+        this.expoNotificationService = expoNotificationService;
+        Gauge.builder("schedule.reminder.wheel.size", this, ScheduleReminderService::size)
+                .description("타이밍 휠에 대기 중인 스케줄 사전 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 앞으로 LOAD_WINDOW 안에 알림 시각이 되는 사전 알림을 휠에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // 적재 조회 이후의 변경은 다음 틱에서 다시 반영
+        pendingScheduleIds.clear();
+        pendingUserIds.clear();
+        pendingRemovedTeamIds.clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(LOAD_WINDOW);
+        List<ScheduleReminderTarget> targets = loadTargets(now, until);
+        synchronized (this) {
+            wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, toMillis(now));
+            remindersBySchedule.clear();
+            remindersByUser.clear();
+            loadedUntil = until;
+            nextRefillAt = now.plus(REFILL_INTERVAL);
+            register(targets);
+        }
+        log.info("스케줄 사전 알림 휠 적재: {}건", size());
+    }
+
+    /**
+     * 일정 생성/수정/삭제 및 참석자 변경 시 호출 (커밋 이후 해당 일정의 알림을 다시 계산)
+     */
+    public void refreshSchedule(Long scheduleId) {
+        afterCommit(() -> pendingScheduleIds.add(scheduleId));
+    }
+
+    /**
+     * 알림 설정 변경, 팀 탈퇴/강퇴 시 호출 (커밋 이후 해당 사용자의 알림을 다시 계산)
+     */
+    public void refreshUser(Long userId) {
+        afterCommit(() -> pendingUserIds.add(userId));
+    }
+
+    /**
+     * 팀 삭제 시 호출 (커밋 이후 해당 팀 일정의 알림을 모두 제거)
+     */
+    public void removeTeam(Long teamId) {
+        afterCommit(() -> pendingRemovedTeamIds.add(teamId));
+    }
+
+    /**
+     * 적재 기간과 변경분을 반영한 뒤 휠을 현재 시각까지 진행하고, 알림 시각이 된 항목을 전송
+     */
+    public void tick() {
+        synchronized (this) {
+            if (wheel == null) {
+                return; // 아직 적재 전
+            }
+        }
+        refillIfDue(LocalDateTime.now());
+        applyPendingChanges();
+
+        List<ScheduleReminder> due;
+        synchronized (this) {
+            due = wheel.advanceTo(toMillis(LocalDateTime.now()));
+            due.forEach(this::unindex);
+        }
+        if (!due.isEmpty()) {
+            send(due);
+        }
+    }
+
+    public synchronized int size() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    /**
+     * 다음 적재 시각이 되면 이전 적재 기간의 끝부터 현재 + LOAD_WINDOW까지의 알림을 휠에 추가
+     */
+    private void refillIfDue(LocalDateTime now) {
+        LocalDateTime from;
+        synchronized (this) {
+            if (now.isBefore(nextRefillAt)) {
+                return;
+            }
+            from = loadedUntil;
+        }
+        LocalDateTime until = now.plus(LOAD_WINDOW);
+        List<ScheduleReminderTarget> targets = loadTargets(from, until);
+        synchronized (this) {
+            loadedUntil = until;
+            nextRefillAt = now.plus(REFILL_INTERVAL);
+            register(targets);
+        }
+        log.debug("스케줄 사전 알림 기간 적재: {} ~ {}, {}건", from, until, targets.size());
+    }
+
+    /**
+     * 알림 시각이 [from, until)인 사전 알림 계산
+     * 알림 시각은 시작 일시보다 알림 시간만큼 앞서므로, 시작 일시가 until + 가장 긴 알림 시간 이전인 일정까지 조회합니다.
+     */
+    private List<ScheduleReminderTarget> loadTargets(LocalDateTime from, LocalDateTime until) {
+        Integer maxMinutes = scheduleAttendeeRepository.findMaxPreNotificationMinutes(from);
+        if (maxMinutes == null) {
+            return List.of(); // 설정된 알림 시간이 없음
+        }
+        List<Object[]> rows = scheduleAttendeeRepository.findPreNotificationTargetsStartingBetween(
+                from, until.plusMinutes(Math.max(maxMinutes, 0)));
+        long fromMillis = toMillis(from);
+        return resolveTargets(rows).stream()
+                .filter(target -> target.fireAtMillis() >= fromMillis)
+                .toList();
+    }
+
+    private void applyPendingChanges() {
+        Set<Long> teamIds = drain(pendingRemovedTeamIds);
+        Set<Long> scheduleIds = drain(pendingScheduleIds);
+        Set<Long> userIds = drain(pendingUserIds);
+        if (teamIds.isEmpty() && scheduleIds.isEmpty() && userIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        if (!scheduleIds.isEmpty()) {
+            rows.addAll(scheduleAttendeeRepository.findPreNotificationTargetsByScheduleIds(now, scheduleIds));
+        }
+        if (!userIds.isEmpty()) {
+            rows.addAll(scheduleAttendeeRepository.findPreNotificationTargetsByUserIds(now, userIds));
+        }
+        List<ScheduleReminderTarget> targets = resolveTargets(rows);
+
+        synchronized (this) {
+            if (!teamIds.isEmpty()) {
+                List<ScheduleReminder> removed = new ArrayList<>();
+                wheel.cancelIf(reminder -> {
+                    if (teamIds.contains(reminder.teamId())) {
+                        removed.add(reminder);
+                        return true;
+                    }
+                    return false;
+                });
+                removed.forEach(this::unindex);
+            }
+            scheduleIds.forEach(scheduleId -> cancelAll(remindersBySchedule.get(scheduleId)));
+            userIds.forEach(userId -> cancelAll(remindersByUser.get(userId)));
+            register(targets);
+        }
+        log.debug("스케줄 사전 알림 갱신: scheduleIds={}, userIds={}, teamIds={}", scheduleIds, userIds, teamIds);
+    }
+
+    /**
+     * 참석자 행과 알림 설정으로 실제 알림 시각 목록 계산
+     * (스케줄별 설정 우선, 없으면 팀 설정, 그다음 개인 설정의 알림 시간을 사용)
+     */
+    private List<ScheduleReminderTarget> resolveTargets(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> teamIds = new HashSet<>();
+        for (Object[] row : rows) {
+            teamIds.add((Long) row[1]);
+            userIds.add((Long) row[4]);
+        }
+
+        Map<Long, Map<Long, NotificationSetting>> teamSettings = new HashMap<>();
+        for (NotificationSetting setting : notificationSettingRepository.findByUserIdInAndTeamIdIn(userIds, teamIds)) {
+            teamSettings.computeIfAbsent(setting.getUser().getId(), id -> new HashMap<>())
+                    .put(setting.getTeam().getId(), setting);
+        }
+        Map<Long, PersonalNotificationSetting> personalSettings = new HashMap<>();
+        for (PersonalNotificationSetting setting : personalNotificationSettingRepository.findByUserIdIn(userIds)) {
+            personalSettings.put(setting.getUser().getId(), setting);
+        }
+
+        List<ScheduleReminderTarget> targets = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long scheduleId = (Long) row[0];
+            Long teamId = (Long) row[1];
+            LocalDateTime startAt = (LocalDateTime) row[2];
+            Integer[] scheduleMinutes = (Integer[]) row[3];
+            Long userId = (Long) row[4];
+
+            Integer[] minutes = resolveMinutes(
+                    scheduleMinutes,
+                    teamSettings.getOrDefault(userId, Map.of()).get(teamId),
+                    personalSettings.get(userId)
+            );
+            if (minutes == null) {
+                continue;
+            }
+            for (Integer minutesBefore : minutes) {
+                if (minutesBefore == null || minutesBefore < 0) {
+                    continue;
+                }
+                targets.add(new ScheduleReminderTarget(
+                        new ScheduleReminder(scheduleId, teamId, userId, minutesBefore, startAt),
+                        toMillis(startAt.minusMinutes(minutesBefore))
+                ));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 알림 시간 결정 (알림이 꺼져 있거나 설정된 시간이 없으면 null)
+     */
+    private static Integer[] resolveMinutes(Integer[] scheduleMinutes,
+                                            NotificationSetting teamSetting,
+                                            PersonalNotificationSetting personalSetting) {
+        if (teamSetting != null
+                && (Boolean.FALSE.equals(teamSetting.getEnableTeamAlarm())
+                || Boolean.FALSE.equals(teamSetting.getEnableSchedulePreNotification()))) {
+            return null; // 팀 알림 또는 스케줄 사전 알림이 꺼져 있음
+        }
+        if (personalSetting != null
+                && (Boolean.FALSE.equals(personalSetting.getEnableAllPersonalNotifications())
+                || Boolean.FALSE.equals(personalSetting.getEnableSchedulePreNotification()))) {
+            return null; // 개인 알림이 모두 꺼져 있거나 스케줄 사전 알림이 꺼져 있음
+        }
+
+        if (scheduleMinutes != null && scheduleMinutes.length > 0) {
+            return scheduleMinutes;
+        }
+        if (teamSetting != null && Boolean.TRUE.equals(teamSetting.getEnableSchedulePreNotification())) {
+            Integer[] minutes = teamSetting.getSchedulePreNotificationMinutes();
+            if (minutes != null && minutes.length > 0) {
+                return minutes;
+            }
+        }
+        if (personalSetting != null && Boolean.TRUE.equals(personalSetting.getEnableSchedulePreNotification())) {
+            Integer[] minutes = personalSetting.getSchedulePreNotificationMinutes();
+            if (minutes != null && minutes.length > 0) {
+                return minutes;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 휠에 등록 (이미 지난 알림 시각과 적재 기간 이후의 알림 시각은 건너뜀, this로 동기화된 상태에서 호출)
+     * 적재 기간 이후의 알림은 다음 기간 적재 때 등록됩니다.
+     */
+    private void register(List<ScheduleReminderTarget> targets) {
+        long loadedUntilMillis = toMillis(loadedUntil);
+        for (ScheduleReminderTarget target : targets) {
+            if (target.fireAtMillis() >= loadedUntilMillis) {
+                continue;
+            }
+            ScheduleReminder reminder = target.reminder();
+            if (wheel.schedule(reminder, target.fireAtMillis(), reminder)) {
+                remindersBySchedule.computeIfAbsent(reminder.scheduleId(), id -> new HashSet<>()).add(reminder);
+                remindersByUser.computeIfAbsent(reminder.userId(), id -> new HashSet<>()).add(reminder);
+            }
+        }
+    }
+
+    private void cancelAll(Set<ScheduleReminder> reminders) {
+        if (reminders == null) {
+            return;
+        }
+        for (ScheduleReminder reminder : List.copyOf(reminders)) {
+            wheel.cancel(reminder);
+            unindex(reminder);
+        }
+    }
+
+    private void unindex(ScheduleReminder reminder) {
+        removeFromIndex(remindersBySchedule, reminder.scheduleId(), reminder);
+        removeFromIndex(remindersByUser, reminder.userId(), reminder);
+    }
+
+    private static void removeFromIndex(Map<Long, Set<ScheduleReminder>> index, Long id, ScheduleReminder reminder) {
+        Set<ScheduleReminder> reminders = index.get(id);
+        if (reminders != null && reminders.remove(reminder) && reminders.isEmpty()) {
+            index.remove(id);
+        }
+    }
+
+    /**
+     * 알림 시각이 된 항목 전송 (같은 일정·같은 알림 시간끼리 토큰을 모아 한 번에 전송)
+     */
+    private void send(List<ScheduleReminder> due) {
+        try {
+            Set<Long> scheduleIds = new HashSet<>();
+            Set<Long> userIds = new HashSet<>();
+            for (ScheduleReminder reminder : due) {
+                scheduleIds.add(reminder.scheduleId());
+                userIds.add(reminder.userId());
+            }
+
+            Map<Long, Object[]> scheduleInfo = new HashMap<>();
+            for (Object[] row : scheduleRepository.findTitleAndTeamNameByIdIn(scheduleIds)) {
+                scheduleInfo.put((Long) row[0], row);
+            }
+            Map<Long, String> tokens = deviceTokenService.getDeviceTokensByUserIds(userIds);
+
+            Map<Long, Map<Integer, List<String>>> tokensByScheduleAndMinutes = new LinkedHashMap<>();
+            Map<Long, LocalDateTime> startAtBySchedule = new HashMap<>();
+            for (ScheduleReminder reminder : due) {
+                startAtBySchedule.put(reminder.scheduleId(), reminder.startAt());
+                String token = tokens.get(reminder.userId());
+                if (token == null || !scheduleInfo.containsKey(reminder.scheduleId())) {
+                    continue;
+                }
+                tokensByScheduleAndMinutes
+                        .computeIfAbsent(reminder.scheduleId(), id -> new LinkedHashMap<>())
+                        .computeIfAbsent(reminder.minutesBefore(), minutes -> new ArrayList<>())
+                        .add(token);
+            }
+
+            tokensByScheduleAndMinutes.forEach((scheduleId, byMinutes) -> {
+                Object[] info = scheduleInfo.get(scheduleId);
+                byMinutes.forEach((minutesBefore, deviceTokens) -> {
+                    expoNotificationService.sendSchedulePreNotification(deviceTokens, scheduleId,
+                            startAtBySchedule.get(scheduleId), (String) info[1], (String) info[2], minutesBefore);
+                    log.info("스케줄 사전 알림 전송: scheduleId={}, minutesBefore={}, recipients={}",
+                            scheduleId, minutesBefore, deviceTokens.size());
+                });
+            });
+        } catch (Exception e) {
+            log.error("스케줄 사전 알림 전송 중 오류 발생", e);
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> pending) {
+        Set<Long> drained = new HashSet<>();
+        for (Long id : pending) {
+            if (pending.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 휠에 보관하는 알림 한 건 (키와 값으로 함께 사용, startAt은 알림 이벤트 식별자에 사용)
+     */
+    private record ScheduleReminder(Long scheduleId, Long teamId, Long userId, int minutesBefore, LocalDateTime startAt) {
+    }
+
+    private record ScheduleReminderTarget(ScheduleReminder reminder, long fireAtMillis) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.entity.*;
+import com.example.demo.domain.enums.ChangeEntityType;
+import com.example.demo.domain.enums.NotificationKind;
 import com.example.demo.domain.enums.RepeatType;
 import com.example.demo.domain.model.ScheduleRepeatRule;
 import com.example.demo.dto.schedule.ScheduleCreateRequest;
+import com.example.demo.dto.schedule.ScheduleOccurrenceResponse;
 import com.example.demo.dto.schedule.ScheduleResponse;
 import com.example.demo.dto.schedule.ScheduleResponseDto;
 import com.example.demo.dto.schedule.ScheduleUpdateRequest;
@@ -12,13 +15,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -32,9 +44,22 @@ public class ScheduleService {
     private final SchedulePositionRepository schedulePositionRepository;
     private final UserRepository userRepository;
     private final ExpoNotificationService expoNotificationService;
-    private final DeviceTokenService deviceTokenService;
-    private final NotificationSettingRepository notificationSettingRepository;
+    private final RecipientResolver recipientResolver;
     private final AlertService alertService;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private final TeamScheduleCache teamScheduleCache;
+    private final ChangeLogService changeLogService;
+    private final TeamContentVersionService teamContentVersionService;
+    private final CalendarDayCountService calendarDayCountService;
+    private final ScheduleConflictService scheduleConflictService;
+    private final ScheduleReminderService scheduleReminderService;
+
+    // expand=true 조회 시 반복 일정 하나당 전개할 최대 발생 수
+    private static final int MAX_EXPANDED_OCCURRENCES_PER_SCHEDULE = 1000;
+
+    // 스트리밍 조회 시 한 번에 하이드레이션하는 스케줄 수
+    private static final int STREAM_CHUNK_SIZE = 200;
 
     public enum RepeatScope {
         THIS_ONLY, FOLLOWING, ALL
@@ -54,10 +79,10 @@ public class ScheduleService {
         User creator = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("USER_NOT_FOUND: 사용자를 찾을 수 없습니다."));
 
-        String normalizedRepeatType = normalizeRepeatType(request.getRepeatType());
+        String normalizedRepeatType = ScheduleRepeatRule.normalizeRepeatType(request.getRepeatType());
 
         // 반복 설정 유효성 검증 (NONE 조합, interval 등)
-        validateRepeatConfig(
+        ScheduleRepeatRule.validateRepeatConfig(
                 normalizedRepeatType,
                 request.getRepeatInterval(),
                 request.getRepeatEndDate(),
@@ -68,7 +93,7 @@ public class ScheduleService {
         // repeatWeekDays를 repeatDays로 변환 (NONE이 아닐 때만)
         Integer[] repeatDays = null;
         if (!normalizedRepeatType.equals(RepeatType.NONE.name())) {
-            repeatDays = convertWeekDaysToNumbers(request.getRepeatWeekDays(), normalizedRepeatType, request.getStartAt());
+            repeatDays = ScheduleRepeatRule.convertWeekDaysToNumbers(request.getRepeatWeekDays(), normalizedRepeatType, request.getStartAt());
         }
         
         // repeatUseDate가 true이고 MONTHLY/YEARLY면 시작일의 날짜를 repeatMonthDay로 설정
@@ -91,12 +116,16 @@ public class ScheduleService {
                 .repeatInterval(request.getRepeatInterval() == null ? 1 : request.getRepeatInterval())
                 .repeatDays(repeatDays)
                 .repeatMonthDay(repeatMonthDay)
-                .repeatEndDate(toRepeatEndDate(request.getRepeatEndDate()))
+                .repeatEndDate(ScheduleRepeatRule.toRepeatEndDate(request.getRepeatEndDate()))
                 .notificationMinutes(request.getNotificationMinutes())
                 .createdBy(creator)
                 .build();
 
         schedule = scheduleRepository.save(schedule);
+        scheduleOccurrenceService.rematerialize(schedule);
+        teamScheduleCache.invalidateTeam(schedule.getTeam().getId());
+        Long changeId = changeLogService.recordUpsert(schedule.getTeam().getId(), ChangeEntityType.SCHEDULE, schedule.getId());
+        teamContentVersionService.bump(schedule.getTeam().getId());
 
         // 참석자 설정 (선택)
         List<TeamMember> members = new ArrayList<>();
@@ -169,9 +198,11 @@ public class ScheduleService {
                 schedulePositionRepository.saveAll(schedulePositions);
             }
         }
+        calendarDayCountService.addSchedule(schedule.getId());
+        scheduleReminderService.refreshSchedule(schedule.getId());
 
         // 스케줄 생성 알림 전송 (생성자 제외)
-        sendScheduleChangeNotification(schedule, userId);
+        sendScheduleChangeNotification(schedule, changeId, userId);
 
         // 알림함용 Alert 생성
         try {
@@ -180,7 +211,7 @@ public class ScheduleService {
             // 알림 생성 실패해도 스케줄 생성은 성공 처리
         }
 
-        return toResponse(schedule);
+        return withConflicts(toResponse(schedule));
     }
 
     @Transactional
@@ -194,6 +225,9 @@ public class ScheduleService {
             throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 일정을 수정할 수 없습니다.");
         }
 
+        // 변경 전 발생/참석자/포지션 기준 달력 집계 제외 (수정 후 다시 추가)
+        calendarDayCountService.removeSchedule(scheduleId);
+
         // 간단화를 위해 현재 버전에서는 ALL만 처리, 기타 scope는 추후 확장
         if (scope == null || scope == RepeatScope.ALL) {
             applyScheduleUpdate(schedule, request);
@@ -203,6 +237,12 @@ public class ScheduleService {
             applyScheduleUpdate(schedule, request);
             scheduleRepository.save(schedule);
         }
+        scheduleOccurrenceService.rematerialize(schedule);
+        calendarDayCountService.addSchedule(schedule.getId());
+        scheduleReminderService.refreshSchedule(schedule.getId());
+        teamScheduleCache.invalidateTeam(schedule.getTeam().getId());
+        Long changeId = changeLogService.recordUpsert(schedule.getTeam().getId(), ChangeEntityType.SCHEDULE, schedule.getId());
+        teamContentVersionService.bump(schedule.getTeam().getId());
 
         // 지연 로딩된 연관 관계 초기화 (LazyInitializationException 방지)
         schedule.getTeam().getName(); // team 초기화
@@ -215,11 +255,11 @@ public class ScheduleService {
         }
 
         // 스케줄 수정 알림 전송 (수정자 제외)
-        sendScheduleChangeNotification(schedule, userId);
+        sendScheduleChangeNotification(schedule, changeId, userId);
 
         // TODO: 스케줄 수정 시 참석자/포지션 변경에 따른 Alert 추가는 추후 확장 가능
 
-        return toResponse(schedule);
+        return withConflicts(toResponse(schedule));
     }
 
     @Transactional
@@ -232,7 +272,13 @@ public class ScheduleService {
         }
 
         // 단순 구현: scope에 상관없이 해당 스케줄만 삭제
+        calendarDayCountService.removeSchedule(schedule.getId());
+        scheduleOccurrenceService.removeOccurrences(schedule.getId());
         scheduleRepository.delete(schedule);
+        scheduleReminderService.refreshSchedule(schedule.getId());
+        teamScheduleCache.invalidateTeam(schedule.getTeam().getId());
+        changeLogService.recordDelete(schedule.getTeam().getId(), ChangeEntityType.SCHEDULE, schedule.getId());
+        teamContentVersionService.bump(schedule.getTeam().getId());
     }
 
     /**
@@ -281,18 +327,23 @@ public class ScheduleService {
             Long teamId,
             LocalDateTime start,
             LocalDateTime end,
-            List<Long> positionIds
+            List<Long> positionIds,
+            boolean expand
     ) {
         if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
             throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 팀 일정을 조회할 수 없습니다.");
         }
-        List<ScheduleResponse> responses;
-        if (positionIds != null && !positionIds.isEmpty()) {
-            responses = scheduleRepository.findByTeamAndPositionsAndRange(teamId, positionIds, start, end);
-        } else {
-            responses = scheduleRepository.findByTeamAndRange(teamId, start, end);
-        }
-        return enrichScheduleResponses(responses);
+        // 발생 테이블이 조회 기간을 모두 포함하면 인덱스 범위 스캔으로 처리
+        if (expand && scheduleOccurrenceService.covers(end)) {
+            List<ScheduleOccurrenceResponse> occurrences = positionIds != null && !positionIds.isEmpty()
+                    ? scheduleOccurrenceRepository.findByTeamAndPositionsAndRange(teamId, positionIds, start, end)
+                    : scheduleOccurrenceRepository.findByTeamAndRange(teamId, start, end);
+            return hydrateOccurrences(occurrences);
+        }
+        // 팀 일정 캐시(구간 트리)에서 조회, 없으면 팀 전체 일정을 읽어 적재
+        List<ScheduleResponseDto> schedules = teamScheduleCache.findByRange(teamId, start, end, positionIds,
+                () -> enrichScheduleResponses(scheduleRepository.findResponsesByTeamId(teamId)));
+        return expand ? expandOccurrences(schedules, start, end) : schedules;
     }
 
     @Transactional(readOnly = true)
@@ -301,7 +352,8 @@ public class ScheduleService {
             LocalDateTime start,
             LocalDateTime end,
             Long teamId,
-            List<Long> positionIds
+            List<Long> positionIds,
+            boolean expand
     ) {
         List<TeamMember> members;
         if (teamId != null) {
@@ -318,6 +370,15 @@ public class ScheduleService {
         if (memberIds.isEmpty()) {
             return List.of();
         }
+
+        // 발생 테이블이 조회 기간을 모두 포함하면 인덱스 범위 스캔으로 처리
+        if (expand && scheduleOccurrenceService.covers(end)) {
+            List<Long> teamIds = members.stream().map(member -> member.getTeam().getId()).distinct().toList();
+            List<ScheduleOccurrenceResponse> occurrences = positionIds != null && !positionIds.isEmpty()
+                    ? scheduleOccurrenceRepository.findByAttendeesAndPositionsAndRange(teamIds, memberIds, positionIds, start, end)
+                    : scheduleOccurrenceRepository.findByAttendeesAndRange(teamIds, memberIds, start, end);
+            return hydrateOccurrences(occurrences);
+        }
         
         List<ScheduleResponse> responses;
         if (teamId != null) {
@@ -335,7 +396,132 @@ public class ScheduleService {
                 responses = scheduleRepository.findByAttendeesAndRange(memberIds, start, end);
             }
         }
-        return enrichScheduleResponses(responses);
+        List<ScheduleResponseDto> schedules = enrichScheduleResponses(responses);
+        return expand ? expandOccurrences(schedules, start, end) : schedules;
+    }
+
+    /**
+     * 팀 일정 스트리밍 조회 (stream=true 응답용)
+     * 시작 시간 순의 ID 커서를 조금씩 읽어 STREAM_CHUNK_SIZE 단위로 하이드레이션한 뒤 chunkConsumer에 넘깁니다.
+     * 전체 결과를 메모리에 올리지 않으므로 조회 기간이 넓어도 요청당 메모리 사용량이 일정합니다.
+     */
+    @Transactional(readOnly = true)
+    public void streamTeamSchedules(
+            Long userId,
+            Long teamId,
+            LocalDateTime start,
+            LocalDateTime end,
+            List<Long> positionIds,
+            boolean expand,
+            Consumer<List<ScheduleResponseDto>> chunkConsumer
+    ) {
+        if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
+            throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 팀 일정을 조회할 수 없습니다.");
+        }
+        // 발생 테이블이 조회 기간을 모두 포함하면 일반 조회와 같이 발생 단위 커서로 읽음 (전체 시작 시간 순 유지)
+        if (expand && scheduleOccurrenceService.covers(end)) {
+            try (Stream<Long> occurrenceIds = positionIds != null && !positionIds.isEmpty()
+                    ? scheduleOccurrenceRepository.streamIdsByTeamAndPositionsAndRange(teamId, positionIds, start, end)
+                    : scheduleOccurrenceRepository.streamIdsByTeamAndRange(teamId, start, end)) {
+                streamOccurrencesInChunks(occurrenceIds, chunkConsumer);
+            }
+            return;
+        }
+        try (Stream<Long> scheduleIds = positionIds != null && !positionIds.isEmpty()
+                ? scheduleRepository.streamIdsByTeamAndPositionsAndRange(teamId, positionIds, start, end)
+                : scheduleRepository.streamIdsByTeamAndRange(teamId, start, end)) {
+            streamInChunks(scheduleIds, start, end, expand, chunkConsumer);
+        }
+    }
+
+    /**
+     * 내 일정 스트리밍 조회 (stream=true 응답용, 동작 방식은 streamTeamSchedules와 동일)
+     */
+    @Transactional(readOnly = true)
+    public void streamMySchedules(
+            Long userId,
+            LocalDateTime start,
+            LocalDateTime end,
+            Long teamId,
+            List<Long> positionIds,
+            boolean expand,
+            Consumer<List<ScheduleResponseDto>> chunkConsumer
+    ) {
+        List<TeamMember> members;
+        if (teamId != null) {
+            // 팀멤버 ID가 팀마다 다르므로 해당 팀의 멤버 ID만으로 팀 필터링이 됩니다.
+            TeamMember member = teamMemberRepository.findByTeamIdAndUserId(teamId, userId)
+                    .orElseThrow(() -> new IllegalArgumentException("FORBIDDEN: 해당 팀의 팀원이 아닙니다."));
+            members = List.of(member);
+        } else {
+            members = teamMemberRepository.findByUserId(userId);
+        }
+        List<Long> memberIds = members.stream().map(TeamMember::getId).toList();
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        if (expand && scheduleOccurrenceService.covers(end)) {
+            List<Long> teamIds = members.stream().map(member -> member.getTeam().getId()).distinct().toList();
+            try (Stream<Long> occurrenceIds = positionIds != null && !positionIds.isEmpty()
+                    ? scheduleOccurrenceRepository.streamIdsByAttendeesAndPositionsAndRange(teamIds, memberIds, positionIds, start, end)
+                    : scheduleOccurrenceRepository.streamIdsByAttendeesAndRange(teamIds, memberIds, start, end)) {
+                streamOccurrencesInChunks(occurrenceIds, chunkConsumer);
+            }
+            return;
+        }
+
+        try (Stream<Long> scheduleIds = positionIds != null && !positionIds.isEmpty()
+                ? scheduleRepository.streamIdsByAttendeesAndPositionsAndRange(memberIds, positionIds, start, end)
+                : scheduleRepository.streamIdsByAttendeesAndRange(memberIds, start, end)) {
+            streamInChunks(scheduleIds, start, end, expand, chunkConsumer);
+        }
+    }
+
+    /**
+     * ID 커서를 청크 단위로 읽어 응답 DTO로 변환
+     * 청크 안에서는 커서 순서(시작 시간 순)를 유지하며, expand=true이면 청크별로 발생을 전개합니다.
+     * (발생 테이블 범위를 벗어난 기간의 expand=true 조회에만 쓰이며, 이때 전체 순서는 보장되지 않습니다)
+     */
+    private void streamInChunks(Stream<Long> scheduleIds,
+                                LocalDateTime start,
+                                LocalDateTime end,
+                                boolean expand,
+                                Consumer<List<ScheduleResponseDto>> chunkConsumer) {
+        List<Long> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        Iterator<Long> iterator = scheduleIds.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() < STREAM_CHUNK_SIZE && iterator.hasNext()) {
+                continue;
+            }
+            Map<Long, ScheduleResponseDto> schedulesById = enrichScheduleResponses(scheduleRepository.findResponsesByIdIn(chunk))
+                    .stream()
+                    .collect(Collectors.toMap(ScheduleResponseDto::getId, Function.identity()));
+            List<ScheduleResponseDto> schedules = chunk.stream()
+                    .map(schedulesById::get)
+                    .filter(schedule -> schedule != null)
+                    .toList();
+            chunkConsumer.accept(expand ? expandOccurrences(schedules, start, end) : schedules);
+            chunk.clear();
+        }
+    }
+
+    /**
+     * 발생 ID 커서를 청크 단위로 읽어 응답 DTO로 변환 (커서가 시작 시간 순이므로 청크를 이어도 전체 순서가 유지됨)
+     */
+    private void streamOccurrencesInChunks(Stream<Long> occurrenceIds,
+                                           Consumer<List<ScheduleResponseDto>> chunkConsumer) {
+        List<Long> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        Iterator<Long> iterator = occurrenceIds.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() < STREAM_CHUNK_SIZE && iterator.hasNext()) {
+                continue;
+            }
+            chunkConsumer.accept(hydrateOccurrences(scheduleOccurrenceRepository.findResponsesByIdIn(chunk)));
+            chunk.clear();
+        }
     }
 
     private void applyScheduleUpdate(Schedule schedule, ScheduleUpdateRequest request) {
@@ -348,12 +534,12 @@ public class ScheduleService {
         if (request.getUrl() != null) schedule.setUrl(request.getUrl());
 
         if (request.getRepeatType() != null) {
-            String normalizedRepeatType = normalizeRepeatType(request.getRepeatType());
+            String normalizedRepeatType = ScheduleRepeatRule.normalizeRepeatType(request.getRepeatType());
             schedule.setRepeatType(normalizedRepeatType);
             
             // repeatWeekDays를 repeatDays로 변환
             if (request.getRepeatWeekDays() != null) {
-                Integer[] repeatDays = convertWeekDaysToNumbers(request.getRepeatWeekDays(), normalizedRepeatType, schedule.getStartAt());
+                Integer[] repeatDays = ScheduleRepeatRule.convertWeekDaysToNumbers(request.getRepeatWeekDays(), normalizedRepeatType, schedule.getStartAt());
                 schedule.setRepeatDays(repeatDays);
             }
             
@@ -365,7 +551,7 @@ public class ScheduleService {
             }
         }
         if (request.getRepeatInterval() != null) schedule.setRepeatInterval(request.getRepeatInterval());
-        if (request.getRepeatEndDate() != null) schedule.setRepeatEndDate(toRepeatEndDate(request.getRepeatEndDate()));
+        if (request.getRepeatEndDate() != null) schedule.setRepeatEndDate(ScheduleRepeatRule.toRepeatEndDate(request.getRepeatEndDate()));
         if (request.getNotificationMinutes() != null) schedule.setNotificationMinutes(request.getNotificationMinutes());
 
         // 참석자 및 포지션 갱신은 단순화를 위해 전체 교체
@@ -464,11 +650,6 @@ public class ScheduleService {
                 .build();
     }
 
-    private LocalDateTime toRepeatEndDate(LocalDate repeatEndDate) {
-        if (repeatEndDate == null) return null;
-        return repeatEndDate.atTime(23, 59, 59);
-        }
-
     /**
      * 스케줄 생성 요청 기본 필드 검증
      */
@@ -491,118 +672,65 @@ public class ScheduleService {
     }
 
     /**
-     * 반복 설정 유효성 검증
+     * ID 목록으로 일정 응답 조회 (델타 동기화용, 존재하지 않는 ID는 제외)
      */
-    private void validateRepeatConfig(String normalizedRepeatType,
-                                      Integer repeatInterval,
-                                      LocalDate repeatEndDate,
-                                      Boolean repeatUseDate,
-                                      List<String> repeatWeekDays) {
-        // NONE인데 다른 반복 필드들이 들어오면 에러
-        if (RepeatType.NONE.name().equals(normalizedRepeatType)) {
-            if (repeatInterval != null || repeatEndDate != null ||
-                    (repeatUseDate != null && repeatUseDate) ||
-                    (repeatWeekDays != null && !repeatWeekDays.isEmpty())) {
-                throw new IllegalArgumentException("INVALID_REPEAT_CONFIG: repeatType이 NONE일 때는 반복 관련 필드를 보낼 수 없습니다.");
-            }
-        }
-
-        // interval이 0 이하이면 에러
-        if (repeatInterval != null && repeatInterval <= 0) {
-            throw new IllegalArgumentException("INVALID_REPEAT_CONFIG: repeatInterval은 1 이상이어야 합니다.");
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getSchedulesByIds(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
         }
+        return enrichScheduleResponses(scheduleRepository.findResponsesByIdIn(scheduleIds));
     }
 
-    private String normalizeRepeatType(String repeatType) {
-        if (repeatType == null || repeatType.isBlank()) {
-            return RepeatType.NONE.name();
-        }
-        try {
-            return RepeatType.valueOf(repeatType.toUpperCase()).name();
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(
-                String.format("INVALID_REPEAT_TYPE: 유효하지 않은 반복 유형입니다. 가능한 값: NONE, DAILY, WEEKLY, MONTHLY, YEARLY (입력값: %s)", repeatType)
-            );
+    /**
+     * 목록 조회 결과에 포지션/참석자/반복 설정을 채워 응답 DTO로 변환
+     * 스케줄 개수와 무관하게 고정된 횟수(포지션, 참석자, 반복 필드 각 1회)의 쿼리로 일괄 조회합니다.
+     */
+    private List<ScheduleResponseDto> enrichScheduleResponses(List<ScheduleResponse> responses) {
+        if (responses.isEmpty()) {
+            return List.of();
         }
-    }
 
+        List<Long> scheduleIds = responses.stream()
+                .map(ScheduleResponse::getId)
+                .distinct()
+                .toList();
 
-    /**
-     * 한글 요일 문자열 리스트를 숫자 배열로 변환
-     * "월", "화", "수", "목", "금", "토", "일" -> [1, 2, 3, 4, 5, 6, 0]
-     */
-    private Integer[] convertWeekDaysToNumbers(List<String> weekDays, String repeatType, LocalDateTime startAt) {
-        if (weekDays == null || weekDays.isEmpty()) {
-            // 매주 반복인데 요일이 지정되지 않은 경우, 시작일의 요일을 기본값으로 사용
-            if (repeatType != null && repeatType.equals(RepeatType.WEEKLY.name())) {
-                int dayOfWeekValue = startAt.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-                int zeroBasedDay = dayOfWeekValue == 7 ? 0 : dayOfWeekValue; // 0=일요일, 1=월요일, ...
-                return new Integer[]{zeroBasedDay};
-            }
-            return null;
-        }
-
-        java.util.Map<String, Integer> weekDayMap = new java.util.HashMap<>();
-        weekDayMap.put("일", 0);
-        weekDayMap.put("월", 1);
-        weekDayMap.put("화", 2);
-        weekDayMap.put("수", 3);
-        weekDayMap.put("목", 4);
-        weekDayMap.put("금", 5);
-        weekDayMap.put("토", 6);
-
-        return weekDays.stream()
-                .map(weekDayMap::get)
-                .filter(java.util.Objects::nonNull)
-                .toArray(Integer[]::new);
-    }
+        // 포지션 ID(orderIndex 순) 및 색상 일괄 조회
+        Map<Long, List<Long>> positionIdsBySchedule = new HashMap<>();
+        Map<Long, Map<Long, String>> positionColorsBySchedule = new HashMap<>();
+        for (Object[] row : scheduleRepository.findPositionInfoByScheduleIds(scheduleIds)) {
+            Long scheduleId = (Long) row[0];
+            Long positionId = (Long) row[1];
+            String colorHex = (String) row[2];
+            positionIdsBySchedule.computeIfAbsent(scheduleId, id -> new ArrayList<>()).add(positionId);
+            positionColorsBySchedule.computeIfAbsent(scheduleId, id -> new LinkedHashMap<>()).putIfAbsent(positionId, colorHex);
+        }
 
-    /**
-     * 숫자 배열을 한글 요일 문자열 리스트로 변환
-     * [1, 2, 3] -> ["월", "화", "수"]
-     */
-    private List<String> convertNumbersToWeekDays(Integer[] numbers) {
-        if (numbers == null || numbers.length == 0) {
-            return null;
+        // 참석자 팀멤버 ID 일괄 조회
+        Map<Long, List<Long>> attendeeMemberIdsBySchedule = new HashMap<>();
+        for (Object[] row : scheduleAttendeeRepository.findScheduleIdAndMemberIdByScheduleIds(scheduleIds)) {
+            attendeeMemberIdsBySchedule.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
         }
 
-        String[] weekDays = {"일", "월", "화", "수", "목", "금", "토"};
-        return java.util.Arrays.stream(numbers)
-                .filter(n -> n >= 0 && n < 7)
-                .map(n -> weekDays[n])
-                .collect(java.util.stream.Collectors.toList());
-    }
+        // 반복/알림 설정은 값으로만 일괄 조회 (스트리밍 조회 중 엔티티가 영속성 컨텍스트에 쌓이지 않도록)
+        Map<Long, Object[]> repeatSettingsBySchedule = new HashMap<>();
+        for (Object[] row : scheduleRepository.findRepeatSettingsByIds(scheduleIds)) {
+            repeatSettingsBySchedule.put((Long) row[0], row);
+        }
 
-    private List<ScheduleResponseDto> enrichScheduleResponses(List<ScheduleResponse> responses) {
         return responses.stream()
                 .map(response -> {
-                    // positionIds 및 대표 포지션 컬러 가져오기
-                    List<Long> positionIds = scheduleRepository.findPositionIdsByScheduleId(response.getId());
-                    
-                    // 포지션 ID와 색상 매핑 생성
-                    Map<Long, String> positionColors = null;
-                    String representativeColorHex = null;
-                    if (!positionIds.isEmpty()) {
-                        List<Position> positions = positionRepository.findAllById(positionIds);
-                        positionColors = positions.stream()
-                                .collect(Collectors.toMap(
-                                        Position::getId,
-                                        Position::getColorHex,
-                                        (existing, replacement) -> existing
-                                ));
-                        representativeColorHex = positions.stream()
-                                .filter(p -> p.getId().equals(positionIds.get(0)))
-                                .findFirst()
-                                .map(Position::getColorHex)
-                                .orElse(null);
-                    }
+                    List<Long> positionIds = positionIdsBySchedule.getOrDefault(response.getId(), List.of());
+
+                    // 포지션 ID와 색상 매핑 및 대표 포지션 컬러
+                    Map<Long, String> positionColors = positionColorsBySchedule.get(response.getId());
+                    String representativeColorHex = positionColors == null ? null : positionColors.get(positionIds.get(0));
+
+                    List<Long> attendeeMemberIds = attendeeMemberIdsBySchedule.getOrDefault(response.getId(), List.of());
 
-                    // 참석자 팀멤버 ID 목록 가져오기
-                    List<Long> attendeeMemberIds = scheduleAttendeeRepository.findMemberIdsByScheduleId(response.getId());
-                    
                     // 반복 설정 원본 필드 + 요약 정보 계산
-                    // 엔티티를 직접 조회하여 반복 필드 가져오기 (배열 타입 매핑 문제 방지)
-                    Schedule scheduleEntity = scheduleRepository.findById(response.getId()).orElse(null);
+                    Object[] repeatSettings = repeatSettingsBySchedule.get(response.getId());
                     String repeatType = null;
                     Integer repeatInterval = null;
                     Integer repeatMonthDay = null;
@@ -611,17 +739,19 @@ public class ScheduleService {
                     List<String> repeatWeekDays = null;
                     String repeatSummary = "반복 없음";
                     
-                    if (scheduleEntity != null) {
-                        repeatType = scheduleEntity.getRepeatType();
-                        repeatInterval = scheduleEntity.getRepeatInterval();
-                        Integer[] repeatDaysArray = scheduleEntity.getRepeatDays();
-                        repeatMonthDay = scheduleEntity.getRepeatMonthDay();
-                        LocalDateTime repeatEndDateDateTime = scheduleEntity.getRepeatEndDate();
+                    Integer[] notificationMinutes = null;
+                    if (repeatSettings != null) {
+                        repeatType = (String) repeatSettings[1];
+                        repeatInterval = (Integer) repeatSettings[2];
+                        Integer[] repeatDaysArray = (Integer[]) repeatSettings[3];
+                        repeatMonthDay = (Integer) repeatSettings[4];
+                        LocalDateTime repeatEndDateDateTime = (LocalDateTime) repeatSettings[5];
+                        notificationMinutes = (Integer[]) repeatSettings[6];
                         repeatEndDate = repeatEndDateDateTime != null ? repeatEndDateDateTime.toLocalDate() : null;
                         
                         // repeatDays를 repeatWeekDays로 변환
                         if (repeatDaysArray != null && repeatDaysArray.length > 0) {
-                            repeatWeekDays = convertNumbersToWeekDays(repeatDaysArray);
+                            repeatWeekDays = ScheduleRepeatRule.convertNumbersToWeekDays(repeatDaysArray);
                         }
                         
                         // repeatMonthDay가 있으면 repeatUseDate = true
@@ -664,15 +794,101 @@ public class ScheduleService {
                             .repeatInterval(repeatInterval)
                             .repeatEndDate(repeatEndDate)
                             .repeatUseDate(repeatUseDate)
+                            .repeatMonthDay(repeatMonthDay)
                             .repeatWeekDays(repeatWeekDays)
                             .repeatSummary(repeatSummary)
                             .attendeeMemberIds(attendeeMemberIds)
-                            .notificationMinutes(scheduleEntity != null ? scheduleEntity.getNotificationMinutes() : null)
+                            .notificationMinutes(notificationMinutes)
                             .build();
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 반복 일정을 조회 기간 내 실제 발생 단위로 전개
+     * 각 발생은 원본 일정의 복사본으로, startAt/endAt만 해당 발생 시각으로 바뀌고 seriesStartAt에 원본 시작일시가 담깁니다.
+     * 반복하지 않는 일정은 그대로 유지되며, 결과는 시작일시 순으로 정렬됩니다.
+     */
+    private List<ScheduleResponseDto> expandOccurrences(List<ScheduleResponseDto> schedules,
+                                                        LocalDateTime start,
+                                                        LocalDateTime end) {
+        List<ScheduleResponseDto> occurrences = new ArrayList<>();
+        for (ScheduleResponseDto schedule : schedules) {
+            String repeatType = schedule.getRepeatType();
+            if (repeatType == null || repeatType.equals(RepeatType.NONE.name())) {
+                occurrences.add(schedule);
+                continue;
+            }
+
+            Integer[] repeatDays = ScheduleRepeatRule.convertWeekDaysToNumbers(schedule.getRepeatWeekDays(), repeatType, schedule.getStartAt());
+            ScheduleRepeatRule rule = new ScheduleRepeatRule(
+                    RepeatType.valueOf(repeatType),
+                    schedule.getRepeatInterval(),
+                    repeatDays == null ? null : List.of(repeatDays),
+                    schedule.getRepeatMonthDay(),
+                    schedule.getRepeatEndDate()
+            );
+            Duration duration = Duration.between(schedule.getStartAt(), schedule.getEndAt());
+            for (LocalDateTime occurrenceStart : rule.occurrenceStartsOverlapping(
+                    schedule.getStartAt(), duration, start, end, MAX_EXPANDED_OCCURRENCES_PER_SCHEDULE)) {
+                occurrences.add(schedule.toBuilder()
+                        .startAt(occurrenceStart)
+                        .endAt(occurrenceStart.plus(duration))
+                        .seriesStartAt(schedule.getStartAt())
+                        .build());
+            }
+        }
+        occurrences.sort(Comparator.comparing(ScheduleResponseDto::getStartAt)
+                .thenComparing(ScheduleResponseDto::getId));
+        return occurrences;
+    }
+
+    /**
+     * 발생 테이블 조회 결과를 응답 DTO로 변환
+     * 일정 정보는 발생에 포함된 일정 ID로 한 번만 일괄 조회하고, 발생마다 시작/종료일시만 바꿔 복사합니다.
+     */
+    private List<ScheduleResponseDto> hydrateOccurrences(List<ScheduleOccurrenceResponse> occurrences) {
+        if (occurrences.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> scheduleIds = occurrences.stream()
+                .map(ScheduleOccurrenceResponse::getScheduleId)
+                .distinct()
+                .toList();
+        Map<Long, ScheduleResponseDto> schedulesById = enrichScheduleResponses(scheduleRepository.findResponsesByIdIn(scheduleIds))
+                .stream()
+                .collect(Collectors.toMap(ScheduleResponseDto::getId, schedule -> schedule));
+
+        List<ScheduleResponseDto> responses = new ArrayList<>(occurrences.size());
+        for (ScheduleOccurrenceResponse occurrence : occurrences) {
+            ScheduleResponseDto schedule = schedulesById.get(occurrence.getScheduleId());
+            if (schedule == null) {
+                continue;
+            }
+            String repeatType = schedule.getRepeatType();
+            if (repeatType == null || repeatType.equals(RepeatType.NONE.name())) {
+                responses.add(schedule);
+                continue;
+            }
+            responses.add(schedule.toBuilder()
+                    .startAt(occurrence.getStartAt())
+                    .endAt(occurrence.getEndAt())
+                    .seriesStartAt(schedule.getStartAt())
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 생성/수정 응답에 참석자 일정 충돌 경고를 추가 (충돌이 있어도 저장은 그대로 유지)
+     */
+    private ScheduleResponseDto withConflicts(ScheduleResponseDto response) {
+        return response.toBuilder()
+                .conflicts(scheduleConflictService.findConflictsForSchedule(response.getId(), response.getAttendeeMemberIds()))
+                .build();
+    }
+
     private ScheduleResponseDto toResponse(Schedule schedule) {
         ScheduleRepeatRule rule = ScheduleRepeatRule.fromEntityFields(
                 schedule.getRepeatType(),
@@ -710,7 +926,7 @@ public class ScheduleService {
         // repeatDays를 repeatWeekDays로 변환
         List<String> repeatWeekDays = null;
         if (schedule.getRepeatDays() != null && schedule.getRepeatDays().length > 0) {
-            repeatWeekDays = convertNumbersToWeekDays(schedule.getRepeatDays());
+            repeatWeekDays = ScheduleRepeatRule.convertNumbersToWeekDays(schedule.getRepeatDays());
         }
 
         // repeatMonthDay가 있으면 repeatUseDate = true
@@ -741,6 +957,7 @@ public class ScheduleService {
                 .repeatInterval(schedule.getRepeatInterval())
                 .repeatEndDate(repeatEndDate)
                 .repeatUseDate(repeatUseDate)
+                .repeatMonthDay(schedule.getRepeatMonthDay())
                 .repeatWeekDays(repeatWeekDays)
                 .repeatSummary(rule.toSummary())
                 .attendeeMemberIds(attendeeMemberIds)
@@ -751,9 +968,10 @@ public class ScheduleService {
     /**
      * 스케줄 변경 알림 전송
      * @param schedule 스케줄
+     * @param changeId 이 변경의 변경 이력 ID (알림 중복 적재 방지용 이벤트 식별자)
      * @param excludeUserId 알림을 보내지 않을 사용자 ID (생성자/수정자)
      */
-    private void sendScheduleChangeNotification(Schedule schedule, Long excludeUserId) {
+    private void sendScheduleChangeNotification(Schedule schedule, Long changeId, Long excludeUserId) {
         if (schedule.getAttendees() == null || schedule.getAttendees().isEmpty()) {
             return;
         }
@@ -762,30 +980,18 @@ public class ScheduleService {
         String scheduleTitle = schedule.getTitle();
         String teamName = schedule.getTeam().getName();
 
-        // 참석자 중 알림을 받을 사용자 목록 수집
-        List<String> deviceTokens = new ArrayList<>();
+        // 참석자 중 생성자/수정자를 제외한 후보 (알림 설정/토큰은 한 번에 판정)
+        Set<Long> candidateUserIds = new LinkedHashSet<>();
         for (ScheduleAttendee attendee : schedule.getAttendees()) {
             Long userId = attendee.getMember().getUser().getId();
-            
-            // 생성자/수정자 제외
-            if (userId.equals(excludeUserId)) {
-                continue;
-            }
-
-            // 알림 설정 확인
-            boolean shouldNotify = notificationSettingRepository.findByUserIdAndTeamId(userId, teamId)
-                    .map(setting -> Boolean.TRUE.equals(setting.getEnableTeamAlarm()) &&
-                            Boolean.TRUE.equals(setting.getEnableScheduleChangeNotification()))
-                    .orElse(true); // 설정이 없으면 기본값으로 알림 전송
-
-            if (shouldNotify) {
-                deviceTokenService.getDeviceTokenByUserId(userId)
-                        .ifPresent(deviceTokens::add);
+            if (!userId.equals(excludeUserId)) {
+                candidateUserIds.add(userId);
             }
         }
 
+        List<String> deviceTokens = recipientResolver.resolveTokens(teamId, candidateUserIds, NotificationKind.SCHEDULE_CHANGE);
         if (!deviceTokens.isEmpty()) {
-            expoNotificationService.sendScheduleChangeNotification(deviceTokens, scheduleTitle, teamName);
+            expoNotificationService.sendScheduleChangeNotification(deviceTokens, schedule.getId(), changeId, scheduleTitle, teamName);
         }
     }
 
@@ -38,6 +38,7 @@ public class SocialAuthService {
     private final TeamRepository teamRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final DeviceTokenService deviceTokenService;
+    private final ScheduleReminderService scheduleReminderService;
 
     @Transactional
     public AuthTokensResponse loginWithGoogle(SocialLoginRequest request) throws FirebaseAuthException {
@@ -491,6 +492,7 @@ public class SocialAuthService {
         List<Team> ownedTeams = teamRepository.findAllByOwnerId(userId);
         for (Team team : ownedTeams) {
             teamRepository.delete(team);
+            scheduleReminderService.removeTeam(team.getId());
             log.info("회원탈퇴: 팀장 소유 팀 자동 삭제 완료 teamId={}", team.getId());
         }
 
@@ -502,6 +504,7 @@ public class SocialAuthService {
 
         // 사용자 삭제 (CASCADE로 관련 데이터 자동 삭제)
         userRepository.delete(user);
+        scheduleReminderService.refreshUser(userId);
         log.info("회원탈퇴 완료: userId={}", userId);
     }
 }
@@ -0,0 +1,179 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.ChangeEntityType;
+import com.example.demo.domain.entity.TeamMember;
+import com.example.demo.domain.enums.ChangeOperation;
+import com.example.demo.domain.model.ChangeCursor;
+import com.example.demo.dto.notice.NoticeResponse;
+import com.example.demo.dto.schedule.ScheduleResponseDto;
+import com.example.demo.dto.sync.ChangesResponseDto;
+import com.example.demo.dto.sync.DeletedEntityDto;
+import com.example.demo.dto.todo.TodoAssigneeDto;
+import com.example.demo.dto.todo.TodoResponseDto;
+import com.example.demo.repository.ChangeLogRepository;
+import com.example.demo.repository.NoticeRepository;
+import com.example.demo.repository.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 델타 동기화 서비스
+ * 사용자가 속한 팀들의 change_log를 커서 이후부터 읽어, 항목별 마지막 변경만 골라 현재 상태(또는 툼스톤)로 돌려줍니다.
+ * 일정/투두는 /me/schedules, /me/todos와 같이 내가 참석자/담당자인 항목만 보내며, 변경 후 내가 빠진 항목은 툼스톤으로 보냅니다.
+ * (삭제된 일정/투두는 참석 여부를 알 수 없으므로 팀 단위로 툼스톤을 보냅니다.)
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    // 한 번의 응답에 담는 최대 변경 이력 수 (초과 시 hasMore=true)
+    private static final int MAX_CHANGES_PER_PAGE = 1000;
+
+    @Value("${sync.change-log.retention-days:30}")
+    private int retentionDays;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final ScheduleService scheduleService;
+    private final TodoService todoService;
+    private final NoticeRepository noticeRepository;
+
+    /**
+     * 커서 이후 변경 조회
+     * since가 없으면 변경 없이 현재 시점의 커서만 반환합니다. (클라이언트는 커서를 먼저 받은 뒤 전체 목록을 조회)
+     */
+    @Transactional(readOnly = true)
+    public ChangesResponseDto getChanges(Long userId, String since) {
+        long now = Instant.now().getEpochSecond();
+        // 이 값 이상의 txid를 가진 트랜잭션은 아직 진행 중일 수 있으므로 이번 응답에서 제외하고 다음 요청에서 읽습니다.
+        String upperTxid = changeLogRepository.findSnapshotXmin();
+        ChangeCursor latest = new ChangeCursor(upperTxid, 0, now);
+
+        if (since == null || since.isBlank()) {
+            return emptyResponse(latest, false);
+        }
+
+        ChangeCursor cursor = ChangeCursor.parse(since);
+        if (cursor.getIssuedAt() < now - retentionDays * 86400L) {
+            // 보존 기간이 지나 정리된 이력이 있을 수 있음 → 전체 재조회 안내
+            return emptyResponse(latest, true);
+        }
+
+        List<TeamMember> members = teamMemberRepository.findByUserId(userId);
+        List<Long> teamIds = members.stream()
+                .map(member -> member.getTeam().getId())
+                .distinct()
+                .toList();
+        Set<Long> memberIds = members.stream().map(TeamMember::getId).collect(Collectors.toSet());
+        if (teamIds.isEmpty()) {
+            return emptyResponse(latest, false);
+        }
+
+        List<Object[]> rows = changeLogRepository.findChangesAfter(
+                teamIds, cursor.getTxid(), cursor.getSeq(), upperTxid, MAX_CHANGES_PER_PAGE + 1);
+        boolean hasMore = rows.size() > MAX_CHANGES_PER_PAGE;
+        if (hasMore) {
+            rows = rows.subList(0, MAX_CHANGES_PER_PAGE);
+        }
+
+        // 항목별 마지막 변경만 남김 (row: [seq, txid, entity_type, entity_id, operation, team_id])
+        Map<String, Object[]> latestByEntity = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            latestByEntity.put(row[2] + ":" + row[3], row);
+        }
+
+        List<Long> scheduleIds = new ArrayList<>();
+        List<Long> todoIds = new ArrayList<>();
+        List<Long> noticeIds = new ArrayList<>();
+        List<DeletedEntityDto> deleted = new ArrayList<>();
+        for (Object[] row : latestByEntity.values()) {
+            ChangeEntityType entityType = ChangeEntityType.valueOf((String) row[2]);
+            Long entityId = ((Number) row[3]).longValue();
+            if (ChangeOperation.valueOf((String) row[4]) == ChangeOperation.DELETE) {
+                deleted.add(tombstone(entityType, entityId, ((Number) row[5]).longValue()));
+                continue;
+            }
+            switch (entityType) {
+                case SCHEDULE -> scheduleIds.add(entityId);
+                case TODO -> todoIds.add(entityId);
+                case NOTICE -> noticeIds.add(entityId);
+            }
+        }
+
+        // 남은 변경이 있으면 마지막으로 읽은 이력 위치, 없으면 현재 시점까지 읽은 것으로 커서를 옮깁니다.
+        ChangeCursor next = latest;
+        if (hasMore) {
+            Object[] last = rows.get(rows.size() - 1);
+            next = new ChangeCursor((String) last[1], ((Number) last[0]).longValue(), now);
+        }
+
+        // 생성/수정 이력이 있지만 이미 삭제된 항목은 조회되지 않으며, 삭제 이력이 이후 응답에서 전달됩니다.
+        // 내가 참석자/담당자가 아닌 일정/투두는 내 목록에 없어야 하므로 툼스톤으로 보냄
+        List<ScheduleResponseDto> schedules = new ArrayList<>();
+        for (ScheduleResponseDto schedule : scheduleService.getSchedulesByIds(scheduleIds)) {
+            if (schedule.getAttendeeMemberIds() != null
+                    && schedule.getAttendeeMemberIds().stream().anyMatch(memberIds::contains)) {
+                schedules.add(schedule);
+            } else {
+                deleted.add(tombstone(ChangeEntityType.SCHEDULE, schedule.getId(), schedule.getTeamId()));
+            }
+        }
+        List<TodoResponseDto> todos = new ArrayList<>();
+        for (TodoResponseDto todo : todoService.getTodosByIds(todoIds)) {
+            if (isAssignee(todo, memberIds)) {
+                todos.add(todo);
+            } else {
+                deleted.add(tombstone(ChangeEntityType.TODO, todo.getId(), todo.getTeamId()));
+            }
+        }
+        List<NoticeResponse> notices = noticeIds.isEmpty() ? List.of() : noticeRepository.findResponsesByIdIn(noticeIds);
+
+        return ChangesResponseDto.builder()
+                .cursor(next.encode())
+                .hasMore(hasMore)
+                .resetRequired(false)
+                .schedules(schedules)
+                .todos(todos)
+                .notices(notices)
+                .deleted(deleted)
+                .build();
+    }
+
+    private static boolean isAssignee(TodoResponseDto todo, Set<Long> memberIds) {
+        if (todo.getAssignees() != null) {
+            return todo.getAssignees().stream().map(TodoAssigneeDto::getMemberId).filter(Objects::nonNull).anyMatch(memberIds::contains);
+        }
+        return todo.getAssigneeMemberId() != null && memberIds.contains(todo.getAssigneeMemberId());
+    }
+
+    private static DeletedEntityDto tombstone(ChangeEntityType entityType, Long id, Long teamId) {
+        return DeletedEntityDto.builder()
+                .entityType(entityType)
+                .id(id)
+                .teamId(teamId)
+                .build();
+    }
+
+    private ChangesResponseDto emptyResponse(ChangeCursor cursor, boolean resetRequired) {
+        return ChangesResponseDto.builder()
+                .cursor(cursor.encode())
+                .hasMore(false)
+                .resetRequired(resetRequired)
+                .schedules(List.of())
+                .todos(List.of())
+                .notices(List.of())
+                .deleted(List.of())
+                .build();
+    }
+}
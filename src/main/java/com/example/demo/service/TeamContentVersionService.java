@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 팀 콘텐츠 버전 관리 (조건부 GET용 ETag)
+ * 팀 조회 응답에 영향을 주는 모든 변경은 같은 트랜잭션에서 bump를 호출해야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamContentVersionService {
+
+    private final TeamRepository teamRepository;
+
+    @Transactional
+    public void bump(Long teamId) {
+        teamRepository.incrementContentVersion(teamId);
+    }
+
+    /**
+     * 사용자가 속한 모든 팀의 버전 증가 (팀원 목록/일정 응답에 사용자 이름·프로필이 포함되므로)
+     */
+    @Transactional
+    public void bumpForUser(Long userId) {
+        teamRepository.incrementContentVersionByUserId(userId);
+    }
+
+    /**
+     * 팀 조회 응답의 강한 ETag 생성
+     * 버전과 함께 리소스 종류, 사용자(isOwner 등 사용자별 필드), 조회 조건을 해시해 같은 버전이라도 응답별로 구분합니다.
+     * @return 팀원이 아니거나 팀이 없으면 null (일반 조회 경로에서 오류 응답)
+     */
+    @Transactional(readOnly = true)
+    public String getETag(Long teamId, Long userId, String resource, Object... params) {
+        Long version = teamRepository.findContentVersionForMember(teamId, userId);
+        if (version == null) {
+            return null;
+        }
+        String key = resource + ":" + teamId + ":" + userId + ":" + Arrays.deepToString(params);
+        String hash = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+        return "\"" + version + "-" + hash + "\"";
+    }
+
+    /**
+     * 사용자 기준(/me) 조회 응답의 강한 ETag 생성
+     * 속한 모든 팀의 버전을 함께 해시하므로 어느 팀이 바뀌거나 팀 가입/탈퇴가 있어도 값이 달라집니다.
+     * @return 속한 팀이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public String getUserETag(Long userId, String resource, Object... params) {
+        String versions = teamRepository.findContentVersionsByUserId(userId);
+        if (versions == null) {
+            return null;
+        }
+        String key = resource + ":" + userId + ":" + versions + ":" + Arrays.deepToString(params);
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)).substring(0, 16) + "\"";
+    }
+}
@@ -21,6 +21,8 @@ public class TeamNotificationSettingService {
     private final NotificationSettingRepository notificationSettingRepository;
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
+    private final ScheduleReminderService scheduleReminderService;
+    private final TodoReminderService todoReminderService;
 
     /**
      * 팀 알림 설정 조회
@@ -94,6 +96,9 @@ public class TeamNotificationSettingService {
         }
 
         setting = notificationSettingRepository.save(setting);
+        // 스케줄 사전 알림/투두 마감 알림 여부와 시간이 바뀔 수 있으므로 해당 사용자의 알림 다시 계산
+        scheduleReminderService.refreshUser(userId);
+        todoReminderService.refreshUser(userId, teamId);
         return notificationSettingRepository.findResponseByUserIdAndTeamId(userId, teamId)
                 .orElseThrow(() -> new IllegalStateException("알림 설정 저장 후 조회 실패"));
     }
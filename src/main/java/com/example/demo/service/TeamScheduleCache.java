@@ -0,0 +1,186 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.RepeatType;
+import com.example.demo.domain.model.IntervalTree;
+import com.example.demo.dto.schedule.ScheduleResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 팀별 일정 구간 트리 캐시 (팀 캘린더 기간 조회용)
+ * 팀의 전체 일정을 한 번 읽어 유효 구간(반복 종료일 포함) 기준 구간 트리로 보관하고, 기간/포지션 조회를 메모리에서 처리합니다.
+ * 최대 팀 수를 넘으면 가장 오래 사용되지 않은 팀부터 제거(LRU)하며, 다른 인스턴스의 변경에 대비해 TTL이 지나면 다시 읽습니다.
+ */
+@Component
+public class TeamScheduleCache {
+
+    private final int maxTeams;
+    private final Duration ttl;
+
+    // accessOrder=true → 조회 시 최근 사용 순으로 재배치 (LRU)
+    private final LinkedHashMap<Long, CachedTeam> entries;
+
+    // 팀별 무효화 세대 번호: 로딩 중 무효화가 일어나면 로딩 결과를 저장하지 않음
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public TeamScheduleCache(
+            MeterRegistry meterRegistry,
+            @Value("${schedule.cache.max-teams:1000}") int maxTeams,
+            @Value("${schedule.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.maxTeams = maxTeams;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedTeam> eldest) {
+                if (size() > TeamScheduleCache.this.maxTeams) {
+                    evictionCounter.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hitCounter = Counter.builder("schedule.team.cache.hits")
+                .description("팀 일정 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("schedule.team.cache.misses")
+                .description("팀 일정 캐시 미스 수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("schedule.team.cache.evictions")
+                .description("용량 초과로 제거된 팀 수")
+                .register(meterRegistry);
+        Gauge.builder("schedule.team.cache.size", this, TeamScheduleCache::size)
+                .description("캐시된 팀 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 팀의 기간 내 일정 조회 (positionIds가 있으면 해당 포지션 중 하나라도 포함한 일정만)
+     * 캐시에 없으면 loader로 팀 전체 일정을 읽어 구간 트리를 만든 뒤 저장합니다.
+     */
+    public List<ScheduleResponseDto> findByRange(Long teamId,
+                                                 LocalDateTime start,
+                                                 LocalDateTime end,
+                                                 List<Long> positionIds,
+                                                 Supplier<List<ScheduleResponseDto>> loader) {
+        IntervalTree<ScheduleResponseDto> tree = getOrLoad(teamId, loader);
+        List<ScheduleResponseDto> schedules = tree.findOverlapping(toMicros(start), toMicros(end));
+        if (positionIds == null || positionIds.isEmpty()) {
+            return schedules;
+        }
+        return schedules.stream()
+                .filter(schedule -> schedule.getPositionIds() != null
+                        && schedule.getPositionIds().stream().anyMatch(positionIds::contains))
+                .toList();
+    }
+
+    /**
+     * 팀 캐시 무효화 (트랜잭션 안에서 호출되면 커밋 이후에 무효화)
+     */
+    public void invalidateTeam(Long teamId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(teamId);
+                }
+            });
+        }
+        evict(teamId);
+    }
+
+    /**
+     * 전체 캐시 무효화 (여러 팀에 걸친 정보, 예: 사용자 이름 변경 시)
+     */
+    public void invalidateAll() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+        clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private IntervalTree<ScheduleResponseDto> getOrLoad(Long teamId, Supplier<List<ScheduleResponseDto>> loader) {
+        long generation;
+        synchronized (this) {
+            CachedTeam cached = entries.get(teamId);
+            if (cached != null && cached.loadedAt().plus(ttl).isAfter(LocalDateTime.now())) {
+                hitCounter.increment();
+                return cached.tree();
+            }
+            generation = generations.getOrDefault(teamId, 0L);
+        }
+        missCounter.increment();
+
+        IntervalTree<ScheduleResponseDto> tree = buildTree(loader.get());
+        synchronized (this) {
+            if (generations.getOrDefault(teamId, 0L) == generation) {
+                entries.put(teamId, new CachedTeam(tree, LocalDateTime.now()));
+            }
+        }
+        return tree;
+    }
+
+    private synchronized void evict(Long teamId) {
+        generations.merge(teamId, 1L, Long::sum);
+        entries.remove(teamId);
+    }
+
+    private synchronized void clear() {
+        entries.keySet().forEach(teamId -> generations.merge(teamId, 1L, Long::sum));
+        entries.clear();
+    }
+
+    /**
+     * 일정의 유효 구간으로 구간 트리 생성 (V22 effective_span과 같은 규칙)
+     * 반복 없음: [startAt, endAt], 반복: [startAt, 반복 종료일 23:59:59] (종료일이 없으면 상한 없음)
+     */
+    private IntervalTree<ScheduleResponseDto> buildTree(List<ScheduleResponseDto> schedules) {
+        IntervalTree.Builder<ScheduleResponseDto> builder = IntervalTree.builder();
+        for (ScheduleResponseDto schedule : schedules) {
+            long spanStart = toMicros(schedule.getStartAt());
+            long spanEnd = Math.max(spanStart, toMicros(schedule.getEndAt()));
+            String repeatType = schedule.getRepeatType();
+            if (repeatType != null && !repeatType.equals(RepeatType.NONE.name())) {
+                spanEnd = schedule.getRepeatEndDate() == null
+                        ? Long.MAX_VALUE
+                        : Math.max(spanEnd, toMicros(schedule.getRepeatEndDate().atTime(23, 59, 59)));
+            }
+            builder.add(spanStart, spanEnd, schedule);
+        }
+        return builder.build();
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private record CachedTeam(IntervalTree<ScheduleResponseDto> tree, LocalDateTime loadedAt) {
+    }
+}
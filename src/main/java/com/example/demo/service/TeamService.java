@@ -5,6 +5,7 @@ import com.example.demo.domain.entity.Position;
 import com.example.demo.domain.entity.Team;
 import com.example.demo.domain.entity.TeamMember;
 import com.example.demo.domain.entity.User;
+import com.example.demo.domain.enums.NotificationKind;
 import com.example.demo.repository.PositionRepository;
 import com.example.demo.repository.TeamMemberRepository;
 import com.example.demo.repository.TeamRepository;
@@ -50,10 +51,16 @@ public class TeamService {
     private final TeamPermissionService teamPermissionService;
     private final FirebaseStorageService firebaseStorageService;
     private final ExpoNotificationService expoNotificationService;
-    private final DeviceTokenService deviceTokenService;
     private final NotificationSettingRepository notificationSettingRepository;
+    private final RecipientResolver recipientResolver;
     private final NoticeRepository noticeRepository;
     private final AlertService alertService;
+    private final TeamScheduleCache teamScheduleCache;
+    private final TeamContentVersionService teamContentVersionService;
+    private final CalendarDayCountService calendarDayCountService;
+    private final TodoWeeklyRollupService todoWeeklyRollupService;
+    private final ScheduleReminderService scheduleReminderService;
+    private final TodoReminderService todoReminderService;
     
     /**
      * 팀 생성
@@ -202,6 +209,10 @@ public class TeamService {
         
         team = teamRepository.save(team);
         
+        // 일정 응답에 포함된 팀 이름이 바뀔 수 있으므로 팀 일정 캐시 무효화
+        teamScheduleCache.invalidateTeam(teamId);
+        teamContentVersionService.bump(teamId);
+        
         return toDetailResponse(team, userId);
     }
     
@@ -257,6 +268,8 @@ public class TeamService {
                 .orElseThrow(() -> new IllegalArgumentException("TEAM_NOT_FOUND: 팀을 찾을 수 없습니다."));
         
         teamRepository.delete(team);
+        teamScheduleCache.invalidateTeam(teamId);
+        scheduleReminderService.removeTeam(teamId);
         
         return TeamDeleteResponse.builder()
                 .teamId(teamId)
@@ -339,6 +352,7 @@ public class TeamService {
                 .build();
         
         member = teamMemberRepository.save(member);
+        teamContentVersionService.bump(team.getId());
         
         // 팀 알림 설정 생성 (없는 경우에만)
         if (!notificationSettingRepository.findByUserIdAndTeamId(userId, team.getId()).isPresent()) {
@@ -354,7 +368,7 @@ public class TeamService {
                 .orElseThrow(() -> new IllegalStateException("팀원 저장 후 조회 실패"));
         
         // 팀 참여 FCM 알림 전송 (참여한 사용자 제외)
-        sendTeamMemberNotification(team, user.getName(), userId, true);
+        sendTeamMemberNotification(team, member.getId(), user.getName(), userId, true);
 
         // 알림함용 Alert 생성 (기존 팀원 전체, 새로 들어온 사람 제외)
         try {
@@ -393,11 +407,17 @@ public class TeamService {
         String memberName = member.getUser().getName();
         Team team = member.getTeam();
         
-        // 멤버 삭제
+        // 멤버 삭제 (참석자에서도 빠지므로 팀 일정 캐시 무효화)
         teamMemberRepository.delete(member);
+        teamScheduleCache.invalidateTeam(teamId);
+        teamContentVersionService.bump(teamId);
+        calendarDayCountService.removeMember(member.getId());
+        todoWeeklyRollupService.removeMember(member.getId());
+        scheduleReminderService.refreshUser(memberUserId);
+        todoReminderService.refreshUser(memberUserId);
         
         // 멤버 퇴장 FCM 알림 전송 (퇴장한 사용자 제외)
-        sendTeamMemberNotification(team, memberName, memberUserId, false);
+        sendTeamMemberNotification(team, memberId, memberName, memberUserId, false);
         
         return TeamLeaveResponse.builder()
                 .teamId(teamId)
@@ -525,6 +545,7 @@ public class TeamService {
         }
         
         member = teamMemberRepository.save(member);
+        teamContentVersionService.bump(teamId);
         
         return teamMemberRepository.findResponseById(member.getId())
                 .orElseThrow(() -> new IllegalStateException("팀원 저장 후 조회 실패"));
@@ -556,11 +577,17 @@ public class TeamService {
         Long memberUserId = member.getUser().getId();
         String memberName = member.getUser().getName();
         
-        // 팀원 삭제
+        // 팀원 삭제 (참석자에서도 빠지므로 팀 일정 캐시 무효화)
         teamMemberRepository.delete(member);
+        teamScheduleCache.invalidateTeam(teamId);
+        teamContentVersionService.bump(teamId);
+        calendarDayCountService.removeMember(member.getId());
+        todoWeeklyRollupService.removeMember(member.getId());
+        scheduleReminderService.refreshUser(memberUserId);
+        todoReminderService.refreshUser(memberUserId);
         
         // 팀원 삭제 FCM 알림 전송 (삭제된 사용자 제외)
-        sendTeamMemberNotification(team, memberName, memberUserId, false);
+        sendTeamMemberNotification(team, memberId, memberName, memberUserId, false);
         
         return TeamMemberDeleteResponse.builder()
                 .teamId(teamId)
@@ -572,44 +599,19 @@ public class TeamService {
     /**
      * 팀 멤버 입장/퇴장 FCM 알림 전송
      * @param team 팀
+     * @param memberId 입장/퇴장한 팀 멤버 ID (알림 중복 적재 방지용 이벤트 식별자)
      * @param memberName 멤버 이름
      * @param excludeUserId 알림을 보내지 않을 사용자 ID (입장/퇴장한 사용자)
      * @param isJoin 입장 여부 (true: 입장, false: 퇴장)
      */
-    private void sendTeamMemberNotification(Team team, String memberName, Long excludeUserId, boolean isJoin) {
-        Long teamId = team.getId();
+    private void sendTeamMemberNotification(Team team, Long memberId, String memberName, Long excludeUserId, boolean isJoin) {
+        // 입장/퇴장한 사용자를 제외한 팀 멤버 중 알림을 받을 사용자의 토큰 (한 번의 쿼리)
+        List<String> deviceTokens = recipientResolver.resolveTeamTokens(
+                team.getId(), excludeUserId, NotificationKind.TEAM_MEMBER);
         String teamName = team.getName();
-        
-        // 팀의 모든 멤버 조회
-        List<TeamMember> teamMembers = teamMemberRepository.findByTeamId(teamId);
-        if (teamMembers == null || teamMembers.isEmpty()) {
-            return;
-        }
-        
-        // 알림을 받을 사용자 목록 수집
-        List<String> deviceTokens = new ArrayList<>();
-        for (TeamMember teamMember : teamMembers) {
-            Long userId = teamMember.getUser().getId();
-            
-            // 입장/퇴장한 사용자 제외
-            if (userId.equals(excludeUserId)) {
-                continue;
-            }
-            
-            // 알림 설정 확인
-            boolean shouldNotify = notificationSettingRepository.findByUserIdAndTeamId(userId, teamId)
-                    .map(setting -> Boolean.TRUE.equals(setting.getEnableTeamAlarm()) &&
-                            Boolean.TRUE.equals(setting.getEnableTeamMemberNotification()))
-                    .orElse(true); // 설정이 없으면 기본값으로 알림 전송
-            
-            if (shouldNotify) {
-                deviceTokenService.getDeviceTokenByUserId(userId)
-                        .ifPresent(deviceTokens::add);
-            }
-        }
-        
+
         if (!deviceTokens.isEmpty()) {
-            expoNotificationService.sendTeamMemberNotification(deviceTokens, memberName, teamName, isJoin);
+            expoNotificationService.sendTeamMemberNotification(deviceTokens, memberId, memberName, teamName, isJoin);
         }
     }
     
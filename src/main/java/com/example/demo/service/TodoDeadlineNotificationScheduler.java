@@ -1,217 +1,149 @@
 package com.example.demo.service;
 
-import com.example.demo.domain.entity.*;
-import com.example.demo.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 투두 마감 알림을 자동으로 전송하는 스케줄러
- * 1분마다 실행되어 마감 시간이 가까운 투두에 대해 알림을 전송합니다.
+ * 1분마다 실행되어 알림 시각이 된 todo_reminder 행만 부분 인덱스로 선점해 전송합니다.
+ * 선점은 알림 시각 순으로 CLAIM_BATCH_SIZE건씩 나눠 진행하므로, 실행 비용은 다가오는 투두 수가 아니라 실제 전송할 알림 수에 비례합니다.
+ * 알림 예정은 앞으로 일정 기간 안의 것만 적재되어 있으므로 1시간마다 적재 기간을 이어서 채웁니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TodoDeadlineNotificationScheduler {
 
-    private final TodoRepository todoRepository;
-    private final NotificationSettingRepository notificationSettingRepository;
-    private final PersonalNotificationSettingRepository personalNotificationSettingRepository;
+    // 한 번에 선점하는 알림 수
+    private static final int CLAIM_BATCH_SIZE = 200;
+
+    // 알림 시각이 이보다 오래 지난 알림은 전송하지 않고 건너뜀 (서버 중단 후 재기동 등)
+    private static final int STALE_MINUTES = 5;
+
+    // 전송 완료된 알림 예정 보존 기간
+    private static final int SENT_RETENTION_DAYS = 1;
+
+    private final TodoReminderService todoReminderService;
     private final DeviceTokenService deviceTokenService;
     private final ExpoNotificationService expoNotificationService;
     private final AlertService alertService;
 
-    // 중복 알림 방지를 위한 캐시: (todoId, userId, minutesBefore) -> 마지막 알림 시간
-    private final Map<String, LocalDateTime> sentNotifications = new ConcurrentHashMap<>();
-
     /**
      * 투두 마감 알림 전송 스케줄러
-     * 1분마다 실행되어 마감 시간이 가까운 투두를 찾아 알림을 전송합니다.
+     * 알림 시각이 된 알림이 남아 있는 동안 배치 단위로 선점/전송을 반복합니다.
      */
     @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional(readOnly = true)
     public void sendTodoDeadlineNotifications() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime oneHourLater = now.plusHours(1);
-
-            // 마감 시간이 1시간 이내인 모든 투두 조회 (TODO 상태만)
-            List<Todo> upcomingTodos = todoRepository.findUpcomingTodosForNotification(now, oneHourLater);
-
-            if (upcomingTodos.isEmpty()) {
-                return;
-            }
-
-            log.debug("투두 마감 알림 체크: {}개의 투두 발견", upcomingTodos.size());
-
-            for (Todo todo : upcomingTodos) {
-                processTodoDeadlineNotification(todo, now);
-            }
-
-            // 오래된 캐시 정리 (1시간 이상 지난 알림 기록 삭제)
-            cleanupOldNotifications(now);
-
+            List<Object[]> claimed;
+            do {
+                claimed = todoReminderService.claimDue(CLAIM_BATCH_SIZE, STALE_MINUTES);
+                if (!claimed.isEmpty()) {
+                    sendClaimed(claimed);
+                }
+            } while (claimed.size() == CLAIM_BATCH_SIZE);
         } catch (Exception e) {
             log.error("투두 마감 알림 전송 중 오류 발생", e);
         }
     }
 
     /**
-     * 개별 투두에 대한 마감 알림 처리
+     * 다가오는 투두 발생의 알림 예정 적재 (1시간마다, 기동 직후 한 번)
      */
-    private void processTodoDeadlineNotification(Todo todo, LocalDateTime now) {
-        if (todo.getAssignees() == null || todo.getAssignees().isEmpty()) {
-            return;
-        }
-
-        Long teamId = todo.getTeam().getId();
-        String todoTitle = todo.getTitle();
-        String teamName = todo.getTeam().getName();
-        LocalDateTime endAt = todo.getEndAt();
-
-        // 각 담당자에 대해 알림 확인 및 전송
-        for (TodoAttendee attendee : todo.getAssignees()) {
-            TeamMember member = attendee.getMember();
-            User user = member.getUser();
-            Long userId = user.getId();
-
-            // 알림 설정 확인
-            if (!shouldSendNotification(userId, teamId)) {
-                continue;
-            }
-
-            // 알림 시간 목록 가져오기
-            Integer[] notificationMinutes = getNotificationMinutes(userId, teamId);
-            if (notificationMinutes == null || notificationMinutes.length == 0) {
-                continue;
-            }
-
-            // 각 알림 시간에 대해 체크
-            for (Integer minutesBefore : notificationMinutes) {
-                LocalDateTime notificationTime = endAt.minusMinutes(minutesBefore);
-
-                // 알림 시간이 현재 시간과 1분 이내인지 확인 (정확도 보정)
-                if (notificationTime.isAfter(now.minusMinutes(1)) && notificationTime.isBefore(now.plusMinutes(1))) {
-                    // 중복 알림 방지
-                    String notificationKey = generateNotificationKey(todo.getId(), userId, minutesBefore);
-                    if (sentNotifications.containsKey(notificationKey)) {
-                        continue; // 이미 알림을 보냄
-                    }
-
-                    // 알림 전송 (푸시)
-                    sendNotificationToUser(userId, todoTitle, teamName, minutesBefore);
-
-                    // 알림함용 Alert 생성
-                    try {
-                        alertService.createTodoDueTodayAlert(userId, teamId, teamName, user.getName());
-                    } catch (Exception e) {
-                        log.warn("투두 마감 Alert 생성 실패: todoId={}, userId={}, error={}",
-                                todo.getId(), userId, e.getMessage());
-                    }
-
-                    // 알림 기록 저장
-                    sentNotifications.put(notificationKey, now);
-                    log.info("투두 마감 알림 전송: todoId={}, userId={}, minutesBefore={}", 
-                            todo.getId(), userId, minutesBefore);
-                }
-            }
+    @Scheduled(fixedRate = 3600000)
+    public void loadUpcomingReminders() {
+        try {
+            int loaded = todoReminderService.loadUpcoming();
+            log.debug("투두 마감 알림 예정 적재: {}건", loaded);
+        } catch (Exception e) {
+            log.error("투두 마감 알림 예정 적재 중 오류 발생", e);
         }
     }
 
     /**
-     * 알림을 전송해야 하는지 확인
+     * 전송이 끝난 오래된 알림 예정 정리 (매일 새벽 4시 30분)
      */
-    private boolean shouldSendNotification(Long userId, Long teamId) {
-        // 팀 알림 설정 확인
-        Optional<NotificationSetting> teamSetting = notificationSettingRepository.findByUserIdAndTeamId(userId, teamId);
-        if (teamSetting.isPresent()) {
-            NotificationSetting setting = teamSetting.get();
-            if (Boolean.FALSE.equals(setting.getEnableTeamAlarm())) {
-                return false; // 팀 알림이 꺼져 있음
-            }
-            if (Boolean.FALSE.equals(setting.getEnableTodoDeadlineNotification())) {
-                return false; // 투두 마감 알림이 꺼져 있음
-            }
-        }
-
-        // 개인 알림 설정 확인
-        Optional<PersonalNotificationSetting> personalSetting = personalNotificationSettingRepository.findByUserId(userId);
-        if (personalSetting.isPresent()) {
-            PersonalNotificationSetting setting = personalSetting.get();
-            if (Boolean.FALSE.equals(setting.getEnableAllPersonalNotifications())) {
-                // 개인 알림이 모두 꺼져 있으면 팀 설정 무시
-                return false;
-            }
-            if (Boolean.FALSE.equals(setting.getEnableTodoDeadlineNotification())) {
-                return false; // 투두 마감 알림이 꺼져 있음
-            }
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void cleanupSentReminders() {
+        try {
+            int deleted = todoReminderService.deleteSentBefore(LocalDateTime.now().minusDays(SENT_RETENTION_DAYS));
+            log.info("투두 마감 알림 예정 정리 완료: {}건 삭제", deleted);
+        } catch (Exception e) {
+            log.error("투두 마감 알림 예정 정리 중 오류 발생", e);
         }
-
-        return true; // 기본값: 알림 전송
     }
 
     /**
-     * 알림 시간 목록 가져오기 (팀 설정 우선, 없으면 개인 설정)
+     * 선점한 알림 전송 (같은 투두 발생·같은 알림 시간끼리 토큰을 모아 한 번에 전송)
+     * 알림함 Alert는 발생·사용자당 한 번만 만듭니다 (알림 시간을 여러 개 설정해도 한 번).
+     * 행 형식: [todoId, userId, minutesBefore, teamId, todoTitle, teamName, userName, stale, occurrenceEpochSecond, alertPending]
      */
-    private Integer[] getNotificationMinutes(Long userId, Long teamId) {
-        // 팀 알림 설정 확인
-        Optional<NotificationSetting> teamSetting = notificationSettingRepository.findByUserIdAndTeamId(userId, teamId);
-        if (teamSetting.isPresent()) {
-            NotificationSetting setting = teamSetting.get();
-            if (Boolean.TRUE.equals(setting.getEnableTodoDeadlineNotification())) {
-                Integer[] minutes = setting.getTodoDeadlineNotificationMinutes();
-                if (minutes != null && minutes.length > 0) {
-                    return minutes;
-                }
+    private void sendClaimed(List<Object[]> claimed) {
+        List<Object[]> due = new ArrayList<>();
+        for (Object[] row : claimed) {
+            if (Boolean.TRUE.equals(row[7])) {
+                log.debug("오래 지난 투두 마감 알림 건너뜀: todoId={}, userId={}, minutesBefore={}", row[0], row[1], row[2]);
+                continue;
             }
+            due.add(row);
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        for (Object[] row : due) {
+            userIds.add(((Number) row[1]).longValue());
         }
+        Map<Long, String> tokens = deviceTokenService.getDeviceTokensByUserIds(userIds);
+
+        Map<ReminderKey, List<String>> tokensByReminder = new LinkedHashMap<>();
+        Map<ReminderKey, Object[]> reminderRows = new HashMap<>();
+        Set<AlertKey> alerted = new HashSet<>();
+        for (Object[] row : due) {
+            Long todoId = ((Number) row[0]).longValue();
+            Long userId = ((Number) row[1]).longValue();
+            int minutesBefore = ((Number) row[2]).intValue();
+            Long teamId = ((Number) row[3]).longValue();
+            String teamName = (String) row[5];
+            long occurrenceEpochSecond = ((Number) row[8]).longValue();
+            ReminderKey reminder = new ReminderKey(todoId, occurrenceEpochSecond, minutesBefore);
+            reminderRows.putIfAbsent(reminder, row);
+
+            String token = tokens.get(userId);
+            if (token != null) {
+                tokensByReminder.computeIfAbsent(reminder, key -> new ArrayList<>()).add(token);
+            }
 
-        // 개인 알림 설정 확인
-        Optional<PersonalNotificationSetting> personalSetting = personalNotificationSettingRepository.findByUserId(userId);
-        if (personalSetting.isPresent()) {
-            PersonalNotificationSetting setting = personalSetting.get();
-            if (Boolean.TRUE.equals(setting.getEnableTodoDeadlineNotification())) {
-                Integer[] minutes = setting.getTodoDeadlineNotificationMinutes();
-                if (minutes != null && minutes.length > 0) {
-                    return minutes;
+            // 알림함용 Alert 생성 (이전 실행 또는 이번 배치에서 같은 발생·사용자에 만들었으면 건너뜀)
+            if (Boolean.TRUE.equals(row[9]) && alerted.add(new AlertKey(todoId, occurrenceEpochSecond, userId))) {
+                try {
+                    alertService.createTodoDueTodayAlert(userId, teamId, teamName, (String) row[6]);
+                } catch (Exception e) {
+                    log.warn("투두 마감 Alert 생성 실패: todoId={}, userId={}, error={}", todoId, userId, e.getMessage());
                 }
             }
         }
 
-        return null; // 알림 시간 설정이 없음
+        tokensByReminder.forEach((reminder, deviceTokens) -> {
+            Object[] row = reminderRows.get(reminder);
+            // 알림 이벤트 식별자는 각 알림 예정의 (발생, 알림 시간)
+            String reminderKey = reminder.occurrenceEpochSecond() + ":" + reminder.minutesBefore();
+            expoNotificationService.sendTodoDeadlineNotification(deviceTokens, reminder.todoId(), reminderKey,
+                    (String) row[4], (String) row[5], reminder.minutesBefore());
+            log.info("투두 마감 알림 전송: todoId={}, minutesBefore={}, recipients={}",
+                    reminder.todoId(), reminder.minutesBefore(), deviceTokens.size());
+        });
     }
 
-    /**
-     * 사용자에게 알림 전송
-     */
-    private void sendNotificationToUser(Long userId, String todoTitle, String teamName, int minutesBefore) {
-        deviceTokenService.getDeviceTokenByUserId(userId)
-                .ifPresent(deviceToken -> {
-                    List<String> deviceTokens = Collections.singletonList(deviceToken);
-                    expoNotificationService.sendTodoDeadlineNotification(deviceTokens, todoTitle, teamName, minutesBefore);
-                });
+    private record ReminderKey(Long todoId, long occurrenceEpochSecond, int minutesBefore) {
     }
 
-    /**
-     * 알림 키 생성 (중복 방지용)
-     */
-    private String generateNotificationKey(Long todoId, Long userId, Integer minutesBefore) {
-        return String.format("todo:%d:user:%d:minutes:%d", todoId, userId, minutesBefore);
-    }
-
-    /**
-     * 오래된 알림 기록 정리 (1시간 이상 지난 기록 삭제)
-     */
-    private void cleanupOldNotifications(LocalDateTime now) {
-        LocalDateTime oneHourAgo = now.minusHours(1);
-        sentNotifications.entrySet().removeIf(entry -> entry.getValue().isBefore(oneHourAgo));
+    private record AlertKey(Long todoId, long occurrenceEpochSecond, Long userId) {
     }
 }
-
@@ -0,0 +1,140 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Todo;
+import com.example.demo.domain.enums.RepeatType;
+import com.example.demo.domain.model.ScheduleRepeatRule;
+import com.example.demo.repository.TodoOccurrenceRepository;
+import com.example.demo.repository.TodoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static com.example.demo.service.ScheduleOccurrenceService.EXTENSION_MARGIN_MONTHS;
+import static com.example.demo.service.ScheduleOccurrenceService.HORIZON_MONTHS;
+
+/**
+ * 반복 투두 발생(todo_occurrence) 테이블 관리
+ * 일정 발생과 같은 롤링 기간까지 반복 투두의 발생을 저장해, 달력 집계가 발생 날짜마다 투두를 세도록 합니다.
+ * (완료/수정한 발생만 저장하던 V27 방식과 달리 저장량은 반복 시리즈 수 × 기간 내 발생 수에 비례합니다.)
+ * 투두 생성/반복 설정 변경 시 해당 투두의 발생을 다시 계산하고, 백그라운드 작업으로 기간을 확장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoOccurrenceService {
+
+    private static final int EXTENSION_BATCH_SIZE = 100;
+
+    // INSERT 한 번에 보내는 발생 수
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TodoOccurrenceRepository todoOccurrenceRepository;
+    private final CalendarDayCountService calendarDayCountService;
+    private final TodoWeeklyRollupService todoWeeklyRollupService;
+
+    // 모든 반복 투두의 발생이 한 번 이상 계산되었는지 여부 (배포 직후 백필 전에는 규칙 전개로 조회)
+    private volatile boolean backfilled = false;
+
+    /**
+     * 투두의 발생을 처음부터 다시 계산 (생성 시, 마감일시/반복 설정 변경 시)
+     * 달력/주간 집계는 호출하는 쪽에서 재계산 전에 빼고(removeTodo) 후에 더해야(addTodo) 합니다.
+     */
+    @Transactional
+    public void rematerialize(Todo todo) {
+        todoOccurrenceRepository.deleteByTodoId(todo.getId());
+        if (!isRecurring(todo.getRepeatType())) {
+            todo.setOccurrenceHorizon(null);
+            return;
+        }
+        LocalDateTime horizon = LocalDateTime.now().plusMonths(HORIZON_MONTHS);
+        insertOccurrences(todo, todo.getEndAt(), horizon);
+        todo.setOccurrenceHorizon(horizon);
+    }
+
+    /**
+     * 확장이 필요한 반복 투두 한 묶음의 발생을 현재 기준 롤링 기간까지 채움
+     * @return 처리한 투두 수 (0이면 더 이상 처리할 투두 없음)
+     */
+    @Transactional
+    public int extendHorizonBatch() {
+        LocalDateTime horizon = LocalDateTime.now().plusMonths(HORIZON_MONTHS);
+        List<Long> todoIds = todoRepository.findIdsNeedingOccurrenceExtension(
+                horizon.minusMonths(EXTENSION_MARGIN_MONTHS), EXTENSION_BATCH_SIZE);
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+
+        for (Todo todo : todoRepository.findAllById(todoIds)) {
+            LocalDateTime from = todo.getOccurrenceHorizon() == null
+                    ? todo.getEndAt()
+                    : todo.getOccurrenceHorizon();
+            insertOccurrences(todo, from, horizon);
+            calendarDayCountService.addTodoOccurrencesFrom(todo.getId(), from);
+            todoWeeklyRollupService.addTodoOccurrencesFrom(todo.getId(), from);
+            todo.setOccurrenceHorizon(horizon);
+        }
+        return todoIds.size();
+    }
+
+    /**
+     * 아직 발생이 계산되지 않은 반복 투두가 남아 있는지 확인해 백필 완료 여부 갱신
+     */
+    @Transactional(readOnly = true)
+    public void refreshBackfillState() {
+        backfilled = !todoRepository.existsRecurringWithoutOccurrenceHorizon();
+    }
+
+    /**
+     * 해당 시각까지의 기간 조회를 발생 테이블(달력 집계)만으로 처리할 수 있는지 여부
+     */
+    public boolean covers(LocalDateTime end) {
+        LocalDateTime guaranteedUntil = LocalDateTime.now().plusMonths(HORIZON_MONTHS - EXTENSION_MARGIN_MONTHS);
+        return backfilled && !end.isAfter(guaranteedUntil);
+    }
+
+    /**
+     * [from, until) 구간의 발생을 저장
+     */
+    private void insertOccurrences(Todo todo, LocalDateTime from, LocalDateTime until) {
+        ScheduleRepeatRule rule = ScheduleRepeatRule.fromEntityFields(
+                todo.getRepeatType(),
+                todo.getRepeatInterval(),
+                todo.getRepeatDays(),
+                todo.getRepeatMonthDay(),
+                todo.getRepeatEndDate()
+        );
+
+        Iterator<LocalDateTime> occurrences = rule.occurrencesFrom(todo.getEndAt(), from);
+        StringJoiner chunk = new StringJoiner(",");
+        int chunkSize = 0;
+        while (occurrences.hasNext()) {
+            LocalDateTime occurrenceAt = occurrences.next();
+            if (!occurrenceAt.isBefore(until)) {
+                break;
+            }
+            chunk.add(occurrenceAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            if (++chunkSize == INSERT_CHUNK_SIZE) {
+                flushChunk(todo, chunk.toString());
+                chunk = new StringJoiner(",");
+                chunkSize = 0;
+            }
+        }
+        if (chunkSize > 0) {
+            flushChunk(todo, chunk.toString());
+        }
+    }
+
+    private void flushChunk(Todo todo, String occurrenceAts) {
+        todoOccurrenceRepository.insertOccurrences(todo.getId(), todo.getTeam().getId(), occurrenceAts);
+    }
+
+    private boolean isRecurring(String repeatType) {
+        return repeatType != null && !RepeatType.NONE.name().equals(repeatType);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 마감이 지난 미완료 투두를 주간 통계 집계에 마감 경과로 반영하는 스케줄러
+ * 1분마다 실행되며, 아직 반영되지 않은 투두와 반복 투두 발생만 부분 인덱스로 찾아 한 번의 쿼리로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoOverdueRollupScheduler {
+
+    private final TodoWeeklyRollupService todoWeeklyRollupService;
+
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    public void markOverdueTodos() {
+        try {
+            int updated = todoWeeklyRollupService.markOverdue();
+            if (updated > 0) {
+                log.debug("투두 마감 경과 집계 반영: {}행", updated);
+            }
+        } catch (Exception e) {
+            log.error("투두 마감 경과 집계 반영 중 오류 발생", e);
+        }
+    }
+}
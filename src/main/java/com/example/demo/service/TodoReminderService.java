@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.TodoReminderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 투두 마감 알림 예정(todo_reminder) 관리
+ * 알림은 투두 발생(반복 투두는 발생마다) 단위이며, 알림 시각이 앞으로 LOOKAHEAD_HOURS 안인 것만 적재합니다.
+ * 투두/담당자/발생 상태가 바뀌면 refreshTodo(s), 알림 설정이나 팀 소속이 바뀌면 refreshUser로 해당 범위의 알림 시각을 다시 계산하고,
+ * 그 이후의 알림은 TodoDeadlineNotificationScheduler가 주기적으로 loadUpcoming을 호출해 이어서 적재합니다.
+ * 실제 전송은 TodoDeadlineNotificationScheduler가 claimDue로 시각이 된 행만 선점해 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoReminderService {
+
+    // 알림 예정을 적재하는 기간 (적재 주기보다 충분히 길어야 함)
+    static final int LOOKAHEAD_HOURS = 48;
+
+    private final TodoReminderRepository todoReminderRepository;
+
+    @Transactional
+    public void refreshTodo(Long todoId) {
+        refreshTodos(List.of(todoId));
+    }
+
+    @Transactional
+    public void refreshTodos(List<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return;
+        }
+        todoReminderRepository.deleteByTodoIds(todoIds);
+        todoReminderRepository.insertByTodoIds(todoIds, LOOKAHEAD_HOURS);
+    }
+
+    /**
+     * 사용자의 모든 팀 투두 알림 재계산 (개인 알림 설정 변경, 팀 탈퇴/강퇴 시)
+     */
+    @Transactional
+    public void refreshUser(Long userId) {
+        refreshUser(userId, 0L);
+    }
+
+    /**
+     * 사용자의 특정 팀 투두 알림 재계산 (팀 알림 설정 변경 시, teamId가 0이면 모든 팀)
+     */
+    @Transactional
+    public void refreshUser(Long userId, Long teamId) {
+        todoReminderRepository.deleteByUserId(userId, teamId);
+        todoReminderRepository.insertByUserId(userId, teamId, LOOKAHEAD_HOURS);
+    }
+
+    /**
+     * 알림 시각이 앞으로 LOOKAHEAD_HOURS 안인 알림 예정 적재 (이미 적재된 알림은 건너뜀)
+     * @return 새로 적재된 행 수
+     */
+    @Transactional
+    public int loadUpcoming() {
+        return todoReminderRepository.insertUpcoming(LOOKAHEAD_HOURS);
+    }
+
+    /**
+     * 알림 시각이 된 알림을 최대 limit건 선점
+     * @see TodoReminderRepository#claimDue(int, int)
+     */
+    @Transactional
+    public List<Object[]> claimDue(int limit, int staleMinutes) {
+        return todoReminderRepository.claimDue(limit, staleMinutes);
+    }
+
+    /**
+     * 전송이 끝난 오래된 알림 예정 삭제
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int deleteSentBefore(LocalDateTime before) {
+        return todoReminderRepository.deleteSentBefore(before);
+    }
+}
@@ -1,9 +1,18 @@
 package com.example.demo.service;
 
 import com.example.demo.domain.entity.*;
+import com.example.demo.domain.enums.ChangeEntityType;
+import com.example.demo.domain.enums.NotificationKind;
+import com.example.demo.domain.enums.RepeatType;
+import com.example.demo.domain.enums.TodoListOrder;
 import com.example.demo.domain.enums.TodoStatus;
+import com.example.demo.domain.model.ScheduleRepeatRule;
+import com.example.demo.domain.model.TodoPageCursor;
 import com.example.demo.dto.todo.TodoAssigneeDto;
+import com.example.demo.dto.todo.TodoBatchRequest;
+import com.example.demo.dto.todo.TodoBatchResponseDto;
 import com.example.demo.dto.todo.TodoCreateRequest;
+import com.example.demo.dto.todo.TodoPageResponseDto;
 import com.example.demo.dto.todo.TodoResponse;
 import com.example.demo.dto.todo.TodoResponseDto;
 import com.example.demo.dto.todo.TodoStatusUpdateRequest;
@@ -14,10 +23,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,7 +45,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TodoService {
 
+    // 기간 조회 시 반복 투두 하나당 전개할 최대 발생 수
+    private static final int MAX_EXPANDED_OCCURRENCES_PER_TODO = 1000;
+
+    // 일괄 변경 요청 한 번에 처리할 수 있는 최대 투두 수
+    private static final int MAX_BATCH_TODOS = 500;
+
+    // 키셋 페이지 기본/최대 크기
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
+    private final TodoInstanceRepository todoInstanceRepository;
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final PositionRepository positionRepository;
@@ -33,9 +64,15 @@ public class TodoService {
     private final TodoPositionRepository todoPositionRepository;
     private final UserRepository userRepository;
     private final ExpoNotificationService expoNotificationService;
-    private final DeviceTokenService deviceTokenService;
-    private final NotificationSettingRepository notificationSettingRepository;
+    private final RecipientResolver recipientResolver;
     private final AlertService alertService;
+    private final ChangeLogService changeLogService;
+    private final TeamContentVersionService teamContentVersionService;
+    private final CalendarDayCountService calendarDayCountService;
+    private final TodoWeeklyRollupService todoWeeklyRollupService;
+    private final TodoReminderService todoReminderService;
+    private final TodoOccurrenceService todoOccurrenceService;
+    private final TodoOccurrenceRepository todoOccurrenceRepository;
 
     @Transactional
     public TodoResponseDto createTodo(Long userId, TodoCreateRequest request) {
@@ -52,6 +89,21 @@ public class TodoService {
         User creator = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
+        // 반복 설정 검증 및 변환 (반복 기준일시는 마감일시)
+        String normalizedRepeatType = ScheduleRepeatRule.normalizeRepeatType(request.getRepeatType());
+        ScheduleRepeatRule.validateRepeatConfig(normalizedRepeatType, request.getRepeatInterval(),
+                request.getRepeatEndDate(), request.getRepeatUseDate(), request.getRepeatWeekDays());
+
+        Integer[] repeatDays = null;
+        Integer repeatMonthDay = null;
+        if (!RepeatType.NONE.name().equals(normalizedRepeatType)) {
+            repeatDays = ScheduleRepeatRule.convertWeekDaysToNumbers(request.getRepeatWeekDays(), normalizedRepeatType, request.getEndAt());
+            if (Boolean.TRUE.equals(request.getRepeatUseDate()) &&
+                (normalizedRepeatType.equals(RepeatType.MONTHLY.name()) || normalizedRepeatType.equals(RepeatType.YEARLY.name()))) {
+                repeatMonthDay = request.getEndAt().getDayOfMonth();
+            }
+        }
+
         Todo todo = Todo.builder()
                 .team(team)
                 .title(request.getTitle())
@@ -60,10 +112,17 @@ public class TodoService {
                 .endAt(request.getEndAt())
                 .place(request.getPlace())
                 .url(request.getUrl())
+                .repeatType(normalizedRepeatType)
+                .repeatInterval(request.getRepeatInterval() != null ? request.getRepeatInterval() : 1)
+                .repeatDays(repeatDays)
+                .repeatMonthDay(repeatMonthDay)
+                .repeatEndDate(ScheduleRepeatRule.toRepeatEndDate(request.getRepeatEndDate()))
                 .createdBy(creator)
                 .build();
 
         todo = todoRepository.save(todo);
+        Long changeId = changeLogService.recordUpsert(team.getId(), ChangeEntityType.TODO, todo.getId());
+        teamContentVersionService.bump(team.getId());
 
         // 담당자 설정 (선택)
         List<Long> assigneeMemberIds = request.getAssigneeMemberIds();
@@ -128,6 +187,10 @@ public class TodoService {
                 todoPositionRepository.saveAll(todoPositions);
             }
         }
+        todoOccurrenceService.rematerialize(todo);
+        calendarDayCountService.addTodo(todo.getId());
+        todoWeeklyRollupService.addTodo(todo.getId());
+        todoReminderService.refreshTodo(todo.getId());
 
         // 지연 로딩된 연관 관계 초기화 (LazyInitializationException 방지)
         todo.getTeam().getName(); // team 초기화
@@ -145,7 +208,7 @@ public class TodoService {
         }
 
         // 투두 생성 푸시 알림 전송 (생성자 제외)
-        sendTodoChangeNotification(todo, userId);
+        sendTodoChangeNotification(todo, changeId, userId);
 
         // 알림함용 Alert 생성 (담당자별, 생성자 제외)
         try {
@@ -177,6 +240,19 @@ public class TodoService {
             throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 투두를 수정할 수 없습니다.");
         }
 
+        // 반복 투두의 특정 발생만 수정
+        if (request.getOccurrenceAt() != null) {
+            return updateTodoOccurrence(userId, todo, request);
+        }
+
+        // 변경 전 마감일/담당자/포지션 기준 달력 집계 제외 (수정 후 다시 추가)
+        calendarDayCountService.removeTodo(todoId);
+        todoWeeklyRollupService.removeTodo(todoId);
+
+        // 발생 일시를 정하는 값 (바뀌면 발생 재계산 + 발생 내역 정리)
+        LocalDateTime previousEndAt = todo.getEndAt();
+        List<Object> previousRepeatRule = repeatRuleOf(todo);
+
         if (request.getTitle() != null) todo.setTitle(request.getTitle());
         if (request.getDescription() != null) todo.setDescription(request.getDescription());
         if (request.getStatus() != null) todo.setStatus(request.getStatus());
@@ -184,6 +260,35 @@ public class TodoService {
         if (request.getPlace() != null) todo.setPlace(request.getPlace());
         if (request.getUrl() != null) todo.setUrl(request.getUrl());
 
+        // 반복 관련 필드 업데이트 (반복 기준일시는 마감일시)
+        if (request.getRepeatType() != null) {
+            String normalizedRepeatType = ScheduleRepeatRule.normalizeRepeatType(request.getRepeatType());
+            ScheduleRepeatRule.validateRepeatConfig(normalizedRepeatType, request.getRepeatInterval(),
+                    request.getRepeatEndDate(), request.getRepeatUseDate(), request.getRepeatWeekDays());
+            todo.setRepeatType(normalizedRepeatType);
+
+            if (RepeatType.NONE.name().equals(normalizedRepeatType)) {
+                todo.setRepeatInterval(1);
+                todo.setRepeatDays(null);
+                todo.setRepeatMonthDay(null);
+                todo.setRepeatEndDate(null);
+            } else {
+                todo.setRepeatDays(ScheduleRepeatRule.convertWeekDaysToNumbers(request.getRepeatWeekDays(), normalizedRepeatType, todo.getEndAt()));
+                boolean useDate = Boolean.TRUE.equals(request.getRepeatUseDate()) &&
+                        (normalizedRepeatType.equals(RepeatType.MONTHLY.name()) || normalizedRepeatType.equals(RepeatType.YEARLY.name()));
+                todo.setRepeatMonthDay(useDate ? todo.getEndAt().getDayOfMonth() : null);
+            }
+        }
+        if (request.getRepeatInterval() != null && isRecurring(todo.getRepeatType())) {
+            if (request.getRepeatInterval() <= 0) {
+                throw new IllegalArgumentException("INVALID_REPEAT_CONFIG: repeatInterval은 1 이상이어야 합니다.");
+            }
+            todo.setRepeatInterval(request.getRepeatInterval());
+        }
+        if (request.getRepeatEndDate() != null && isRecurring(todo.getRepeatType())) {
+            todo.setRepeatEndDate(ScheduleRepeatRule.toRepeatEndDate(request.getRepeatEndDate()));
+        }
+
         if (request.getAssigneeMemberIds() != null) {
             // 0이나 null 값 필터링
             List<Long> validMemberIds = request.getAssigneeMemberIds().stream()
@@ -256,6 +361,15 @@ public class TodoService {
                 todo.getPositions().clear();
             }
         }
+        if (!todo.getEndAt().equals(previousEndAt) || !repeatRuleOf(todo).equals(previousRepeatRule)) {
+            todoOccurrenceService.rematerialize(todo);
+            reconcileInstances(todo, Duration.between(previousEndAt, todo.getEndAt()));
+        }
+        calendarDayCountService.addTodo(todo.getId());
+        todoWeeklyRollupService.addTodo(todo.getId());
+        todoReminderService.refreshTodo(todo.getId());
+        Long changeId = changeLogService.recordUpsert(todo.getTeam().getId(), ChangeEntityType.TODO, todo.getId());
+        teamContentVersionService.bump(todo.getTeam().getId());
 
         // 지연 로딩된 연관 관계 초기화 (LazyInitializationException 방지)
         todo.getTeam().getName(); // team 초기화
@@ -273,7 +387,7 @@ public class TodoService {
         }
 
         // 투두 수정 알림 전송 (수정자 제외)
-        sendTodoChangeNotification(todo, userId);
+        sendTodoChangeNotification(todo, changeId, userId);
 
         return toResponse(todo);
     }
@@ -292,8 +406,27 @@ public class TodoService {
             throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 투두를 수정할 수 없습니다.");
         }
 
-        todo.setStatus(request.getStatus());
-        todo = todoRepository.save(todo);
+        // 반복 투두는 발생 단위로 완료 여부를 저장 (해당 발생의 TodoInstance만 생성/수정)
+        TodoInstance instance = null;
+        if (isRecurring(todo.getRepeatType())) {
+            if (request.getOccurrenceAt() == null) {
+                throw new IllegalArgumentException("OCCURRENCE_REQUIRED: 반복 투두는 완료할 발생의 occurrenceAt이 필요합니다.");
+            }
+            instance = getOrCreateInstance(todo, request.getOccurrenceAt());
+            todoWeeklyRollupService.removeOccurrences(todo.getId(), List.of(instance.getOccurrenceAt()));
+            instance.setStatus(request.getStatus());
+            instance = todoInstanceRepository.save(instance);
+            todoWeeklyRollupService.addOccurrences(todo.getId(), List.of(instance.getOccurrenceAt()));
+        } else {
+            todoWeeklyRollupService.removeTodo(todo.getId());
+            todo.setStatus(request.getStatus());
+            todo = todoRepository.save(todo);
+            todoWeeklyRollupService.addTodo(todo.getId());
+        }
+        // 마감 알림은 발생 단위이므로 반복 투두도 완료/미완료로 바뀐 발생의 알림을 다시 계산
+        todoReminderService.refreshTodo(todo.getId());
+        Long changeId = changeLogService.recordUpsert(todo.getTeam().getId(), ChangeEntityType.TODO, todo.getId());
+        teamContentVersionService.bump(todo.getTeam().getId());
 
         // 지연 로딩된 연관 관계 초기화 (LazyInitializationException 방지)
         todo.getTeam().getName(); // team 초기화
@@ -311,9 +444,412 @@ public class TodoService {
         }
 
         // 투두 상태 변경 알림 전송 (수정자 제외)
-        sendTodoChangeNotification(todo, userId);
+        sendTodoChangeNotification(todo, changeId, userId);
 
-        return toResponse(todo);
+        return instance != null ? toOccurrenceResponse(toResponse(todo), instance.getOccurrenceAt(), instance) : toResponse(todo);
+    }
+
+    /**
+     * 반복 투두의 특정 발생만 수정 (시리즈와 다른 값만 TodoInstance에 저장)
+     * 담당자/포지션/반복 설정은 시리즈 단위로만 변경할 수 있습니다.
+     */
+    private TodoResponseDto updateTodoOccurrence(Long userId, Todo todo, TodoUpdateRequest request) {
+        if (!isRecurring(todo.getRepeatType())) {
+            throw new IllegalArgumentException("VALIDATION_ERROR: 반복 투두가 아니면 occurrenceAt을 지정할 수 없습니다.");
+        }
+        if (request.getAssigneeMemberIds() != null || request.getPositionIds() != null || request.getRepeatType() != null
+                || request.getRepeatInterval() != null || request.getRepeatEndDate() != null
+                || request.getRepeatUseDate() != null || request.getRepeatWeekDays() != null) {
+            throw new IllegalArgumentException("VALIDATION_ERROR: 담당자, 포지션, 반복 설정은 발생별로 수정할 수 없습니다.");
+        }
+
+        TodoInstance instance = getOrCreateInstance(todo, request.getOccurrenceAt());
+        // 발생 마감일을 옮기면 달력 집계 날짜도 바뀌므로 변경 전후로 다시 집계
+        if (request.getEndAt() != null) {
+            calendarDayCountService.removeTodo(todo.getId());
+        }
+        // 주간 집계는 완료 여부와 마감 주를 함께 세므로 해당 발생만 변경 전후로 다시 집계
+        boolean rollupChanged = request.getEndAt() != null || request.getStatus() != null;
+        if (rollupChanged) {
+            todoWeeklyRollupService.removeOccurrences(todo.getId(), List.of(instance.getOccurrenceAt()));
+        }
+        if (request.getTitle() != null) instance.setTitle(request.getTitle());
+        if (request.getDescription() != null) instance.setDescription(request.getDescription());
+        if (request.getStatus() != null) instance.setStatus(request.getStatus());
+        if (request.getEndAt() != null) instance.setEndAt(request.getEndAt());
+        if (request.getPlace() != null) instance.setPlace(request.getPlace());
+        if (request.getUrl() != null) instance.setUrl(request.getUrl());
+        instance = todoInstanceRepository.save(instance);
+        if (request.getEndAt() != null) {
+            calendarDayCountService.addTodo(todo.getId());
+        }
+        if (rollupChanged) {
+            todoWeeklyRollupService.addOccurrences(todo.getId(), List.of(instance.getOccurrenceAt()));
+            todoReminderService.refreshTodo(todo.getId());
+        }
+
+        Long changeId = changeLogService.recordUpsert(todo.getTeam().getId(), ChangeEntityType.TODO, todo.getId());
+        teamContentVersionService.bump(todo.getTeam().getId());
+
+        // 투두 수정 알림 전송 (수정자 제외)
+        sendTodoChangeNotification(todo, changeId, userId);
+
+        return toOccurrenceResponse(toResponse(todo), instance.getOccurrenceAt(), instance);
+    }
+
+    /**
+     * 발생 내역 조회, 없으면 새로 생성 (반복 규칙상 실제로 존재하는 발생인지 검증)
+     */
+    private TodoInstance getOrCreateInstance(Todo todo, LocalDateTime occurrenceAt) {
+        validateOccurrence(todo, occurrenceAt);
+        return todoInstanceRepository.findByTodoIdAndOccurrenceAt(todo.getId(), occurrenceAt)
+                .orElseGet(() -> TodoInstance.builder()
+                        .todo(todo)
+                        .occurrenceAt(occurrenceAt)
+                        .build());
+    }
+
+    /**
+     * 반복 규칙상 실제로 존재하는 발생인지 검증
+     */
+    private void validateOccurrence(Todo todo, LocalDateTime occurrenceAt) {
+        if (!isOccurrence(todo, occurrenceAt)) {
+            throw new IllegalArgumentException("OCCURRENCE_NOT_FOUND: 반복 규칙에 해당하지 않는 발생입니다.");
+        }
+    }
+
+    private boolean isOccurrence(Todo todo, LocalDateTime occurrenceAt) {
+        ScheduleRepeatRule rule = ScheduleRepeatRule.fromEntityFields(
+                todo.getRepeatType(),
+                todo.getRepeatInterval(),
+                todo.getRepeatDays(),
+                todo.getRepeatMonthDay(),
+                todo.getRepeatEndDate()
+        );
+        Iterator<LocalDateTime> occurrences = rule.occurrencesFrom(todo.getEndAt(), occurrenceAt);
+        return occurrences.hasNext() && occurrences.next().equals(occurrenceAt);
+    }
+
+    /**
+     * 반복 규칙을 비교용 값 목록으로 변환 (배열 필드는 내용 비교를 위해 List로)
+     */
+    private static List<Object> repeatRuleOf(Todo todo) {
+        return Arrays.asList(
+                todo.getRepeatType(),
+                todo.getRepeatInterval(),
+                todo.getRepeatDays() == null ? null : Arrays.asList(todo.getRepeatDays()),
+                todo.getRepeatMonthDay(),
+                todo.getRepeatEndDate()
+        );
+    }
+
+    /**
+     * 시리즈의 마감일시/반복 설정이 바뀐 뒤 발생 내역(TodoInstance) 정리
+     * 마감일시가 옮겨졌으면 발생 내역도 같은 만큼 옮기고(re-key), 새 규칙에 해당하지 않는 발생 내역은 삭제합니다.
+     * 반복이 해제되면 모든 발생 내역을 삭제합니다.
+     */
+    private void reconcileInstances(Todo todo, Duration shift) {
+        List<TodoInstance> instances = todoInstanceRepository.findByTodoId(todo.getId());
+        if (instances.isEmpty()) {
+            return;
+        }
+        if (!isRecurring(todo.getRepeatType())) {
+            todoInstanceRepository.deleteAllInBatch(instances);
+            return;
+        }
+        if (shift.isZero()) {
+            todoInstanceRepository.deleteAllInBatch(instances.stream()
+                    .filter(instance -> !isOccurrence(todo, instance.getOccurrenceAt()))
+                    .toList());
+            return;
+        }
+
+        // (todo_id, occurrence_at) 유일 제약이 옮기는 도중 겹치지 않도록 모두 지운 뒤 옮긴 값으로 다시 저장
+        List<TodoInstance> rekeyed = instances.stream()
+                .filter(instance -> isOccurrence(todo, instance.getOccurrenceAt().plus(shift)))
+                .map(instance -> TodoInstance.builder()
+                        .todo(todo)
+                        .occurrenceAt(instance.getOccurrenceAt().plus(shift))
+                        .status(instance.getStatus())
+                        .title(instance.getTitle())
+                        .description(instance.getDescription())
+                        .endAt(instance.getEndAt() == null ? null : instance.getEndAt().plus(shift))
+                        .place(instance.getPlace())
+                        .url(instance.getUrl())
+                        .createdAt(instance.getCreatedAt())
+                        .build())
+                .toList();
+        todoInstanceRepository.deleteAllInBatch(instances);
+        todoInstanceRepository.saveAll(rekeyed);
+    }
+
+    /**
+     * 투두 일괄 변경 (완료 여부, 담당자 변경, 삭제를 하나의 트랜잭션으로 처리)
+     * 팀별 권한은 팀당 한 번만 확인하고, 변경은 집합 단위 쿼리로 반영하며,
+     * 변경 알림은 수신자별로 한 건으로 합쳐 보냅니다.
+     */
+    @Transactional
+    public TodoBatchResponseDto applyBatch(Long userId, TodoBatchRequest request) {
+        List<TodoBatchRequest.StatusChange> statusChanges =
+                request.getStatusChanges() != null ? request.getStatusChanges() : List.of();
+        List<TodoBatchRequest.AssigneeChange> assigneeChanges =
+                request.getAssigneeChanges() != null ? request.getAssigneeChanges() : List.of();
+        List<Long> deleteTodoIds = request.getDeleteTodoIds() == null ? List.of()
+                : request.getDeleteTodoIds().stream().filter(Objects::nonNull).distinct().toList();
+
+        Set<Long> updatedTodoIdSet = new LinkedHashSet<>();
+        statusChanges.forEach(change -> updatedTodoIdSet.add(change.getTodoId()));
+        Set<Long> assigneeTodoIdSet = new LinkedHashSet<>();
+        for (TodoBatchRequest.AssigneeChange change : assigneeChanges) {
+            if (!assigneeTodoIdSet.add(change.getTodoId())) {
+                throw new IllegalArgumentException("VALIDATION_ERROR: 같은 투두의 담당자 변경이 중복되었습니다.");
+            }
+        }
+        updatedTodoIdSet.addAll(assigneeTodoIdSet);
+        if (deleteTodoIds.stream().anyMatch(updatedTodoIdSet::contains)) {
+            throw new IllegalArgumentException("VALIDATION_ERROR: 삭제할 투두는 같은 요청에서 변경할 수 없습니다.");
+        }
+
+        List<Long> updatedTodoIds = new ArrayList<>(updatedTodoIdSet);
+        List<Long> assigneeTodoIds = new ArrayList<>(assigneeTodoIdSet);
+        List<Long> allTodoIds = new ArrayList<>(updatedTodoIds);
+        allTodoIds.addAll(deleteTodoIds);
+        if (allTodoIds.isEmpty()) {
+            return TodoBatchResponseDto.builder()
+                    .updatedTodos(List.of())
+                    .deletedTodoIds(List.of())
+                    .build();
+        }
+        if (allTodoIds.size() > MAX_BATCH_TODOS) {
+            throw new IllegalArgumentException("VALIDATION_ERROR: 한 번에 변경할 수 있는 투두는 최대 " + MAX_BATCH_TODOS + "개입니다.");
+        }
+
+        // 대상 투두 정보 일괄 조회 [todoId, teamId, teamName, title, repeatType]
+        Map<Long, Object[]> targets = new HashMap<>();
+        for (Object[] row : todoRepository.findBatchTargetsByIdIn(allTodoIds)) {
+            targets.put((Long) row[0], row);
+        }
+        if (targets.size() != allTodoIds.size()) {
+            throw new IllegalArgumentException("TODO_NOT_FOUND: 일부 투두를 찾을 수 없습니다.");
+        }
+
+        // 권한 확인 (팀당 1회, 팀원이 아니면 403)
+        Set<Long> teamIds = targets.values().stream()
+                .map(row -> (Long) row[1])
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (Long teamId : teamIds) {
+            if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
+                throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 투두를 수정할 수 없습니다.");
+            }
+        }
+
+        // 담당자 검증 (요청된 멤버 전체를 한 번에 조회)
+        List<Long> requestedMemberIds = assigneeChanges.stream()
+                .flatMap(change -> change.getAssigneeMemberIds().stream())
+                .filter(id -> id != null && id > 0)
+                .distinct()
+                .toList();
+        Map<Long, Long> teamIdByMemberId = new HashMap<>();
+        if (!requestedMemberIds.isEmpty()) {
+            List<TeamMember> members = teamMemberRepository.findAllById(requestedMemberIds);
+            if (members.size() != requestedMemberIds.size()) {
+                throw new IllegalArgumentException("INVALID_MEMBER_IDS: 일부 담당자 멤버 ID가 유효하지 않습니다.");
+            }
+            members.forEach(member -> teamIdByMemberId.put(member.getId(), member.getTeam().getId()));
+        }
+        Map<Long, List<Long>> memberIdsByTodo = new LinkedHashMap<>();
+        for (TodoBatchRequest.AssigneeChange change : assigneeChanges) {
+            Long teamId = (Long) targets.get(change.getTodoId())[1];
+            List<Long> memberIds = change.getAssigneeMemberIds().stream()
+                    .filter(id -> id != null && id > 0)
+                    .distinct()
+                    .toList();
+            for (Long memberId : memberIds) {
+                if (!teamId.equals(teamIdByMemberId.get(memberId))) {
+                    throw new IllegalArgumentException("INVALID_MEMBER_IDS: 담당자 멤버가 해당 팀에 속하지 않습니다.");
+                }
+            }
+            memberIdsByTodo.put(change.getTodoId(), memberIds);
+        }
+
+        // 완료 여부 분류 (일반 투두는 상태별 일괄 변경, 반복 투두는 발생 단위로 저장)
+        Map<Long, TodoStatus> statusByTodo = new LinkedHashMap<>();
+        Map<Long, Map<LocalDateTime, TodoStatus>> occurrenceStatusByTodo = new LinkedHashMap<>();
+        for (TodoBatchRequest.StatusChange change : statusChanges) {
+            if (isRecurring((String) targets.get(change.getTodoId())[4])) {
+                if (change.getOccurrenceAt() == null) {
+                    throw new IllegalArgumentException("OCCURRENCE_REQUIRED: 반복 투두는 완료할 발생의 occurrenceAt이 필요합니다.");
+                }
+                occurrenceStatusByTodo.computeIfAbsent(change.getTodoId(), id -> new LinkedHashMap<>())
+                        .put(change.getOccurrenceAt(), change.getStatus());
+            } else {
+                statusByTodo.put(change.getTodoId(), change.getStatus());
+            }
+        }
+        if (!occurrenceStatusByTodo.isEmpty()) {
+            for (Todo todo : todoRepository.findAllById(occurrenceStatusByTodo.keySet())) {
+                occurrenceStatusByTodo.get(todo.getId()).keySet()
+                        .forEach(occurrenceAt -> validateOccurrence(todo, occurrenceAt));
+            }
+        }
+
+        // 변경 전 담당자 기준 달력 집계 제외 (담당자 변경 후 다시 추가)
+        List<Long> uncountedTodoIds = new ArrayList<>(assigneeTodoIds);
+        uncountedTodoIds.addAll(deleteTodoIds);
+        calendarDayCountService.removeTodos(uncountedTodoIds);
+        // 주간 통계는 완료 여부도 집계하므로 상태 변경 대상까지 제외 후 다시 추가
+        List<Long> rollupTodoIds = new ArrayList<>(assigneeTodoIds);
+        statusByTodo.keySet().stream().filter(id -> !assigneeTodoIdSet.contains(id)).forEach(rollupTodoIds::add);
+        List<Long> unrolledTodoIds = new ArrayList<>(rollupTodoIds);
+        unrolledTodoIds.addAll(deleteTodoIds);
+        todoWeeklyRollupService.removeTodos(unrolledTodoIds);
+        // 반복 투두는 완료 여부가 바뀐 발생만 다시 집계 (담당자도 바뀌는 투두는 시리즈 전체를 위에서 제외/추가)
+        Map<Long, Set<LocalDateTime>> rollupOccurrencesByTodo = new LinkedHashMap<>();
+        occurrenceStatusByTodo.forEach((todoId, byOccurrence) -> {
+            if (!assigneeTodoIdSet.contains(todoId)) {
+                rollupOccurrencesByTodo.put(todoId, byOccurrence.keySet());
+            }
+        });
+        rollupOccurrencesByTodo.forEach(todoWeeklyRollupService::removeOccurrences);
+
+        if (!assigneeTodoIds.isEmpty()) {
+            todoAttendeeRepository.deleteByTodoIdIn(assigneeTodoIds);
+        }
+
+        Map<TodoStatus, List<Long>> todoIdsByStatus = new HashMap<>();
+        statusByTodo.forEach((todoId, status) ->
+                todoIdsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(todoId));
+        LocalDateTime now = LocalDateTime.now();
+        todoIdsByStatus.forEach((status, todoIds) -> todoRepository.updateStatusByIdIn(todoIds, status, now));
+
+        if (!deleteTodoIds.isEmpty()) {
+            todoRepository.deleteAllByIdInBatch(deleteTodoIds);
+        }
+
+        List<TodoAttendee> newAssignees = new ArrayList<>();
+        memberIdsByTodo.forEach((todoId, memberIds) -> {
+            Todo todoRef = todoRepository.getReferenceById(todoId);
+            for (Long memberId : memberIds) {
+                newAssignees.add(buildTodoAttendee(todoRef, teamMemberRepository.getReferenceById(memberId)));
+            }
+        });
+        todoAttendeeRepository.saveAll(newAssignees);
+
+        if (!occurrenceStatusByTodo.isEmpty()) {
+            upsertOccurrenceStatuses(occurrenceStatusByTodo);
+        }
+        calendarDayCountService.addTodos(assigneeTodoIds);
+        todoWeeklyRollupService.addTodos(rollupTodoIds);
+        rollupOccurrencesByTodo.forEach(todoWeeklyRollupService::addOccurrences);
+        // 담당자/상태/발생 상태가 바뀐 투두의 마감 알림 재계산 (삭제된 투두는 FK CASCADE로 함께 삭제)
+        List<Long> reminderTodoIds = new ArrayList<>(rollupTodoIds);
+        occurrenceStatusByTodo.keySet().stream().filter(id -> !reminderTodoIds.contains(id)).forEach(reminderTodoIds::add);
+        todoReminderService.refreshTodos(reminderTodoIds);
+
+        Long batchChangeId = null;
+        for (Long todoId : updatedTodoIds) {
+            batchChangeId = changeLogService.recordUpsert((Long) targets.get(todoId)[1], ChangeEntityType.TODO, todoId);
+        }
+        for (Long todoId : deleteTodoIds) {
+            changeLogService.recordDelete((Long) targets.get(todoId)[1], ChangeEntityType.TODO, todoId);
+        }
+        teamIds.forEach(teamContentVersionService::bump);
+
+        // 변경 알림 전송 (수신자별 1건, 수정자 제외)
+        sendCoalescedTodoChangeNotifications(updatedTodoIds, targets, batchChangeId, userId);
+
+        List<TodoResponseDto> updatedTodos = updatedTodoIds.isEmpty()
+                ? List.of()
+                : enrichTodoResponses(todoRepository.findResponsesByIdIn(updatedTodoIds));
+        return TodoBatchResponseDto.builder()
+                .updatedTodos(updatedTodos)
+                .deletedTodoIds(deleteTodoIds)
+                .build();
+    }
+
+    /**
+     * 반복 투두 발생들의 완료 여부 저장 (기존 발생 내역은 투두 목록/기간으로 한 번에 조회)
+     */
+    private void upsertOccurrenceStatuses(Map<Long, Map<LocalDateTime, TodoStatus>> occurrenceStatusByTodo) {
+        List<LocalDateTime> occurrences = occurrenceStatusByTodo.values().stream()
+                .flatMap(byOccurrence -> byOccurrence.keySet().stream())
+                .toList();
+        LocalDateTime minOccurrence = occurrences.stream().min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime maxOccurrence = occurrences.stream().max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<Long, Map<LocalDateTime, TodoInstance>> existing = new HashMap<>();
+        for (TodoInstance instance : todoInstanceRepository.findByTodoIdsAndRange(
+                new ArrayList<>(occurrenceStatusByTodo.keySet()), minOccurrence, maxOccurrence)) {
+            existing.computeIfAbsent(instance.getTodo().getId(), id -> new HashMap<>())
+                    .put(instance.getOccurrenceAt(), instance);
+        }
+
+        List<TodoInstance> instances = new ArrayList<>();
+        occurrenceStatusByTodo.forEach((todoId, byOccurrence) -> byOccurrence.forEach((occurrenceAt, status) -> {
+            TodoInstance instance = existing.getOrDefault(todoId, Map.of()).get(occurrenceAt);
+            if (instance == null) {
+                instance = TodoInstance.builder()
+                        .todo(todoRepository.getReferenceById(todoId))
+                        .occurrenceAt(occurrenceAt)
+                        .build();
+            }
+            instance.setStatus(status);
+            instances.add(instance);
+        }));
+        todoInstanceRepository.saveAll(instances);
+    }
+
+    /**
+     * 여러 투두의 변경 알림을 수신자별 한 건으로 합쳐 전송
+     * 담당자 조회 한 번, 팀별 수신자 판정(알림 설정 + 디바이스 토큰) 한 번씩으로 처리합니다.
+     * @param targets 투두 ID -> [todoId, teamId, teamName, title, repeatType]
+     * @param batchChangeId 이 일괄 변경에서 마지막으로 기록된 변경 이력 ID (알림 중복 적재 방지용 이벤트 식별자)
+     */
+    private void sendCoalescedTodoChangeNotifications(List<Long> todoIds, Map<Long, Object[]> targets,
+                                                      Long batchChangeId, Long excludeUserId) {
+        if (todoIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> todoIdsByUser = new LinkedHashMap<>();
+        for (Object[] row : todoRepository.findAssigneeUserIdsByTodoIds(todoIds)) {
+            Long assigneeUserId = (Long) row[1];
+            if (!assigneeUserId.equals(excludeUserId)) {
+                todoIdsByUser.computeIfAbsent(assigneeUserId, id -> new ArrayList<>()).add((Long) row[0]);
+            }
+        }
+        if (todoIdsByUser.isEmpty()) {
+            return;
+        }
+
+        // 팀별 후보 담당자 → 팀별 수신 토큰 (팀 알림 설정은 팀마다 다름)
+        Map<Long, Set<Long>> candidateUserIdsByTeam = new HashMap<>();
+        todoIdsByUser.forEach((recipientUserId, recipientTodoIds) -> recipientTodoIds.forEach(todoId ->
+                candidateUserIdsByTeam.computeIfAbsent((Long) targets.get(todoId)[1], id -> new HashSet<>()).add(recipientUserId)));
+        Map<Long, Map<Long, String>> tokensByTeam = new HashMap<>();
+        candidateUserIdsByTeam.forEach((teamId, candidateUserIds) -> tokensByTeam.put(teamId,
+                recipientResolver.resolveTokensByUser(teamId, candidateUserIds, NotificationKind.TODO_CHANGE)));
+
+        todoIdsByUser.forEach((recipientUserId, recipientTodoIds) -> {
+            String deviceToken = null;
+            List<Object[]> notifiedTodos = new ArrayList<>();
+            for (Long todoId : recipientTodoIds) {
+                Object[] row = targets.get(todoId);
+                String token = tokensByTeam.get((Long) row[1]).get(recipientUserId);
+                if (token != null) {
+                    deviceToken = token;
+                    notifiedTodos.add(row);
+                }
+            }
+            if (notifiedTodos.isEmpty()) {
+                return;
+            }
+
+            List<String> todoTitles = notifiedTodos.stream().map(row -> (String) row[3]).toList();
+            boolean singleTeam = notifiedTodos.stream().map(row -> (Long) row[1]).distinct().count() == 1;
+            String teamName = singleTeam ? (String) notifiedTodos.get(0)[2] : null;
+            expoNotificationService.sendTodoBatchChangeNotification(List.of(deviceToken), batchChangeId, todoTitles, teamName);
+        });
     }
 
     @Transactional
@@ -327,7 +863,11 @@ public class TodoService {
             throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 투두를 삭제할 수 없습니다.");
         }
 
+        calendarDayCountService.removeTodo(todo.getId());
+        todoWeeklyRollupService.removeTodo(todo.getId());
         todoRepository.delete(todo);
+        changeLogService.recordDelete(todo.getTeam().getId(), ChangeEntityType.TODO, todo.getId());
+        teamContentVersionService.bump(todo.getTeam().getId());
     }
 
     @Transactional(readOnly = true)
@@ -336,7 +876,7 @@ public class TodoService {
             throw new IllegalArgumentException("팀원이 아닌 사용자는 팀 투두를 조회할 수 없습니다.");
         }
         List<TodoResponse> responses = todoRepository.findByTeamAndRange(teamId, start, end);
-        return enrichTodoResponses(responses);
+        return expandRecurringTodos(responses, enrichTodoResponses(responses), start, end);
     }
 
     @Transactional(readOnly = true)
@@ -347,7 +887,345 @@ public class TodoService {
             return List.of();
         }
         List<TodoResponse> responses = todoRepository.findByAssigneesAndRange(memberIds, start, end);
-        return enrichTodoResponses(responses);
+        return expandRecurringTodos(responses, enrichTodoResponses(responses), start, end);
+    }
+
+    /**
+     * 팀 투두 키셋 페이지 조회 (cursor가 없으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public TodoPageResponseDto getTeamTodoPage(Long userId, Long teamId, LocalDateTime start, LocalDateTime end,
+                                               String cursor, Integer limit, TodoListOrder order) {
+        if (!teamMemberRepository.existsByTeamIdAndUserId(teamId, userId)) {
+            throw new IllegalArgumentException("FORBIDDEN: 팀원이 아닌 사용자는 팀 투두를 조회할 수 없습니다.");
+        }
+        boolean openFirst = order == TodoListOrder.OPEN_FIRST;
+        TodoPageCursor after = cursor == null ? TodoPageCursor.first() : TodoPageCursor.parse(cursor, openFirst);
+        int pageSize = resolvePageSize(limit);
+
+        List<Long> pageIds = openFirst
+                ? todoRepository.findOpenFirstPageIdsByTeamAndRange(teamId, start, end,
+                        after.getStatus().name(), after.getEndAt(), after.getId(), pageSize + 1)
+                : todoRepository.findPageIdsByTeamAndRange(teamId, start, end,
+                        after.getEndAt(), after.getId(), pageSize + 1);
+        if (todoOccurrenceService.covers(end)) {
+            // 내역이 없는 발생(TODO)과 완료/수정된 발생을 나눠 조회 (상태 우선 정렬의 DONE 구간에는 내역 있는 발생만 남음)
+            List<Long> occurrenceIds = new ArrayList<>();
+            if (!openFirst || after.getStatus() == TodoStatus.TODO) {
+                occurrenceIds.addAll(todoOccurrenceRepository.findUnchangedPageIdsByTeamAndRange(teamId, start, end,
+                        after.getEndAt(), after.getId(), pageSize + 1));
+            }
+            occurrenceIds.addAll(openFirst
+                    ? todoOccurrenceRepository.findOpenFirstChangedPageIdsByTeamAndRange(teamId, start, end,
+                            after.getStatus().name(), after.getEndAt(), after.getId(), pageSize + 1)
+                    : todoOccurrenceRepository.findChangedPageIdsByTeamAndRange(teamId, start, end,
+                            after.getEndAt(), after.getId(), pageSize + 1));
+            return assembleTodoPage(pageIds, occurrenceIds, pageSize, openFirst);
+        }
+        List<TodoResponse> recurring = todoRepository.findRecurringByTeamAndRange(teamId, start, end);
+        return assembleTodoPage(pageIds, recurring, start, end, after, pageSize, openFirst);
+    }
+
+    /**
+     * 내 투두 키셋 페이지 조회 (cursor가 없으면 첫 페이지)
+     */
+    @Transactional(readOnly = true)
+    public TodoPageResponseDto getMyTodoPage(Long userId, LocalDateTime start, LocalDateTime end,
+                                             String cursor, Integer limit, TodoListOrder order) {
+        boolean openFirst = order == TodoListOrder.OPEN_FIRST;
+        TodoPageCursor after = cursor == null ? TodoPageCursor.first() : TodoPageCursor.parse(cursor, openFirst);
+        int pageSize = resolvePageSize(limit);
+
+        List<Long> memberIds = teamMemberRepository.findByUserId(userId).stream().map(TeamMember::getId).toList();
+        if (memberIds.isEmpty()) {
+            return TodoPageResponseDto.builder().items(List.of()).hasMore(false).build();
+        }
+        List<Long> pageIds = openFirst
+                ? todoRepository.findOpenFirstPageIdsByAssigneesAndRange(memberIds, start, end,
+                        after.getStatus().name(), after.getEndAt(), after.getId(), pageSize + 1)
+                : todoRepository.findPageIdsByAssigneesAndRange(memberIds, start, end,
+                        after.getEndAt(), after.getId(), pageSize + 1);
+        if (todoOccurrenceService.covers(end)) {
+            List<Long> occurrenceIds = new ArrayList<>();
+            if (!openFirst || after.getStatus() == TodoStatus.TODO) {
+                occurrenceIds.addAll(todoOccurrenceRepository.findUnchangedPageIdsByAssigneesAndRange(memberIds, start, end,
+                        after.getEndAt(), after.getId(), pageSize + 1));
+            }
+            occurrenceIds.addAll(openFirst
+                    ? todoOccurrenceRepository.findOpenFirstChangedPageIdsByAssigneesAndRange(memberIds, start, end,
+                            after.getStatus().name(), after.getEndAt(), after.getId(), pageSize + 1)
+                    : todoOccurrenceRepository.findChangedPageIdsByAssigneesAndRange(memberIds, start, end,
+                            after.getEndAt(), after.getId(), pageSize + 1));
+            return assembleTodoPage(pageIds, occurrenceIds, pageSize, openFirst);
+        }
+        List<TodoResponse> recurring = todoRepository.findRecurringByAssigneesAndRange(memberIds, start, end);
+        return assembleTodoPage(pageIds, recurring, start, end, after, pageSize, openFirst);
+    }
+
+    /**
+     * ID 목록으로 투두 응답 조회 (델타 동기화용, 존재하지 않는 ID는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<TodoResponseDto> getTodosByIds(List<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return List.of();
+        }
+        return enrichTodoResponses(todoRepository.findResponsesByIdIn(todoIds));
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("VALIDATION_ERROR: limit은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return limit;
+    }
+
+    /**
+     * 키셋으로 조회한 일반 투두와 반복 투두 발생(각각 최대 pageSize + 1개)을 같은 정렬로 합쳐 한 페이지를 만듭니다.
+     * 반복 투두 발생은 저장된 발생(todo_occurrence)을 커서 이후부터 조회하므로 시리즈 전체를 전개하지 않습니다.
+     */
+    private TodoPageResponseDto assembleTodoPage(List<Long> pageIds,
+                                                 List<Long> occurrenceIds,
+                                                 int pageSize,
+                                                 boolean openFirst) {
+        List<TodoOccurrence> occurrences = todoOccurrenceRepository.findAllById(occurrenceIds);
+        Set<Long> todoIds = new LinkedHashSet<>(pageIds);
+        occurrences.forEach(occurrence -> todoIds.add(occurrence.getTodo().getId()));
+        if (todoIds.isEmpty()) {
+            return TodoPageResponseDto.builder().items(List.of()).hasMore(false).build();
+        }
+        // 포지션/담당자는 일반 투두와 반복 투두 시리즈를 합쳐 한 번에 조회
+        Map<Long, TodoResponseDto> dtoById = enrichTodoResponses(todoRepository.findResponsesByIdIn(List.copyOf(todoIds)))
+                .stream()
+                .collect(Collectors.toMap(TodoResponseDto::getId, dto -> dto));
+
+        List<TodoResponseDto> merged = new ArrayList<>();
+        pageIds.stream().map(dtoById::get).filter(Objects::nonNull).forEach(merged::add);
+        if (!occurrences.isEmpty()) {
+            List<Long> recurringTodoIds = occurrences.stream().map(occurrence -> occurrence.getTodo().getId()).distinct().toList();
+            LocalDateTime from = occurrences.stream().map(TodoOccurrence::getOccurrenceAt).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDateTime until = occurrences.stream().map(TodoOccurrence::getOccurrenceAt).max(Comparator.naturalOrder()).orElseThrow();
+            Map<Long, Map<LocalDateTime, TodoInstance>> instancesByTodo = new HashMap<>();
+            for (TodoInstance instance : todoInstanceRepository.findByTodoIdsAndRange(recurringTodoIds, from, until)) {
+                instancesByTodo.computeIfAbsent(instance.getTodo().getId(), id -> new HashMap<>())
+                        .put(instance.getOccurrenceAt(), instance);
+            }
+            for (TodoOccurrence occurrence : occurrences) {
+                Long todoId = occurrence.getTodo().getId();
+                TodoResponseDto series = dtoById.get(todoId);
+                if (series == null) {
+                    continue;
+                }
+                TodoInstance instance = instancesByTodo.getOrDefault(todoId, Map.of()).get(occurrence.getOccurrenceAt());
+                merged.add(toOccurrenceResponse(series, occurrence.getOccurrenceAt(), instance));
+            }
+        }
+        return toTodoPage(merged, pageSize, openFirst);
+    }
+
+    /**
+     * 키셋으로 조회한 일반 투두(최대 pageSize + 1개)와 커서 이후의 반복 투두 발생을 같은 정렬로 합쳐 한 페이지를 만듭니다.
+     * 발생이 아직 저장되지 않은 기간(롤링 기간 밖, 백필 전)에는 반복 규칙으로 계산하되, 기간 전체가 아니라
+     * 시리즈마다 커서 마감일시부터 페이지를 채울 만큼만(커서와 같은 발생, 내역으로 덮어쓸 발생 수만큼 여유) 계산합니다.
+     * 완료/수정된 발생은 내역(todo_instance)에서 가져오므로 마감일시를 옮긴 발생도 빠지지 않습니다.
+     */
+    private TodoPageResponseDto assembleTodoPage(List<Long> pageIds,
+                                                 List<TodoResponse> recurring,
+                                                 LocalDateTime start,
+                                                 LocalDateTime end,
+                                                 TodoPageCursor after,
+                                                 int pageSize,
+                                                 boolean openFirst) {
+        List<TodoResponse> responses = new ArrayList<>(recurring);
+        if (!pageIds.isEmpty()) {
+            responses.addAll(todoRepository.findResponsesByIdIn(pageIds));
+        }
+        // 포지션/담당자는 일반 투두와 반복 투두를 합쳐 한 번에 조회
+        List<TodoResponseDto> dtos = enrichTodoResponses(responses);
+
+        Comparator<TodoResponseDto> order = pageOrder(openFirst);
+        TodoResponseDto cursorKey = TodoResponseDto.builder()
+                .status(after.getStatus())
+                .endAt(after.getEndAt())
+                .id(after.getId())
+                .build();
+
+        List<TodoResponseDto> occurrences = new ArrayList<>();
+        if (!recurring.isEmpty()) {
+            Map<Long, Map<LocalDateTime, TodoInstance>> instancesByTodo = new HashMap<>();
+            for (TodoInstance instance : todoInstanceRepository.findByTodoIdsAndRange(
+                    recurring.stream().map(TodoResponse::getId).toList(), start, end)) {
+                instancesByTodo.computeIfAbsent(instance.getTodo().getId(), id -> new HashMap<>())
+                        .put(instance.getOccurrenceAt(), instance);
+            }
+            // 상태 우선 정렬에서 커서가 DONE 구간이면 내역 없는(TODO) 발생은 모두 커서 앞
+            boolean includeUnchanged = !openFirst || after.getStatus() == TodoStatus.TODO;
+            LocalDateTime from = after.getEndAt().isAfter(start) ? after.getEndAt() : start;
+            for (int i = 0; i < recurring.size(); i++) {
+                TodoResponse response = recurring.get(i);
+                TodoResponseDto series = dtos.get(i);
+                ScheduleRepeatRule rule = ScheduleRepeatRule.fromEntityFields(
+                        response.getRepeatType(),
+                        response.getRepeatInterval(),
+                        response.getRepeatDays(),
+                        response.getRepeatMonthDay(),
+                        response.getRepeatEndDate()
+                );
+                Map<LocalDateTime, TodoInstance> instances = instancesByTodo.getOrDefault(response.getId(), Map.of());
+                for (Map.Entry<LocalDateTime, TodoInstance> entry : instances.entrySet()) {
+                    // 반복 규칙상 발생인 내역만 (규칙 변경 전 내역은 제외)
+                    Iterator<LocalDateTime> occurrence = rule.occurrencesFrom(response.getEndAt(), entry.getKey());
+                    if (occurrence.hasNext() && occurrence.next().equals(entry.getKey())) {
+                        occurrences.add(toOccurrenceResponse(series, entry.getKey(), entry.getValue()));
+                    }
+                }
+                if (includeUnchanged) {
+                    for (LocalDateTime occurrenceAt : rule.occurrenceStartsOverlapping(
+                            response.getEndAt(), Duration.ZERO, from, end, pageSize + 2 + instances.size())) {
+                        if (!instances.containsKey(occurrenceAt)) {
+                            occurrences.add(toOccurrenceResponse(series, occurrenceAt, null));
+                        }
+                    }
+                }
+            }
+        }
+        List<TodoResponseDto> merged = new ArrayList<>(dtos.subList(recurring.size(), dtos.size()));
+        occurrences.stream()
+                .filter(occurrence -> order.compare(occurrence, cursorKey) > 0)
+                .forEach(merged::add);
+        return toTodoPage(merged, pageSize, openFirst);
+    }
+
+    private Comparator<TodoResponseDto> pageOrder(boolean openFirst) {
+        return openFirst
+                ? Comparator.comparing(TodoResponseDto::getStatus)
+                        .thenComparing(TodoResponseDto::getEndAt)
+                        .thenComparing(TodoResponseDto::getId)
+                : Comparator.comparing(TodoResponseDto::getEndAt)
+                        .thenComparing(TodoResponseDto::getId);
+    }
+
+    /**
+     * 커서 이후 후보들을 정렬해 앞의 pageSize개를 페이지로 만들고, 남는 후보가 있으면 다음 커서를 붙입니다.
+     */
+    private TodoPageResponseDto toTodoPage(List<TodoResponseDto> merged, int pageSize, boolean openFirst) {
+        merged.sort(pageOrder(openFirst));
+
+        boolean hasMore = merged.size() > pageSize;
+        List<TodoResponseDto> items = hasMore ? new ArrayList<>(merged.subList(0, pageSize)) : merged;
+        String nextCursor = null;
+        if (hasMore) {
+            TodoResponseDto last = items.get(items.size() - 1);
+            nextCursor = new TodoPageCursor(last.getStatus(), last.getEndAt(), last.getId()).encode(openFirst);
+        }
+        return TodoPageResponseDto.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 기간 조회 결과의 반복 투두를 기간 내 발생들로 전개
+     * 발생은 반복 규칙으로 계산하고, 완료/수정된 발생의 TodoInstance만 한 번의 쿼리로 일괄 조회해 덮어씁니다.
+     * responses와 dtos는 같은 순서여야 합니다 (enrichTodoResponses 결과).
+     */
+    private List<TodoResponseDto> expandRecurringTodos(List<TodoResponse> responses,
+                                                       List<TodoResponseDto> dtos,
+                                                       LocalDateTime start,
+                                                       LocalDateTime end) {
+        List<Long> recurringTodoIds = responses.stream()
+                .filter(response -> isRecurring(response.getRepeatType()))
+                .map(TodoResponse::getId)
+                .toList();
+        if (recurringTodoIds.isEmpty()) {
+            return dtos;
+        }
+
+        Map<Long, Map<LocalDateTime, TodoInstance>> instancesByTodo = new HashMap<>();
+        for (TodoInstance instance : todoInstanceRepository.findByTodoIdsAndRange(recurringTodoIds, start, end)) {
+            instancesByTodo.computeIfAbsent(instance.getTodo().getId(), id -> new HashMap<>())
+                    .put(instance.getOccurrenceAt(), instance);
+        }
+
+        List<TodoResponseDto> expanded = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            TodoResponse response = responses.get(i);
+            TodoResponseDto dto = dtos.get(i);
+            if (!isRecurring(response.getRepeatType())) {
+                expanded.add(dto);
+                continue;
+            }
+
+            ScheduleRepeatRule rule = ScheduleRepeatRule.fromEntityFields(
+                    response.getRepeatType(),
+                    response.getRepeatInterval(),
+                    response.getRepeatDays(),
+                    response.getRepeatMonthDay(),
+                    response.getRepeatEndDate()
+            );
+            Map<LocalDateTime, TodoInstance> instances = instancesByTodo.getOrDefault(response.getId(), Map.of());
+            for (LocalDateTime occurrenceAt : rule.occurrenceStartsOverlapping(
+                    response.getEndAt(), Duration.ZERO, start, end, MAX_EXPANDED_OCCURRENCES_PER_TODO)) {
+                expanded.add(toOccurrenceResponse(dto, occurrenceAt, instances.get(occurrenceAt)));
+            }
+        }
+
+        expanded.sort(Comparator.comparing(TodoResponseDto::getEndAt)
+                .thenComparing(TodoResponseDto::getId));
+        return expanded;
+    }
+
+    /**
+     * 시리즈 응답을 특정 발생의 응답으로 변환 (발생 내역이 있으면 변경된 값으로 덮어씀)
+     */
+    private TodoResponseDto toOccurrenceResponse(TodoResponseDto series, LocalDateTime occurrenceAt, TodoInstance instance) {
+        TodoResponseDto.TodoResponseDtoBuilder builder = series.toBuilder()
+                .occurrenceAt(occurrenceAt)
+                .endAt(occurrenceAt)
+                .status(TodoStatus.TODO);
+        if (instance != null) {
+            builder.status(instance.getStatus());
+            if (instance.getTitle() != null) builder.title(instance.getTitle());
+            if (instance.getDescription() != null) builder.description(instance.getDescription());
+            if (instance.getEndAt() != null) builder.endAt(instance.getEndAt());
+            if (instance.getPlace() != null) builder.place(instance.getPlace());
+            if (instance.getUrl() != null) builder.url(instance.getUrl());
+        }
+        return builder.build();
+    }
+
+    private boolean isRecurring(String repeatType) {
+        return repeatType != null && !RepeatType.NONE.name().equals(repeatType);
+    }
+
+    /**
+     * 반복 설정을 응답 필드로 변환 (ScheduleService의 응답 변환과 동일한 규칙)
+     */
+    private TodoResponseDto.TodoResponseDtoBuilder applyRepeatFields(TodoResponseDto.TodoResponseDtoBuilder builder,
+                                                                     String repeatType,
+                                                                     Integer repeatInterval,
+                                                                     Integer[] repeatDays,
+                                                                     Integer repeatMonthDay,
+                                                                     LocalDateTime repeatEndDate) {
+        String repeatSummary = "반복 없음";
+        if (isRecurring(repeatType)) {
+            repeatSummary = ScheduleRepeatRule.fromEntityFields(
+                    repeatType, repeatInterval, repeatDays, repeatMonthDay, repeatEndDate).toSummary();
+        }
+        LocalDate repeatEndLocalDate = repeatEndDate != null ? repeatEndDate.toLocalDate() : null;
+
+        return builder
+                .repeatType(repeatType)
+                .repeatInterval(repeatInterval)
+                .repeatEndDate(repeatEndLocalDate)
+                .repeatUseDate(repeatMonthDay != null ? true : null)
+                .repeatMonthDay(repeatMonthDay)
+                .repeatWeekDays(ScheduleRepeatRule.convertNumbersToWeekDays(repeatDays))
+                .repeatSummary(repeatSummary);
     }
 
     private TodoAttendee buildTodoAttendee(Todo todo, TeamMember member) {
@@ -359,31 +1237,46 @@ public class TodoService {
                 .build();
     }
 
+    /**
+     * 목록 조회 결과에 포지션/담당자 정보를 채워 응답 DTO로 변환
+     * 투두 개수와 무관하게 고정된 횟수(포지션, 담당자 각 1회)의 쿼리로 일괄 조회합니다.
+     */
     private List<TodoResponseDto> enrichTodoResponses(List<TodoResponse> responses) {
+        if (responses.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> todoIds = responses.stream()
+                .map(TodoResponse::getId)
+                .distinct()
+                .toList();
+
+        // 포지션 ID(orderIndex 순) 및 대표 포지션 색상 일괄 조회
+        Map<Long, List<Long>> positionIdsByTodo = new HashMap<>();
+        Map<Long, String> representativeColorByTodo = new HashMap<>();
+        for (Object[] row : todoRepository.findPositionInfoByTodoIds(todoIds)) {
+            Long todoId = (Long) row[0];
+            positionIdsByTodo.computeIfAbsent(todoId, id -> new ArrayList<>()).add((Long) row[1]);
+            representativeColorByTodo.putIfAbsent(todoId, (String) row[2]);
+        }
+
+        // 담당자 (memberId, userName) 일괄 조회
+        Map<Long, List<TodoAssigneeDto>> assigneesByTodo = new HashMap<>();
+        for (Object[] row : todoRepository.findAssigneeInfoByTodoIds(todoIds)) {
+            assigneesByTodo.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(TodoAssigneeDto.builder()
+                            .memberId((Long) row[1])
+                            .userName((String) row[2])
+                            .build());
+        }
+
         return responses.stream()
                 .map(response -> {
-                    // positionIds 및 대표 포지션 컬러 가져오기
-                    List<Long> positionIds = todoRepository.findPositionIdsByTodoId(response.getId());
-                    String representativeColorHex = null;
-                    if (!positionIds.isEmpty()) {
-                        representativeColorHex = positionRepository.findById(positionIds.get(0))
-                                .map(Position::getColorHex)
-                                .orElse(null);
-                    }
-                    
-                    // assignees 가져오기
-                    List<Object[]> assigneeInfoList = todoRepository.findAssigneeInfoByTodoId(response.getId());
-                    List<TodoAssigneeDto> assignees = assigneeInfoList.stream()
-                            .map(info -> TodoAssigneeDto.builder()
-                                    .memberId((Long) info[0])
-                                    .userName((String) info[1])
-                                    .build())
-                            .collect(Collectors.toList());
-                    
+                    List<TodoAssigneeDto> assignees = assigneesByTodo.getOrDefault(response.getId(), List.of());
                     Long primaryAssigneeId = assignees.isEmpty() ? null : assignees.get(0).getMemberId();
                     String primaryAssigneeName = assignees.isEmpty() ? null : assignees.get(0).getUserName();
 
-                    return TodoResponseDto.builder()
+                    TodoResponseDto.TodoResponseDtoBuilder builder = TodoResponseDto.builder()
                             .id(response.getId())
                             .teamId(response.getTeamId())
                             .teamName(response.getTeamName())
@@ -398,10 +1291,16 @@ public class TodoService {
                             .assigneeMemberId(primaryAssigneeId)
                             .assigneeMemberUserName(primaryAssigneeName)
                             .assignees(assignees)
-                            .positionIds(positionIds)
-                            .representativeColorHex(representativeColorHex)
+                            .positionIds(positionIdsByTodo.getOrDefault(response.getId(), List.of()))
+                            .representativeColorHex(representativeColorByTodo.get(response.getId()))
                             .createdAt(response.getCreatedAt())
-                            .updatedAt(response.getUpdatedAt())
+                            .updatedAt(response.getUpdatedAt());
+                    return applyRepeatFields(builder,
+                            response.getRepeatType(),
+                            response.getRepeatInterval(),
+                            response.getRepeatDays(),
+                            response.getRepeatMonthDay(),
+                            response.getRepeatEndDate())
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -434,7 +1333,7 @@ public class TodoService {
                 ? null
                 : sortedPositions.get(0).getPosition().getColorHex();
 
-        return TodoResponseDto.builder()
+        TodoResponseDto.TodoResponseDtoBuilder builder = TodoResponseDto.builder()
                 .id(todo.getId())
                 .teamId(todo.getTeam().getId())
                 .teamName(todo.getTeam().getName())
@@ -452,16 +1351,23 @@ public class TodoService {
                 .positionIds(positionIds)
                 .representativeColorHex(representativeColorHex)
                 .createdAt(todo.getCreatedAt())
-                .updatedAt(todo.getUpdatedAt())
+                .updatedAt(todo.getUpdatedAt());
+        return applyRepeatFields(builder,
+                todo.getRepeatType(),
+                todo.getRepeatInterval(),
+                todo.getRepeatDays(),
+                todo.getRepeatMonthDay(),
+                todo.getRepeatEndDate())
                 .build();
     }
 
     /**
      * 투두 변경 알림 전송
      * @param todo 투두
+     * @param changeId 이 변경의 변경 이력 ID (알림 중복 적재 방지용 이벤트 식별자)
      * @param excludeUserId 알림을 보내지 않을 사용자 ID (생성자/수정자)
      */
-    private void sendTodoChangeNotification(Todo todo, Long excludeUserId) {
+    private void sendTodoChangeNotification(Todo todo, Long changeId, Long excludeUserId) {
         if (todo.getAssignees() == null || todo.getAssignees().isEmpty()) {
             return;
         }
@@ -470,30 +1376,18 @@ public class TodoService {
         String todoTitle = todo.getTitle();
         String teamName = todo.getTeam().getName();
 
-        // 담당자 중 알림을 받을 사용자 목록 수집
-        List<String> deviceTokens = new ArrayList<>();
+        // 담당자 중 생성자/수정자를 제외한 후보 (알림 설정/토큰은 한 번에 판정)
+        Set<Long> candidateUserIds = new LinkedHashSet<>();
         for (TodoAttendee attendee : todo.getAssignees()) {
             Long userId = attendee.getMember().getUser().getId();
-            
-            // 생성자/수정자 제외
-            if (userId.equals(excludeUserId)) {
-                continue;
-            }
-
-            // 알림 설정 확인
-            boolean shouldNotify = notificationSettingRepository.findByUserIdAndTeamId(userId, teamId)
-                    .map(setting -> Boolean.TRUE.equals(setting.getEnableTeamAlarm()) &&
-                            Boolean.TRUE.equals(setting.getEnableTodoChangeNotification()))
-                    .orElse(true); // 설정이 없으면 기본값으로 알림 전송
-
-            if (shouldNotify) {
-                deviceTokenService.getDeviceTokenByUserId(userId)
-                        .ifPresent(deviceTokens::add);
+            if (!userId.equals(excludeUserId)) {
+                candidateUserIds.add(userId);
             }
         }
 
+        List<String> deviceTokens = recipientResolver.resolveTokens(teamId, candidateUserIds, NotificationKind.TODO_CHANGE);
         if (!deviceTokens.isEmpty()) {
-            expoNotificationService.sendTodoChangeNotification(deviceTokens, todoTitle, teamName);
+            expoNotificationService.sendTodoChangeNotification(deviceTokens, todo.getId(), changeId, todoTitle, teamName);
         }
     }
 }
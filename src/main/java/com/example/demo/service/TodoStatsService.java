@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.stats.TeamTodoStatsResponseDto;
+import com.example.demo.dto.stats.TodoMemberStatDto;
+import com.example.demo.dto.stats.TodoPositionStatDto;
+import com.example.demo.dto.stats.TodoWeekStatDto;
+import com.example.demo.dto.team.TeamMemberListItemResponse;
+import com.example.demo.repository.TeamMemberRepository;
+import com.example.demo.repository.TodoWeeklyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 팀 투두 완료율 통계 조회 (팀 전체/팀원별/포지션별 주간 집계)
+ * todo_weekly_rollup 집계만 읽으며 todo 테이블은 조회하지 않습니다.
+ * 주 구분은 마감일 기준이며, 완료 수도 완료 시각이 아니라 마감 주에 집계됩니다. (마감 주별 투두 묶음의 완료율)
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoStatsService {
+
+    private static final int MAX_RANGE_WEEKS = 53;
+
+    private final TodoWeeklyRollupRepository todoWeeklyRollupRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TeamPermissionService teamPermissionService;
+
+    /**
+     * 팀 투두 통계 (팀장 전용, 기간은 start가 속한 주부터 end가 속한 주까지)
+     */
+    @Transactional(readOnly = true)
+    public TeamTodoStatsResponseDto getTeamStats(Long userId, Long teamId, LocalDate start, LocalDate end) {
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE: 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        LocalDate fromWeek = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate toWeek = end.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        if (ChronoUnit.WEEKS.between(fromWeek, toWeek) >= MAX_RANGE_WEEKS) {
+            throw new IllegalArgumentException("INVALID_DATE_RANGE: 조회 기간은 최대 " + MAX_RANGE_WEEKS + "주입니다.");
+        }
+        teamPermissionService.verifyTeamOwner(userId, teamId);
+
+        // 팀 전체 = 포지션별 행의 합, 포지션별 = member_id 0 행 그대로
+        Map<LocalDate, WeekTally> teamWeeks = new TreeMap<>();
+        Map<Long, Map<LocalDate, WeekTally>> positionWeeks = new TreeMap<>();
+        for (Object[] row : todoWeeklyRollupRepository.findTeamWeeks(teamId, fromWeek, toWeek)) {
+            LocalDate week = LocalDate.parse((String) row[0]);
+            Long positionId = ((Number) row[1]).longValue();
+            teamWeeks.computeIfAbsent(week, w -> new WeekTally()).add(row);
+            positionWeeks.computeIfAbsent(positionId, id -> new TreeMap<>())
+                    .computeIfAbsent(week, w -> new WeekTally()).add(row);
+        }
+
+        Map<Long, Map<LocalDate, WeekTally>> memberWeeks = new LinkedHashMap<>();
+        for (Object[] row : todoWeeklyRollupRepository.findMemberWeeks(teamId, fromWeek, toWeek)) {
+            memberWeeks.computeIfAbsent(((Number) row[1]).longValue(), id -> new TreeMap<>())
+                    .computeIfAbsent(LocalDate.parse((String) row[0]), w -> new WeekTally()).add(row);
+        }
+
+        // 현재 팀원 순서대로, 담당 투두가 없는 주는 생략
+        List<TodoMemberStatDto> members = new ArrayList<>();
+        for (TeamMemberListItemResponse member : teamMemberRepository.findListItemResponsesByTeamId(teamId)) {
+            members.add(TodoMemberStatDto.builder()
+                    .memberId(member.getMemberId())
+                    .userName(member.getUserName())
+                    .weeks(toDtos(memberWeeks.getOrDefault(member.getMemberId(), Map.of())))
+                    .build());
+        }
+
+        List<TodoPositionStatDto> positions = new ArrayList<>();
+        positionWeeks.forEach((positionId, weeks) -> positions.add(TodoPositionStatDto.builder()
+                .positionId(positionId == 0 ? null : positionId)
+                .weeks(toDtos(weeks))
+                .build()));
+
+        return TeamTodoStatsResponseDto.builder()
+                .team(toDtos(teamWeeks))
+                .members(members)
+                .positions(positions)
+                .build();
+    }
+
+    private List<TodoWeekStatDto> toDtos(Map<LocalDate, WeekTally> weeks) {
+        List<TodoWeekStatDto> result = new ArrayList<>(weeks.size());
+        weeks.forEach((week, tally) -> {
+            // 투두가 모두 삭제/이동되어 0만 남은 집계 행은 생략
+            if (tally.created == 0) {
+                return;
+            }
+            result.add(TodoWeekStatDto.builder()
+                    .weekStart(week)
+                    .createdCount(tally.created)
+                    .completedCount(tally.completed)
+                    .overdueCount(tally.overdue)
+                    .completionRate((double) tally.completed / tally.created)
+                    .build());
+        });
+        return result;
+    }
+
+    private static class WeekTally {
+        private int created;
+        private int completed;
+        private int overdue;
+
+        /**
+         * 집계 행([week, key, created, completed, overdue])의 개수 누적
+         */
+        void add(Object[] row) {
+            created += ((Number) row[2]).intValue();
+            completed += ((Number) row[3]).intValue();
+            overdue += ((Number) row[4]).intValue();
+        }
+    }
+}
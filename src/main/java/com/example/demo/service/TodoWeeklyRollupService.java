@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.TodoWeeklyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주간 투두 통계 집계(todo_weekly_rollup) 증감 관리
+ * 투두를 변경하기 전에 removeTodo(s)로 현재 상태를 빼고, 변경 후 addTodo(s)로 새 상태를 더합니다.
+ * 반복 투두는 저장된 발생마다 집계하므로, 발생 하나만 바뀌면 removeOccurrences/addOccurrences로 그 발생만 다시 반영합니다.
+ * 마감이 지나는 시점의 반영은 TodoOverdueRollupScheduler가 담당합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoWeeklyRollupService {
+
+    private final TodoWeeklyRollupRepository todoWeeklyRollupRepository;
+
+    @Transactional
+    public void addTodo(Long todoId) {
+        todoWeeklyRollupRepository.addTodos(List.of(todoId));
+    }
+
+    @Transactional
+    public void removeTodo(Long todoId) {
+        todoWeeklyRollupRepository.subtractTodos(List.of(todoId));
+    }
+
+    @Transactional
+    public void addTodos(List<Long> todoIds) {
+        if (!todoIds.isEmpty()) {
+            todoWeeklyRollupRepository.addTodos(todoIds);
+        }
+    }
+
+    @Transactional
+    public void removeTodos(List<Long> todoIds) {
+        if (!todoIds.isEmpty()) {
+            todoWeeklyRollupRepository.subtractTodos(todoIds);
+        }
+    }
+
+    /**
+     * 반복 투두 발생들을 집계에서 제외 (발생 완료 여부/마감일시 변경 전)
+     */
+    @Transactional
+    public void removeOccurrences(Long todoId, Collection<LocalDateTime> occurrenceAts) {
+        if (!occurrenceAts.isEmpty()) {
+            todoWeeklyRollupRepository.subtractOccurrences(todoId, joinOccurrenceAts(occurrenceAts));
+        }
+    }
+
+    /**
+     * 반복 투두 발생들을 집계에 추가 (발생 완료 여부/마감일시 변경 후)
+     */
+    @Transactional
+    public void addOccurrences(Long todoId, Collection<LocalDateTime> occurrenceAts) {
+        if (!occurrenceAts.isEmpty()) {
+            todoWeeklyRollupRepository.addOccurrences(todoId, joinOccurrenceAts(occurrenceAts));
+        }
+    }
+
+    /**
+     * 발생 기간 확장으로 새로 저장된 반복 투두 발생만 집계에 추가
+     */
+    @Transactional
+    public void addTodoOccurrencesFrom(Long todoId, LocalDateTime from) {
+        todoWeeklyRollupRepository.addTodoOccurrencesFrom(todoId, from);
+    }
+
+    /**
+     * 마감이 지난 미완료 투두를 마감 경과로 반영
+     * @return 반영된 집계 행 수
+     */
+    @Transactional
+    public int markOverdue() {
+        return todoWeeklyRollupRepository.markOverdue();
+    }
+
+    /**
+     * 팀원 삭제/탈퇴 시 해당 팀원의 개인 집계 삭제
+     */
+    @Transactional
+    public void removeMember(Long memberId) {
+        todoWeeklyRollupRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * 팀 집계 전체 재계산 (포지션 삭제로 투두들의 대표 포지션이 바뀔 때)
+     */
+    @Transactional
+    public void rebuildTeam(Long teamId) {
+        todoWeeklyRollupRepository.deleteByTeamId(teamId);
+        todoWeeklyRollupRepository.insertByTeamId(teamId);
+    }
+
+    private static String joinOccurrenceAts(Collection<LocalDateTime> occurrenceAts) {
+        return occurrenceAts.stream()
+                .map(occurrenceAt -> occurrenceAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .collect(Collectors.joining(","));
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final TeamScheduleCache teamScheduleCache;
+    private final TeamContentVersionService teamContentVersionService;
 
     /**
      * 사용자 프로필 조회
@@ -43,6 +45,9 @@ public class UserService {
                 throw new IllegalArgumentException("사용자 이름은 최대 10자까지 입력 가능합니다.");
             }
             user.setName(trimmedName);
+            // 일정 응답의 생성자 이름은 여러 팀에 걸쳐 있으므로 팀 일정 캐시 전체 무효화
+            teamScheduleCache.invalidateAll();
+            teamContentVersionService.bumpForUser(userId);
         }
 
         userRepository.save(user);
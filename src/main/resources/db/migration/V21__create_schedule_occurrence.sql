@@ -0,0 +1,22 @@
+-- V21__create_schedule_occurrence.sql
+-- 반복 일정의 발생(occurrence)을 미리 계산해 저장하는 schedule_occurrence 테이블 생성
+-- 일정 생성/수정/삭제 시 갱신되며, 백그라운드 작업이 롤링 기간(18개월)까지 확장합니다.
+
+CREATE TABLE schedule_occurrence (
+    id          BIGSERIAL PRIMARY KEY,
+    schedule_id BIGINT NOT NULL REFERENCES schedule(id) ON DELETE CASCADE,
+    team_id     BIGINT NOT NULL REFERENCES team(id) ON DELETE CASCADE,
+    start_at    TIMESTAMPTZ NOT NULL,
+    end_at      TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_schedule_occurrence_schedule_start UNIQUE (schedule_id, start_at)
+);
+
+-- 팀 캘린더 기간 조회 (인덱스 범위 스캔)
+CREATE INDEX IF NOT EXISTS idx_schedule_occurrence_team_start
+    ON schedule_occurrence(team_id, start_at);
+
+-- 일정별 발생이 계산된 시점 (NULL이면 아직 계산되지 않음 → 백그라운드 작업이 채움)
+ALTER TABLE schedule
+    ADD COLUMN IF NOT EXISTS occurrence_horizon TIMESTAMPTZ;
+
+COMMENT ON COLUMN schedule.occurrence_horizon IS '이 시각 이전에 시작하는 발생은 schedule_occurrence에 모두 저장됨';
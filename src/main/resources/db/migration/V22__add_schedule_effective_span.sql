@@ -0,0 +1,28 @@
+-- V22__add_schedule_effective_span.sql
+-- 스케줄 기간 조회 최적화: 일정의 유효 구간을 tstzrange 생성 컬럼으로 두고 GiST 인덱스로 겹침(&&) 조회
+
+-- team_id(BIGINT)와 범위 타입을 하나의 GiST 인덱스에 넣기 위한 확장
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- 유효 구간
+--   반복 없음: [start_at, end_at]
+--   반복 일정: [start_at, repeat_end_date] (종료일이 없으면 상한 없음)
+-- 잘못된 데이터(종료가 시작보다 이른 경우)로 범위 생성이 실패하지 않도록 GREATEST로 보정
+ALTER TABLE schedule
+    ADD COLUMN effective_span TSTZRANGE GENERATED ALWAYS AS (
+        CASE
+            WHEN COALESCE(repeat_type, 'NONE') = 'NONE'
+                THEN tstzrange(start_at, GREATEST(start_at, end_at), '[]')
+            WHEN repeat_end_date IS NULL
+                THEN tstzrange(start_at, NULL, '[)')
+            ELSE tstzrange(start_at, GREATEST(start_at, end_at, repeat_end_date), '[]')
+        END
+    ) STORED;
+
+-- 팀 캘린더 기간 조회
+CREATE INDEX IF NOT EXISTS idx_schedule_team_effective_span
+    ON schedule USING GIST (team_id, effective_span);
+
+-- 내 일정(참석자 기준) 기간 조회
+CREATE INDEX IF NOT EXISTS idx_schedule_effective_span
+    ON schedule USING GIST (effective_span);
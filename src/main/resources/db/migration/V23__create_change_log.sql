@@ -0,0 +1,21 @@
+-- V23__create_change_log.sql
+-- 델타 동기화(GET /me/changes)용 변경 이력 테이블 생성
+-- 일정/투두/공지의 생성·수정·삭제를 팀 단위로 기록하며, 삭제는 툼스톤(operation = DELETE)으로 남깁니다.
+
+CREATE TABLE change_log (
+    seq         BIGSERIAL PRIMARY KEY,
+    team_id     BIGINT NOT NULL,                            -- 팀 삭제 후에도 툼스톤을 전달할 수 있도록 FK 없음
+    entity_type VARCHAR(20) NOT NULL,                       -- SCHEDULE, TODO, NOTICE
+    entity_id   BIGINT NOT NULL,
+    operation   VARCHAR(10) NOT NULL,                       -- UPSERT, DELETE
+    txid        XID8 NOT NULL DEFAULT pg_current_xact_id(), -- 기록한 트랜잭션 ID (커밋 순서 보장용 커서)
+    changed_at  TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- 팀별 커서 이후 변경 조회
+CREATE INDEX IF NOT EXISTS idx_change_log_team_txid_seq
+    ON change_log(team_id, txid, seq);
+
+-- 보존 기간 지난 이력 정리
+CREATE INDEX IF NOT EXISTS idx_change_log_changed_at
+    ON change_log(changed_at);
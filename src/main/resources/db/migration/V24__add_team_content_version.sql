@@ -0,0 +1,5 @@
+-- V24__add_team_content_version.sql
+-- 팀 단위 콘텐츠 버전: 팀의 일정/투두/공지/포지션/팀원/팀 정보가 바뀔 때마다 1씩 증가
+-- 팀 조회 API의 ETag로 사용하여, 변경이 없으면 버전 조회 한 번으로 304 응답
+
+ALTER TABLE team ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
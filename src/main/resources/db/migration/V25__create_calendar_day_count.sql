@@ -0,0 +1,70 @@
+-- V25__create_calendar_day_count.sql
+-- 월간 달력 요약(날짜별 일정/투두 개수, 대표 포지션 색상)용 집계 테이블
+-- 일정/투두 변경 시 증감으로 유지되며, 날짜는 Asia/Seoul 기준입니다.
+
+-- =========================================================
+-- 1. 날짜별 집계 테이블
+--    member_id = 0 : 팀 전체 집계
+--    member_id > 0 : 해당 팀원이 참석자/담당자인 항목만 집계 (개인 달력용)
+--    position_id = 0 : 포지션 없는 항목 (대표 포지션 = order_index가 가장 작은 포지션)
+-- =========================================================
+
+CREATE TABLE calendar_day_count (
+    team_id         BIGINT  NOT NULL REFERENCES team(id) ON DELETE CASCADE,
+    member_id       BIGINT  NOT NULL DEFAULT 0,
+    day             DATE    NOT NULL,
+    position_id     BIGINT  NOT NULL DEFAULT 0,
+    schedule_count  INTEGER NOT NULL DEFAULT 0,
+    todo_count      INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (team_id, member_id, day, position_id)
+);
+
+-- 개인 달력 조회 (member_id IN (...) AND day BETWEEN ...)
+CREATE INDEX idx_calendar_day_count_member_day
+    ON calendar_day_count(member_id, day)
+    WHERE member_id <> 0;
+
+-- =========================================================
+-- 2. 기존 데이터 집계
+--    일정은 발생 테이블 기준(여러 날에 걸친 발생은 걸친 모든 날짜), 투두는 마감일 기준
+--    발생이 아직 계산되지 않은 일정은 발생 계산 시점에 집계됩니다.
+-- =========================================================
+
+INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+SELECT o.team_id, m.member_id, d.day::date, COALESCE(rp.position_id, 0), COUNT(*), 0
+FROM schedule_occurrence o
+CROSS JOIN LATERAL (
+    SELECT 0::BIGINT AS member_id
+    UNION ALL
+    SELECT a.member_id FROM schedule_attendee a WHERE a.schedule_id = o.schedule_id
+) m
+LEFT JOIN LATERAL (
+    SELECT sp.position_id FROM schedule_position sp
+    WHERE sp.schedule_id = o.schedule_id
+    ORDER BY sp.order_index
+    LIMIT 1
+) rp ON TRUE
+CROSS JOIN LATERAL generate_series(
+    (o.start_at AT TIME ZONE 'Asia/Seoul')::date,
+    (GREATEST(o.start_at, o.end_at - INTERVAL '1 microsecond') AT TIME ZONE 'Asia/Seoul')::date,
+    INTERVAL '1 day'
+) d(day)
+GROUP BY o.team_id, m.member_id, d.day, COALESCE(rp.position_id, 0);
+
+INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+SELECT t.team_id, m.member_id, (t.end_at AT TIME ZONE 'Asia/Seoul')::date, COALESCE(rp.position_id, 0), 0, COUNT(*)
+FROM todo t
+CROSS JOIN LATERAL (
+    SELECT 0::BIGINT AS member_id
+    UNION ALL
+    SELECT ta.member_id FROM todo_attendee ta WHERE ta.todo_id = t.id
+) m
+LEFT JOIN LATERAL (
+    SELECT tp.position_id FROM todo_position tp
+    WHERE tp.todo_id = t.id
+    ORDER BY tp.order_index
+    LIMIT 1
+) rp ON TRUE
+GROUP BY t.team_id, m.member_id, (t.end_at AT TIME ZONE 'Asia/Seoul')::date, COALESCE(rp.position_id, 0)
+ON CONFLICT (team_id, member_id, day, position_id)
+    DO UPDATE SET todo_count = calendar_day_count.todo_count + EXCLUDED.todo_count;
@@ -0,0 +1,12 @@
+-- V26__add_schedule_conflict_indexes.sql
+-- 참석자 일정 충돌 감지: 참석자 → 참석 일정 → 발생 구간 겹침(&&) 순으로 인덱스만 따라가며 조회
+
+-- 참석자별 참석 일정 (인덱스만으로 일정 ID를 얻도록 member_id 단일 인덱스를 복합 인덱스로 교체)
+DROP INDEX IF EXISTS idx_schedule_attendee_member_id;
+CREATE INDEX IF NOT EXISTS idx_schedule_attendee_member_schedule
+    ON schedule_attendee(member_id, schedule_id);
+
+-- 일정별 발생 구간 겹침 조회 (반복 일정도 발생 단위로 비교)
+-- 잘못된 데이터(종료가 시작보다 이른 경우)로 범위 생성이 실패하지 않도록 GREATEST로 보정
+CREATE INDEX IF NOT EXISTS idx_schedule_occurrence_schedule_span
+    ON schedule_occurrence USING GIST (schedule_id, tstzrange(start_at, GREATEST(start_at, end_at), '[)'));
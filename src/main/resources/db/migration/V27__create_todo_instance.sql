@@ -0,0 +1,23 @@
+-- V27__create_todo_instance.sql
+-- 반복 투두의 개별 발생(instance) 저장
+-- 발생은 조회 시 todo의 반복 규칙(V15 컬럼)으로 계산하고, 완료하거나 수정한 발생만 이 테이블에 저장합니다.
+-- 따라서 저장량/쓰기량은 달력 기간이 아니라 완료/수정 횟수에 비례합니다.
+
+CREATE TABLE todo_instance (
+    id            BIGSERIAL PRIMARY KEY,
+    todo_id       BIGINT NOT NULL REFERENCES todo(id) ON DELETE CASCADE,
+    occurrence_at TIMESTAMPTZ NOT NULL,
+    status        todo_status NOT NULL DEFAULT 'TODO',
+    title         VARCHAR(20),
+    description   TEXT,
+    end_at        TIMESTAMPTZ,
+    place         VARCHAR(100),
+    url           VARCHAR(1000),
+    created_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    CONSTRAINT uq_todo_instance_todo_occurrence UNIQUE (todo_id, occurrence_at)
+);
+
+COMMENT ON COLUMN todo_instance.occurrence_at IS '반복 규칙상 원래 마감일시 (발생 식별자)';
+COMMENT ON COLUMN todo_instance.end_at IS '이 발생만 변경한 마감일시 (NULL이면 occurrence_at)';
+COMMENT ON COLUMN todo_instance.title IS '이 발생만 변경한 제목 (NULL이면 시리즈 값, description/place/url도 동일)';
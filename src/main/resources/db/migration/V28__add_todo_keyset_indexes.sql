@@ -0,0 +1,10 @@
+-- V28__add_todo_keyset_indexes.sql
+-- 투두 목록 키셋 페이지네이션용 인덱스
+-- 마감일 순: (end_at, id) > (커서) 조건을 팀 단위 인덱스 범위 스캔으로 처리
+-- 미완료 우선: todo_status enum 순서(TODO < DONE)를 그대로 이용해 (status, end_at, id) 순으로 스캔
+
+CREATE INDEX IF NOT EXISTS idx_todo_team_end_at_id
+    ON todo (team_id, end_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_todo_team_status_end_at_id
+    ON todo (team_id, status, end_at, id);
@@ -0,0 +1,68 @@
+-- V29__create_todo_weekly_rollup.sql
+-- 팀 투두 완료율 통계용 주간 집계 테이블
+-- 투두 생성/수정/완료/삭제 시 증감으로 유지되며, 주는 마감일 기준 Asia/Seoul 월요일 시작입니다.
+-- 반복 투두는 발생이 저장되지 않으므로 집계하지 않습니다.
+
+-- =========================================================
+-- 1. 주간 집계 테이블
+--    member_id = 0 : 팀 전체 집계
+--    member_id > 0 : 해당 팀원이 담당자인 투두만 집계
+--    position_id = 0 : 포지션 없는 투두 (대표 포지션 = order_index가 가장 작은 포지션)
+--    overdue_count : 마감이 지났는데 완료되지 않은 투두 (todo.overdue_counted 기준)
+-- =========================================================
+
+CREATE TABLE todo_weekly_rollup (
+    team_id          BIGINT  NOT NULL REFERENCES team(id) ON DELETE CASCADE,
+    member_id        BIGINT  NOT NULL DEFAULT 0,
+    week_start       DATE    NOT NULL,
+    position_id      BIGINT  NOT NULL DEFAULT 0,
+    created_count    INTEGER NOT NULL DEFAULT 0,
+    completed_count  INTEGER NOT NULL DEFAULT 0,
+    overdue_count    INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (team_id, member_id, week_start, position_id)
+);
+
+-- =========================================================
+-- 2. 마감 경과 집계 여부
+--    집계에 overdue로 반영된 투두를 표시해, 마감이 지나는 시점(스케줄러)과 변경 시점의 증감이 어긋나지 않게 합니다.
+-- =========================================================
+
+ALTER TABLE todo
+    ADD COLUMN IF NOT EXISTS overdue_counted BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN todo.overdue_counted IS '주간 집계(todo_weekly_rollup)에 마감 경과로 반영되었는지 여부';
+
+-- 마감 경과 스케줄러 조회 (아직 반영되지 않은 미완료 투두의 마감일시 범위)
+CREATE INDEX idx_todo_overdue_pending
+    ON todo(end_at)
+    WHERE status = 'TODO' AND NOT overdue_counted;
+
+-- =========================================================
+-- 3. 기존 데이터 집계
+-- =========================================================
+
+UPDATE todo
+SET overdue_counted = TRUE
+WHERE status = 'TODO'
+  AND end_at < NOW()
+  AND COALESCE(repeat_type, 'NONE') = 'NONE';
+
+INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+SELECT t.team_id, m.member_id, date_trunc('week', t.end_at AT TIME ZONE 'Asia/Seoul')::date, COALESCE(rp.position_id, 0),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE t.status = 'DONE'),
+       COUNT(*) FILTER (WHERE t.overdue_counted)
+FROM todo t
+CROSS JOIN LATERAL (
+    SELECT 0::BIGINT AS member_id
+    UNION ALL
+    SELECT ta.member_id FROM todo_attendee ta WHERE ta.todo_id = t.id
+) m
+LEFT JOIN LATERAL (
+    SELECT tp.position_id FROM todo_position tp
+    WHERE tp.todo_id = t.id
+    ORDER BY tp.order_index
+    LIMIT 1
+) rp ON TRUE
+WHERE COALESCE(t.repeat_type, 'NONE') = 'NONE'
+GROUP BY t.team_id, m.member_id, date_trunc('week', t.end_at AT TIME ZONE 'Asia/Seoul')::date, COALESCE(rp.position_id, 0);
@@ -0,0 +1,69 @@
+-- V30__create_todo_reminder.sql
+-- 투두 마감 알림 예정 테이블
+-- (투두, 담당자, 알림 시간)별 알림 시각을 미리 계산해 두고, 스케줄러는 시각이 된 행만 부분 인덱스로 가져갑니다.
+-- 투두/담당자/알림 설정이 바뀌면 해당 범위의 행을 다시 계산합니다.
+
+-- =========================================================
+-- 1. 알림 대상 계산 뷰
+--    기존 스케줄러와 같은 규칙:
+--    - 팀 알림/팀 투두 마감 알림/개인 전체 알림/개인 투두 마감 알림 중 하나라도 꺼져 있으면 제외
+--    - 알림 시간은 팀 설정 우선, 없으면 개인 설정
+--    - TODO 상태인 투두만 대상
+-- =========================================================
+
+CREATE VIEW todo_reminder_source AS
+SELECT t.id AS todo_id,
+       t.team_id,
+       m.user_id,
+       mb.minutes_before,
+       t.end_at - make_interval(mins => mb.minutes_before) AS fire_at
+FROM todo t
+JOIN todo_attendee ta ON ta.todo_id = t.id
+JOIN team_member m ON m.id = ta.member_id
+LEFT JOIN notification_setting ns ON ns.user_id = m.user_id AND ns.team_id = t.team_id
+LEFT JOIN personal_notification_setting ps ON ps.user_id = m.user_id
+CROSS JOIN LATERAL unnest(CASE
+        WHEN ns.enable_todo_deadline_notification AND cardinality(ns.todo_deadline_notification_minutes) > 0
+            THEN ns.todo_deadline_notification_minutes
+        WHEN ps.enable_todo_deadline_notification AND cardinality(ps.todo_deadline_notification_minutes) > 0
+            THEN ps.todo_deadline_notification_minutes
+    END) AS mb(minutes_before)
+WHERE t.status = 'TODO'
+  AND COALESCE(ns.enable_team_alarm, TRUE)
+  AND COALESCE(ns.enable_todo_deadline_notification, TRUE)
+  AND COALESCE(ps.enable_all_personal_notifications, TRUE)
+  AND COALESCE(ps.enable_todo_deadline_notification, TRUE)
+  AND mb.minutes_before >= 0;
+
+-- =========================================================
+-- 2. 알림 예정 테이블
+--    sent_at IS NULL : 아직 전송하지 않은 알림
+-- =========================================================
+
+CREATE TABLE todo_reminder (
+    todo_id         BIGINT      NOT NULL REFERENCES todo(id) ON DELETE CASCADE,
+    user_id         BIGINT      NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+    minutes_before  INTEGER     NOT NULL,
+    fire_at         TIMESTAMPTZ NOT NULL,
+    sent_at         TIMESTAMPTZ,
+    PRIMARY KEY (todo_id, user_id, minutes_before)
+);
+
+-- 전송 대기 행만 알림 시각 순으로 (스케줄러 조회용)
+CREATE INDEX idx_todo_reminder_pending
+    ON todo_reminder (fire_at)
+    WHERE sent_at IS NULL;
+
+-- 사용자 단위 재계산용 (알림 설정 변경, 팀 탈퇴)
+CREATE INDEX idx_todo_reminder_user
+    ON todo_reminder (user_id);
+
+-- =========================================================
+-- 3. 기존 데이터 적재 (아직 알림 시각이 지나지 않은 것만)
+-- =========================================================
+
+INSERT INTO todo_reminder (todo_id, user_id, minutes_before, fire_at)
+SELECT todo_id, user_id, minutes_before, fire_at
+FROM todo_reminder_source
+WHERE fire_at > NOW()
+ON CONFLICT DO NOTHING;
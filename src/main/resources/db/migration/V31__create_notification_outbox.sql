@@ -0,0 +1,38 @@
+-- V31__create_notification_outbox.sql
+-- 푸시 알림 아웃박스
+-- 업무 변경과 같은 트랜잭션에서 (디바이스 토큰, 메시지) 단위로 적재하고, NotificationOutboxWorker가 비동기로 전송합니다.
+-- 전송 실패 시 지수 백오프로 재시도하며, 재기동해도 미전송 알림이 유지됩니다.
+
+-- =========================================================
+-- 1. 아웃박스 테이블
+--    status          : PENDING(전송 대기/재시도 대기), SENT(전송 완료), FAILED(재시도 불가 또는 최대 시도 초과)
+--    idempotency_key : 같은 토큰·같은 내용의 알림이 같은 분에 중복 적재되지 않도록 하는 키
+--    next_attempt_at : 다음 전송 시도 시각 (전송 중에는 선점 만료 시각)
+-- =========================================================
+
+CREATE TABLE notification_outbox (
+    id               BIGSERIAL    PRIMARY KEY,
+    idempotency_key  VARCHAR(64)  NOT NULL,
+    device_token     VARCHAR(255) NOT NULL,
+    title            VARCHAR(255) NOT NULL,
+    body             TEXT         NOT NULL,
+    data             JSONB        NOT NULL DEFAULT '{}'::jsonb,
+    status           VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    last_error       VARCHAR(500),
+    created_at       TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    sent_at          TIMESTAMPTZ,
+    CONSTRAINT uq_notification_outbox_idempotency_key UNIQUE (idempotency_key),
+    CONSTRAINT chk_notification_outbox_status CHECK (status IN ('PENDING', 'SENT', 'FAILED'))
+);
+
+-- 전송 대기 행만 다음 시도 시각 순으로 (워커 선점용)
+CREATE INDEX idx_notification_outbox_pending
+    ON notification_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
+
+-- 완료/실패 행 정리용
+CREATE INDEX idx_notification_outbox_created_at
+    ON notification_outbox (created_at)
+    WHERE status <> 'PENDING';
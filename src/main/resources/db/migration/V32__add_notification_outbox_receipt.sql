@@ -0,0 +1,24 @@
+-- V32__add_notification_outbox_receipt.sql
+-- 푸시 영수증(receipt) 확인
+-- 전송 성공 티켓 ID를 저장해 두고, PushReceiptScheduler가 일정 시간 뒤 Expo 영수증을 일괄 조회합니다.
+-- DeviceNotRegistered 영수증을 받은 토큰은 device_token에서 삭제합니다.
+
+-- =========================================================
+-- 1. 영수증 컬럼
+--    ticket_id        : 전송 성공 시 Expo가 돌려준 티켓 ID
+--    receipt_check_at : 다음 영수증 조회 시각 (NULL이면 조회 대상 아님, 조회 중에는 선점 만료 시각)
+--    receipt_status   : 영수증 결과 (OK / ERROR, 영수증을 받기 전이거나 만료되면 NULL)
+--    receipt_error    : 영수증 에러 (details.error, 없으면 message)
+-- =========================================================
+
+ALTER TABLE notification_outbox
+    ADD COLUMN ticket_id        VARCHAR(64),
+    ADD COLUMN receipt_check_at TIMESTAMPTZ,
+    ADD COLUMN receipt_status   VARCHAR(20),
+    ADD COLUMN receipt_error    VARCHAR(500),
+    ADD CONSTRAINT chk_notification_outbox_receipt_status CHECK (receipt_status IN ('OK', 'ERROR'));
+
+-- 영수증 조회 대기 행만 조회 시각 순으로 (스케줄러 선점용)
+CREATE INDEX idx_notification_outbox_receipt_check
+    ON notification_outbox (receipt_check_at)
+    WHERE receipt_check_at IS NOT NULL;
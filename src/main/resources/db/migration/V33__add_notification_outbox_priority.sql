@@ -0,0 +1,19 @@
+-- V33__add_notification_outbox_priority.sql
+-- 푸시 전송 우선순위 레인
+-- 외부 푸시 전송량을 PushRateLimiter로 제한하면서, 적체 시에는 리마인더 → 변경 알림 → 공지 순으로 먼저 전송합니다.
+
+-- =========================================================
+-- 1. 우선순위 컬럼
+--    priority : PushLane 순서 (0 = REMINDER, 1 = CHANGE, 2 = BULK, 작을수록 먼저 전송)
+-- =========================================================
+
+ALTER TABLE notification_outbox
+    ADD COLUMN priority INTEGER NOT NULL DEFAULT 1,
+    ADD CONSTRAINT chk_notification_outbox_priority CHECK (priority BETWEEN 0 AND 2);
+
+-- 전송 대기 행을 우선순위, 다음 시도 시각 순으로 (워커 선점용)
+DROP INDEX idx_notification_outbox_pending;
+
+CREATE INDEX idx_notification_outbox_pending
+    ON notification_outbox (priority, next_attempt_at)
+    WHERE status = 'PENDING';
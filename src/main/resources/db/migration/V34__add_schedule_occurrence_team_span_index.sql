@@ -0,0 +1,7 @@
+-- V34__add_schedule_occurrence_team_span_index.sql
+-- 발생 기간 조회 최적화: (team_id, start_at) 인덱스는 종료 조건(end_at >= 시작)에 하한이 없어 팀의 과거 발생을 모두 읽으므로,
+-- 발생 구간을 tstzrange로 두고 팀 + 구간 GiST 인덱스로 겹침(&&) 조회
+
+-- 잘못된 데이터(종료가 시작보다 이른 경우)로 범위 생성이 실패하지 않도록 GREATEST로 보정
+CREATE INDEX IF NOT EXISTS idx_schedule_occurrence_team_span
+    ON schedule_occurrence USING GIST (team_id, tstzrange(start_at, GREATEST(start_at, end_at), '[]'));
@@ -0,0 +1,64 @@
+-- V35__create_aggregate_key_views.sql
+-- 집계 테이블(calendar_day_count, todo_weekly_rollup) 증감 쿼리가 공통으로 쓰는 규칙을 뷰로 모음
+-- 뷰는 조회 시 펼쳐지므로(inline) schedule_id/todo_id 조건이 그대로 인덱스 조회로 내려갑니다.
+
+-- =========================================================
+-- 1. 집계 키 뷰
+--    항목 하나가 더해지는 (팀원, 대표 포지션) 조합
+--    member_id = 0 : 팀 전체 집계, member_id > 0 : 참석자/담당자별 집계
+--    position_id   : 대표 포지션 (order_index가 가장 작은 포지션, 없으면 0)
+-- =========================================================
+
+CREATE VIEW schedule_aggregate_key AS
+SELECT s.id AS schedule_id,
+       s.team_id,
+       m.member_id,
+       COALESCE(rp.position_id, 0) AS position_id
+FROM schedule s
+CROSS JOIN LATERAL (
+    SELECT CAST(0 AS BIGINT) AS member_id
+    UNION ALL
+    SELECT a.member_id FROM schedule_attendee a WHERE a.schedule_id = s.id
+) m
+LEFT JOIN LATERAL (
+    SELECT sp.position_id FROM schedule_position sp
+    WHERE sp.schedule_id = s.id
+    ORDER BY sp.order_index
+    LIMIT 1
+) rp ON TRUE;
+
+CREATE VIEW todo_aggregate_key AS
+SELECT t.id AS todo_id,
+       t.team_id,
+       m.member_id,
+       COALESCE(rp.position_id, 0) AS position_id
+FROM todo t
+CROSS JOIN LATERAL (
+    SELECT CAST(0 AS BIGINT) AS member_id
+    UNION ALL
+    SELECT ta.member_id FROM todo_attendee ta WHERE ta.todo_id = t.id
+) m
+LEFT JOIN LATERAL (
+    SELECT tp.position_id FROM todo_position tp
+    WHERE tp.todo_id = t.id
+    ORDER BY tp.order_index
+    LIMIT 1
+) rp ON TRUE;
+
+-- =========================================================
+-- 2. 일정 발생 날짜 뷰
+--    발생이 걸친 모든 날짜 (Asia/Seoul 기준, 종료 시각이 자정이면 그 날은 제외)
+-- =========================================================
+
+CREATE VIEW schedule_occurrence_day AS
+SELECT o.id AS occurrence_id,
+       o.schedule_id,
+       o.team_id,
+       o.start_at,
+       CAST(d.day AS DATE) AS day
+FROM schedule_occurrence o
+CROSS JOIN LATERAL generate_series(
+    CAST(o.start_at AT TIME ZONE 'Asia/Seoul' AS DATE),
+    CAST(GREATEST(o.start_at, o.end_at - INTERVAL '1 microsecond') AT TIME ZONE 'Asia/Seoul' AS DATE),
+    INTERVAL '1 day'
+) d(day);
@@ -0,0 +1,5 @@
+-- V36__drop_schedule_occurrence_schedule_span_index.sql
+-- 일정 충돌 조회가 팀 + 구간 GiST 인덱스(V34)로 시간이 겹치는 발생을 먼저 찾도록 바뀌어,
+-- 참석자 → 참석 일정 → 일정별 구간 순으로 따라가던 일정 + 구간 GiST 인덱스(V26)는 더 이상 쓰지 않으므로 삭제
+
+DROP INDEX IF EXISTS idx_schedule_occurrence_schedule_span;
@@ -0,0 +1,64 @@
+-- V37__create_todo_occurrence.sql
+-- 반복 투두의 발생(occurrence)을 일정(schedule_occurrence)과 같은 롤링 기간(18개월)까지 미리 계산해 저장
+-- 달력 집계(calendar_day_count)가 반복 투두를 첫 마감일 하루가 아니라 발생 날짜마다 세도록 합니다.
+-- 발생별 완료/수정 내역은 계속 todo_instance에만 저장되며, 이 테이블은 반복 규칙의 전개 결과만 담습니다.
+
+-- =========================================================
+-- 1. 반복 투두 발생 테이블 (반복하지 않는 투두는 저장하지 않음)
+-- =========================================================
+
+CREATE TABLE todo_occurrence (
+    id            BIGSERIAL PRIMARY KEY,
+    todo_id       BIGINT NOT NULL REFERENCES todo(id) ON DELETE CASCADE,
+    team_id       BIGINT NOT NULL REFERENCES team(id) ON DELETE CASCADE,
+    occurrence_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_todo_occurrence_todo_occurrence UNIQUE (todo_id, occurrence_at)
+);
+
+-- 팀 기간 조회 (인덱스 범위 스캔)
+CREATE INDEX IF NOT EXISTS idx_todo_occurrence_team_occurrence
+    ON todo_occurrence(team_id, occurrence_at);
+
+-- 반복 투두별 발생이 계산된 시점 (반복 투두인데 NULL이면 아직 계산되지 않음 → 백그라운드 작업이 채움)
+ALTER TABLE todo
+    ADD COLUMN IF NOT EXISTS occurrence_horizon TIMESTAMPTZ;
+
+COMMENT ON COLUMN todo.occurrence_horizon IS '이 시각 이전의 반복 발생은 todo_occurrence에 모두 저장됨';
+
+-- =========================================================
+-- 2. 투두 마감 날짜 뷰 (달력 집계용, Asia/Seoul 기준)
+--    반복하지 않는 투두 : 마감일 하루
+--    반복 투두          : 저장된 발생마다 하루 (발생만 마감일을 바꾼 경우 todo_instance.end_at 기준)
+-- =========================================================
+
+CREATE VIEW todo_occurrence_day AS
+SELECT t.id AS todo_id,
+       t.team_id,
+       t.end_at AS occurrence_at,
+       CAST(t.end_at AT TIME ZONE 'Asia/Seoul' AS DATE) AS day
+FROM todo t
+WHERE COALESCE(t.repeat_type, 'NONE') = 'NONE'
+UNION ALL
+SELECT o.todo_id,
+       o.team_id,
+       o.occurrence_at,
+       CAST(COALESCE(i.end_at, o.occurrence_at) AT TIME ZONE 'Asia/Seoul' AS DATE) AS day
+FROM todo_occurrence o
+LEFT JOIN todo_instance i
+       ON i.todo_id = o.todo_id
+      AND i.occurrence_at = o.occurrence_at;
+
+-- =========================================================
+-- 3. 기존 집계 보정
+--    지금까지 반복 투두는 첫 마감일 하루로만 집계되었으므로 그 값을 빼 둡니다.
+--    발생이 계산되면(백그라운드 작업) 발생 날짜마다 다시 더해집니다.
+-- =========================================================
+
+INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+SELECT t.team_id, k.member_id, CAST(t.end_at AT TIME ZONE 'Asia/Seoul' AS DATE), k.position_id, 0, -COUNT(*)
+FROM todo t
+JOIN todo_aggregate_key k ON k.todo_id = t.id
+WHERE COALESCE(t.repeat_type, 'NONE') <> 'NONE'
+GROUP BY t.team_id, k.member_id, CAST(t.end_at AT TIME ZONE 'Asia/Seoul' AS DATE), k.position_id
+ON CONFLICT (team_id, member_id, day, position_id)
+    DO UPDATE SET todo_count = calendar_day_count.todo_count + EXCLUDED.todo_count;
@@ -0,0 +1,84 @@
+-- V38__todo_reminder_per_occurrence.sql
+-- 투두 마감 알림을 반복 투두의 발생마다 보내도록 알림 예정을 발생 단위로 변경
+-- 지금까지는 todo.end_at(첫 마감일)과 시리즈 상태로만 계산해 반복 투두는 첫 발생에만 알림이 갔습니다.
+-- 반복 투두는 저장된 발생(todo_occurrence)과 발생별 완료/수정 내역(todo_instance)으로 계산하고,
+-- 전체 기간이 아니라 앞으로 48시간(TodoReminderService.LOOKAHEAD_HOURS) 안의 알림만 적재합니다.
+-- 그 이후의 알림은 스케줄러가 주기적으로 이어서 적재합니다.
+
+-- =========================================================
+-- 1. 알림 대상 계산 뷰 (발생 단위)
+--    반복하지 않는 투두 : occurrence_at = 마감일시, 투두 상태
+--    반복 투두          : 저장된 발생마다, 발생만 변경한 마감일시/상태가 있으면 그 값
+--    알림 설정 규칙은 V30과 같습니다.
+-- =========================================================
+
+DROP VIEW todo_reminder_source;
+
+CREATE VIEW todo_reminder_source AS
+SELECT d.todo_id,
+       d.team_id,
+       d.occurrence_at,
+       m.user_id,
+       mb.minutes_before,
+       d.due_at - make_interval(mins => mb.minutes_before) AS fire_at
+FROM (
+    SELECT t.id AS todo_id, t.team_id, t.end_at AS occurrence_at, t.end_at AS due_at, t.status
+    FROM todo t
+    WHERE COALESCE(t.repeat_type, 'NONE') = 'NONE'
+    UNION ALL
+    SELECT o.todo_id, o.team_id, o.occurrence_at, COALESCE(i.end_at, o.occurrence_at), COALESCE(i.status, 'TODO')
+    FROM todo_occurrence o
+    LEFT JOIN todo_instance i
+           ON i.todo_id = o.todo_id
+          AND i.occurrence_at = o.occurrence_at
+) d
+JOIN todo_attendee ta ON ta.todo_id = d.todo_id
+JOIN team_member m ON m.id = ta.member_id
+LEFT JOIN notification_setting ns ON ns.user_id = m.user_id AND ns.team_id = d.team_id
+LEFT JOIN personal_notification_setting ps ON ps.user_id = m.user_id
+CROSS JOIN LATERAL unnest(CASE
+        WHEN ns.enable_todo_deadline_notification AND cardinality(ns.todo_deadline_notification_minutes) > 0
+            THEN ns.todo_deadline_notification_minutes
+        WHEN ps.enable_todo_deadline_notification AND cardinality(ps.todo_deadline_notification_minutes) > 0
+            THEN ps.todo_deadline_notification_minutes
+    END) AS mb(minutes_before)
+WHERE d.status = 'TODO'
+  AND COALESCE(ns.enable_team_alarm, TRUE)
+  AND COALESCE(ns.enable_todo_deadline_notification, TRUE)
+  AND COALESCE(ps.enable_all_personal_notifications, TRUE)
+  AND COALESCE(ps.enable_todo_deadline_notification, TRUE)
+  AND mb.minutes_before >= 0;
+
+-- =========================================================
+-- 2. 알림 예정 테이블에 발생 식별자 추가
+--    기존 행은 모두 첫 마감일 기준이므로 todo.end_at으로 채웁니다.
+-- =========================================================
+
+ALTER TABLE todo_reminder
+    ADD COLUMN IF NOT EXISTS occurrence_at TIMESTAMPTZ;
+
+UPDATE todo_reminder r
+SET occurrence_at = t.end_at
+FROM todo t
+WHERE t.id = r.todo_id;
+
+ALTER TABLE todo_reminder
+    ALTER COLUMN occurrence_at SET NOT NULL,
+    DROP CONSTRAINT todo_reminder_pkey,
+    ADD PRIMARY KEY (todo_id, occurrence_at, user_id, minutes_before);
+
+COMMENT ON COLUMN todo_reminder.occurrence_at IS '알림 대상 발생 (반복 규칙상 마감일시, 반복하지 않는 투두는 마감일시)';
+
+-- =========================================================
+-- 3. 전송 전 알림 다시 적재 (앞으로 48시간 안의 알림만)
+-- =========================================================
+
+DELETE FROM todo_reminder
+WHERE sent_at IS NULL;
+
+INSERT INTO todo_reminder (todo_id, occurrence_at, user_id, minutes_before, fire_at)
+SELECT todo_id, occurrence_at, user_id, minutes_before, fire_at
+FROM todo_reminder_source
+WHERE fire_at > NOW()
+  AND fire_at <= NOW() + INTERVAL '48 hours'
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,27 @@
+-- V39__backfill_far_future_one_off_schedule_occurrence.sql
+-- 발생 계산 기간(18개월) 밖에서 시작하는 반복 없는 일정의 발생 보충
+-- 지금까지는 반복 없는 일정도 계산 기간까지만 발생을 저장해, 기간 밖에서 시작하는 일정은 발생이 없었고
+-- 기간 확장 대상(반복 일정만)에서도 빠져 끝내 저장되지 않았습니다.
+-- 이제 반복 없는 일정은 기간과 무관하게 발생을 저장하므로(ScheduleOccurrenceService), 빠진 발생과 날짜별 집계를 채웁니다.
+
+CREATE TEMPORARY TABLE missing_one_off_schedule ON COMMIT DROP AS
+SELECT s.id
+FROM schedule s
+WHERE COALESCE(s.repeat_type, 'NONE') = 'NONE'
+  AND s.occurrence_horizon IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM schedule_occurrence o WHERE o.schedule_id = s.id);
+
+INSERT INTO schedule_occurrence (schedule_id, team_id, start_at, end_at)
+SELECT s.id, s.team_id, s.start_at, s.end_at
+FROM schedule s
+JOIN missing_one_off_schedule m ON m.id = s.id
+ON CONFLICT (schedule_id, start_at) DO NOTHING;
+
+INSERT INTO calendar_day_count (team_id, member_id, day, position_id, schedule_count, todo_count)
+SELECT d.team_id, k.member_id, d.day, k.position_id, COUNT(*), 0
+FROM schedule_occurrence_day d
+JOIN missing_one_off_schedule m ON m.id = d.schedule_id
+JOIN schedule_aggregate_key k ON k.schedule_id = d.schedule_id
+GROUP BY d.team_id, k.member_id, d.day, k.position_id
+ON CONFLICT (team_id, member_id, day, position_id)
+    DO UPDATE SET schedule_count = calendar_day_count.schedule_count + EXCLUDED.schedule_count;
@@ -0,0 +1,12 @@
+-- V40__document_todo_occurrence_storage.sql
+-- 반복 투두 저장 방식 설명 정정
+-- V27은 "발생은 조회 시 반복 규칙으로 계산하고 완료/수정한 발생만 저장하므로 저장량은 완료/수정 횟수에 비례"한다고 적었지만,
+-- V37부터 반복 투두의 모든 발생을 롤링 기간(18개월)까지 todo_occurrence에 미리 저장합니다.
+-- 적용된 마이그레이션(V27)은 체크섬 때문에 고칠 수 없으므로 테이블 설명으로 현재 방식을 남깁니다.
+
+COMMENT ON TABLE todo_instance IS
+    '반복 투두 발생별 완료/수정 내역 (완료하거나 수정한 발생만 저장, 발생 목록 자체는 todo_occurrence)';
+
+COMMENT ON TABLE todo_occurrence IS
+    '반복 투두 발생 전개 결과 (현재 기준 18개월까지 모든 발생 저장, 매일 반복 시리즈당 약 550행). '
+    '저장량/쓰기량은 반복 시리즈 수 × 기간 내 발생 수에 비례하며, 기간 확장 작업이 매달 한 달치씩 추가합니다.';
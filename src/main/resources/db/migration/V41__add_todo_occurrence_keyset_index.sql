@@ -0,0 +1,10 @@
+-- V41__add_todo_occurrence_keyset_index.sql
+-- 반복 투두 발생 키셋 페이지 인덱스
+-- 내역(todo_instance)이 없는 발생은 (occurrence_at, todo_id) 순서로 페이지를 나누므로
+-- 같은 시각 발생의 순서(todo_id)까지 인덱스로 읽도록 기존 (team_id, occurrence_at) 인덱스를 대체합니다.
+-- 내역이 있는 발생은 todo_instance 유니크 인덱스 (todo_id, occurrence_at)로 읽습니다.
+
+CREATE INDEX IF NOT EXISTS idx_todo_occurrence_team_occurrence_todo
+    ON todo_occurrence(team_id, occurrence_at, todo_id);
+
+DROP INDEX IF EXISTS idx_todo_occurrence_team_occurrence;
@@ -0,0 +1,62 @@
+-- V42__rollup_recurring_todo_occurrences.sql
+-- 주간 투두 집계(todo_weekly_rollup)에 반복 투두를 발생마다 반영
+-- V29에서는 반복 투두의 발생이 저장되지 않아 집계에서 제외했지만, V37부터 발생이 todo_occurrence에 저장되므로
+-- 달력 집계(calendar_day_count)와 같이 저장된 발생마다 발생 마감 주에 집계합니다.
+-- 발생의 상태/마감일시는 발생 내역(todo_instance)이 있으면 그 값, 없으면 TODO / 반복 규칙상 마감일시입니다.
+
+-- =========================================================
+-- 1. 발생별 마감 경과 집계 여부 (todo.overdue_counted와 같은 용도)
+-- =========================================================
+
+ALTER TABLE todo_occurrence
+    ADD COLUMN IF NOT EXISTS overdue_counted BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN todo_occurrence.overdue_counted IS '주간 집계(todo_weekly_rollup)에 마감 경과로 반영되었는지 여부';
+
+-- 마감 경과 스케줄러 조회 (아직 반영되지 않은 발생의 반복 규칙상 마감일시 범위)
+CREATE INDEX idx_todo_occurrence_overdue_pending
+    ON todo_occurrence(occurrence_at)
+    WHERE NOT overdue_counted;
+
+-- =========================================================
+-- 2. 발생 상태 뷰 (발생 내역을 반영한 상태/마감일시)
+-- =========================================================
+
+CREATE VIEW todo_occurrence_state AS
+SELECT o.id,
+       o.todo_id,
+       o.team_id,
+       o.occurrence_at,
+       COALESCE(i.end_at, o.occurrence_at) AS due_at,
+       COALESCE(i.status, CAST('TODO' AS todo_status)) AS status,
+       o.overdue_counted
+FROM todo_occurrence o
+LEFT JOIN todo_instance i
+       ON i.todo_id = o.todo_id
+      AND i.occurrence_at = o.occurrence_at;
+
+-- =========================================================
+-- 3. 기존 발생 집계
+-- =========================================================
+
+UPDATE todo_occurrence o
+SET overdue_counted = TRUE
+FROM todo_occurrence_state s
+WHERE s.id = o.id
+  AND s.status = 'TODO'
+  AND s.due_at < NOW();
+
+INSERT INTO todo_weekly_rollup (team_id, member_id, week_start, position_id, created_count, completed_count, overdue_count)
+SELECT s.team_id, k.member_id, CAST(date_trunc('week', s.due_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE s.status = 'DONE'),
+       COUNT(*) FILTER (WHERE s.overdue_counted)
+FROM todo_occurrence_state s
+JOIN todo_aggregate_key k ON k.todo_id = s.todo_id
+GROUP BY s.team_id, k.member_id, CAST(date_trunc('week', s.due_at AT TIME ZONE 'Asia/Seoul') AS DATE), k.position_id
+ON CONFLICT (team_id, member_id, week_start, position_id)
+    DO UPDATE SET created_count = todo_weekly_rollup.created_count + EXCLUDED.created_count,
+                  completed_count = todo_weekly_rollup.completed_count + EXCLUDED.completed_count,
+                  overdue_count = todo_weekly_rollup.overdue_count + EXCLUDED.overdue_count;
+
+COMMENT ON TABLE todo_weekly_rollup IS '마감 주별 투두 집계 (반복 투두는 저장된 발생마다 발생 마감 주에 집계)';
@@ -0,0 +1,76 @@
+-- V43__bound_todo_reminder_source_by_due.sql
+-- 알림 예정 적재(insertUpcoming)가 마감일시 범위로 인덱스를 타도록 알림 대상 뷰를 다시 정의
+-- V38 뷰는 계산한 알림 시각(fire_at)으로만 거를 수 있어, 적재할 때마다 모든 투두와 저장된 발생(최대 18개월)을 읽었습니다.
+-- 마감일시(due_at)를 함께 노출하고, 발생 내역이 없는 발생과 있는 발생을 나눠 각 갈래의 마감일시가 인덱스 열(식)이 되도록 합니다.
+-- 알림 시간(minutes_before)은 0 이상이므로 fire_at이 (NOW(), NOW() + 적재 기간]이면
+-- due_at은 (NOW(), NOW() + 적재 기간 + 가장 큰 알림 시간] 안에 있습니다.
+
+-- =========================================================
+-- 1. 알림 대상 계산 뷰 (발생 단위, 알림 설정 규칙은 V30/V38과 같음)
+--    반복하지 않는 투두          : occurrence_at = due_at = 마감일시
+--    발생 내역이 없는 반복 발생  : occurrence_at = due_at = 반복 규칙상 마감일시
+--    발생 내역이 있는 반복 발생  : 발생만 변경한 마감일시/상태 기준
+-- =========================================================
+
+DROP VIEW todo_reminder_source;
+
+CREATE VIEW todo_reminder_source AS
+SELECT d.todo_id,
+       d.team_id,
+       d.occurrence_at,
+       m.user_id,
+       mb.minutes_before,
+       d.due_at - make_interval(mins => mb.minutes_before) AS fire_at,
+       d.due_at
+FROM (
+    SELECT t.id AS todo_id, t.team_id, t.end_at AS occurrence_at, t.end_at AS due_at
+    FROM todo t
+    WHERE COALESCE(t.repeat_type, 'NONE') = 'NONE'
+      AND t.status = 'TODO'
+    UNION ALL
+    SELECT o.todo_id, o.team_id, o.occurrence_at, o.occurrence_at
+    FROM todo_occurrence o
+    WHERE NOT EXISTS (
+        SELECT 1
+        FROM todo_instance i
+        WHERE i.todo_id = o.todo_id
+          AND i.occurrence_at = o.occurrence_at
+    )
+    UNION ALL
+    SELECT i.todo_id, o.team_id, i.occurrence_at, COALESCE(i.end_at, i.occurrence_at)
+    FROM todo_instance i
+    JOIN todo_occurrence o
+      ON o.todo_id = i.todo_id
+     AND o.occurrence_at = i.occurrence_at
+    WHERE i.status = 'TODO'
+) d
+JOIN todo_attendee ta ON ta.todo_id = d.todo_id
+JOIN team_member m ON m.id = ta.member_id
+LEFT JOIN notification_setting ns ON ns.user_id = m.user_id AND ns.team_id = d.team_id
+LEFT JOIN personal_notification_setting ps ON ps.user_id = m.user_id
+CROSS JOIN LATERAL unnest(CASE
+        WHEN ns.enable_todo_deadline_notification AND cardinality(ns.todo_deadline_notification_minutes) > 0
+            THEN ns.todo_deadline_notification_minutes
+        WHEN ps.enable_todo_deadline_notification AND cardinality(ps.todo_deadline_notification_minutes) > 0
+            THEN ps.todo_deadline_notification_minutes
+    END) AS mb(minutes_before)
+WHERE COALESCE(ns.enable_team_alarm, TRUE)
+  AND COALESCE(ns.enable_todo_deadline_notification, TRUE)
+  AND COALESCE(ps.enable_all_personal_notifications, TRUE)
+  AND COALESCE(ps.enable_todo_deadline_notification, TRUE)
+  AND mb.minutes_before >= 0;
+
+-- =========================================================
+-- 2. 마감일시 범위 인덱스 (갈래별)
+-- =========================================================
+
+CREATE INDEX IF NOT EXISTS idx_todo_open_end_at
+    ON todo(end_at)
+    WHERE status = 'TODO';
+
+CREATE INDEX IF NOT EXISTS idx_todo_occurrence_occurrence_at
+    ON todo_occurrence(occurrence_at);
+
+CREATE INDEX IF NOT EXISTS idx_todo_instance_open_due
+    ON todo_instance((COALESCE(end_at, occurrence_at)))
+    WHERE status = 'TODO';
@@ -34,6 +34,14 @@ import com.example.demo.repository.AlertRepository;
 import com.example.demo.service.NoticeService;
 import com.example.demo.service.NoticeNotificationHelper;
 import com.example.demo.service.AlertService;
+import com.example.demo.repository.ScheduleOccurrenceRepository;
+import com.example.demo.repository.ChangeLogRepository;
+import com.example.demo.repository.CalendarDayCountRepository;
+import com.example.demo.repository.TodoInstanceRepository;
+import com.example.demo.repository.TodoWeeklyRollupRepository;
+import com.example.demo.repository.TodoReminderRepository;
+import com.example.demo.repository.NotificationOutboxRepository;
+import com.example.demo.repository.TodoOccurrenceRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -145,6 +153,30 @@ class TestApplicationTests {
     @MockBean
     private AlertService alertService;
 
+    @MockBean
+    private ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+
+    @MockBean
+    private ChangeLogRepository changeLogRepository;
+
+    @MockBean
+    private CalendarDayCountRepository calendarDayCountRepository;
+
+    @MockBean
+    private TodoInstanceRepository todoInstanceRepository;
+
+    @MockBean
+    private TodoWeeklyRollupRepository todoWeeklyRollupRepository;
+
+    @MockBean
+    private TodoReminderRepository todoReminderRepository;
+
+    @MockBean
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @MockBean
+    private TodoOccurrenceRepository todoOccurrenceRepository;
+
 	@Test
 	void contextLoads() {
 	}
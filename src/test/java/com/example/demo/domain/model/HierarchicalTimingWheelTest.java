@@ -0,0 +1,156 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계층형 타이밍 휠의 상위 휠 보관/내려보내기, 취소/재등록, 단계 간 만료 순서 확인
+ * 틱 10ms, 휠 크기 4 → 최하위 휠 40ms, 2단계 160ms, 3단계 640ms 범위
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final int WHEEL_SIZE = 4;
+
+    @Test
+    void advanceTo_expiresEntriesInExpirationOrderAcrossLevels() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        // 등록 순서와 만료 순서를 다르게, 각 단계에 하나 이상
+        wheel.schedule("level3-late", 600, "level3-late");
+        wheel.schedule("level2", 150, "level2");
+        wheel.schedule("level1", 35, "level1");
+        wheel.schedule("level3", 500, "level3");
+        wheel.schedule("level1-early", 15, "level1-early");
+
+        assertThat(wheel.advanceTo(1000))
+                .containsExactly("level1-early", "level1", "level2", "level3", "level3-late");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advanceTo_cascadesOverflowEntriesAndExpiresThemAtTheirOwnTick() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        wheel.schedule("level2", 150, "level2");
+        wheel.schedule("level3", 500, "level3");
+
+        // 상위 휠 버킷 시각(120, 480)에 아래 휠로 내려오지만 만료는 각자의 틱에서
+        assertThat(wheel.advanceTo(149)).isEmpty();
+        assertThat(wheel.advanceTo(150)).containsExactly("level2");
+        assertThat(wheel.advanceTo(499)).isEmpty();
+        assertThat(wheel.advanceTo(500)).containsExactly("level3");
+        assertThat(wheel.currentTime()).isEqualTo(500);
+    }
+
+    @Test
+    void advanceTo_stepwiseMatchesSingleJump() {
+        HierarchicalTimingWheel<Integer, Integer> stepwise = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 3);
+        HierarchicalTimingWheel<Integer, Integer> jump = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 3);
+        for (int i = 0; i < 100; i++) {
+            long expiration = 10 + (i * 37L) % 2000;
+            stepwise.schedule(i, expiration, i);
+            jump.schedule(i, expiration, i);
+        }
+
+        List<Integer> stepwiseExpired = new ArrayList<>();
+        List<Long> expiredAt = new ArrayList<>();
+        for (long now = 0; now <= 2100; now += 7) {
+            List<Integer> expired = stepwise.advanceTo(now);
+            stepwiseExpired.addAll(expired);
+            for (int i = 0; i < expired.size(); i++) {
+                expiredAt.add(now);
+            }
+        }
+
+        assertThat(stepwiseExpired).hasSize(100);
+        assertThat(jump.advanceTo(2100)).containsExactlyElementsOf(stepwiseExpired);
+        // 만료 시각(틱 단위) 이전에는 반환되지 않고, 그 틱을 지나는 첫 호출에서 반환됨
+        for (int i = 0; i < stepwiseExpired.size(); i++) {
+            long expiration = 10 + (stepwiseExpired.get(i) * 37L) % 2000;
+            long expirationTick = expiration - expiration % TICK;
+            assertThat(expiredAt.get(i)).isBetween(expirationTick, expirationTick + 6);
+        }
+    }
+
+    @Test
+    void schedule_replacesExistingKey() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        wheel.schedule("job", 50, "first");
+        wheel.schedule("job", 300, "second");
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(299)).isEmpty();
+        assertThat(wheel.advanceTo(300)).containsExactly("second");
+    }
+
+    @Test
+    void cancel_removesEntryFromAnyLevel() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        wheel.schedule("level1", 20, "level1");
+        wheel.schedule("level2", 100, "level2");
+        wheel.schedule("level3", 400, "level3");
+
+        assertThat(wheel.cancel("level2")).isTrue();
+        assertThat(wheel.cancel("level3")).isTrue();
+        assertThat(wheel.cancel("level3")).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(1000)).containsExactly("level1");
+    }
+
+    @Test
+    void cancel_afterCascadeStillRemovesEntry() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        wheel.schedule("job", 150, "job");
+
+        // 120에 상위 휠에서 최하위 휠로 내려온 뒤 취소
+        assertThat(wheel.advanceTo(130)).isEmpty();
+        assertThat(wheel.cancel("job")).isTrue();
+        assertThat(wheel.advanceTo(1000)).isEmpty();
+    }
+
+    @Test
+    void cancel_thenRescheduleEarlierExpiresAtNewTime() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        wheel.schedule("job", 500, "late");
+        wheel.cancel("job");
+        wheel.schedule("job", 30, "early");
+
+        assertThat(wheel.advanceTo(30)).containsExactly("early");
+        assertThat(wheel.advanceTo(1000)).isEmpty();
+    }
+
+    @Test
+    void cancelIf_cancelsMatchingValuesOnly() {
+        HierarchicalTimingWheel<Integer, Integer> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 0);
+        for (int i = 1; i <= 6; i++) {
+            wheel.schedule(i, i * 100L, i);
+        }
+
+        assertThat(wheel.cancelIf(value -> value % 2 == 0)).isEqualTo(3);
+        assertThat(wheel.advanceTo(1000)).containsExactly(1, 3, 5);
+    }
+
+    @Test
+    void schedule_rejectsExpirationWithinCurrentTick() {
+        HierarchicalTimingWheel<String, String> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, 105);
+
+        // 시작 시각은 틱 단위로 내림 (105 → 100), 현재 틱(100~109)과 지난 시각은 등록하지 않음
+        assertThat(wheel.currentTime()).isEqualTo(100);
+        assertThat(wheel.schedule("past", 50, "past")).isFalse();
+        assertThat(wheel.schedule("current", 109, "current")).isFalse();
+        assertThat(wheel.schedule("next", 110, "next")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_rejectsInvalidSizes() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String, String>(0, WHEEL_SIZE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String, String>(TICK, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 우선순위 토큰 버킷의 레인 우선순위, 레인 안 도착 순서, 시간 초과 시 토큰 보존, capacity 초과 요청의 빚 확인
+ * 실제 시계를 쓰므로 토큰 간격(수십~수백 ms)을 대기열 등록 시간보다 넉넉히 둠
+ */
+class PriorityTokenBucketTest {
+
+    private static final long WAIT_SECONDS = 5;
+
+    @Test
+    void acquire_higherPriorityLaneIsServedBeforeEarlierLowerPriorityWaiter() throws Exception {
+        // 초당 2개(500ms 간격), capacity 1
+        PriorityTokenBucket bucket = new PriorityTokenBucket(2, 1, 2);
+        assertThat(bucket.acquire(1, 0, 0, TimeUnit.SECONDS)).isTrue();
+        List<String> served = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<Boolean> low = executor.submit(() -> acquireAndRecord(bucket, 1, "low", served));
+            awaitQueued(bucket, 1, 1, served);
+            Future<Boolean> high = executor.submit(() -> acquireAndRecord(bucket, 0, "high", served));
+            awaitQueued(bucket, 0, 1, served);
+
+            // 나중에 왔어도 레인 0이 다음 토큰을 받음
+            assertThat(high.get(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            assertThat(low.get(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            assertThat(served).containsExactly("high", "low");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void acquire_servesWaitersInTheSameLaneInArrivalOrder() throws Exception {
+        // 초당 10개(100ms 간격), capacity 1
+        PriorityTokenBucket bucket = new PriorityTokenBucket(10, 1, 1);
+        assertThat(bucket.acquire(1, 0, 0, TimeUnit.SECONDS)).isTrue();
+        List<String> served = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String name = "waiter-" + i;
+                futures.add(executor.submit(() -> acquireAndRecord(bucket, 0, name, served)));
+                awaitQueued(bucket, 0, i + 1, served);
+            }
+
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(served).containsExactly("waiter-0", "waiter-1", "waiter-2", "waiter-3");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void acquire_timeoutLeavesTokensAndQueueUntouched() throws Exception {
+        // 초당 0.5개(2초 간격), capacity 5 → 3개 쓰고 남은 2개로는 3개 요청이 시간 안에 못 채워짐
+        PriorityTokenBucket bucket = new PriorityTokenBucket(0.5, 5, 2);
+        assertThat(bucket.acquire(3, 0, 0, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(bucket.acquire(3, 0, 50, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(bucket.waiting(0)).isZero();
+
+        // 시간 초과한 요청은 토큰을 쓰지 않았고 대기열에서도 빠져, 낮은 레인 요청이 남은 2개를 바로 받음
+        assertThat(bucket.acquire(2, 1, 0, TimeUnit.SECONDS)).isTrue();
+        assertThat(bucket.acquire(1, 0, 50, TimeUnit.MILLISECONDS)).isFalse();
+    }
+
+    @Test
+    void acquire_overCapacityRequestPassesWhenFullAndLeavesDebt() throws Exception {
+        // 초당 20개(50ms 간격), capacity 2 → 6개 요청은 가득 찼을 때 통과하고 4개가 빚으로 남음
+        PriorityTokenBucket bucket = new PriorityTokenBucket(20, 2, 1);
+        long start = System.nanoTime();
+        assertThat(bucket.acquire(6, 0, 0, TimeUnit.SECONDS)).isTrue();
+
+        // 빚 4개를 갚고 1개가 찰 때까지(250ms) 다음 요청은 통과하지 못함
+        assertThat(bucket.acquire(1, 0, 100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(bucket.acquire(1, 0, WAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(240);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveArguments() {
+        assertThatThrownBy(() -> new PriorityTokenBucket(0, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriorityTokenBucket(1, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriorityTokenBucket(1, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean acquireAndRecord(PriorityTokenBucket bucket, int lane, String name, List<String> served)
+            throws InterruptedException {
+        boolean acquired = bucket.acquire(1, lane, WAIT_SECONDS, TimeUnit.SECONDS);
+        if (acquired) {
+            served.add(name);
+        }
+        return acquired;
+    }
+
+    // 대기 중이거나 이미 토큰을 받은 요청이 count개가 될 때까지 (앞 요청이 먼저 빠질 수 있음)
+    private static void awaitQueued(PriorityTokenBucket bucket, int lane, int count, List<String> served)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (bucket.waiting(lane) + served.size() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
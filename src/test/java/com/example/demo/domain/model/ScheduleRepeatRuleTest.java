@@ -0,0 +1,142 @@
+package com.example.demo.domain.model;
+
+import com.example.demo.domain.enums.RepeatType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반복 규칙 발생 계산(OccurrenceIterator / occurrenceStartsOverlapping) 확인
+ */
+class ScheduleRepeatRuleTest {
+
+    @Test
+    void occurrencesFrom_seeksIntoRangeWithoutLosingIntervalAlignment() {
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.DAILY, 3, null, null, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2020, 1, 1, 9, 0);
+        LocalDateTime from = LocalDateTime.of(2025, 6, 10, 12, 0);
+
+        List<LocalDateTime> occurrences = take(rule.occurrencesFrom(seriesStart, from), 3);
+
+        // 시작일로부터 3일 간격이며, from 이후 첫 발생부터 반환
+        assertThat(occurrences).hasSize(3);
+        assertThat(occurrences.get(0)).isAfterOrEqualTo(from);
+        assertThat(occurrences.get(0).minusDays(3)).isBefore(from);
+        assertThat(occurrences).allSatisfy(occurrence -> {
+            assertThat(ChronoUnit.DAYS.between(seriesStart, occurrence) % 3).isZero();
+            assertThat(occurrence.toLocalTime()).isEqualTo(seriesStart.toLocalTime());
+        });
+        assertThat(occurrences.get(1)).isEqualTo(occurrences.get(0).plusDays(3));
+    }
+
+    @Test
+    void occurrencesFrom_fromBeforeSeriesStartBeginsAtSeriesStart() {
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.WEEKLY, 1, null, null, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 3, 5, 18, 30);
+
+        assertThat(take(rule.occurrencesFrom(seriesStart, seriesStart.minusYears(1)), 2))
+                .containsExactly(seriesStart, seriesStart.plusWeeks(1));
+    }
+
+    @Test
+    void occurrencesFrom_weeklyMultiDayWithIntervalSkipsDaysBeforeSeriesStart() {
+        // 2주 간격 월(1)/수(3), 시작일 2025-01-01(수): 같은 주 월요일(12-30)은 시작 전이라 제외
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.WEEKLY, 2, List.of(3, 1), null, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        assertThat(take(rule.occurrencesFrom(seriesStart, seriesStart), 5)).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 10, 0),
+                LocalDateTime.of(2025, 1, 13, 10, 0),
+                LocalDateTime.of(2025, 1, 15, 10, 0),
+                LocalDateTime.of(2025, 1, 27, 10, 0),
+                LocalDateTime.of(2025, 1, 29, 10, 0));
+    }
+
+    @Test
+    void occurrencesFrom_monthlySkipsMonthsWithoutTheDay() {
+        // 2개월 간격 31일: 1, 3, 5, 7, (9월 없음), (11월 없음), 다음 해 1월
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.MONTHLY, 2, null, 31, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 1, 31, 8, 0);
+
+        assertThat(take(rule.occurrencesFrom(seriesStart, seriesStart), 5)).containsExactly(
+                LocalDateTime.of(2025, 1, 31, 8, 0),
+                LocalDateTime.of(2025, 3, 31, 8, 0),
+                LocalDateTime.of(2025, 5, 31, 8, 0),
+                LocalDateTime.of(2025, 7, 31, 8, 0),
+                LocalDateTime.of(2026, 1, 31, 8, 0));
+    }
+
+    @Test
+    void occurrencesFrom_yearlyOnFebruary29OnlyInLeapYears() {
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.YEARLY, 1, null, null, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2024, 2, 29, 0, 0);
+
+        assertThat(take(rule.occurrencesFrom(seriesStart, seriesStart.plusDays(1)), 2)).containsExactly(
+                LocalDateTime.of(2028, 2, 29, 0, 0),
+                LocalDateTime.of(2032, 2, 29, 0, 0));
+    }
+
+    @Test
+    void occurrencesFrom_repeatEndDateIsInclusive() {
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.DAILY, 1, null, null, LocalDate.of(2025, 1, 3));
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 1, 1, 23, 0);
+
+        assertThat(take(rule.occurrencesFrom(seriesStart, seriesStart), 10)).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 23, 0),
+                LocalDateTime.of(2025, 1, 2, 23, 0),
+                LocalDateTime.of(2025, 1, 3, 23, 0));
+    }
+
+    @Test
+    void occurrencesFrom_stopsAfterMaxEmptyPeriods() {
+        // 12개월 간격이라 항상 2월 → 30일이 없어 모든 주기가 비어 있음
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.MONTHLY, 12, null, 30, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 2, 1, 9, 0);
+
+        assertThat(rule.occurrencesFrom(seriesStart, seriesStart).hasNext()).isFalse();
+    }
+
+    @Test
+    void occurrencesFrom_nonRepeatingReturnsSeriesStartOnlyWhenNotBeforeFrom() {
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.NONE, null, null, null, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 5, 1, 9, 0);
+
+        assertThat(take(rule.occurrencesFrom(seriesStart, seriesStart.minusDays(1)), 5)).containsExactly(seriesStart);
+        assertThat(rule.occurrencesFrom(seriesStart, seriesStart.plusMinutes(1)).hasNext()).isFalse();
+    }
+
+    @Test
+    void occurrenceStartsOverlapping_includesOccurrenceStartedBeforeRangeAndHonorsLimit() {
+        ScheduleRepeatRule rule = new ScheduleRepeatRule(RepeatType.DAILY, 1, null, null, null);
+        LocalDateTime seriesStart = LocalDateTime.of(2025, 1, 1, 22, 0);
+
+        // 2025-01-05 22:00 ~ 01-06 01:00 발생은 01-06 00:00부터의 구간과 겹침
+        List<LocalDateTime> overlapping = rule.occurrenceStartsOverlapping(seriesStart, Duration.ofHours(3),
+                LocalDateTime.of(2025, 1, 6, 0, 0), LocalDateTime.of(2025, 1, 8, 23, 59), 10);
+        assertThat(overlapping).containsExactly(
+                LocalDateTime.of(2025, 1, 5, 22, 0),
+                LocalDateTime.of(2025, 1, 6, 22, 0),
+                LocalDateTime.of(2025, 1, 7, 22, 0),
+                LocalDateTime.of(2025, 1, 8, 22, 0));
+
+        assertThat(rule.occurrenceStartsOverlapping(seriesStart, Duration.ofHours(3),
+                LocalDateTime.of(2025, 1, 6, 0, 0), LocalDateTime.of(2025, 1, 8, 23, 59), 2))
+                .containsExactly(LocalDateTime.of(2025, 1, 5, 22, 0), LocalDateTime.of(2025, 1, 6, 22, 0));
+    }
+
+    private static List<LocalDateTime> take(Iterator<LocalDateTime> iterator, int count) {
+        List<LocalDateTime> result = new ArrayList<>();
+        while (iterator.hasNext() && result.size() < count) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.PushLane;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FCM 멀티캐스트 전송을 로컬 HTTP 스텁(FCM v1 messages:send)에 대해 실행해
+ * 500개 단위 묶음 전송, 토큰별 결과 처리, 등록 해제 토큰 삭제를 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class FcmNotificationServiceTest {
+
+    private static final String FCM_HOST = "https://fcm.googleapis.com";
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Mock
+    private DeviceTokenService deviceTokenService;
+
+    @Mock
+    private PushRateLimiter pushRateLimiter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Set<String> receivedTokens = ConcurrentHashMap.newKeySet();
+
+    private HttpServer stub;
+    private FirebaseApp stubApp;
+    private FcmNotificationService fcmNotificationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        stub.createContext("/", this::handleSend);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.start();
+
+        // fcm.googleapis.com 요청을 로컬 스텁으로 돌리는 기본 FirebaseApp (고정 액세스 토큰)
+        String stubBaseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        NetHttpTransport transport = new NetHttpTransport.Builder()
+                .setConnectionFactory(url -> (HttpURLConnection) new URL(url.toString().replace(FCM_HOST, stubBaseUrl)).openConnection())
+                .build();
+        stubApp = FirebaseApp.initializeApp(FirebaseOptions.builder()
+                .setCredentials(GoogleCredentials.create(new AccessToken("stub", new Date(Long.MAX_VALUE))))
+                .setProjectId("stub-project")
+                .setHttpTransport(transport)
+                .build());
+
+        fcmNotificationService = new FcmNotificationService(deviceTokenService, pushRateLimiter, meterRegistry, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmNotificationService.shutdown();
+        stubApp.delete();
+        stub.stop(0);
+    }
+
+    @Test
+    void sendNotificationToMultipleDevices_sendsInChunksOf500AndPrunesUnregisteredTokens() {
+        when(pushRateLimiter.acquire(anyInt(), eq(PushLane.BULK))).thenReturn(true);
+        List<String> tokens = new ArrayList<>(IntStream.range(0, 1201)
+                .mapToObj(i -> i % 100 == 0 ? "unreg-" + i : "token-" + i)
+                .toList());
+        List<String> unregistered = tokens.stream().filter(token -> token.startsWith("unreg-")).toList();
+        tokens.add(tokens.get(1)); // 중복 토큰은 한 번만 전송
+
+        int successCount = fcmNotificationService.sendNotificationToMultipleDevices(tokens, "제목", "내용", null);
+
+        // 1201개 토큰 → 500 + 500 + 201개 묶음
+        verify(pushRateLimiter, times(2)).acquire(500, PushLane.BULK);
+        verify(pushRateLimiter).acquire(201, PushLane.BULK);
+        assertThat(receivedTokens).hasSize(1201);
+
+        // 토큰별 결과: 등록 해제 토큰만 실패
+        assertThat(successCount).isEqualTo(1201 - unregistered.size());
+        assertThat(meterRegistry.counter("fcm.push.sends", "outcome", "SUCCESS").count())
+                .isEqualTo(1201 - unregistered.size());
+        assertThat(meterRegistry.counter("fcm.push.sends", "outcome", "UNREGISTERED").count())
+                .isEqualTo(unregistered.size());
+
+        // 등록 해제 토큰은 묶음마다 모아서 삭제
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> pruned = ArgumentCaptor.forClass(Collection.class);
+        verify(deviceTokenService, atLeastOnce()).pruneInvalidFcmTokens(pruned.capture());
+        assertThat(pruned.getAllValues().stream().flatMap(Collection::stream).toList())
+                .containsExactlyInAnyOrderElementsOf(unregistered);
+    }
+
+    /**
+     * FCM v1 messages:send 스텁: 토큰이 unreg-로 시작하면 UNREGISTERED, 아니면 성공 응답
+     */
+    private void handleSend(HttpExchange exchange) throws IOException {
+        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Matcher matcher = TOKEN_PATTERN.matcher(request);
+        String token = matcher.find() ? matcher.group(1) : "";
+        receivedTokens.add(token);
+
+        int status;
+        String response;
+        if (token.startsWith("unreg-")) {
+            status = 404;
+            response = """
+                    {"error": {"code": 404, "message": "Requested entity was not found.", "status": "NOT_FOUND",
+                     "details": [{"@type": "type.googleapis.com/google.firebase.fcm.v1.FcmError", "errorCode": "UNREGISTERED"}]}}
+                    """;
+        } else {
+            status = 200;
+            response = "{\"name\": \"projects/stub-project/messages/" + token + "\"}";
+        }
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        // JDK HttpServer는 keep-alive 연결 재사용 중 간헐적으로 연결을 끊으므로 요청마다 새 연결 사용
+        exchange.getResponseHeaders().set("Connection", "close");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Schedule;
+import com.example.demo.domain.entity.Team;
+import com.example.demo.repository.ScheduleOccurrenceRepository;
+import com.example.demo.repository.ScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 일정 발생 계산 시 계산 기간(HORIZON_MONTHS) 밖의 일정 처리 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class ScheduleOccurrenceServiceTest {
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+
+    @Mock
+    private CalendarDayCountService calendarDayCountService;
+
+    @InjectMocks
+    private ScheduleOccurrenceService scheduleOccurrenceService;
+
+    @Test
+    void rematerialize_oneOffScheduleBeyondHorizonStillGetsItsOccurrence() {
+        LocalDateTime startAt = LocalDateTime.now().plusMonths(ScheduleOccurrenceService.HORIZON_MONTHS + 6)
+                .truncatedTo(ChronoUnit.MINUTES);
+        Schedule schedule = schedule(null, startAt);
+
+        scheduleOccurrenceService.rematerialize(schedule);
+
+        verify(scheduleOccurrenceRepository).deleteByScheduleId(10L);
+        verify(scheduleOccurrenceRepository).insertOccurrences(10L, 1L,
+                startAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), 3600L);
+        assertThat(schedule.getOccurrenceHorizon()).isBefore(startAt);
+    }
+
+    @Test
+    void rematerialize_repeatingScheduleBeyondHorizonWaitsForExtension() {
+        LocalDateTime startAt = LocalDateTime.now().plusMonths(ScheduleOccurrenceService.HORIZON_MONTHS + 6);
+        Schedule schedule = schedule("DAILY", startAt);
+
+        scheduleOccurrenceService.rematerialize(schedule);
+
+        verify(scheduleOccurrenceRepository, never()).insertOccurrences(anyLong(), anyLong(), anyString(), anyLong());
+    }
+
+    private static Schedule schedule(String repeatType, LocalDateTime startAt) {
+        return Schedule.builder()
+                .id(10L)
+                .team(Team.builder().id(1L).build())
+                .title("일정")
+                .startAt(startAt)
+                .endAt(startAt.plusHours(1))
+                .repeatType(repeatType)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.enums.TodoStatus;
+import com.example.demo.dto.todo.TodoResponse;
+import com.example.demo.dto.todo.TodoResponseDto;
+import com.example.demo.repository.PositionRepository;
+import com.example.demo.repository.TeamMemberRepository;
+import com.example.demo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 투두 목록 조회 시 목록 크기와 무관하게 쿼리 횟수가 고정이고, 일괄 조회 결과가 각 투두에 올바르게 채워지는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long TEAM_ID = 1L;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2025, 1, 31, 23, 59);
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private PositionRepository positionRepository;
+
+    @InjectMocks
+    private TodoService todoService;
+
+    @Test
+    void getTeamTodos_queryCountDoesNotGrowWithListSize() {
+        when(teamMemberRepository.existsByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(true);
+
+        List<Integer> queryCounts = new ArrayList<>();
+        for (int size : List.of(1, 10, 100)) {
+            stubTodos(size);
+            clearInvocations(todoRepository, positionRepository);
+
+            List<TodoResponseDto> todos = todoService.getTeamTodos(USER_ID, TEAM_ID, START, END);
+
+            assertThat(todos).hasSize(size);
+            queryCounts.add(mockingDetails(todoRepository).getInvocations().size()
+                    + mockingDetails(positionRepository).getInvocations().size());
+
+            // 일괄 조회는 목록의 모든 투두 ID를 한 번에 넘겨야 함
+            List<Long> todoIds = LongStream.rangeClosed(1, size).boxed().toList();
+            verify(todoRepository).findPositionInfoByTodoIds(argThat(ids -> ids.containsAll(todoIds) && ids.size() == size));
+            verify(todoRepository).findAssigneeInfoByTodoIds(argThat(ids -> ids.containsAll(todoIds) && ids.size() == size));
+
+            // 일괄 조회 결과가 각 투두에 자기 포지션/담당자로 채워졌는지 확인
+            for (TodoResponseDto todo : todos) {
+                long id = todo.getId();
+                assertThat(todo.getPositionIds()).containsExactly(id * 10 + 1, id * 10 + 2);
+                assertThat(todo.getRepresentativeColorHex()).isEqualTo(String.format("#%06d", id * 10 + 1));
+                assertThat(todo.getAssigneeMemberId()).isEqualTo(100 + id);
+                assertThat(todo.getAssigneeMemberUserName()).isEqualTo("user" + id);
+                assertThat(todo.getAssignees()).hasSize(1);
+            }
+        }
+
+        // 목록 조회 1회 + 포지션 일괄 조회 1회 + 담당자 일괄 조회 1회
+        assertThat(queryCounts).containsOnly(3);
+    }
+
+    @Test
+    void getTeamTodos_assemblesPositionsAndAssigneesPerTodo() {
+        when(teamMemberRepository.existsByTeamIdAndUserId(TEAM_ID, USER_ID)).thenReturn(true);
+        stubTodos(2);
+
+        List<TodoResponseDto> todos = todoService.getTeamTodos(USER_ID, TEAM_ID, START, END);
+
+        TodoResponseDto first = todos.get(0);
+        assertThat(first.getPositionIds()).containsExactly(11L, 12L);
+        assertThat(first.getRepresentativeColorHex()).isEqualTo("#000011");
+        assertThat(first.getAssigneeMemberId()).isEqualTo(101L);
+        assertThat(first.getAssigneeMemberUserName()).isEqualTo("user1");
+        assertThat(first.getAssignees()).hasSize(1);
+
+        TodoResponseDto second = todos.get(1);
+        assertThat(second.getPositionIds()).containsExactly(21L, 22L);
+        assertThat(second.getRepresentativeColorHex()).isEqualTo("#000021");
+        assertThat(second.getAssigneeMemberId()).isEqualTo(102L);
+    }
+
+    /**
+     * 투두 size개와, 투두마다 포지션 2개(i1, i2)·담당자 1명(100 + i)을 반환하도록 설정
+     */
+    private void stubTodos(int size) {
+        List<TodoResponse> responses = LongStream.rangeClosed(1, size)
+                .mapToObj(this::todoResponse)
+                .toList();
+        List<Object[]> positionRows = new ArrayList<>();
+        List<Object[]> assigneeRows = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            positionRows.add(new Object[]{id, id * 10 + 1, String.format("#%06d", id * 10 + 1)});
+            positionRows.add(new Object[]{id, id * 10 + 2, String.format("#%06d", id * 10 + 2)});
+            assigneeRows.add(new Object[]{id, 100 + id, "user" + id});
+        }
+
+        when(todoRepository.findByTeamAndRange(eq(TEAM_ID), any(), any())).thenReturn(responses);
+        when(todoRepository.findPositionInfoByTodoIds(anyList())).thenReturn(positionRows);
+        when(todoRepository.findAssigneeInfoByTodoIds(anyList())).thenReturn(assigneeRows);
+    }
+
+    private TodoResponse todoResponse(long id) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("teamId", TEAM_ID);
+        values.put("teamName", "팀");
+        values.put("title", "투두" + id);
+        values.put("status", TodoStatus.TODO);
+        values.put("endAt", START.plusDays(id % 30));
+        values.put("createdById", USER_ID);
+        values.put("createdByName", "user1");
+        return projectionFactory.createProjection(TodoResponse.class, values);
+    }
+}